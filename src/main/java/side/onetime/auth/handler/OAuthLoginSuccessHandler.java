@@ -25,6 +25,7 @@ import side.onetime.domain.RefreshToken;
 import side.onetime.domain.User;
 import side.onetime.repository.RefreshTokenRepository;
 import side.onetime.repository.UserRepository;
+import side.onetime.service.UserActivityRecorder;
 import side.onetime.util.ClientInfoExtractor;
 import side.onetime.util.JwtUtil;
 
@@ -43,6 +44,7 @@ public class OAuthLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHand
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final ClientInfoExtractor clientInfoExtractor;
+    private final UserActivityRecorder userActivityRecorder;
 
     /**
      * OAuth2 인증 성공 처리 메서드.
@@ -165,6 +167,7 @@ public class OAuthLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHand
                 now, expiryAt, userIp, userAgent
         );
         refreshTokenRepository.save(refreshToken);
+        userActivityRecorder.record(userId, now);
 
         String redirectUri = String.format(ACCESS_TOKEN_REDIRECT_URI, "true", accessToken, refreshTokenValue);
         getRedirectStrategy().sendRedirect(request, response, redirectUri);
@@ -0,0 +1,113 @@
+package side.onetime.auth.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import side.onetime.auth.dto.CustomAdminDetails;
+import side.onetime.domain.AdminUser;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.AdminErrorStatus;
+import side.onetime.global.common.status.ErrorStatus;
+import side.onetime.repository.AdminRepository;
+
+/**
+ * 로그인 관리자 식별 서비스.
+ *
+ * JwtFilter가 요청마다 관리자 정보를 조회해 CustomAdminDetails로 SecurityContext에 올려두므로,
+ * 같은 요청의 서비스 계층은 DB를 다시 조회하지 않고 principal을 재사용합니다.
+ * 대시보드 한 페이지가 동시에 보내는 여러 요청은 짧은 TTL 캐시로 한 번의 조회만 공유합니다.
+ *
+ * 캐시한 권한 상태는 인가에 쓰이므로 오래 두지 않습니다.
+ * 이 인스턴스에서 바꾼 권한/탈퇴는 커밋 직후 무효화하고,
+ * Blue/Green의 다른 인스턴스에서 바꾼 것은 TTL({@code admin.identity-cache-ttl}, 기본 3초) 안에 반영됩니다.
+ */
+@Service
+public class AdminIdentityResolver {
+
+    private final AdminRepository adminRepository;
+
+    private final Cache<Long, AdminUser> adminCache;
+
+    @Autowired
+    public AdminIdentityResolver(AdminRepository adminRepository,
+                                 @Value("${admin.identity-cache-ttl:PT3S}") Duration cacheTtl) {
+        this(adminRepository, cacheTtl, Ticker.systemTicker());
+    }
+
+    AdminIdentityResolver(AdminRepository adminRepository, Duration cacheTtl, Ticker ticker) {
+        this.adminRepository = adminRepository;
+        this.adminCache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(1_000)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 관리자 ID로 관리자 정보를 조회합니다. (짧은 TTL 캐시 적용)
+     *
+     * @param adminId 관리자 ID
+     * @return 관리자 엔티티 (영속성 컨텍스트와 분리된 스냅샷)
+     * @throws CustomException 관리자가 존재하지 않을 경우
+     */
+    public AdminUser loadAdmin(Long adminId) {
+        AdminUser cached = adminCache.getIfPresent(adminId);
+        if (cached != null) {
+            return cached;
+        }
+        AdminUser admin = adminRepository.findById(adminId)
+                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminCache.put(adminId, admin);
+        return admin;
+    }
+
+    /**
+     * 현재 로그인한 관리자를 반환합니다.
+     *
+     * 이번 요청에서 JwtFilter가 loadAdmin으로 이미 확인한 principal을 그대로 사용하므로 DB를 조회하지 않습니다.
+     *
+     * @return 로그인한 관리자 엔티티 (조회 전용)
+     * @throws CustomException 로그인 정보가 없을 경우
+     */
+    public AdminUser getLoginAdmin() {
+        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                .map(Authentication::getPrincipal)
+                .filter(principal -> principal instanceof CustomAdminDetails)
+                .map(principal -> ((CustomAdminDetails) principal).admin())
+                .orElseThrow(() -> new CustomException(ErrorStatus._UNIDENTIFIED_USER));
+    }
+
+    /**
+     * 관리자 정보 변경(권한 수정, 탈퇴) 시 캐시를 무효화합니다.
+     *
+     * 트랜잭션 안에서 호출하면 커밋 후에 무효화합니다.
+     * 커밋 전에 지우면 그 사이 다른 요청이 변경 전 행을 다시 읽어 캐시에 넣을 수 있기 때문입니다.
+     * 롤백되면 변경이 없으므로 무효화하지 않습니다.
+     *
+     * @param adminId 관리자 ID
+     */
+    public void evict(Long adminId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adminCache.invalidate(adminId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adminCache.invalidate(adminId);
+            }
+        });
+    }
+}
@@ -16,6 +16,7 @@ import side.onetime.repository.AdminRepository;
 public class CustomAdminDetailsService implements UserDetailsService {
 
     private final AdminRepository adminRepository;
+    private final AdminIdentityResolver adminIdentityResolver;
 
     /**
      * 관리자 이름으로 관리자 정보를 로드합니다.
@@ -37,7 +38,7 @@ public class CustomAdminDetailsService implements UserDetailsService {
     /**
      * 관리자 ID로 관리자 정보를 로드합니다.
      *
-     * 데이터베이스에서 주어진 관리자 ID를 기반으로 관리자를 조회하고,
+     * 주어진 관리자 ID를 기반으로 관리자를 조회하고 (짧은 TTL 캐시 적용),
      * CustomAdminDetails 객체로 래핑하여 반환합니다.
      *
      * @param adminId 관리자 ID
@@ -45,8 +46,6 @@ public class CustomAdminDetailsService implements UserDetailsService {
      * @throws CustomException 관리자 ID에 해당하는 관리자가 없을 경우 예외를 발생시킵니다.
      */
     public UserDetails loadAdminByAdminId(Long adminId) throws UsernameNotFoundException {
-        AdminUser admin = adminRepository.findById(adminId)
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
-        return new CustomAdminDetails(admin);
+        return new CustomAdminDetails(adminIdentityResolver.loadAdmin(adminId));
     }
 }
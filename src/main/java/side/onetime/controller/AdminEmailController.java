@@ -20,8 +20,11 @@ import side.onetime.auth.annotation.IsAdmin;
 import side.onetime.dto.admin.email.request.CreateEmailTemplateRequest;
 import side.onetime.dto.admin.email.request.SendEmailRequest;
 import side.onetime.dto.admin.email.request.SendTestEmailRequest;
+import side.onetime.dto.admin.email.request.SendToGroupBulkRequest;
 import side.onetime.dto.admin.email.request.SendToGroupRequest;
 import side.onetime.dto.admin.email.request.UpdateEmailTemplateRequest;
+import side.onetime.dto.admin.email.response.EmailCampaignProgressResponse;
+import side.onetime.dto.admin.email.response.EmailLogDetailResponse;
 import side.onetime.dto.admin.email.response.EmailLogPageResponse;
 import side.onetime.dto.admin.email.response.EmailLogStatsResponse;
 import side.onetime.dto.admin.email.response.EmailTemplateResponse;
@@ -81,6 +84,31 @@ public class AdminEmailController {
         return ApiResponse.onSuccess(SuccessStatus._SEND_EMAIL, response);
     }
 
+    /**
+     * 마케팅 타겟 그룹 대량 발송 시작 (백그라운드 스트리밍 발송)
+     *
+     * @param request 대상 그룹, 제목, 내용, 최대 발송 수 (생략 시 그룹 전체)
+     * @return 캠페인 ID와 초기 진행 상황
+     */
+    @PostMapping("/send-to-group/bulk")
+    public ResponseEntity<ApiResponse<EmailCampaignProgressResponse>> startGroupSend(
+            @Valid @RequestBody SendToGroupBulkRequest request) {
+        EmailCampaignProgressResponse response = emailService.startGroupSend(request);
+        return ApiResponse.onSuccess(SuccessStatus._START_EMAIL_GROUP_SEND, response);
+    }
+
+    /**
+     * 캠페인 발송 진행 상황 조회
+     *
+     * @param id 캠페인 ID
+     * @return 상태, 조회/적재/중복 제외 건수
+     */
+    @GetMapping("/campaigns/{id}/progress")
+    public ResponseEntity<ApiResponse<EmailCampaignProgressResponse>> getCampaignProgress(@PathVariable Long id) {
+        EmailCampaignProgressResponse response = emailService.getCampaignProgress(id);
+        return ApiResponse.onSuccess(SuccessStatus._GET_EMAIL_CAMPAIGN_PROGRESS, response);
+    }
+
     /**
      * 이메일 발송 로그 조회 (페이징 + 복합 필터)
      *
@@ -107,6 +135,18 @@ public class AdminEmailController {
         return ApiResponse.onSuccess(SuccessStatus._GET_EMAIL_LOGS, response);
     }
 
+    /**
+     * 이메일 발송 로그 상세 조회 (캠페인 본문 포함)
+     *
+     * @param id 이메일 로그 ID
+     * @return 이메일 로그 상세
+     */
+    @GetMapping("/logs/{id}")
+    public ResponseEntity<ApiResponse<EmailLogDetailResponse>> getEmailLog(@PathVariable Long id) {
+        EmailLogDetailResponse response = emailService.getEmailLog(id);
+        return ApiResponse.onSuccess(SuccessStatus._GET_EMAIL_LOG, response);
+    }
+
     /**
      * 이메일 발송 통계 조회
      *
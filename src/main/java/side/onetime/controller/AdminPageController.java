@@ -40,6 +40,8 @@ import side.onetime.util.JwtUtil;
 @RequiredArgsConstructor
 public class AdminPageController {
 
+    private static final int QUERY_PERFORMANCE_LIMIT = 30;
+
     private final AdminService adminService;
     private final StatisticsService statisticsService;
     private final RefreshTokenRepository refreshTokenRepository;
@@ -224,6 +226,18 @@ public class AdminPageController {
         return "admin/marketing";
     }
 
+    /**
+     * 통계 쿼리 성능 페이지 렌더링
+     */
+    @GetMapping("/statistics/queries")
+    public String queryPerformance(HttpServletRequest request, Model model) {
+        model.addAttribute("currentUri", request.getRequestURI());
+        model.addAttribute("currentPage", "queries");
+        model.addAttribute("pageTitle", "Query Performance");
+        model.addAttribute("data", statisticsService.getQueryPerformance(QUERY_PERFORMANCE_LIMIT));
+        return "admin/queries";
+    }
+
     /**
      * 이메일 발송 페이지 렌더링
      */
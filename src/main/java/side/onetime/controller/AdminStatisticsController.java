@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +20,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import side.onetime.auth.annotation.IsAdmin;
+import side.onetime.domain.enums.CohortType;
 import side.onetime.dto.admin.email.response.UserSearchResult;
 import side.onetime.dto.admin.response.GetAllDashboardEventsResponse;
 import side.onetime.dto.admin.response.GetAllDashboardUsersResponse;
@@ -26,6 +28,7 @@ import side.onetime.dto.admin.statistics.response.CohortRetentionResponse;
 import side.onetime.dto.admin.statistics.response.EventConfirmationStatsResponse;
 import side.onetime.dto.admin.statistics.response.FunnelAnalysisResponse;
 import side.onetime.dto.admin.statistics.response.MarketingTargetDetailResponse;
+import side.onetime.dto.admin.statistics.response.QueryPerformanceResponse;
 import side.onetime.dto.admin.statistics.response.StickinessResponse;
 import side.onetime.dto.admin.statistics.response.TimeWeekdayHeatmapResponse;
 import side.onetime.dto.admin.statistics.response.TtvDistributionResponse;
@@ -142,14 +145,16 @@ public class AdminStatisticsController {
 
     /**
      * 코호트 리텐션 분석
-     * 가입월 기준 코호트별 M0~M11 리텐션율 반환
+     * 코호트 기준별 M0~M11 (주 단위는 W0~W11) 리텐션율 반환
      *
-     * @param months 분석할 코호트 수 (기본 12개월)
+     * @param type   코호트 기준 (기본 가입월)
+     * @param months 분석할 코호트 수 (기본 12)
      */
     @GetMapping("/cohort")
     public ResponseEntity<ApiResponse<CohortRetentionResponse>> getCohortRetention(
+            @RequestParam(defaultValue = "SIGNUP_MONTH") CohortType type,
             @RequestParam(defaultValue = "12") int months) {
-        CohortRetentionResponse response = statisticsService.getCohortRetention(months);
+        CohortRetentionResponse response = statisticsService.getCohortRetention(type, months);
         return ApiResponse.onSuccess(SuccessStatus._GET_COHORT_RETENTION, response);
     }
 
@@ -196,6 +201,29 @@ public class AdminStatisticsController {
         return ApiResponse.onSuccess(SuccessStatus._GET_STICKINESS, response);
     }
 
+    /**
+     * 통계 쿼리 성능
+     * 리포지토리 메서드별 누적 시간 상위 목록과 최근 느린 쿼리
+     *
+     * @param limit 반환할 메서드 수 (기본 20)
+     */
+    @GetMapping("/queries")
+    public ResponseEntity<ApiResponse<QueryPerformanceResponse>> getQueryPerformance(
+            @RequestParam(defaultValue = "20") int limit) {
+        QueryPerformanceResponse response = statisticsService.getQueryPerformance(limit);
+        return ApiResponse.onSuccess(SuccessStatus._GET_QUERY_PERFORMANCE, response);
+    }
+
+    /**
+     * 통계 캐시 삭제
+     * 다음 조회부터 모든 통계를 다시 계산
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<ApiResponse<Void>> purgeCache() {
+        statisticsService.purgeCache();
+        return ApiResponse.onSuccess(SuccessStatus._PURGE_STATISTICS_CACHE, null);
+    }
+
     /**
      * 이벤트 확정 통계
      * 확정률, 확정자 유형 분포, 카테고리별 확정률, 일별 추이
@@ -0,0 +1,49 @@
+package side.onetime.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import side.onetime.auth.annotation.PublicApi;
+import side.onetime.dto.admin.email.request.EmailDeliveryReportRequest;
+import side.onetime.dto.admin.email.response.EmailDeliveryReportResponse;
+import side.onetime.global.common.ApiResponse;
+import side.onetime.global.common.status.SuccessStatus;
+import side.onetime.service.EmailDeliveryStatusService;
+
+/**
+ * 이메일 발송 결과 수집 API 컨트롤러 (배치 서버 전용, X-API-KEY 인증)
+ */
+@Hidden
+@RestController
+@RequestMapping("/api/v1/email")
+@RequiredArgsConstructor
+public class EmailDeliveryController {
+
+    private final EmailDeliveryStatusService emailDeliveryStatusService;
+
+    /**
+     * 발송 결과 일괄 반영 API.
+     *
+     * 배치 서버가 SES 발송/수신 결과를 최대 5000건씩 보내면 email_logs 상태에 반영합니다.
+     * 같은 결과를 다시 보내도 한 번만 반영되므로, 실패 시 같은 요청을 그대로 재전송하면 됩니다.
+     *
+     * @param apiKey  배치 서버 인증 키
+     * @param request 발송 결과 목록 (emailLogId, status, sentAt, errorMessage)
+     * @return 받은/반영/무시 건수
+     */
+    @PublicApi
+    @PostMapping("/delivery-results")
+    public ResponseEntity<ApiResponse<EmailDeliveryReportResponse>> reportDeliveryResults(
+            @RequestHeader(name = "X-API-KEY") String apiKey,
+            @Valid @RequestBody EmailDeliveryReportRequest request) {
+        EmailDeliveryReportResponse response = emailDeliveryStatusService.report(apiKey, request);
+        return ApiResponse.onSuccess(SuccessStatus._REPORT_EMAIL_DELIVERY, response);
+    }
+}
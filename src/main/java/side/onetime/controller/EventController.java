@@ -21,6 +21,7 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import side.onetime.auth.annotation.IsUser;
 import side.onetime.auth.annotation.PublicApi;
+import side.onetime.domain.enums.QrCodeStatus;
 import side.onetime.dto.event.request.ConfirmEventRequest;
 import side.onetime.dto.event.request.CreateEventRequest;
 import side.onetime.dto.event.request.ModifyEventRequest;
@@ -233,6 +234,7 @@ public class EventController {
      * 이벤트 QR Code 조회 API.
      *
      * 이 API는 이벤트로 이동할 수 있는 QR Code 이미지를 반환합니다.
+     * QR Code가 아직 생성 중이면 202와 함께 PENDING 상태를 반환합니다.
      *
      * @param eventId QR Code를 조회할 이벤트의 ID
      * @return QR Code 이미지 URL
@@ -243,6 +245,9 @@ public class EventController {
             @PathVariable("event_id") String eventId) {
 
         GetEventQrCodeResponse response = eventService.getEventQrCode(eventId);
+        if (response.qrStatus() == QrCodeStatus.PENDING) {
+            return ApiResponse.onSuccess(SuccessStatus._GET_EVENT_QR_CODE_PENDING, response);
+        }
         return ApiResponse.onSuccess(SuccessStatus._GET_EVENT_QR_CODE, response);
     }
 }
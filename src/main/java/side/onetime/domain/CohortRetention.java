@@ -0,0 +1,77 @@
+package side.onetime.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import side.onetime.domain.enums.CohortType;
+
+/**
+ * 코호트 리텐션 셀 (코호트 x 활동 기간)
+ *
+ * 진행 중인 기간의 셀은 집계할 때마다 기존 값과 비교해 큰 값을 남기고, 기간이 끝난 뒤 마지막으로 집계하면서 finalized로 고정한다.
+ * 고정된 셀은 다시 집계하지 않는다. 코호트 크기는 코호트 기간이 끝나면 바뀌지 않는다 (탈퇴 유저 포함).
+ */
+@Entity
+@Table(name = "cohort_retention", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cohort_retention_cell", columnNames = {"cohort_type", "cohort_start", "period_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CohortRetention {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cohort_type", nullable = false, length = 20)
+    private CohortType cohortType;
+
+    @Column(name = "cohort_start", nullable = false)
+    private LocalDate cohortStart;
+
+    /**
+     * 활동 기간 시작일
+     */
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    /**
+     * 코호트 시작부터 활동 기간까지의 기간 수 (M0 = 0)
+     */
+    @Column(name = "period_offset", nullable = false)
+    private int periodOffset;
+
+    @Column(name = "cohort_size", nullable = false)
+    private long cohortSize;
+
+    @Column(name = "active_users", nullable = false)
+    private long activeUsers;
+
+    @Column(name = "finalized", nullable = false)
+    private boolean finalized;
+
+    @Builder
+    public CohortRetention(CohortType cohortType, LocalDate cohortStart, LocalDate periodStart, int periodOffset,
+                           long cohortSize, long activeUsers, boolean finalized) {
+        this.cohortType = cohortType;
+        this.cohortStart = cohortStart;
+        this.periodStart = periodStart;
+        this.periodOffset = periodOffset;
+        this.cohortSize = cohortSize;
+        this.activeUsers = activeUsers;
+        this.finalized = finalized;
+    }
+}
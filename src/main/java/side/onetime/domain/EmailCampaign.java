@@ -0,0 +1,77 @@
+package side.onetime.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import side.onetime.domain.enums.EmailCampaignStatus;
+import side.onetime.global.common.dao.BaseEntity;
+
+/**
+ * 이메일 캠페인 엔티티
+ *
+ * 한 번의 발송 요청 단위. 제목/본문/타겟 그룹을 한 번만 저장하고, 수신자별 EmailLog가 campaign_id로 참조한다.
+ * 그룹 스트리밍 발송은 chunk를 커밋할 때마다 조회/적재/제외 건수를 누적하여 진행 상황을 남긴다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "email_campaigns")
+public class EmailCampaign extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "subject", nullable = false, length = 500)
+    private String subject;
+
+    @Column(name = "content", columnDefinition = "MEDIUMTEXT")
+    private String content;
+
+    @Column(name = "content_type", length = 10)
+    private String contentType;
+
+    @Column(name = "target_group", length = 50)
+    private String targetGroup;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "send_status", nullable = false, length = 20)
+    private EmailCampaignStatus sendStatus;
+
+    /** 커서에서 읽은 대상 수 */
+    @Column(name = "scanned_count", nullable = false)
+    private int scannedCount;
+
+    /** 아웃박스에 적재한 수신자 수 */
+    @Column(name = "queued_count", nullable = false)
+    private int queuedCount;
+
+    /** 같은 타겟 그룹으로 이미 발송하여 제외한 수 */
+    @Column(name = "skipped_count", nullable = false)
+    private int skippedCount;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Builder
+    public EmailCampaign(String subject, String content, String contentType, String targetGroup,
+                         EmailCampaignStatus sendStatus) {
+        this.subject = subject;
+        this.content = content;
+        this.contentType = contentType;
+        this.targetGroup = targetGroup;
+        this.sendStatus = sendStatus != null ? sendStatus : EmailCampaignStatus.COMPLETED;
+    }
+}
@@ -6,9 +6,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,10 +20,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import side.onetime.domain.enums.EmailLogStatus;
 
+/**
+ * 이메일 발송 로그 (수신자 단위)
+ *
+ * 제목/본문/타겟 그룹은 EmailCampaign에 한 번만 저장하고 campaign_id로 참조한다.
+ * 타겟 그룹은 중복 발송 체크용으로 로그에도 함께 쓴다 (배치 서버가 email_logs.target_group을 읽음).
+ */
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "email_logs")
+@Table(name = "email_logs", indexes = {
+        @Index(name = "idx_email_logs_campaign", columnList = "campaign_id"),
+        @Index(name = "idx_email_logs_user_sent", columnList = "user_id, sent_at")
+})
 public class EmailLog {
 
     @Id
@@ -27,21 +40,16 @@ public class EmailLog {
     @Column(name = "id")
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campaign_id", nullable = false)
+    private EmailCampaign campaign;
+
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
     @Column(name = "recipient", nullable = false)
     private String recipient;
 
-    @Column(name = "subject", nullable = false, length = 500)
-    private String subject;
-
-    @Column(name = "content", columnDefinition = "TEXT")
-    private String content;
-
-    @Column(name = "content_type", length = 10)
-    private String contentType;
-
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private EmailLogStatus status;
@@ -49,24 +57,22 @@ public class EmailLog {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    /** 캠페인의 타겟 그룹 사본. 배치 서버 중복 체크가 email_campaigns 조인으로 바뀌기 전까지 유지한다. */
     @Column(name = "target_group", length = 50)
     private String targetGroup;
 
-    /** 이메일 로그 생성(큐잉) 시각. 실제 발송 시각이 아님. */
+    /** 발송 시각. 생성 시에는 큐잉 시각이고, 발송 결과(SENT/FAILED)를 받으면 실제 발송(시도) 시각으로 바뀐다. */
     @Column(name = "sent_at", nullable = false)
     private LocalDateTime sentAt;
 
     @Builder
-    public EmailLog(Long userId, String recipient, String subject, String content, String contentType,
-                    EmailLogStatus status, String errorMessage, String targetGroup) {
+    public EmailLog(EmailCampaign campaign, Long userId, String recipient, EmailLogStatus status, String errorMessage) {
+        this.campaign = campaign;
         this.userId = userId;
         this.recipient = recipient;
-        this.subject = subject;
-        this.content = content;
-        this.contentType = contentType;
         this.status = status;
         this.errorMessage = errorMessage;
-        this.targetGroup = targetGroup;
+        this.targetGroup = campaign != null ? campaign.getTargetGroup() : null;
         this.sentAt = LocalDateTime.now();
     }
 
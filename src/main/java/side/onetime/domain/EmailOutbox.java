@@ -0,0 +1,109 @@
+package side.onetime.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import side.onetime.domain.enums.EmailOutboxStatus;
+
+/**
+ * 이메일 아웃박스 엔티티
+ *
+ * EmailLog와 같은 트랜잭션에서 SQS 메시지 본문을 저장해 두고, EmailOutboxRelay가 커밋된 행만 발행한다.
+ * 인스턴스가 발행 전에 종료되거나 Blue/Green 전환이 일어나도 메시지가 DB에 남아 있어 유실되지 않는다.
+ * - payload: SQS 메시지 본문 (EmailEventMessage JSON, EmailMessageChunker로 분할된 단위)
+ * - next_attempt_at: 다음 발행 시도 가능 시각 (재시도 백오프). 릴레이가 가져간 행에는 리스 만료 시각이 된다.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(name = "recipient_count", nullable = false)
+    private int recipientCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * 발행 대기 상태의 아웃박스 행 생성
+     *
+     * @param payload        SQS 메시지 본문
+     * @param recipientCount 메시지에 포함된 수신자 수
+     * @return 새 EmailOutbox 엔티티
+     */
+    public static EmailOutbox pending(String payload, int recipientCount) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.payload = payload;
+        outbox.recipientCount = recipientCount;
+        outbox.status = EmailOutboxStatus.PENDING;
+        outbox.attempts = 0;
+        outbox.nextAttemptAt = now;
+        outbox.createdAt = now;
+        return outbox;
+    }
+
+    /**
+     * 릴레이가 발행하려고 가져간 행을 리스 만료 시각까지 다른 릴레이가 가져가지 않게 한다.
+     * 결과를 기록하기 전에 인스턴스가 죽으면 리스가 끝난 뒤 다시 발행된다.
+     */
+    public void lease(LocalDateTime now, Duration leaseDuration) {
+        this.nextAttemptAt = now.plus(leaseDuration);
+    }
+
+    public void markPublished(LocalDateTime now) {
+        this.status = EmailOutboxStatus.PUBLISHED;
+        this.attempts++;
+        this.publishedAt = now;
+    }
+
+    /**
+     * 발행 실패 기록. 최대 시도 횟수에 도달하면 FAILED로, 아니면 backoff 후 다시 시도한다.
+     *
+     * @return 최대 시도 횟수에 도달해 FAILED가 되었으면 true
+     */
+    public boolean markFailed(LocalDateTime now, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            return true;
+        }
+        this.nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.min(this.attempts - 1, 10)));
+        return false;
+    }
+}
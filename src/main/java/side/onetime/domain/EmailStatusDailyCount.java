@@ -0,0 +1,47 @@
+package side.onetime.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import side.onetime.domain.enums.EmailLogStatus;
+
+/**
+ * 일자별 이메일 상태 전이 카운터
+ *
+ * 발송 결과 수집 API가 email_logs 상태를 바꿀 때 같은 트랜잭션에서 (결과 일자, 새 상태) 행의 건수를 올린다.
+ * 발송 통계는 email_logs를 세지 않고 이 테이블의 작은 행들만 읽는다.
+ * 한 로그가 SENT → DELIVERED로 바뀌면 SENT와 DELIVERED에 각각 1씩 더해지므로, SENT 합계는 "발송된 적 있는" 건수다.
+ */
+@Entity
+@Table(name = "email_status_daily_counts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_email_status_daily_counts_date_status", columnNames = {"stat_date", "status"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailStatusDailyCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailLogStatus status;
+
+    @Column(name = "log_count", nullable = false)
+    private long logCount;
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -24,12 +25,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import side.onetime.domain.enums.Category;
 import side.onetime.domain.enums.EventStatus;
+import side.onetime.domain.enums.QrCodeStatus;
 import side.onetime.global.common.dao.BaseEntity;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "events")
+@DynamicUpdate // QR 워커가 qr_file_name/qr_status를 별도로 갱신하므로 변경된 컬럼만 UPDATE
 @SQLDelete(sql = "UPDATE events SET status = 'DELETED', deleted_at = CURRENT_TIMESTAMP WHERE events_id = ?")
 @SQLRestriction("status != 'DELETED'")
 public class Event extends BaseEntity {
@@ -57,6 +60,13 @@ public class Event extends BaseEntity {
     @Column(name = "qr_file_name")
     private String qrFileName;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "qr_status", nullable = false)
+    private QrCodeStatus qrStatus;
+
+    @Column(name = "qr_requested_at")
+    private LocalDateTime qrRequestedAt; // 마지막으로 QR 생성을 요청한(PENDING으로 바꾼) 시각
+
     @OneToMany(mappedBy = "event",cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Member> members;
 
@@ -81,6 +91,8 @@ public class Event extends BaseEntity {
         this.endTime = endTime;
         this.category = category;
         this.status = EventStatus.ACTIVE;
+        this.qrStatus = QrCodeStatus.PENDING;
+        this.qrRequestedAt = LocalDateTime.now();
     }
 
     public void updateTitle(String title) {
@@ -97,8 +109,15 @@ public class Event extends BaseEntity {
         this.endTime = endTime;
     }
 
-    public void addQrFileName(String qrFileName) {
-        this.qrFileName = qrFileName;
+    public boolean isQrCodeReady() {
+        return this.qrStatus == QrCodeStatus.READY && this.qrFileName != null;
+    }
+
+    /**
+     * staleBefore 이후에 요청되어 아직 생성 중인지 여부 (그보다 오래된 PENDING은 요청이 유실된 것으로 본다)
+     */
+    public boolean isQrCodeGenerating(LocalDateTime staleBefore) {
+        return this.qrStatus == QrCodeStatus.PENDING && this.qrRequestedAt != null && !this.qrRequestedAt.isBefore(staleBefore);
     }
 
     public void updateStatus(EventStatus status) {
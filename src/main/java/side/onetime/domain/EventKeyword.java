@@ -0,0 +1,53 @@
+package side.onetime.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트 제목에서 찾은 키워드 태그
+ *
+ * 이벤트 생성/제목 수정 시 키워드 사전으로 태깅하고, 사전이 바뀌면 백필 작업이 전체 이벤트를 다시 태깅한다.
+ * 키워드 차트는 이 테이블을 키워드별로 GROUP BY 한다.
+ */
+@Entity
+@Table(name = "event_keywords", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_keywords_event_keyword", columnNames = {"events_id", "keyword"})
+}, indexes = {
+        @Index(name = "idx_event_keywords_keyword", columnList = "keyword, events_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_keywords_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "events_id", nullable = false, foreignKey = @ForeignKey(name = "event_keywords_fk_events_id"))
+    private Event event;
+
+    @Column(name = "keyword", nullable = false, length = 50)
+    private String keyword;
+
+    @Builder
+    public EventKeyword(Event event, String keyword) {
+        this.event = event;
+        this.keyword = keyword;
+    }
+}
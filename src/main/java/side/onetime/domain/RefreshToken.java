@@ -31,7 +31,8 @@ import side.onetime.global.common.dao.BaseEntity;
 @Table(name = "refresh_token", indexes = {
         @Index(name = "idx_refresh_token_family", columnList = "family_id"),
         @Index(name = "idx_refresh_token_user_browser", columnList = "users_id, browser_id"),
-        @Index(name = "idx_refresh_token_expiry", columnList = "expiry_at")
+        @Index(name = "idx_refresh_token_expiry", columnList = "expiry_at"),
+        @Index(name = "idx_refresh_token_last_used", columnList = "last_used_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
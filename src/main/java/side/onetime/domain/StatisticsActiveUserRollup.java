@@ -0,0 +1,54 @@
+package side.onetime.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import side.onetime.domain.enums.StatisticsPeriod;
+
+/**
+ * 기간별 활성 유저 롤업 (DAU / WAU / MAU)
+ *
+ * refresh_token.last_used_at은 마지막 사용 시각만 남으므로, 유저가 다시 접속하면 과거 기간에서 빠진다.
+ * 그래서 집계할 때마다 기존 값과 비교해 큰 값을 남긴다. 한 번 관측한 활성 유저 수는 줄지 않는다.
+ */
+@Entity
+@Table(name = "stats_active_user_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stats_active_user_rollups_period", columnNames = {"period_type", "period_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatisticsActiveUserRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private StatisticsPeriod periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "active_users", nullable = false)
+    private long activeUsers;
+
+    @Builder
+    public StatisticsActiveUserRollup(StatisticsPeriod periodType, LocalDate periodStart, long activeUsers) {
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+        this.activeUsers = activeUsers;
+    }
+}
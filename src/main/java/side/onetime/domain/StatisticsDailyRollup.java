@@ -0,0 +1,112 @@
+package side.onetime.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 대시보드 일자별 롤업
+ *
+ * 가입 유저 컬럼은 가입일(users.created_date), 이벤트 컬럼은 생성일(events.created_date) 기준이다.
+ * StatisticsRollupScheduler가 최근 며칠만 다시 집계해 덮어쓰고, 대시보드는 기간 내 행만 읽어 합산한다.
+ * 휴면/퍼널 컬럼은 "지금" 기준 유저 상태라 매일 전체 가입일을 다시 집계한다.
+ */
+@Entity
+@Table(name = "stats_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stats_daily_rollups_stat_date", columnNames = {"stat_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatisticsDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // ==================== 가입 유저 (users.status = 'ACTIVE') ====================
+
+    @Column(name = "signups", nullable = false)
+    private long signups;
+
+    @Column(name = "marketing_agreed_signups", nullable = false)
+    private long marketingAgreedSignups;
+
+    @Column(name = "google_signups", nullable = false)
+    private long googleSignups;
+
+    @Column(name = "kakao_signups", nullable = false)
+    private long kakaoSignups;
+
+    @Column(name = "naver_signups", nullable = false)
+    private long naverSignups;
+
+    // 30일+ 미접속
+    @Column(name = "dormant_signups", nullable = false)
+    private long dormantSignups;
+
+    // 퍼널: 이벤트 1개+ 생성 / 참여자 1명+ 받음 / 이벤트 2개+ 생성
+    @Column(name = "first_event_users", nullable = false)
+    private long firstEventUsers;
+
+    @Column(name = "participant_received_users", nullable = false)
+    private long participantReceivedUsers;
+
+    @Column(name = "second_event_users", nullable = false)
+    private long secondEventUsers;
+
+    // ==================== 이벤트 ====================
+
+    // status = 'ACTIVE'
+    @Column(name = "events_created", nullable = false)
+    private long eventsCreated;
+
+    // status = 'CONFIRMED'
+    @Column(name = "confirmed_events", nullable = false)
+    private long confirmedEvents;
+
+    // 평균 참여자 수 분모/분자 (status != 'DELETED')
+    @Column(name = "participant_events", nullable = false)
+    private long participantEvents;
+
+    @Column(name = "participations", nullable = false)
+    private long participations;
+
+    @Column(name = "members", nullable = false)
+    private long members;
+
+    @Builder
+    public StatisticsDailyRollup(LocalDate statDate, long signups, long marketingAgreedSignups,
+                                 long googleSignups, long kakaoSignups, long naverSignups,
+                                 long dormantSignups, long firstEventUsers, long participantReceivedUsers,
+                                 long secondEventUsers, long eventsCreated, long confirmedEvents,
+                                 long participantEvents, long participations, long members) {
+        this.statDate = statDate;
+        this.signups = signups;
+        this.marketingAgreedSignups = marketingAgreedSignups;
+        this.googleSignups = googleSignups;
+        this.kakaoSignups = kakaoSignups;
+        this.naverSignups = naverSignups;
+        this.dormantSignups = dormantSignups;
+        this.firstEventUsers = firstEventUsers;
+        this.participantReceivedUsers = participantReceivedUsers;
+        this.secondEventUsers = secondEventUsers;
+        this.eventsCreated = eventsCreated;
+        this.confirmedEvents = confirmedEvents;
+        this.participantEvents = participantEvents;
+        this.participations = participations;
+        this.members = members;
+    }
+}
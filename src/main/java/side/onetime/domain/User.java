@@ -17,7 +17,9 @@ import java.util.List;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_status_last_active", columnList = "status, last_active_at")
+})
 @SQLDelete(sql = "UPDATE users SET status = 'DELETED', deleted_at = CURRENT_TIMESTAMP WHERE users_id = ?")
 @SQLRestriction("status = 'ACTIVE'")
 public class User extends BaseEntity {
@@ -76,6 +78,13 @@ public class User extends BaseEntity {
     @Column(name = "deleted_at", nullable = true)
     private LocalDateTime deletedAt;
 
+    /**
+     * 마지막 활동 시각 (가입, 로그인, 토큰 재발급)
+     * 엔티티 변경으로 덮어쓰지 않도록 UserRepository.updateLastActiveAtIfStale로만 갱신한다.
+     */
+    @Column(name = "last_active_at", nullable = false, updatable = false)
+    private LocalDateTime lastActiveAt;
+
     @Builder
     public User(String name, String email, String nickname, String provider, String providerId, Boolean servicePolicyAgreement, Boolean privacyPolicyAgreement, Boolean marketingPolicyAgreement, String sleepStartTime, String sleepEndTime, Language language) {
         this.name = name;
@@ -90,6 +99,7 @@ public class User extends BaseEntity {
         this.sleepEndTime = sleepEndTime;
         this.language = language;
         this.status = Status.ACTIVE;
+        this.lastActiveAt = LocalDateTime.now();
     }
 
     public void updateNickName(String nickname) {
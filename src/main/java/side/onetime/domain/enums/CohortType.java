@@ -0,0 +1,52 @@
+package side.onetime.domain.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 코호트 리텐션 기준
+ *
+ * 코호트를 나누는 기준과 기간 단위를 함께 정한다. 활성 여부는 모두 refresh_token.last_used_at 기준이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CohortType {
+    SIGNUP_MONTH(StatisticsPeriod.MONTH, "M"),   // 가입월
+    SIGNUP_WEEK(StatisticsPeriod.WEEK, "W"),     // 가입 주 (월요일 시작)
+    CREATOR_MONTH(StatisticsPeriod.MONTH, "M");  // 첫 이벤트 생성월
+
+    private final StatisticsPeriod period;
+    private final String periodPrefix;
+
+    /**
+     * 기간 열 이름 (M0, W0 ...)
+     */
+    public String periodLabel(int offset) {
+        return periodPrefix + offset;
+    }
+
+    /**
+     * 날짜가 속한 기간의 시작일 (주: 월요일, 월: 1일)
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return period == StatisticsPeriod.WEEK ? date.with(DayOfWeek.MONDAY) : date.withDayOfMonth(1);
+    }
+
+    /**
+     * periodStart에서 n 기간 뒤의 시작일
+     */
+    public LocalDate plusPeriods(LocalDate periodStart, long periods) {
+        return period == StatisticsPeriod.WEEK ? periodStart.plusWeeks(periods) : periodStart.plusMonths(periods);
+    }
+
+    /**
+     * 두 기간 시작일 사이의 기간 수
+     */
+    public int periodsBetween(LocalDate from, LocalDate to) {
+        return (int) (period == StatisticsPeriod.WEEK ? ChronoUnit.WEEKS.between(from, to) : ChronoUnit.MONTHS.between(from, to));
+    }
+}
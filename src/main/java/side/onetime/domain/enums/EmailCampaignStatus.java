@@ -0,0 +1,10 @@
+package side.onetime.domain.enums;
+
+/**
+ * 이메일 캠페인 발송 진행 상태
+ */
+public enum EmailCampaignStatus {
+    RUNNING,    // 그룹 스트리밍 발송 진행 중
+    COMPLETED,  // 모든 수신자를 아웃박스에 적재
+    FAILED      // 중간 실패 (커밋된 chunk까지는 발송됨)
+}
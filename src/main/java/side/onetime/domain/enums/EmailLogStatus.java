@@ -1,15 +1,48 @@
 package side.onetime.domain.enums;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
 /**
  * 이메일 발송 상태
+ *
+ * precedence는 발송 이후 단계의 순서다. 발송 결과를 반영할 때 현재보다 뒤 단계로만 바꾸므로,
+ * 같은 결과가 다시 오거나 순서가 뒤바뀌어 도착해도 상태가 되돌아가지 않는다.
+ * FAILED는 SENT보다 앞이다. 일시적인 실패 뒤 재전달(SQS at-least-once)로 발송에 성공하면 SENT로 바뀌고,
+ * 성공 뒤에 늦게 도착한 이전 시도의 실패는 무시한다.
  */
+@Getter
+@RequiredArgsConstructor
 public enum EmailLogStatus {
-    QUEUED,     // SQS 큐 발행 대기
-    SENT,       // 발송 성공
-    FAILED,     // 발송 실패
-    DELIVERED,  // 전달 완료 (SES 이벤트 수신 시)
-    BOUNCED,    // 반송
-    COMPLAINED, // 스팸 신고
-    OPENED,     // 열람
-    CLICKED     // 클릭
+    QUEUED(0),      // SQS 큐 발행 대기
+    FAILED(1),      // 발송 실패 (재전달로 SENT가 될 수 있음)
+    SENT(2),        // 발송 성공
+    DELIVERED(3),   // 전달 완료 (SES 이벤트 수신 시)
+    BOUNCED(4),     // 반송
+    OPENED(4),      // 열람
+    CLICKED(5),     // 클릭
+    COMPLAINED(6);  // 스팸 신고
+
+    private final int precedence;
+
+    /**
+     * 현재 상태에서 이 상태로 바꿀 수 있는지 (뒤 단계로만 이동)
+     */
+    public boolean supersedes(EmailLogStatus current) {
+        return precedence > current.precedence;
+    }
+
+    /**
+     * 발송 시도의 결과인지 (로그의 sent_at을 실제 발송 시각으로 바꾸는 상태)
+     */
+    public boolean isSendResult() {
+        return this == SENT || this == FAILED;
+    }
+
+    /**
+     * 발송에 성공한 뒤의 단계인지 (SENT 포함)
+     */
+    public boolean isSentOrLater() {
+        return precedence >= SENT.precedence;
+    }
 }
@@ -0,0 +1,10 @@
+package side.onetime.domain.enums;
+
+/**
+ * 이메일 아웃박스 발행 상태
+ */
+public enum EmailOutboxStatus {
+    PENDING,    // SQS 발행 대기 (재시도 대기 포함)
+    PUBLISHED,  // SQS 발행 완료
+    FAILED      // 최대 재시도 초과
+}
@@ -0,0 +1,7 @@
+package side.onetime.domain.enums;
+
+public enum QrCodeStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package side.onetime.domain.enums;
+
+/**
+ * 활성 유저 롤업 집계 단위
+ */
+public enum StatisticsPeriod {
+    DAY,    // 일 (DAU)
+    WEEK,   // 월요일 시작 주 (WAU)
+    MONTH   // 1일 시작 월 (MAU)
+}
@@ -0,0 +1,38 @@
+package side.onetime.dto.admin.email.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import side.onetime.domain.enums.EmailLogStatus;
+
+/**
+ * 배치 서버(SQS → SES 컨슈머)가 보내는 발송 결과 묶음
+ */
+public record EmailDeliveryReportRequest(
+        @NotEmpty(message = "발송 결과는 1건 이상이어야 합니다.")
+        @Size(max = 5000, message = "한 번에 최대 5000건까지 보낼 수 있습니다.")
+        List<@Valid @NotNull Result> results
+) {
+    /**
+     * @param emailLogId   SQS 메시지의 emailLogId
+     * @param status       발송 결과 상태
+     * @param sentAt       결과 발생 시각 (생략 시 수신 시각, SENT/FAILED면 로그의 sent_at을 이 값으로 바꿈)
+     * @param errorMessage 실패 사유 (생략 시 유지)
+     */
+    public record Result(
+            @NotNull(message = "emailLogId는 필수입니다.")
+            Long emailLogId,
+
+            @NotNull(message = "status는 필수입니다.")
+            EmailLogStatus status,
+
+            LocalDateTime sentAt,
+
+            String errorMessage
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package side.onetime.dto.admin.email.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record SendToGroupBulkRequest(
+        @NotBlank(message = "대상 그룹은 필수입니다.")
+        String targetGroup, // agreed, dormant, noEvent, oneTime, vip
+
+        @NotBlank(message = "제목은 필수입니다.")
+        String subject,
+
+        @NotBlank(message = "내용은 필수입니다.")
+        String content,
+
+        String contentType, // TEXT or HTML (기본값: TEXT)
+
+        @Positive(message = "발송 대상 수는 1 이상이어야 합니다.")
+        Long limit // 발송 대상 수 제한 (기본값: 제한 없음)
+) {
+    public String getContentType() {
+        return contentType != null ? contentType : "TEXT";
+    }
+
+    public long getLimit() {
+        return limit != null ? limit : Long.MAX_VALUE;
+    }
+}
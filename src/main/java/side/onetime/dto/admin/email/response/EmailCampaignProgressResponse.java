@@ -0,0 +1,30 @@
+package side.onetime.dto.admin.email.response;
+
+import java.time.LocalDateTime;
+
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.enums.EmailCampaignStatus;
+
+public record EmailCampaignProgressResponse(
+        Long campaignId,
+        String targetGroup,
+        EmailCampaignStatus status,
+        int scannedCount,
+        int queuedCount,
+        int skippedCount,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+    public static EmailCampaignProgressResponse from(EmailCampaign campaign) {
+        return new EmailCampaignProgressResponse(
+                campaign.getId(),
+                campaign.getTargetGroup(),
+                campaign.getSendStatus(),
+                campaign.getScannedCount(),
+                campaign.getQueuedCount(),
+                campaign.getSkippedCount(),
+                campaign.getCreatedDate(),
+                campaign.getCompletedAt()
+        );
+    }
+}
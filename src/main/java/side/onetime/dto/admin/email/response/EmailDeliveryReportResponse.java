@@ -0,0 +1,16 @@
+package side.onetime.dto.admin.email.response;
+
+/**
+ * @param received 받은 결과 수
+ * @param applied  상태를 바꾼 로그 수
+ * @param ignored  반영하지 않은 결과 수 (이미 반영됨, 이전 단계 상태, 없는 로그, 같은 요청 안의 중복)
+ */
+public record EmailDeliveryReportResponse(
+        int received,
+        int applied,
+        int ignored
+) {
+    public static EmailDeliveryReportResponse of(int received, int applied) {
+        return new EmailDeliveryReportResponse(received, applied, received - applied);
+    }
+}
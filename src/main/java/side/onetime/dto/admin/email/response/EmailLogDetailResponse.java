@@ -0,0 +1,38 @@
+package side.onetime.dto.admin.email.response;
+
+import java.time.LocalDateTime;
+
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.EmailLog;
+import side.onetime.domain.enums.EmailLogStatus;
+
+public record EmailLogDetailResponse(
+        Long id,
+        Long campaignId,
+        Long userId,
+        String recipient,
+        String subject,
+        String content,
+        String contentType,
+        EmailLogStatus status,
+        String errorMessage,
+        String targetGroup,
+        LocalDateTime sentAt
+) {
+    public static EmailLogDetailResponse from(EmailLog emailLog) {
+        EmailCampaign campaign = emailLog.getCampaign();
+        return new EmailLogDetailResponse(
+                emailLog.getId(),
+                campaign.getId(),
+                emailLog.getUserId(),
+                emailLog.getRecipient(),
+                campaign.getSubject(),
+                campaign.getContent(),
+                campaign.getContentType(),
+                emailLog.getStatus(),
+                emailLog.getErrorMessage(),
+                campaign.getTargetGroup(),
+                emailLog.getSentAt()
+        );
+    }
+}
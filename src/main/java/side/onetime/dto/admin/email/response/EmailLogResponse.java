@@ -1,41 +1,23 @@
 package side.onetime.dto.admin.email.response;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
-import side.onetime.domain.EmailLog;
 import side.onetime.domain.enums.EmailLogStatus;
 
+/**
+ * 이메일 로그 목록 항목
+ * 본문(content)은 포함하지 않으며, 상세 조회(EmailLogDetailResponse)에서만 캠페인 본문을 읽는다.
+ */
 public record EmailLogResponse(
         Long id,
+        Long campaignId,
         Long userId,
         String recipient,
         String subject,
-        String content,
         String contentType,
         EmailLogStatus status,
         String errorMessage,
         String targetGroup,
         LocalDateTime sentAt
 ) {
-    public static EmailLogResponse from(EmailLog emailLog) {
-        return new EmailLogResponse(
-                emailLog.getId(),
-                emailLog.getUserId(),
-                emailLog.getRecipient(),
-                emailLog.getSubject(),
-                emailLog.getContent(),
-                emailLog.getContentType(),
-                emailLog.getStatus(),
-                emailLog.getErrorMessage(),
-                emailLog.getTargetGroup(),
-                emailLog.getSentAt()
-        );
-    }
-
-    public static List<EmailLogResponse> fromList(List<EmailLog> emailLogs) {
-        return emailLogs.stream()
-                .map(EmailLogResponse::from)
-                .toList();
-    }
 }
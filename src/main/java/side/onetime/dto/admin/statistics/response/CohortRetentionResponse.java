@@ -28,4 +28,8 @@ public record CohortRetentionResponse(
                 .toList();
         return new CohortRetentionResponse(cohorts, periods);
     }
+
+    public static CohortRetentionResponse of(List<CohortRow> cohorts, List<String> periods) {
+        return new CohortRetentionResponse(cohorts, periods);
+    }
 }
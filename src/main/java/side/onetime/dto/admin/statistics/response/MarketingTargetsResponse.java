@@ -3,22 +3,26 @@ package side.onetime.dto.admin.statistics.response;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
+/**
+ * 마케팅 타겟 그룹별 인원
+ * 제한 시간 안에 집계하지 못한 항목은 null
+ */
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public record MarketingTargetsResponse(
-        long marketingAgreedUsers,
-        long dormantUsers,
-        long noEventUsers,
-        long oneTimeUsers,
-        long vipUsers,
-        long zeroParticipantEvents
+        Long marketingAgreedUsers,
+        Long dormantUsers,
+        Long noEventUsers,
+        Long oneTimeUsers,
+        Long vipUsers,
+        Long zeroParticipantEvents
 ) {
     public static MarketingTargetsResponse of(
-            long marketingAgreedUsers,
-            long dormantUsers,
-            long noEventUsers,
-            long oneTimeUsers,
-            long vipUsers,
-            long zeroParticipantEvents
+            Long marketingAgreedUsers,
+            Long dormantUsers,
+            Long noEventUsers,
+            Long oneTimeUsers,
+            Long vipUsers,
+            Long zeroParticipantEvents
     ) {
         return new MarketingTargetsResponse(
                 marketingAgreedUsers, dormantUsers, noEventUsers,
@@ -0,0 +1,88 @@
+package side.onetime.dto.admin.statistics.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import side.onetime.global.config.query.QueryStatsRecorder;
+
+/**
+ * 통계 쿼리 성능 Response
+ * 서버 시작 이후 리포지토리 메서드별 누적 시간 상위 목록과 최근 느린 쿼리
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record QueryPerformanceResponse(
+        LocalDateTime since,                // 누적 시작 시각
+        long slowThresholdMs,               // 느린 쿼리 기준
+        List<QueryRow> queries,             // 누적 시간 순
+        List<SlowQueryRow> recentSlowQueries // 최신순
+) {
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record QueryRow(
+            String repository,
+            String method,
+            long calls,
+            double totalMs,
+            double avgMs,
+            double maxMs,
+            double avgRows,
+            long slowCalls,
+            long errors,
+            List<String> endpoints
+    ) {
+        public static QueryRow from(QueryStatsRecorder.QueryStats stats) {
+            long calls = stats.calls();
+            return new QueryRow(
+                    stats.repository(),
+                    stats.method(),
+                    calls,
+                    toMillis(stats.totalNanos()),
+                    calls > 0 ? toMillis(stats.totalNanos() / calls) : 0,
+                    toMillis(stats.maxNanos()),
+                    calls > 0 ? Math.round((double) stats.rows() / calls * 10) / 10.0 : 0,
+                    stats.slowCalls(),
+                    stats.errors(),
+                    stats.endpoints()
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 100_000.0) / 10.0;
+        }
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SlowQueryRow(
+            LocalDateTime occurredAt,
+            String repository,
+            String method,
+            String endpoint,
+            long durationMs,
+            long rows,
+            Map<String, String> params
+    ) {
+        public static SlowQueryRow from(QueryStatsRecorder.SlowQuery slowQuery) {
+            return new SlowQueryRow(
+                    slowQuery.occurredAt(),
+                    slowQuery.repository(),
+                    slowQuery.method(),
+                    slowQuery.endpoint(),
+                    slowQuery.durationMs(),
+                    slowQuery.rows(),
+                    slowQuery.params()
+            );
+        }
+    }
+
+    public static QueryPerformanceResponse of(
+            LocalDateTime since,
+            long slowThresholdMs,
+            List<QueryRow> queries,
+            List<SlowQueryRow> recentSlowQueries
+    ) {
+        return new QueryPerformanceResponse(since, slowThresholdMs, queries, recentSlowQueries);
+    }
+}
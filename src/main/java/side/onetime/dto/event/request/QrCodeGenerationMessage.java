@@ -0,0 +1,20 @@
+package side.onetime.dto.event.request;
+
+import java.util.UUID;
+
+import side.onetime.domain.Event;
+
+/**
+ * QR 코드 생성 요청 메시지 (트랜잭션 커밋 후 QrCodeGenerationWorker가 처리)
+ *
+ * @param id      이벤트 PK
+ * @param eventId 이벤트 UUID (QR 코드에 담기는 값)
+ */
+public record QrCodeGenerationMessage(
+        Long id,
+        UUID eventId
+) {
+    public static QrCodeGenerationMessage from(Event event) {
+        return new QrCodeGenerationMessage(event.getId(), event.getEventId());
+    }
+}
@@ -3,13 +3,27 @@ package side.onetime.dto.event.response;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
+import side.onetime.domain.enums.QrCodeStatus;
+
 @JsonNaming(value = PropertyNamingStrategies.SnakeCaseStrategy.class)
 public record GetEventQrCodeResponse(
-        String qrCodeImgUrl
+        String qrCodeImgUrl,
+        QrCodeStatus qrStatus
 ) {
     public static GetEventQrCodeResponse from(String qrCodeImgUrl) {
         return new GetEventQrCodeResponse(
-                qrCodeImgUrl
+                qrCodeImgUrl,
+                QrCodeStatus.READY
+        );
+    }
+
+    /**
+     * 아직 QR 코드가 생성되지 않은 경우 (클라이언트는 잠시 후 다시 조회)
+     */
+    public static GetEventQrCodeResponse pending() {
+        return new GetEventQrCodeResponse(
+                null,
+                QrCodeStatus.PENDING
         );
     }
 }
@@ -0,0 +1,26 @@
+package side.onetime.dto.s3;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * S3 객체 일괄 삭제 요청 메시지 (트랜잭션 커밋 후 S3ObjectDeletionListener가 처리)
+ *
+ * @param keys 삭제할 S3 객체 키 (중복/빈 값 제거)
+ */
+public record S3ObjectDeletionMessage(
+        List<String> keys
+) {
+    public static S3ObjectDeletionMessage of(Collection<String> keys) {
+        return new S3ObjectDeletionMessage(keys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !key.isBlank())
+                .distinct()
+                .toList());
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+}
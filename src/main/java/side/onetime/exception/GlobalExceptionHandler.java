@@ -4,11 +4,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -24,9 +28,11 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import side.onetime.exception.status.AdminErrorStatus;
 import side.onetime.global.common.ApiResponse;
 import side.onetime.global.common.dto.ErrorReasonDto;
 import side.onetime.global.common.status.ErrorStatus;
+import side.onetime.global.config.datasource.AnalyticsLaneBusyException;
 
 @Slf4j
 @RestControllerAdvice
@@ -147,6 +153,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ApiResponse.onFailure(ErrorStatus._BAD_REQUEST, errorMessage);
     }
 
+    // 분석 레인(관리자 통계, 내보내기, 이메일 타겟 조회) 자리를 얻지 못한 경우 처리
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResponse<ErrorReasonDto>> handleConnectionFailure(Exception e) {
+        if (NestedExceptionUtils.getRootCause(e) instanceof AnalyticsLaneBusyException) {
+            logError("AnalyticsLaneBusyException", e);
+            return ApiResponse.onFailure(AdminErrorStatus._ANALYTICS_LANE_BUSY);
+        }
+        return handleException(e);
+    }
+
+    // 쿼리 제한 시간 초과 처리 (분석 레인의 query-timeout 등)
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ApiResponse<ErrorReasonDto>> handleQueryTimeoutException(QueryTimeoutException e) {
+        logError("QueryTimeoutException", e);
+        return ApiResponse.onFailure(AdminErrorStatus._STATISTICS_QUERY_UNAVAILABLE);
+    }
+
     // 내부 서버 에러 처리 (500)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<ErrorReasonDto>> handleException(Exception e) {
@@ -25,6 +25,9 @@ public enum AdminErrorStatus implements BaseErrorCode {
     _FAILED_EXPORT_TRANSMISSION(HttpStatus.BAD_GATEWAY, "ADMIN-USER-011", "운영 서버로 배너 데이터 전송 중 오류가 발생했습니다."),
     _INVALID_API_KEY(HttpStatus.UNAUTHORIZED, "ADMIN-USER-012", "유효하지 않은 서버 인증 키입니다."),
     _SYNC_DISABLED_ENVIRONMENT(HttpStatus.BAD_REQUEST, "ADMIN-USER-013", "현재 환경에서는 외부 서버 동기화 기능을 지원하지 않습니다."),
+
+    _STATISTICS_QUERY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "ADMIN-USER-014", "통계를 제한 시간 안에 조회하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+    _ANALYTICS_LANE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "ADMIN-USER-015", "진행 중인 통계/내보내기 조회가 많습니다. 잠시 후 다시 시도해 주세요."),
     ;
 
     private final HttpStatus httpStatus;
@@ -13,6 +13,12 @@ public enum EmailErrorStatus implements BaseErrorCode {
     _EMAIL_TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "EMAIL-001", "이메일 템플릿을 찾을 수 없습니다."),
     _EMAIL_TEMPLATE_NAME_DUPLICATED(HttpStatus.BAD_REQUEST, "EMAIL-002", "이미 존재하는 템플릿 이름입니다."),
     _EMAIL_SQS_PUBLISH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL-003", "이메일 큐 발행에 실패했습니다."),
+    _EMAIL_MESSAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "EMAIL-004", "이메일 본문이 너무 커서 큐에 발행할 수 없습니다."),
+    _EMAIL_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "EMAIL-005", "이메일 로그를 찾을 수 없습니다."),
+    _EMAIL_TARGET_GROUP_INVALID(HttpStatus.BAD_REQUEST, "EMAIL-006", "지원하지 않는 타겟 그룹입니다."),
+    _EMAIL_CAMPAIGN_NOT_FOUND(HttpStatus.NOT_FOUND, "EMAIL-007", "이메일 캠페인을 찾을 수 없습니다."),
+    _EMAIL_GROUP_SEND_BUSY(HttpStatus.TOO_MANY_REQUESTS, "EMAIL-008", "진행 중인 그룹 발송이 많습니다. 잠시 후 다시 시도해주세요."),
+    _EMAIL_DELIVERY_API_KEY_INVALID(HttpStatus.UNAUTHORIZED, "EMAIL-009", "유효하지 않은 발송 결과 수집 인증 키입니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -24,6 +24,7 @@ public enum SuccessStatus implements BaseCode {
     _MODIFY_EVENT(HttpStatus.OK, "200", "이벤트 수정에 성공했습니다."),
     _CONFIRM_EVENT(HttpStatus.OK, "200", "이벤트 확정에 성공했습니다."),
     _GET_EVENT_QR_CODE(HttpStatus.OK, "200", "이벤트 QR 코드 조회에 성공했습니다."),
+    _GET_EVENT_QR_CODE_PENDING(HttpStatus.ACCEPTED, "202", "이벤트 QR 코드를 생성하고 있습니다. 잠시 후 다시 조회해 주세요."),
     // Member
     _REGISTER_MEMBER(HttpStatus.CREATED, "201", "멤버 등록에 성공했습니다."),
     _LOGIN_MEMBER(HttpStatus.OK, "200", "멤버 로그인에 성공했습니다."),
@@ -102,11 +103,17 @@ public enum SuccessStatus implements BaseCode {
     _GET_TIME_WEEKDAY_HEATMAP(HttpStatus.OK, "200", "시간대×요일 히트맵 조회에 성공했습니다."),
     _GET_STICKINESS(HttpStatus.OK, "200", "점착도 조회에 성공했습니다."),
     _GET_EVENT_CONFIRMATION_STATS(HttpStatus.OK, "200", "이벤트 확정 통계 조회에 성공했습니다."),
+    _PURGE_STATISTICS_CACHE(HttpStatus.OK, "200", "통계 캐시 삭제에 성공했습니다."),
+    _GET_QUERY_PERFORMANCE(HttpStatus.OK, "200", "통계 쿼리 성능 조회에 성공했습니다."),
     // Email
     _SEND_EMAIL(HttpStatus.OK, "200", "이메일이 발송 대기열에 등록되었습니다."),
     _SEND_TEST_EMAIL(HttpStatus.OK, "200", "테스트 이메일이 발송 대기열에 등록되었습니다."),
     _GET_EMAIL_LOGS(HttpStatus.OK, "200", "이메일 로그 조회에 성공했습니다."),
+    _GET_EMAIL_LOG(HttpStatus.OK, "200", "이메일 로그 상세 조회에 성공했습니다."),
     _GET_EMAIL_STATS(HttpStatus.OK, "200", "이메일 통계 조회에 성공했습니다."),
+    _START_EMAIL_GROUP_SEND(HttpStatus.ACCEPTED, "202", "그룹 이메일 발송이 시작되었습니다."),
+    _GET_EMAIL_CAMPAIGN_PROGRESS(HttpStatus.OK, "200", "이메일 캠페인 진행 상황 조회에 성공했습니다."),
+    _REPORT_EMAIL_DELIVERY(HttpStatus.OK, "200", "이메일 발송 결과가 반영되었습니다."),
     // Email Template
     _GET_EMAIL_TEMPLATES(HttpStatus.OK, "200", "이메일 템플릿 목록 조회에 성공했습니다."),
     _GET_EMAIL_TEMPLATE(HttpStatus.OK, "200", "이메일 템플릿 조회에 성공했습니다."),
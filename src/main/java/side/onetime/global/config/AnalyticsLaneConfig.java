@@ -0,0 +1,37 @@
+package side.onetime.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import side.onetime.global.config.datasource.AnalyticsLaneDataSource;
+import side.onetime.global.config.datasource.AnalyticsLaneLimiter;
+
+/**
+ * 분석 레인 설정
+ *
+ * 관리자 통계, CSV 내보내기, 이메일 타겟 조회가 커넥션 풀을 다 차지해 사용자 요청(일정 등록 등)이 막히지 않도록,
+ * 애플리케이션 데이터소스를 감싸 레인 안의 커넥션 수와 쿼리 시간을 제한한다.
+ * 복제본 라우팅(DataSourceConfig)을 켜도 라우팅 데이터소스 바깥에서 같은 제한을 적용한다.
+ */
+@Configuration
+public class AnalyticsLaneConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor analyticsLaneDataSourcePostProcessor(ObjectProvider<AnalyticsLaneLimiter> limiterProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new AnalyticsLaneDataSource(dataSource, limiterProvider);
+                }
+                return bean;
+            }
+        };
+    }
+}
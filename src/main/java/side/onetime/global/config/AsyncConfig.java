@@ -1,9 +1,127 @@
 package side.onetime.global.config;
 
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.global.config.async.AsyncExecutorProperties;
+import side.onetime.global.config.async.SaturationAwareRejectionHandler;
 
+/**
+ * 비동기 실행기 설정
+ *
+ * 워크로드별로 이름이 있는 bounded 실행기를 둔다. (기본 SimpleAsyncTaskExecutor는 스레드를 무제한 생성)
+ * - qrGenerationExecutor: QR 코드 생성/업로드
+ * - cacheRefreshExecutor: 캐시 갱신
+ * - s3CleanupExecutor: 커밋 이후 S3 객체 일괄 삭제
+ * - emailGroupSendExecutor: 마케팅 그룹 스트리밍 발송 (장시간 작업이므로 동시 실행 수를 작게 제한)
+ * - statisticsQueryExecutor: 관리자 통계 병렬 조회 (분기마다 커넥션을 쓰므로 커넥션 풀보다 작게 제한)
+ * - taskExecutor: 이름 없는 @Async 기본값
+ *
+ * 풀/큐 크기와 포화 정책은 app.async.executors.{name} 으로 설정한다.
+ * 큐 적재량/활성 스레드/완료 건수(executor.*)는 Boot의 TaskExecutorMetricsAutoConfiguration이 빈 이름으로 노출하고,
+ * 여기서는 같은 name 태그로 포화 거절 횟수(executor.rejected)만 더한다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String QR_GENERATION_EXECUTOR = "qrGenerationExecutor";
+    public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+    public static final String S3_CLEANUP_EXECUTOR = "s3CleanupExecutor";
+    public static final String EMAIL_GROUP_SEND_EXECUTOR = "emailGroupSendExecutor";
+    public static final String STATISTICS_QUERY_EXECUTOR = "statisticsQueryExecutor";
+    public static final String DEFAULT_EXECUTOR = "taskExecutor";
+
+    private final AsyncExecutorProperties asyncExecutorProperties;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean(name = QR_GENERATION_EXECUTOR)
+    public ThreadPoolTaskExecutor qrGenerationExecutor() {
+        return createExecutor("qr-generation");
+    }
+
+    @Bean(name = CACHE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        return createExecutor("cache-refresh");
+    }
+
+    @Bean(name = S3_CLEANUP_EXECUTOR)
+    public ThreadPoolTaskExecutor s3CleanupExecutor() {
+        return createExecutor("s3-cleanup");
+    }
+
+    @Bean(name = EMAIL_GROUP_SEND_EXECUTOR)
+    public ThreadPoolTaskExecutor emailGroupSendExecutor() {
+        return createExecutor("email-group-send");
+    }
+
+    @Bean(name = STATISTICS_QUERY_EXECUTOR)
+    public ThreadPoolTaskExecutor statisticsQueryExecutor() {
+        return createExecutor("statistics-query");
+    }
+
+    @Bean(name = DEFAULT_EXECUTOR)
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return createExecutor("default");
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("[Async] 비동기 작업 실패 - method={}",
+                method.getDeclaringClass().getSimpleName() + "." + method.getName(), ex);
+    }
+
+    /**
+     * 실행기별 포화 거절 건수 메트릭
+     */
+    @Bean
+    public MeterBinder asyncExecutorMetrics(Map<String, ThreadPoolTaskExecutor> executors) {
+        return registry -> executors.forEach((beanName, executor) -> {
+            if (executor.getThreadPoolExecutor().getRejectedExecutionHandler() instanceof SaturationAwareRejectionHandler handler) {
+                FunctionCounter.builder("executor.rejected", handler, SaturationAwareRejectionHandler::getRejectedCount)
+                        .description("포화로 거절된 작업 수")
+                        .tag("name", beanName)
+                        .register(registry);
+            }
+        });
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String name) {
+        AsyncExecutorProperties.Pool pool = asyncExecutorProperties.get(name);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.corePoolSize());
+        executor.setMaxPoolSize(pool.maxPoolSize());
+        executor.setQueueCapacity(pool.queueCapacity());
+        executor.setRejectedExecutionHandler(new SaturationAwareRejectionHandler(name, pool.saturationPolicy()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        if (virtualThreadsEnabled) {
+            // 동시 실행 수는 풀 크기로 제한하고, 각 작업은 가상 스레드에서 실행
+            executor.setThreadFactory(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        return executor;
+    }
 }
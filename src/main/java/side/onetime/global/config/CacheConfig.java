@@ -1,25 +1,124 @@
 package side.onetime.global.config;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.BeanFactoryCacheOperationSourceAdvisor;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.cache.interceptor.CacheOperationSource;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import side.onetime.global.config.cache.CacheSpecProperties;
+import side.onetime.global.config.cache.RefreshAheadCache;
+import side.onetime.global.config.cache.RefreshingCacheInterceptor;
+import side.onetime.global.config.cache.StatisticsCacheKey;
+import side.onetime.global.config.cache.StatisticsCacheResolver;
+
+/**
+ * 캐시 설정
+ *
+ * 캐시별 크기/만료/갱신 주기는 app.cache.specs.{name} 으로 설정한다.
+ * - statistics-history: 오늘 이전에 끝난 기간의 통계 응답 (긴 TTL)
+ * - statistics-live: 오늘을 포함하는 기간의 통계 응답 (짧은 TTL, refresh-after-write 뒤에는 기존 값을 주고 cacheRefreshExecutor에서 다시 계산)
+ * - 그 외 이름: default 스펙으로 필요할 때 생성
+ *
+ * 캐시 어드바이스를 트랜잭션보다 바깥에 두어, 캐시 적중 시에는 트랜잭션(커넥션)을 열지 않는다.
+ * 비동기 갱신이 원래 메서드의 트랜잭션 설정대로 실행되도록 @EnableCaching 대신 {@link RefreshingCacheInterceptor}를 직접 등록한다.
+ * 프록시 생성은 트랜잭션 설정이 등록하는 auto-proxy creator가 맡는다.
+ */
 @Configuration
-@EnableCaching
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    public static final String STATISTICS_HISTORY_CACHE = "statistics-history";
+    public static final String STATISTICS_LIVE_CACHE = "statistics-live";
+    public static final String STATISTICS_CACHE_RESOLVER = "statisticsCacheResolver";
+    public static final String STATISTICS_KEY_GENERATOR = "statisticsKeyGenerator";
+
+    private static final List<String> NAMED_CACHES = List.of(STATISTICS_HISTORY_CACHE, STATISTICS_LIVE_CACHE);
+
+    private static final int CACHE_ADVISOR_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final CacheSpecProperties cacheSpecProperties;
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CacheOperationSource cacheOperationSource() {
+        return new AnnotationCacheOperationSource();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CacheInterceptor cacheInterceptor(CacheOperationSource cacheOperationSource) {
+        CacheInterceptor interceptor = new RefreshingCacheInterceptor();
+        interceptor.setCacheOperationSource(cacheOperationSource);
+        return interceptor;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static BeanFactoryCacheOperationSourceAdvisor cacheAdvisor(CacheOperationSource cacheOperationSource,
+                                                                      CacheInterceptor cacheInterceptor) {
+        BeanFactoryCacheOperationSourceAdvisor advisor = new BeanFactoryCacheOperationSourceAdvisor();
+        advisor.setCacheOperationSource(cacheOperationSource);
+        advisor.setAdvice(cacheInterceptor);
+        advisor.setOrder(CACHE_ADVISOR_ORDER);
+        return advisor;
+    }
+
+    @Bean
+    public CacheManager cacheManager(@Qualifier(AsyncConfig.CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
+        SimpleCacheManager namedCaches = new SimpleCacheManager();
+        namedCaches.setCaches(NAMED_CACHES.stream()
+                .map(name -> new RefreshAheadCache(name, cacheSpecProperties.get(name), refreshExecutor))
+                .toList());
+        namedCaches.initializeCaches();
+
+        CacheSpecProperties.Spec defaultSpec = cacheSpecProperties.get("default");
+        CaffeineCacheManager defaultCaches = new CaffeineCacheManager();
+        defaultCaches.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(defaultSpec.expireAfterWrite())
+                .maximumSize(defaultSpec.maximumSize()));
+
+        return new CompositeCacheManager(namedCaches, defaultCaches);
+    }
+
+    @Bean(name = STATISTICS_CACHE_RESOLVER)
+    public CacheResolver statisticsCacheResolver(CacheManager cacheManager) {
+        return new StatisticsCacheResolver(cacheManager);
+    }
+
+    @Bean(name = STATISTICS_KEY_GENERATOR)
+    public KeyGenerator statisticsKeyGenerator() {
+        return (target, method, params) -> StatisticsCacheKey.of(method, params);
+    }
+
+    /**
+     * 이름 있는 캐시의 적중/미스/제거 건수 메트릭
+     */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(5, TimeUnit.MINUTES)  // 5분 캐시
-                .maximumSize(100));
-        return cacheManager;
+    public MeterBinder namedCacheMetrics(CacheManager cacheManager) {
+        return registry -> NAMED_CACHES.forEach(name -> {
+            if (cacheManager.getCache(name) instanceof RefreshAheadCache cache) {
+                CaffeineCacheMetrics.monitor(registry, cache.getNativeCache(), name);
+            }
+        });
     }
 }
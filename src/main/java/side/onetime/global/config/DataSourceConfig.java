@@ -0,0 +1,86 @@
+package side.onetime.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import side.onetime.global.config.datasource.ReplicaDataSourceProperties;
+import side.onetime.global.config.datasource.ReplicaLagMonitor;
+import side.onetime.global.config.datasource.ReplicaRoutingDataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * app.datasource.replica.enabled=true 일 때만 적용되고, 끄면 스프링 부트 기본 데이터소스를 그대로 쓴다.
+ * - primaryDataSource: spring.datasource.* 설정의 쓰기 풀
+ * - replicaDataSource: app.datasource.replica.* 설정의 읽기 전용 풀
+ * - dataSource: JPA/JdbcTemplate이 쓰는 라우팅 데이터소스. readOnly 트랜잭션은 복제본, 나머지는 primary
+ *
+ * 두 풀을 각각 빈으로 등록해 hikaricp.connections.* 메트릭이 pool 태그(primary/replica)로 나뉘어 남는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(name = PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(name = REPLICA_DATA_SOURCE)
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replicaProperties.url())
+                .username(replicaProperties.username())
+                .password(replicaProperties.password())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties.maxLag(),
+                replicaProperties.lagCheckInterval(), meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻도록 지연 프록시로 감싼다.
+     * 그래야 라우팅할 때 현재 트랜잭션의 readOnly 여부가 정해져 있다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+                                 @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+}
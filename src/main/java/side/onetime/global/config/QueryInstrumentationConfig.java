@@ -0,0 +1,50 @@
+package side.onetime.global.config;
+
+import java.util.List;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import side.onetime.global.config.query.QueryStatsRecorder;
+import side.onetime.global.config.query.QueryTimingInterceptor;
+import side.onetime.repository.StatisticsRepository;
+import side.onetime.repository.custom.StatisticsRepositoryCustom;
+
+/**
+ * 통계 리포지토리 조회 계측 설정
+ *
+ * 통계 리포지토리 빈을 프록시로 감싸 메서드마다 지연 시간, 행 수, 호출 엔드포인트를 기록한다.
+ * 빈을 주입받는 쪽은 인터페이스로 받으므로 인터페이스 프록시로 충분하다.
+ * 기록기는 빈 후처리기보다 늦게 만들어지도록 ObjectProvider로 받는다.
+ */
+@Configuration
+public class QueryInstrumentationConfig {
+
+    private static final List<Class<?>> INSTRUMENTED_REPOSITORIES = List.of(
+            StatisticsRepository.class,
+            StatisticsRepositoryCustom.class
+    );
+
+    @Bean
+    public static BeanPostProcessor queryInstrumentationPostProcessor(ObjectProvider<QueryStatsRecorder> recorderProvider) {
+        QueryTimingInterceptor interceptor = new QueryTimingInterceptor(recorderProvider);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                for (Class<?> repository : INSTRUMENTED_REPOSITORIES) {
+                    if (repository.isInstance(bean)) {
+                        ProxyFactory proxyFactory = new ProxyFactory();
+                        proxyFactory.setTarget(bean);
+                        proxyFactory.addInterface(repository);
+                        proxyFactory.addAdvice(interceptor);
+                        return proxyFactory.getProxy(repository.getClassLoader());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
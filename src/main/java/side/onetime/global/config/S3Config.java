@@ -1,12 +1,23 @@
 package side.onetime.global.config;
 
+import java.net.URI;
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 @Configuration
 public class S3Config {
@@ -20,15 +31,62 @@ public class S3Config {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // 로컬 S3 호환 서버(LocalStack 등)를 쓸 때만 설정
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${s3.async.max-concurrency:64}")
+    private int maxConcurrency;
+
+    @Value("${s3.async.connection-acquisition-timeout:PT10S}")
+    private Duration connectionAcquisitionTimeout;
+
+    @Value("${s3.upload.multipart-threshold:8MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${s3.upload.multipart-part-size:8MB}")
+    private DataSize multipartPartSize;
+
     @Bean
     public S3Client s3Client() {
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                );
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 이미지 업로드용 비동기 S3 클라이언트
+     * - Netty 커넥션 풀을 공유하며, 동시 요청 수는 maxConcurrency로 제한
+     * - multipart-threshold 이상의 파일은 multipart 업로드 (파트 병렬 전송)
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
                 )
-                .build();
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(multipartPartSize.toBytes())
+                        .build());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
     }
 }
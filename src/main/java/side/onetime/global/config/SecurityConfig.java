@@ -77,6 +77,7 @@ public class SecurityConfig {
 		"/api/v1/schedules/date/*/filtering",     // 스케줄 필터링
         "/api/v1/banners/staging",
         "/api/v1/bar-banners/staging",
+        "/api/v1/email/delivery-results",          // 배치 서버 발송 결과 (X-API-KEY 인증)
         "/api/v1/kakao/token",
         "/api/v1/kakao/calendar/confirmation",
 	};
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import side.onetime.global.interceptor.AnalyticsLaneInterceptor;
 import side.onetime.global.interceptor.LoggingInterceptor;
 
 @Configuration
@@ -11,10 +12,20 @@ import side.onetime.global.interceptor.LoggingInterceptor;
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
+    private final AnalyticsLaneInterceptor analyticsLaneInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/**");
+        // 무거운 분석 조회는 분석 레인의 커넥션만 쓰도록 (AnalyticsLaneConfig)
+        registry.addInterceptor(analyticsLaneInterceptor)
+                .addPathPatterns(
+                        "/api/v1/admin/statistics/**",
+                        "/api/v1/admin/export/**",
+                        "/api/v1/admin/email/send-to-group/**",
+                        "/admin/dashboard",
+                        "/admin/statistics/**"
+                );
     }
 }
@@ -0,0 +1,37 @@
+package side.onetime.global.config.async;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.async")
+public record AsyncExecutorProperties(
+        Map<String, Pool> executors
+) {
+    public AsyncExecutorProperties {
+        executors = executors == null ? Map.of() : Map.copyOf(executors);
+    }
+
+    /**
+     * 실행기 이름(kebab-case)에 해당하는 설정, 없으면 기본값
+     */
+    public Pool get(String name) {
+        return executors.getOrDefault(name, Pool.DEFAULT);
+    }
+
+    public record Pool(
+            int corePoolSize,
+            int maxPoolSize,
+            int queueCapacity,
+            SaturationPolicy saturationPolicy
+    ) {
+        static final Pool DEFAULT = new Pool(2, 4, 100, SaturationPolicy.CALLER_RUNS);
+
+        public Pool {
+            corePoolSize = corePoolSize > 0 ? corePoolSize : 2;
+            maxPoolSize = Math.max(maxPoolSize, corePoolSize);
+            queueCapacity = queueCapacity > 0 ? queueCapacity : 100;
+            saturationPolicy = saturationPolicy != null ? saturationPolicy : SaturationPolicy.CALLER_RUNS;
+        }
+    }
+}
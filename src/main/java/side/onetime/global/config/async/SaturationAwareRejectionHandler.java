@@ -0,0 +1,48 @@
+package side.onetime.global.config.async;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포화 정책을 적용하고 거절 횟수를 집계하는 RejectedExecutionHandler
+ */
+@Slf4j
+public class SaturationAwareRejectionHandler implements RejectedExecutionHandler {
+
+    private final String executorName;
+    private final SaturationPolicy policy;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public SaturationAwareRejectionHandler(String executorName, SaturationPolicy policy) {
+        this.executorName = executorName;
+        this.policy = policy;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        rejectedCount.incrementAndGet();
+        log.warn("[Async] 실행기 포화 - executor={}, policy={}, active={}, queued={}",
+                executorName, policy, executor.getActiveCount(), executor.getQueue().size());
+
+        switch (policy) {
+            case CALLER_RUNS -> {
+                if (!executor.isShutdown()) {
+                    task.run();
+                }
+            }
+            case ABORT -> throw new RejectedExecutionException(
+                    "Executor " + executorName + " saturated (policy=ABORT)");
+            case DISCARD -> {
+                // 유실 허용 작업: 로그와 메트릭만 남긴다
+            }
+        }
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,10 @@
+package side.onetime.global.config.async;
+
+/**
+ * 비동기 실행기 포화(풀/큐가 모두 찬) 시 정책
+ */
+public enum SaturationPolicy {
+    CALLER_RUNS,    // 호출한 스레드에서 직접 실행 (자연스러운 back-pressure)
+    ABORT,          // RejectedExecutionException 발생
+    DISCARD         // 경고 로그만 남기고 버림 (유실 허용 작업 전용)
+}
@@ -0,0 +1,40 @@
+package side.onetime.global.config.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.cache")
+public record CacheSpecProperties(
+        Map<String, Spec> specs
+) {
+    public CacheSpecProperties {
+        specs = specs == null ? Map.of() : Map.copyOf(specs);
+    }
+
+    /**
+     * 캐시 이름(kebab-case)에 해당하는 설정, 없으면 기본값
+     */
+    public Spec get(String name) {
+        return specs.getOrDefault(name, Spec.DEFAULT);
+    }
+
+    /**
+     * @param maximumSize       최대 항목 수
+     * @param expireAfterWrite  저장 후 만료 시간
+     * @param refreshAfterWrite 저장 후 이 시간이 지나면 조회 시 기존 값을 반환하고 비동기로 다시 계산 (없으면 갱신하지 않음)
+     */
+    public record Spec(
+            long maximumSize,
+            Duration expireAfterWrite,
+            Duration refreshAfterWrite
+    ) {
+        static final Spec DEFAULT = new Spec(100, Duration.ofMinutes(5), null);
+
+        public Spec {
+            maximumSize = maximumSize > 0 ? maximumSize : 100;
+            expireAfterWrite = expireAfterWrite != null ? expireAfterWrite : Duration.ofMinutes(5);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package side.onetime.global.config.cache;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.global.config.datasource.AnalyticsLane;
+
+/**
+ * 만료 전에 비동기로 다시 계산하는 캐시 (refresh-ahead)
+ *
+ * refresh-after-write가 지난 항목은 조회 시 기존 값을 바로 반환하고, 같은 계산을 실행기에서 다시 실행해 덮어쓴다.
+ * 값이 없거나 expire-after-write가 지난 항목만 호출 스레드가 계산을 기다린다. 같은 키의 동시 계산은 하나로 합친다.
+ * refresh-after-write가 없으면 만료될 때까지 그대로 쓴다.
+ *
+ * 다시 계산하려면 원래 메서드 호출이 필요하므로 @Cacheable(sync = true)로 채운다.
+ * {@link RefreshingCacheInterceptor}를 거친 호출이면 비동기 갱신은 그 호출의 복제본으로 트랜잭션 등 어드바이스를 다시 거쳐 실행하고,
+ * 아니면 Spring이 넘긴 loader를 그대로 다시 실행한다.
+ * 계산 중 {@link UncacheableResult#mark()}가 호출되면 값을 반환만 하고 저장하지 않는다.
+ */
+@Slf4j
+public class RefreshAheadCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Entry> cache;
+    private final Duration refreshAfterWrite;
+    private final Executor refreshExecutor;
+
+    public RefreshAheadCache(String name, CacheSpecProperties.Spec spec, Executor refreshExecutor) {
+        super(true);
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats()
+                .build();
+        this.refreshAfterWrite = spec.refreshAfterWrite();
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<Object, ?> getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return load(key, valueLoader);
+        }
+        if (entry.claimRefresh(refreshAfterWrite)) {
+            Callable<?> refreshLoader = RefreshInvocation.current();
+            refreshAsync(key, refreshLoader != null ? refreshLoader : valueLoader, entry);
+        }
+        return (T) fromStoreValue(entry.value());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        cache.put(key, new Entry(toStoreValue(value)));
+    }
+
+    @Override
+    public void evict(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        Object[] uncached = new Object[1];
+        Entry entry = cache.get(key, k -> {
+            Loaded loaded = compute(key, valueLoader);
+            if (loaded.cacheable()) {
+                return new Entry(toStoreValue(loaded.value()));
+            }
+            uncached[0] = loaded.value();
+            return null;
+        });
+        return entry != null ? (T) fromStoreValue(entry.value()) : (T) uncached[0];
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader, Entry stale) {
+        try {
+            // 갱신을 유발한 요청의 분석 레인 여부를 이어받는다
+            refreshExecutor.execute(AnalyticsLane.propagate(() -> {
+                try {
+                    Loaded loaded = compute(key, valueLoader);
+                    if (loaded.cacheable()) {
+                        cache.put(key, new Entry(toStoreValue(loaded.value())));
+                    }
+                } catch (RuntimeException e) {
+                    // 기존 값은 expire-after-write까지 그대로 쓰고, refresh-after-write 뒤 다시 시도한다
+                    log.warn("[Cache] 비동기 갱신 실패", kv("cache", name), kv("key", key), e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            stale.releaseRefresh();
+        }
+    }
+
+    private Loaded compute(Object key, Callable<?> valueLoader) {
+        UncacheableResult.consume();
+        try {
+            Object value = valueLoader.call();
+            return new Loaded(value, !UncacheableResult.consume());
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            UncacheableResult.consume();
+        }
+    }
+
+    private record Loaded(Object value, boolean cacheable) {
+    }
+
+    /**
+     * 저장된 값과 저장/갱신 요청 시각
+     */
+    private static final class Entry {
+
+        private final Object value;
+        private final long writtenAt = System.nanoTime();
+        private final AtomicLong refreshClaimedAt = new AtomicLong(writtenAt);
+
+        private Entry(Object value) {
+            this.value = value;
+        }
+
+        private Object value() {
+            return value;
+        }
+
+        /**
+         * 마지막 저장(또는 갱신 요청) 후 refreshAfterWrite가 지났으면 이번 조회가 갱신을 맡는다.
+         * 실행기가 작업을 버려도(DISCARD) refreshAfterWrite 뒤에는 다시 갱신을 요청한다.
+         */
+        private boolean claimRefresh(Duration refreshAfterWrite) {
+            if (refreshAfterWrite == null) {
+                return false;
+            }
+            long now = System.nanoTime();
+            long claimedAt = refreshClaimedAt.get();
+            return now - claimedAt >= refreshAfterWrite.toNanos() && refreshClaimedAt.compareAndSet(claimedAt, now);
+        }
+
+        private void releaseRefresh() {
+            refreshClaimedAt.set(writtenAt);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package side.onetime.global.config.cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드에서 캐시 어드바이스를 지나고 있는 메서드 호출을 다시 실행하는 로더.
+ *
+ * {@link RefreshingCacheInterceptor}가 호출마다 설정하고, {@link RefreshAheadCache}가 비동기 갱신에 쓴다.
+ * Spring이 넘기는 sync loader는 이미 소비한 호출 체인의 끝(대상 메서드)만 다시 부르므로 트랜잭션 어드바이스를 거치지 않는다.
+ */
+final class RefreshInvocation {
+
+    private static final ThreadLocal<Callable<?>> CURRENT = new ThreadLocal<>();
+
+    private RefreshInvocation() {
+    }
+
+    /**
+     * 로더를 설정하고 이전 로더를 반환합니다. (캐시 메서드 안에서 다른 캐시 메서드를 부르는 경우)
+     */
+    static Callable<?> set(Callable<?> loader) {
+        Callable<?> previous = CURRENT.get();
+        CURRENT.set(loader);
+        return previous;
+    }
+
+    static void restore(Callable<?> previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static Callable<?> current() {
+        return CURRENT.get();
+    }
+}
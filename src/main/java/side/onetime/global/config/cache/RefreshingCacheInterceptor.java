@@ -0,0 +1,43 @@
+package side.onetime.global.config.cache;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 비동기 갱신이 원래 메서드의 어드바이스(트랜잭션 등)를 거치도록 하는 캐시 어드바이스
+ *
+ * 진행하기 전의 메서드 호출을 복제해 두면, 복제본은 캐시 어드바이스 다음 어드바이스부터 대상 메서드까지 한 번 더 실행할 수 있다.
+ * 이 복제본을 {@link RefreshInvocation}으로 {@link RefreshAheadCache}에 넘긴다.
+ */
+public class RefreshingCacheInterceptor extends CacheInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+            return super.invoke(invocation);
+        }
+        // 복제는 원래 호출을 진행하기 전에 해야 다음 어드바이스부터 다시 실행된다
+        MethodInvocation clone = proxyInvocation.invocableClone();
+        Callable<?> previous = RefreshInvocation.set(() -> ObjectUtils.unwrapOptional(proceed(clone)));
+        try {
+            return super.invoke(invocation);
+        } finally {
+            RefreshInvocation.restore(previous);
+        }
+    }
+
+    private static Object proceed(MethodInvocation invocation) throws Exception {
+        try {
+            return invocation.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+}
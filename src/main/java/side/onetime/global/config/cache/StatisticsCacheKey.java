@@ -0,0 +1,34 @@
+package side.onetime.global.config.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 통계 캐시 키 (선언 클래스, 메서드 이름, 파라미터 타입, 파라미터)
+ *
+ * 다른 클래스의 같은 이름 메서드나 오버로드가 같은 파라미터 값으로 호출되어도 키가 겹치지 않게 한다.
+ * 문자열 파라미터는 앞뒤 공백을 제거하고 빈 문자열은 null로 맞춰, 같은 조회가 같은 키가 되도록 한다.
+ */
+public record StatisticsCacheKey(
+        String declaringClass,
+        String methodName,
+        List<String> parameterTypes,
+        List<Object> params
+) {
+    public static StatisticsCacheKey of(Method method, Object... params) {
+        List<Object> normalized = new ArrayList<>(params.length);
+        for (Object param : params) {
+            if (param instanceof String text) {
+                normalized.add(text.isBlank() ? null : text.strip());
+            } else {
+                normalized.add(param);
+            }
+        }
+        List<String> parameterTypes = Arrays.stream(method.getParameterTypes()).map(Class::getName).toList();
+        return new StatisticsCacheKey(method.getDeclaringClass().getName(), method.getName(), parameterTypes,
+                Collections.unmodifiableList(normalized));
+    }
+}
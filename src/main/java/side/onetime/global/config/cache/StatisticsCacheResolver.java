@@ -0,0 +1,46 @@
+package side.onetime.global.config.cache;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import lombok.RequiredArgsConstructor;
+import side.onetime.global.config.CacheConfig;
+
+/**
+ * 통계 캐시 선택
+ *
+ * 날짜 파라미터가 모두 오늘 이전이면 이미 끝난 기간이므로 statistics-history(긴 TTL)에 저장한다.
+ * 오늘 이후 날짜가 있거나 날짜 파라미터가 없으면(최근 N개월 등) statistics-live(짧은 TTL + refresh-ahead)에 저장한다.
+ */
+@RequiredArgsConstructor
+public class StatisticsCacheResolver implements CacheResolver {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        String cacheName = isPastRange(context.getArgs(), LocalDate.now())
+                ? CacheConfig.STATISTICS_HISTORY_CACHE
+                : CacheConfig.STATISTICS_LIVE_CACHE;
+        return List.of(cacheManager.getCache(cacheName));
+    }
+
+    static boolean isPastRange(Object[] args, LocalDate today) {
+        boolean hasDate = false;
+        for (Object arg : args) {
+            if (arg instanceof LocalDate date) {
+                if (!date.isBefore(today)) {
+                    return false;
+                }
+                hasDate = true;
+            }
+        }
+        return hasDate;
+    }
+}
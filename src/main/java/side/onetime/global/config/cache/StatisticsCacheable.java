@@ -0,0 +1,26 @@
+package side.onetime.global.config.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.cache.annotation.Cacheable;
+
+import side.onetime.global.config.CacheConfig;
+
+/**
+ * 통계 응답을 캐시함을 선언하는 어노테이션.
+ *
+ * 키는 (메서드, 파라미터)이다. 과거 기간은 statistics-history, 오늘을 포함하는 기간은 statistics-live에 저장된다.
+ * refresh-ahead로 다시 계산하려면 메서드 호출이 필요하므로 sync 모드로 조회한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Cacheable(cacheResolver = CacheConfig.STATISTICS_CACHE_RESOLVER,
+        keyGenerator = CacheConfig.STATISTICS_KEY_GENERATOR,
+        sync = true)
+public @interface StatisticsCacheable {
+}
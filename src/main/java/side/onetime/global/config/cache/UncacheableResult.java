@@ -0,0 +1,31 @@
+package side.onetime.global.config.cache;
+
+/**
+ * 현재 스레드에서 계산 중인 캐시 값을 저장하지 않도록 표시한다.
+ *
+ * 기한 초과 등으로 일부만 채운 응답을 캐시에 남기지 않기 위해 쓴다.
+ * {@link RefreshAheadCache}가 계산 전후로 표시를 확인하고 지운다.
+ */
+public final class UncacheableResult {
+
+    private static final ThreadLocal<Boolean> MARKED = new ThreadLocal<>();
+
+    private UncacheableResult() {
+    }
+
+    /**
+     * 지금 계산 중인 값을 캐시에 저장하지 않습니다.
+     */
+    public static void mark() {
+        MARKED.set(Boolean.TRUE);
+    }
+
+    /**
+     * 표시 여부를 반환하고 지웁니다.
+     */
+    static boolean consume() {
+        boolean marked = MARKED.get() != null;
+        MARKED.remove();
+        return marked;
+    }
+}
@@ -0,0 +1,181 @@
+package side.onetime.global.config.datasource;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 분석 작업 레인 (관리자 통계, CSV 내보내기, 이메일 타겟 조회)
+ *
+ * 레인 안에서 얻는 커넥션은 {@link AnalyticsLaneDataSource}가 동시 작업 수와 쿼리 시간을 제한한다.
+ * 요청은 {@code AnalyticsLaneInterceptor}가 경로로 표시하고, 다른 스레드로 넘긴 작업은 {@link #propagate}로 이어받는다.
+ * 이어받은 작업은 넘긴 쪽과 같은 작업({@link Scope})으로 보고 레인 자리 하나를 함께 쓴다.
+ */
+public final class AnalyticsLane {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private AnalyticsLane() {
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 새 작업으로 레인에 들어갑니다.
+     */
+    public static void enter() {
+        CURRENT.set(new Scope());
+    }
+
+    public static void exit() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 작업을 레인 안에서 실행합니다. 이미 레인 안이면 지금 작업에 포함합니다.
+     */
+    public static <T> T call(Supplier<T> task) {
+        Scope current = CURRENT.get();
+        return withScope(current != null ? current : new Scope(), task);
+    }
+
+    /**
+     * 지금 작업을 이어받아 실행하는 작업으로 감쌉니다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Scope scope = CURRENT.get();
+        return () -> withScope(scope, task);
+    }
+
+    /**
+     * 지금 작업을 이어받아 실행하는 작업으로 감쌉니다.
+     */
+    public static Runnable propagate(Runnable task) {
+        Scope scope = CURRENT.get();
+        return () -> withScope(scope, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    static Scope current() {
+        return CURRENT.get();
+    }
+
+    private static <T> T withScope(Scope scope, Supplier<T> task) {
+        Scope previous = CURRENT.get();
+        if (scope != null) {
+            CURRENT.set(scope);
+        } else {
+            CURRENT.remove();
+        }
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 레인 작업 하나 (요청, 그룹 발송 등). 병렬 조회 분기처럼 이어받은 작업을 포함한다.
+     *
+     * 작업이 연 커넥션 수를 센다. 처음 열 때 자리를 얻고 마지막을 닫을 때 돌려준다.
+     * 여러 스레드가 동시에 처음 커넥션을 열면 한 스레드만 자리를 기다리고, 나머지는 그 결과를 기다린다.
+     * 자리를 기다리는 동안에는 잠금을 쥐지 않는다.
+     */
+    public static final class Scope {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int open;
+        private CompletableFuture<Void> acquiring;
+
+        private Scope() {
+        }
+
+        void open(AnalyticsLaneLimiter limiter) throws SQLException {
+            while (true) {
+                CompletableFuture<Void> pending;
+                boolean acquirer = false;
+                lock.lock();
+                try {
+                    if (open > 0) {
+                        open++;
+                        return;
+                    }
+                    if (acquiring == null) {
+                        acquiring = new CompletableFuture<>();
+                        acquirer = true;
+                    }
+                    pending = acquiring;
+                } finally {
+                    lock.unlock();
+                }
+
+                if (acquirer) {
+                    acquire(limiter, pending);
+                    return;
+                }
+                awaitOther(pending);
+            }
+        }
+
+        void close(AnalyticsLaneLimiter limiter) {
+            boolean last;
+            lock.lock();
+            try {
+                last = --open == 0;
+            } finally {
+                lock.unlock();
+            }
+            if (last) {
+                limiter.release();
+            }
+        }
+
+        private void acquire(AnalyticsLaneLimiter limiter, CompletableFuture<Void> pending) throws SQLException {
+            try {
+                limiter.acquire();
+            } catch (SQLException | RuntimeException e) {
+                finishAcquiring(false);
+                pending.completeExceptionally(e);
+                throw e;
+            }
+            finishAcquiring(true);
+            pending.complete(null);
+        }
+
+        private void finishAcquiring(boolean acquired) {
+            lock.lock();
+            try {
+                if (acquired) {
+                    open++;
+                }
+                acquiring = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static void awaitOther(CompletableFuture<Void> pending) throws SQLException {
+            try {
+                pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AnalyticsLaneBusyException("분석 레인 자리를 기다리는 중 인터럽트됨");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new AnalyticsLaneBusyException(e.getCause().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package side.onetime.global.config.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 분석 레인 자리를 acquire-timeout 안에 얻지 못함
+ */
+public class AnalyticsLaneBusyException extends SQLTransientConnectionException {
+
+    public AnalyticsLaneBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,140 @@
+package side.onetime.global.config.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 분석 레인의 커넥션을 제한하는 데이터소스
+ *
+ * 레인 밖에서는 그대로 위임한다. 레인 안에서는 다음을 적용한다.
+ * - 레인 작업({@link AnalyticsLane.Scope})마다 자리 하나를 얻은 뒤 커넥션을 꺼내고, 그 작업의 커넥션을 모두 닫으면 자리를 돌려준다.
+ *   같은 작업이 커넥션을 더 여는 경우(병렬 조회 분기, 커서 조회 중 chunk 트랜잭션 등)는 자리를 더 받지 않아 스스로 막히지 않는다.
+ * - 만든 Statement에 query-timeout을 건다. 시간을 넘기면 드라이버가 서버에서 쿼리를 취소한다.
+ *   트랜잭션 timeout이 있으면 스프링/하이버네이트가 그 값으로 덮어쓴다.
+ *
+ * 제한기는 데이터소스보다 늦게 만들어지도록 ObjectProvider로 받는다.
+ */
+public class AnalyticsLaneDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final ObjectProvider<AnalyticsLaneLimiter> limiterProvider;
+
+    public AnalyticsLaneDataSource(DataSource targetDataSource, ObjectProvider<AnalyticsLaneLimiter> limiterProvider) {
+        super(targetDataSource);
+        this.limiterProvider = limiterProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return laneConnection(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return laneConnection(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * 빈을 종료할 때 감싼 커넥션 풀을 닫습니다.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection laneConnection(ConnectionSupplier supplier) throws SQLException {
+        AnalyticsLane.Scope scope = AnalyticsLane.current();
+        if (scope == null) {
+            return supplier.get();
+        }
+        AnalyticsLaneLimiter limiter = limiterProvider.getObject();
+        scope.open(limiter);
+        try {
+            Connection target = supplier.get();
+            return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                    new Class<?>[]{ConnectionProxy.class},
+                    new LaneConnectionHandler(target, scope, limiter));
+        } catch (SQLException | RuntimeException e) {
+            scope.close(limiter);
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private static final class LaneConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AnalyticsLane.Scope scope;
+        private final AnalyticsLaneLimiter limiter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private LaneConnectionHandler(Connection target, AnalyticsLane.Scope scope, AnalyticsLaneLimiter limiter) {
+            this.target = target;
+            this.scope = scope;
+            this.limiter = limiter;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "getTargetConnection" -> {
+                    return target;
+                }
+                case "close" -> {
+                    try {
+                        target.close();
+                    } finally {
+                        release();
+                    }
+                    return null;
+                }
+                default -> {
+                }
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (result instanceof Statement statement && STATEMENT_FACTORY_METHODS.contains(method.getName())) {
+                statement.setQueryTimeout(limiter.queryTimeoutSeconds());
+            }
+            return result;
+        }
+
+        private void release() {
+            // 커넥션을 다른 스레드에서 닫아도 연 작업의 자리를 줄인다
+            if (closed.compareAndSet(false, true)) {
+                scope.close(limiter);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package side.onetime.global.config.datasource;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 레인의 동시 작업 수 제한 (작업마다 자리 하나)
+ *
+ * 자리는 도착 순서대로 나눠 주고, acquire-timeout 안에 자리가 나지 않으면 거절한다.
+ * 메트릭:
+ * - datasource.analytics_lane.active / waiting / limit: 사용 중인 자리, 기다리는 작업, 한도
+ * - datasource.analytics_lane.acquire{outcome}: 자리를 기다린 시간 (acquired, rejected)
+ */
+@Slf4j
+@Component
+public class AnalyticsLaneLimiter {
+
+    private static final String METRIC_PREFIX = "datasource.analytics_lane";
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final int queryTimeoutSeconds;
+    private final Timer acquiredTimer;
+    private final Timer rejectedTimer;
+
+    public AnalyticsLaneLimiter(AnalyticsLaneProperties properties, MeterRegistry meterRegistry) {
+        this.maxConcurrent = properties.maxConcurrent();
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+        this.queryTimeoutSeconds = (int) Math.max(1, properties.queryTimeout().toSeconds());
+
+        Gauge.builder(METRIC_PREFIX + ".active", this, AnalyticsLaneLimiter::activeTasks)
+                .description("분석 레인에서 커넥션을 쓰는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".waiting", permits, Semaphore::getQueueLength)
+                .description("분석 레인 자리를 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".limit", this, limiter -> limiter.maxConcurrent)
+                .description("분석 레인 동시 작업 한도")
+                .register(meterRegistry);
+        this.acquiredTimer = acquireTimer(meterRegistry, "acquired");
+        this.rejectedTimer = acquireTimer(meterRegistry, "rejected");
+    }
+
+    /**
+     * 레인 자리를 얻습니다.
+     *
+     * @throws AnalyticsLaneBusyException acquire-timeout 안에 자리가 나지 않거나 기다리는 중 인터럽트된 경우
+     */
+    public void acquire() throws AnalyticsLaneBusyException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        long waitedNanos = System.nanoTime() - startedAt;
+
+        if (acquired) {
+            acquiredTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        rejectedTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+        log.warn("[AnalyticsLane] 동시 작업 한도 초과로 거절",
+                kv("maxConcurrent", maxConcurrent), kv("waiting", permits.getQueueLength()),
+                kv("waitedMs", TimeUnit.NANOSECONDS.toMillis(waitedNanos)));
+        throw new AnalyticsLaneBusyException("분석 레인 동시 작업 한도(" + maxConcurrent + ") 초과");
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int queryTimeoutSeconds() {
+        return queryTimeoutSeconds;
+    }
+
+    private int activeTasks() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private static Timer acquireTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(METRIC_PREFIX + ".acquire")
+                .description("분석 레인 자리를 기다린 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
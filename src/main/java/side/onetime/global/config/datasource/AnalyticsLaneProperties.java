@@ -0,0 +1,24 @@
+package side.onetime.global.config.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxConcurrent  분석 레인에서 동시에 커넥션을 쓸 수 있는 작업(요청, 그룹 발송) 수 (기본 4)
+ *                       병렬 조회 분기는 fork한 작업의 자리를 함께 쓴다
+ * @param acquireTimeout 레인 자리를 기다리는 최대 시간, 넘으면 실패 (기본 2초)
+ * @param queryTimeout   레인에서 실행하는 쿼리의 기본 제한 시간, 넘으면 서버에서 취소 (기본 30초)
+ */
+@ConfigurationProperties(prefix = "app.datasource.analytics-lane")
+public record AnalyticsLaneProperties(
+        int maxConcurrent,
+        Duration acquireTimeout,
+        Duration queryTimeout
+) {
+    public AnalyticsLaneProperties {
+        maxConcurrent = maxConcurrent > 0 ? maxConcurrent : 4;
+        acquireTimeout = acquireTimeout != null ? acquireTimeout : Duration.ofSeconds(2);
+        queryTimeout = queryTimeout != null ? queryTimeout : Duration.ofSeconds(30);
+    }
+}
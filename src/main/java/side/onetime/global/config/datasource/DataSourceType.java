@@ -0,0 +1,9 @@
+package side.onetime.global.config.datasource;
+
+/**
+ * 라우팅 데이터소스의 대상 풀
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,32 @@
+package side.onetime.global.config.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 쓰기를 한 요청을 표시해 같은 요청의 이후 읽기를 primary로 고정한다.
+ *
+ * 쓰기 직후 복제본에는 아직 반영되지 않았을 수 있으므로, 방금 쓴 값을 다시 읽는 흐름
+ * (예: 저장 후 응답용 조회)이 옛 값을 보지 않게 한다. 표시는 요청 속성에 두므로 요청이 끝나면 사라진다.
+ * 요청 밖(스케줄러, 비동기 작업)에서는 표시하지 않는다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesContext.class.getName() + ".PINNED";
+
+    private ReadYourWritesContext() {
+    }
+
+    static void markWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    static boolean isPinned() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,31 @@
+package side.onetime.global.config.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled          켜면 읽기 전용 트랜잭션을 복제본 풀로 보냄 (기본 false, 끄면 기존 단일 데이터소스)
+ * @param url              복제본 JDBC URL
+ * @param username         복제본 계정
+ * @param password         복제본 비밀번호
+ * @param maximumPoolSize  복제본 커넥션 풀 최대 크기
+ * @param maxLag           이 지연을 넘으면 복제본 대신 primary에서 읽음 (기본 1초)
+ * @param lagCheckInterval 복제 지연 확인 주기 (기본 5초)
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maximumPoolSize,
+        Duration maxLag,
+        Duration lagCheckInterval
+) {
+    public ReplicaDataSourceProperties {
+        maximumPoolSize = maximumPoolSize > 0 ? maximumPoolSize : 10;
+        maxLag = maxLag != null ? maxLag : Duration.ofSeconds(1);
+        lagCheckInterval = lagCheckInterval != null ? lagCheckInterval : Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,94 @@
+package side.onetime.global.config.datasource;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 지연 감시
+ *
+ * 주기적으로 복제본에서 SHOW REPLICA STATUS를 읽어 지연 시간을 남긴다.
+ * 지연이 max-lag를 넘거나, 복제가 멈췄거나(지연 값 NULL), 확인에 실패했거나,
+ * 마지막 확인이 오래되면 복제본을 쓰지 않는다. 첫 확인 전에도 쓰지 않는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int STALE_AFTER_CHECKS = 3;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private final long staleAfterNanos;
+
+    private volatile Long lagSeconds;
+    private volatile long checkedAtNanos;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.staleAfterNanos = checkInterval.multipliedBy(STALE_AFTER_CHECKS).toNanos();
+
+        Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::lagSecondsOrNaN)
+                .baseUnit("seconds")
+                .description("복제본 지연 (Seconds_Behind_Source)")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.isReplicaAvailable() ? 1 : 0)
+                .description("복제본 읽기 가능 여부")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        boolean wasAvailable = isReplicaAvailable();
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query("SHOW REPLICA STATUS", rs -> rs.next() ? readLag(rs) : null);
+        } catch (DataAccessException e) {
+            log.warn("[Replica] 복제 상태 확인 실패", kv("error", e.getMessage()));
+            lag = null;
+        }
+        this.lagSeconds = lag;
+        this.checkedAtNanos = System.nanoTime();
+
+        boolean available = isReplicaAvailable();
+        if (wasAvailable && !available) {
+            log.warn("[Replica] 복제본 읽기 중단, primary로 전환",
+                    kv("lagSeconds", lag), kv("maxLagSeconds", maxLagSeconds), kv("alert", true));
+        } else if (!wasAvailable && available) {
+            log.info("[Replica] 복제본 읽기 재개", kv("lagSeconds", lag));
+        }
+    }
+
+    /**
+     * 복제본에서 읽어도 되는지 여부
+     */
+    public boolean isReplicaAvailable() {
+        Long lag = lagSeconds;
+        return lag != null
+                && lag <= maxLagSeconds
+                && System.nanoTime() - checkedAtNanos <= staleAfterNanos;
+    }
+
+    private double lagSecondsOrNaN() {
+        Long lag = lagSeconds;
+        return lag != null ? lag : Double.NaN;
+    }
+
+    private static Long readLag(ResultSet rs) throws SQLException {
+        long lag = rs.getLong("Seconds_Behind_Source");
+        return rs.wasNull() ? null : lag;
+    }
+}
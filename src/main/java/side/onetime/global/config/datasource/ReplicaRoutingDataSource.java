@@ -0,0 +1,58 @@
+package side.onetime.global.config.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스
+ *
+ * 트랜잭션 동기화가 시작된 뒤 커넥션을 얻어야 읽기 전용 여부를 알 수 있으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 쓴다.
+ * 다음 경우에는 읽기 전용이어도 primary로 보낸다.
+ * - 같은 요청에서 이미 쓰기 트랜잭션을 연 경우 (read-your-writes)
+ * - 복제본 지연이 크거나 상태를 모르는 경우
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWrite();
+                return route(DataSourceType.PRIMARY, "read_write");
+            }
+            return route(DataSourceType.PRIMARY, "no_transaction");
+        }
+        if (ReadYourWritesContext.isPinned()) {
+            return route(DataSourceType.PRIMARY, "read_your_writes");
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            return route(DataSourceType.PRIMARY, "replica_unavailable");
+        }
+        return route(DataSourceType.REPLICA, "read_only");
+    }
+
+    private DataSourceType route(DataSourceType target, String reason) {
+        meterRegistry.counter("datasource.routing",
+                "target", target.name().toLowerCase(), "reason", reason).increment();
+        return target;
+    }
+}
@@ -0,0 +1,62 @@
+package side.onetime.global.config.query;
+
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 조회를 호출한 엔드포인트 (예: GET /api/v1/admin/statistics/cohort)
+ *
+ * 요청 스레드에서는 매핑된 URL 패턴을 쓰고, 다른 스레드로 넘긴 작업은 {@link #propagate}로 넘긴 쪽의 엔드포인트를 이어받는다.
+ * 요청 밖(스케줄러, 캐시 갱신)에서 실행한 조회는 none이다.
+ */
+public final class QueryEndpointContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> ENDPOINT = new ThreadLocal<>();
+
+    private QueryEndpointContext() {
+    }
+
+    /**
+     * 현재 스레드의 엔드포인트
+     */
+    public static String current() {
+        String endpoint = ENDPOINT.get();
+        if (endpoint != null) {
+            return endpoint;
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // 매핑 전이면 경로 변수로 태그가 늘어나지 않도록 URI 대신 UNMAPPED로 남긴다
+            return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+        }
+        return NONE;
+    }
+
+    /**
+     * 지금 엔드포인트를 이어받아 실행하는 작업으로 감쌉니다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        String endpoint = current();
+        return () -> {
+            String previous = ENDPOINT.get();
+            ENDPOINT.set(endpoint);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    ENDPOINT.set(previous);
+                } else {
+                    ENDPOINT.remove();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package side.onetime.global.config.query;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param slowThreshold     이 시간 이상 걸린 조회를 느린 쿼리로 기록 (기본 500ms)
+ * @param maxParamLength    느린 쿼리 로그에 남기는 파라미터 값의 최대 길이
+ * @param recentSlowQueries 관리자 페이지에 보여 줄 최근 느린 쿼리 수
+ */
+@ConfigurationProperties(prefix = "statistics.query")
+public record QueryInstrumentationProperties(
+        Duration slowThreshold,
+        int maxParamLength,
+        int recentSlowQueries
+) {
+    public QueryInstrumentationProperties {
+        slowThreshold = slowThreshold != null ? slowThreshold : Duration.ofMillis(500);
+        maxParamLength = maxParamLength > 0 ? maxParamLength : 200;
+        recentSlowQueries = recentSlowQueries > 0 ? recentSlowQueries : 50;
+    }
+}
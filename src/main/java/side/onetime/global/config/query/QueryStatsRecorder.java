@@ -0,0 +1,275 @@
+package side.onetime.global.config.query;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리포지토리 조회 시간/행 수 기록기
+ *
+ * 메서드마다 다음을 남긴다.
+ * - statistics.query.duration{repository, method, endpoint, outcome}: 지연 시간 히스토그램
+ * - statistics.query.rows{repository, method}: 반환 행 수 분포
+ * - statistics.query.slow{repository, method, endpoint}: 느린 쿼리 수 (slow-threshold 이상, 파라미터와 함께 로그)
+ * 관리자 페이지용으로 서버 시작 이후 누적값과 최근 느린 쿼리도 메모리에 둔다.
+ */
+@Slf4j
+@Component
+public class QueryStatsRecorder {
+
+    private static final String METRIC_PREFIX = "statistics.query";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryInstrumentationProperties properties;
+    private final Map<String, MethodStats> statsByMethod = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> recentSlowQueries = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger recentSlowQueryCount = new AtomicInteger();
+    private final LocalDateTime since = LocalDateTime.now();
+
+    public QueryStatsRecorder(MeterRegistry meterRegistry, QueryInstrumentationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * 조회 한 번을 기록합니다.
+     *
+     * @param repository   리포지토리 이름
+     * @param method       호출한 메서드
+     * @param args         바인딩한 파라미터
+     * @param elapsedNanos 걸린 시간
+     * @param result       반환값 (실패하면 null)
+     * @param failed       예외로 끝났으면 true
+     */
+    public void record(String repository, Method method, Object[] args, long elapsedNanos, Object result, boolean failed) {
+        String methodName = method.getName();
+        String endpoint = QueryEndpointContext.current();
+        long rows = failed ? 0 : countRows(result);
+        boolean slow = elapsedNanos >= properties.slowThreshold().toNanos();
+
+        Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("repository", repository)
+                .tag("method", methodName)
+                .tag("endpoint", endpoint)
+                .tag("outcome", failed ? "error" : "success")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!failed) {
+            DistributionSummary.builder(METRIC_PREFIX + ".rows")
+                    .tag("repository", repository)
+                    .tag("method", methodName)
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+
+        MethodStats stats = statsByMethod.computeIfAbsent(repository + "." + methodName,
+                key -> new MethodStats(repository, methodName));
+        stats.record(endpoint, elapsedNanos, rows, slow, failed);
+
+        if (slow) {
+            recordSlow(repository, method, args, endpoint, elapsedNanos, rows, failed);
+        }
+    }
+
+    /**
+     * 누적 시간이 큰 순서로 메서드별 통계를 반환합니다.
+     */
+    public List<QueryStats> topByTotalTime(int limit) {
+        return statsByMethod.values().stream()
+                .map(MethodStats::snapshot)
+                .sorted(Comparator.comparingLong(QueryStats::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 최근 느린 쿼리 (최신순)
+     */
+    public List<SlowQuery> recentSlowQueries() {
+        return List.copyOf(recentSlowQueries);
+    }
+
+    /**
+     * 누적을 시작한 시각 (서버 시작 시각)
+     */
+    public LocalDateTime since() {
+        return since;
+    }
+
+    public Duration slowThreshold() {
+        return properties.slowThreshold();
+    }
+
+    private void recordSlow(String repository, Method method, Object[] args, String endpoint,
+                            long elapsedNanos, long rows, boolean failed) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        Map<String, String> params = describeParams(method, args);
+
+        Counter.builder(METRIC_PREFIX + ".slow")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        log.warn("[Statistics Query] 느린 쿼리", kv("repository", repository), kv("method", method.getName()),
+                kv("endpoint", endpoint), kv("duration_ms", durationMs), kv("rows", rows), kv("failed", failed),
+                kv("threshold_ms", properties.slowThreshold().toMillis()), kv("params", params));
+
+        recentSlowQueries.addFirst(new SlowQuery(LocalDateTime.now(), repository, method.getName(), endpoint,
+                durationMs, rows, params));
+        if (recentSlowQueryCount.incrementAndGet() > properties.recentSlowQueries()) {
+            recentSlowQueries.pollLast();
+            recentSlowQueryCount.decrementAndGet();
+        }
+    }
+
+    private Map<String, String> describeParams(Method method, Object[] args) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (args == null) {
+            return params;
+        }
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < args.length; i++) {
+            String name = i < parameters.length ? parameters[i].getName() : "arg" + i;
+            params.put(name, abbreviate(describe(args[i])));
+        }
+        return params;
+    }
+
+    private String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (value instanceof Collection<?> collection && collection.size() > 10) {
+            return collection.getClass().getSimpleName() + "(" + collection.size() + ")";
+        }
+        return String.valueOf(value);
+    }
+
+    private String abbreviate(String value) {
+        int maxLength = properties.maxParamLength();
+        return value.length() > maxLength ? value.substring(0, maxLength) + "..." : value;
+    }
+
+    /**
+     * 반환 행 수. 목록은 크기, 단건은 1, 없으면 0
+     */
+    static long countRows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    /**
+     * 메서드별 누적값
+     */
+    private static final class MethodStats {
+
+        private final String repository;
+        private final String method;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+
+        private MethodStats(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+        }
+
+        private void record(String endpoint, long elapsedNanos, long rowCount, boolean slow, boolean failed) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            rows.add(rowCount);
+            if (slow) {
+                slowCalls.increment();
+            }
+            if (failed) {
+                errors.increment();
+            }
+            endpoints.add(endpoint);
+        }
+
+        private QueryStats snapshot() {
+            return new QueryStats(repository, method, calls.sum(), totalNanos.sum(), maxNanos.get(),
+                    rows.sum(), slowCalls.sum(), errors.sum(), endpoints.stream().sorted().toList());
+        }
+    }
+
+    /**
+     * 메서드별 누적 통계
+     */
+    public record QueryStats(
+            String repository,
+            String method,
+            long calls,
+            long totalNanos,
+            long maxNanos,
+            long rows,
+            long slowCalls,
+            long errors,
+            List<String> endpoints
+    ) {
+    }
+
+    /**
+     * 느린 쿼리 한 건
+     */
+    public record SlowQuery(
+            LocalDateTime occurredAt,
+            String repository,
+            String method,
+            String endpoint,
+            long durationMs,
+            long rows,
+            Map<String, String> params
+    ) {
+    }
+}
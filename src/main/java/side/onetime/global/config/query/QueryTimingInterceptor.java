@@ -0,0 +1,42 @@
+package side.onetime.global.config.query;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 리포지토리 메서드 호출마다 걸린 시간과 반환 행 수를 {@link QueryStatsRecorder}에 넘긴다.
+ *
+ * 리포지토리 이름은 메서드를 선언한 인터페이스 이름이다. (예: StatisticsRepository, StatisticsRepositoryCustom)
+ */
+public class QueryTimingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<QueryStatsRecorder> recorderProvider;
+
+    public QueryTimingInterceptor(ObjectProvider<QueryStatsRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        long startedAt = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            QueryStatsRecorder recorder = recorderProvider.getIfAvailable();
+            if (recorder != null) {
+                recorder.record(invocation.getMethod().getDeclaringClass().getSimpleName(), invocation.getMethod(),
+                        invocation.getArguments(), elapsedNanos, result, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package side.onetime.global.config.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 MySQL FULLTEXT 검색을 쓰기 위한 함수 등록
+ *
+ * function('ngram_match', u.name, u.email, u.nickname, :phrase) > 0
+ * → MATCH(name, email, nickname) AGAINST (? IN BOOLEAN MODE) > 0
+ * META-INF/services로 하이버네이트에 등록한다.
+ */
+public class NgramMatchFunctionContributor implements FunctionContributor {
+
+    public static final String NGRAM_MATCH = "ngram_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                NGRAM_MATCH,
+                "match(?1, ?2, ?3) against (?4 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
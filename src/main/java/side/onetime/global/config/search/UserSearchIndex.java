@@ -0,0 +1,77 @@
+package side.onetime.global.config.search;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유저 검색 인덱스 (users의 name, email, nickname ngram FULLTEXT 인덱스 ft_users_search)
+ *
+ * 애플리케이션 시작 시 인덱스가 있는지와 ngram_token_size를 확인해 검색어마다 검색 방식을 정한다.
+ * - FULL_TEXT: 인덱스로 후보를 찾는 부분 일치 (한글 포함)
+ * - SCAN: 인덱스가 없거나(로컬/테스트 스키마), 검색어가 ngram 토큰보다 짧거나, 공백/큰따옴표가 있을 때 기존 LIKE '%검색어%'
+ *   토큰보다 짧은 검색어는 인덱스로 찾을 수 없고, 앞부분 일치로 바꾸면 B-tree 인덱스가 없어 여전히 전체 스캔이면서 결과만 줄어든다.
+ * 인덱스는 스키마 마이그레이션으로 추가하며, 추가한 뒤에는 재시작해야 FULL_TEXT로 바뀐다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndex {
+
+    public static final String INDEX_NAME = "ft_users_search";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+    private volatile int ngramTokenSize = 2;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detect() {
+        try {
+            Integer indexColumns = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = DATABASE()
+                      AND TABLE_NAME = 'users'
+                      AND INDEX_NAME = ?
+                      AND INDEX_TYPE = 'FULLTEXT'
+                    """, Integer.class, INDEX_NAME);
+            Integer tokenSize = jdbcTemplate.queryForObject("SELECT @@ngram_token_size", Integer.class);
+            this.ngramTokenSize = tokenSize != null ? tokenSize : 2;
+            this.available = indexColumns != null && indexColumns == 3;
+        } catch (DataAccessException e) {
+            log.warn("[UserSearch] 검색 인덱스 확인 실패, LIKE 검색 사용", kv("error", e.getMessage()));
+            this.available = false;
+        }
+        log.info("[UserSearch] 검색 인덱스 확인", kv("fullText", available), kv("ngramTokenSize", ngramTokenSize));
+    }
+
+    /**
+     * 검색어(앞뒤 공백 제거)에 쓸 검색 방식
+     */
+    public Mode modeFor(String term) {
+        if (!available || term.codePointCount(0, term.length()) < ngramTokenSize
+                || term.chars().anyMatch(c -> Character.isWhitespace(c) || c == '"')) {
+            return Mode.SCAN;
+        }
+        return Mode.FULL_TEXT;
+    }
+
+    /**
+     * BOOLEAN MODE 구문 검색어. ngram 토큰이 검색어 순서대로 이어진 행만 찾으므로 부분 일치가 된다.
+     */
+    public static String phrase(String term) {
+        return "\"" + term + "\"";
+    }
+
+    public enum Mode {
+        FULL_TEXT,
+        SCAN
+    }
+}
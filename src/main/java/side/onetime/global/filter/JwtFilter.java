@@ -17,11 +17,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import side.onetime.auth.service.CustomAdminDetailsService;
 import side.onetime.auth.service.CustomUserDetailsService;
-import side.onetime.dto.token.request.ReissueTokenRequest;
 import side.onetime.dto.token.response.ReissueTokenResponse;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.TokenErrorStatus;
-import side.onetime.service.TokenService;
+import side.onetime.service.TokenReissueCoordinator;
 import side.onetime.util.ClientInfoExtractor;
 import side.onetime.util.CookieUtil;
 import side.onetime.util.JwtUtil;
@@ -34,7 +33,7 @@ public class JwtFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
     private final CustomAdminDetailsService customAdminDetailsService;
-    private final TokenService tokenService;
+    private final TokenReissueCoordinator tokenReissueCoordinator;
     private final ClientInfoExtractor clientInfoExtractor;
 
     /**
@@ -95,9 +94,8 @@ public class JwtFilter extends OncePerRequestFilter {
             try {
                 String userIp = clientInfoExtractor.extractClientIp(request);
                 String userAgent = clientInfoExtractor.extractUserAgent(request);
-                ReissueTokenResponse reissued = tokenService.reissueToken(
-                        new ReissueTokenRequest(refreshToken), userIp, userAgent
-                );
+                // 동시 요청은 같은 jti의 재발급 결과를 공유 (인스턴스 간 동시 요청은 Grace Period로 처리)
+                ReissueTokenResponse reissued = tokenReissueCoordinator.reissue(refreshToken, userIp, userAgent);
 
                 CookieUtil.setAdminTokenCookies(request, response, reissued.accessToken(), reissued.refreshToken());
                 authenticateUser(reissued.accessToken());
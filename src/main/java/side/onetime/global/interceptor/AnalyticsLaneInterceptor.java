@@ -0,0 +1,33 @@
+package side.onetime.global.interceptor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import side.onetime.global.config.datasource.AnalyticsLane;
+
+/**
+ * 관리자 통계/내보내기/이메일 타겟 발송 요청을 분석 레인으로 표시합니다.
+ * 대상 경로는 WebConfig에서 지정합니다.
+ */
+@Component
+public class AnalyticsLaneInterceptor implements HandlerInterceptor {
+
+    /**
+     * 요청 처리 스레드를 분석 레인에 넣습니다.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AnalyticsLane.enter();
+        return true;
+    }
+
+    /**
+     * 요청이 끝나면 레인 표시를 지웁니다.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AnalyticsLane.exit();
+    }
+}
@@ -14,6 +14,8 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
 
     Optional<Banner> findByIdAndIsDeletedFalse(Long id);
 
+    boolean existsByIdAndIsDeletedFalse(Long id);
+
     List<Banner> findAllByIsDeletedFalseOrderByCreatedDateDesc(Pageable pageable);
 
     List<Banner> findAllByIsActivatedTrueAndIsDeletedFalse();
@@ -0,0 +1,136 @@
+package side.onetime.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import side.onetime.domain.enums.CohortType;
+
+/**
+ * 코호트 리텐션 집계 (cohort_retention)
+ *
+ * 활동 기간 하나에 대해, 그 기간까지 max-periods 안에 시작한 코호트의 셀을 한 번에 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE로 채운다.
+ * 활동은 기간 안에 last_used_at이 있는 토큰만 읽고, 코호트 구성원은 코호트 시작일 구간의 유저/이벤트만 읽는다.
+ * 호출한 쪽의 트랜잭션 안에서 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CohortRetentionBatchRepository {
+
+    /**
+     * 코호트 구성원 (users_id, cohort_start). [:cohortFrom, :periodEnd) 안에 시작한 코호트만 반환한다.
+     */
+    private static final Map<CohortType, String> MEMBER_QUERIES = Map.of(
+            CohortType.SIGNUP_MONTH, """
+                    SELECT u.users_id, CAST(DATE_FORMAT(u.created_date, '%Y-%m-01') AS DATE) AS cohort_start
+                    FROM users u
+                    WHERE u.created_date >= :cohortFrom AND u.created_date < :periodEnd
+                    """,
+            CohortType.SIGNUP_WEEK, """
+                    SELECT u.users_id, DATE_SUB(DATE(u.created_date), INTERVAL WEEKDAY(u.created_date) DAY) AS cohort_start
+                    FROM users u
+                    WHERE u.created_date >= :cohortFrom AND u.created_date < :periodEnd
+                    """,
+            // 구간 안의 생성 이벤트 중 첫 이벤트 기준. 구간 이전에 만든 이벤트가 있으면 더 앞선 코호트이므로 제외한다.
+            CohortType.CREATOR_MONTH, """
+                    SELECT ep.users_id, CAST(DATE_FORMAT(MIN(e.created_date), '%Y-%m-01') AS DATE) AS cohort_start
+                    FROM events e
+                    JOIN event_participations ep ON ep.events_id = e.events_id
+                        AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                    WHERE e.created_date >= :cohortFrom AND e.created_date < :periodEnd
+                      AND ep.users_id IS NOT NULL
+                      AND NOT EXISTS (
+                          SELECT 1
+                          FROM event_participations pep
+                          JOIN events pe ON pe.events_id = pep.events_id
+                          WHERE pep.users_id = ep.users_id
+                            AND pep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                            AND pe.created_date < :cohortFrom
+                      )
+                    GROUP BY ep.users_id
+                    """
+    );
+
+    private static final String UPSERT_CELLS_SQL = """
+            INSERT INTO cohort_retention
+                (cohort_type, cohort_start, period_start, period_offset, cohort_size, active_users, finalized)
+            SELECT src.cohort_type, src.cohort_start, src.period_start, src.period_offset,
+                   src.cohort_size, src.active_users, src.finalized
+            FROM (
+                SELECT :cohortType AS cohort_type,
+                       m.cohort_start,
+                       :periodStart AS period_start,
+                       %s AS period_offset,
+                       COUNT(*) AS cohort_size,
+                       COUNT(act.users_id) AS active_users,
+                       :finalized AS finalized
+                FROM (
+            %s
+                ) m
+                LEFT JOIN (
+                    SELECT DISTINCT rt.users_id
+                    FROM refresh_token rt
+                    WHERE rt.user_type = 'USER'
+                      AND rt.last_used_at >= :periodStart AND rt.last_used_at < :periodEnd
+                ) act ON act.users_id = m.users_id
+                GROUP BY m.cohort_start
+            ) AS src
+            ON DUPLICATE KEY UPDATE
+                cohort_size = src.cohort_size,
+                active_users = GREATEST(cohort_retention.active_users, src.active_users),
+                finalized = src.finalized
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 활동 기간 하나의 셀을 집계합니다. 이미 있는 셀은 활성 유저 수가 커질 때만 바뀝니다.
+     *
+     * @param cohortType  코호트 기준
+     * @param periodStart 활동 기간 시작일
+     * @param cohortFrom  포함할 가장 이른 코호트 시작일
+     * @param finalized   이 기간이 끝났으면 true (이후 다시 집계하지 않음)
+     * @return 반영된 행 수
+     */
+    public int upsertPeriod(CohortType cohortType, LocalDate periodStart, LocalDate cohortFrom, boolean finalized) {
+        String sql = UPSERT_CELLS_SQL.formatted(periodOffsetExpression(cohortType), MEMBER_QUERIES.get(cohortType));
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cohortType", cohortType.name())
+                .addValue("periodStart", Date.valueOf(periodStart))
+                .addValue("periodEnd", Date.valueOf(cohortType.plusPeriods(periodStart, 1)))
+                .addValue("cohortFrom", Date.valueOf(cohortFrom))
+                .addValue("finalized", finalized);
+        return namedParameterJdbcTemplate.update(sql, params);
+    }
+
+    /**
+     * 마지막으로 고정한 활동 기간 시작일 (없으면 null)
+     */
+    public LocalDate findLastFinalizedPeriod(CohortType cohortType) {
+        return namedParameterJdbcTemplate.queryForObject("""
+                SELECT MAX(period_start) FROM cohort_retention
+                WHERE cohort_type = :cohortType AND finalized = TRUE
+                """, new MapSqlParameterSource("cohortType", cohortType.name()), LocalDate.class);
+    }
+
+    /**
+     * 가장 이른 가입일 (유저가 없으면 null)
+     */
+    public LocalDate findFirstSignupDate() {
+        return namedParameterJdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT DATE(MIN(created_date)) FROM users", LocalDate.class);
+    }
+
+    private static String periodOffsetExpression(CohortType cohortType) {
+        return switch (cohortType.getPeriod()) {
+            case WEEK -> "DATEDIFF(:periodStart, m.cohort_start) DIV 7";
+            case MONTH -> "TIMESTAMPDIFF(MONTH, m.cohort_start, :periodStart)";
+            case DAY -> "DATEDIFF(:periodStart, m.cohort_start)";
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package side.onetime.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import side.onetime.domain.CohortRetention;
+import side.onetime.domain.enums.CohortType;
+
+public interface CohortRetentionRepository extends JpaRepository<CohortRetention, Long> {
+
+    /**
+     * 시작일이 cohortStart 이후인 코호트의 셀 (코호트, 기간 순)
+     */
+    List<CohortRetention> findByCohortTypeAndCohortStartGreaterThanEqualOrderByCohortStartAscPeriodOffsetAsc(
+            CohortType cohortType, LocalDate cohortStart);
+}
@@ -0,0 +1,40 @@
+package side.onetime.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.enums.EmailCampaignStatus;
+
+public interface EmailCampaignRepository extends JpaRepository<EmailCampaign, Long> {
+
+    /**
+     * 그룹 스트리밍 발송의 chunk 처리 결과를 캠페인 진행 건수에 더한다.
+     * chunk와 같은 트랜잭션에서 호출하여, 커밋된 chunk만 진행 건수에 반영되도록 한다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailCampaign c
+        SET c.scannedCount = c.scannedCount + :scanned,
+            c.queuedCount = c.queuedCount + :queued,
+            c.skippedCount = c.skippedCount + :skipped
+        WHERE c.id = :id
+    """)
+    int addProgress(@Param("id") Long id,
+                    @Param("scanned") int scanned,
+                    @Param("queued") int queued,
+                    @Param("skipped") int skipped);
+
+    /**
+     * 캠페인 발송 종료 상태 기록
+     */
+    @Modifying
+    @Query("UPDATE EmailCampaign c SET c.sendStatus = :status, c.completedAt = :completedAt WHERE c.id = :id")
+    int finish(@Param("id") Long id,
+               @Param("status") EmailCampaignStatus status,
+               @Param("completedAt") LocalDateTime completedAt);
+}
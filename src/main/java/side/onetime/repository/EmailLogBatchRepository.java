@@ -0,0 +1,207 @@
+package side.onetime.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import side.onetime.domain.EmailLog;
+import side.onetime.domain.enums.EmailLogStatus;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * email_logs 일괄 INSERT / 상태 UPDATE
+ *
+ * IDENTITY 전략에서는 Hibernate가 saveAll을 행마다 INSERT 한 번으로 실행한다.
+ * 여기서는 다중 VALUES INSERT 한 문장에 최대 1000행(또는 약 4MB)을 담고,
+ * getGeneratedKeys로 생성된 ID를 입력 순서대로 돌려준다.
+ * InnoDB는 행 수가 정해진 단순 INSERT에 연속된 AUTO_INCREMENT 구간을 할당하며, MySQL 드라이버도 이를 전제로 키를 반환한다.
+ * 발송 결과 반영은 행마다 UPDATE하지 않고 UPDATE ... CASE id 한 문장에 최대 1000행을 담는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailLogBatchRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1_000;
+    // max_allowed_packet(기본 64MB)보다 충분히 작게 유지
+    private static final long MAX_BYTES_PER_STATEMENT = 4L * 1024 * 1024;
+
+    private static final String INSERT_PREFIX = "INSERT INTO email_logs "
+            + "(campaign_id, user_id, recipient, status, error_message, target_group, sent_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이메일 로그 일괄 저장
+     *
+     * @param emailLogs 저장할 이메일 로그 (ID 없음)
+     * @return 생성된 ID 목록 (emailLogs와 같은 순서)
+     */
+    public List<Long> insertAll(List<EmailLog> emailLogs) {
+        List<Long> ids = new ArrayList<>(emailLogs.size());
+
+        int from = 0;
+        long bytes = 0;
+        for (int i = 0; i < emailLogs.size(); i++) {
+            long rowBytes = estimateBytes(emailLogs.get(i));
+            if (i > from && (i - from >= MAX_ROWS_PER_STATEMENT || bytes + rowBytes > MAX_BYTES_PER_STATEMENT)) {
+                ids.addAll(insertChunk(emailLogs.subList(from, i)));
+                from = i;
+                bytes = 0;
+            }
+            bytes += rowBytes;
+        }
+        if (from < emailLogs.size()) {
+            ids.addAll(insertChunk(emailLogs.subList(from, emailLogs.size())));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<EmailLog> chunk) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (EmailLog emailLog : chunk) {
+                    ps.setLong(index++, emailLog.getCampaign().getId());
+                    ps.setLong(index++, emailLog.getUserId());
+                    ps.setString(index++, emailLog.getRecipient());
+                    ps.setString(index++, emailLog.getStatus().name());
+                    ps.setObject(index++, emailLog.getErrorMessage(), Types.VARCHAR);
+                    ps.setObject(index++, emailLog.getTargetGroup(), Types.VARCHAR);
+                    ps.setTimestamp(index++, Timestamp.valueOf(emailLog.getSentAt()));
+                }
+                ps.executeUpdate();
+
+                List<Long> ids = new ArrayList<>(chunk.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != chunk.size()) {
+                    throw new IllegalStateException(
+                            "생성된 ID 수가 일치하지 않습니다. expected=" + chunk.size() + ", actual=" + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 이메일 로그 현재 상태를 잠그고 조회 (SELECT ... FOR UPDATE)
+     * 같은 로그의 결과가 동시에 들어와도 순서대로 반영되도록 트랜잭션 안에서 호출한다.
+     *
+     * @param ids 로그 ID (최대 1000개, 오름차순이면 잠금 순서가 일정해 데드락을 피한다)
+     * @return 로그 ID → 현재 상태와 발송 시각 (존재하는 로그만)
+     */
+    public Map<Long, CurrentStatus> lockStatuses(List<Long> ids) {
+        String sql = "SELECT id, status, sent_at FROM email_logs WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ") ORDER BY id FOR UPDATE";
+
+        Map<Long, CurrentStatus> statuses = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            statuses.put(rs.getLong(1), new CurrentStatus(
+                    EmailLogStatus.valueOf(rs.getString(2)), rs.getTimestamp(3).toLocalDateTime()));
+        }, ids.toArray());
+        return statuses;
+    }
+
+    /**
+     * 이메일 로그 상태 일괄 변경
+     * sentAt/errorMessage가 null이면 기존 값을 유지한다. 단 clearErrorMessage면 errorMessage가 null일 때 비운다.
+     *
+     * @param updates 변경 내용 (로그 ID 중복 없음)
+     * @return 변경된 행 수
+     */
+    public int updateStatuses(List<StatusUpdate> updates) {
+        int updated = 0;
+        for (int from = 0; from < updates.size(); from += MAX_ROWS_PER_STATEMENT) {
+            updated += updateChunk(updates.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, updates.size())));
+        }
+        return updated;
+    }
+
+    private int updateChunk(List<StatusUpdate> chunk) {
+        String sql = "UPDATE email_logs SET "
+                + "status = CASE id " + String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?")) + " END, "
+                + caseKeepingNull("sent_at", chunk.size()) + ", "
+                + "error_message = CASE id " + String.join(" ", Collections.nCopies(chunk.size(),
+                        "WHEN ? THEN COALESCE(?, IF(?, NULL, error_message))")) + " END "
+                + "WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (StatusUpdate update : chunk) {
+                ps.setLong(index++, update.id());
+                ps.setString(index++, update.status().name());
+            }
+            for (StatusUpdate update : chunk) {
+                ps.setLong(index++, update.id());
+                ps.setObject(index++, update.sentAt() == null ? null : Timestamp.valueOf(update.sentAt()),
+                        Types.TIMESTAMP);
+            }
+            for (StatusUpdate update : chunk) {
+                ps.setLong(index++, update.id());
+                ps.setObject(index++, update.errorMessage(), Types.VARCHAR);
+                ps.setBoolean(index++, update.clearErrorMessage());
+            }
+            for (StatusUpdate update : chunk) {
+                ps.setLong(index++, update.id());
+            }
+        });
+    }
+
+    /**
+     * column = CASE id WHEN ? THEN COALESCE(?, column) ... END
+     */
+    private String caseKeepingNull(String column, int rows) {
+        return column + " = CASE id "
+                + String.join(" ", Collections.nCopies(rows, "WHEN ? THEN COALESCE(?, " + column + ")")) + " END";
+    }
+
+    /**
+     * 행 크기 상한 추정 (UTF-8은 BMP 문자당 최대 3바이트)
+     */
+    private long estimateBytes(EmailLog emailLog) {
+        return 3L * (lengthOf(emailLog.getRecipient()) + lengthOf(emailLog.getErrorMessage())) + 64;
+    }
+
+    private int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 이메일 로그 상태 변경 내용
+     *
+     * @param id                이메일 로그 ID
+     * @param status            새 상태
+     * @param sentAt            발송 시각 (null이면 유지)
+     * @param errorMessage      오류 메시지 (null이면 유지)
+     * @param clearErrorMessage errorMessage가 null일 때 기존 오류 메시지를 비울지 (FAILED에서 벗어나는 로그)
+     */
+    public record StatusUpdate(long id, EmailLogStatus status, LocalDateTime sentAt, String errorMessage,
+                               boolean clearErrorMessage) {
+    }
+
+    /**
+     * 잠근 이메일 로그의 현재 값
+     *
+     * @param status 현재 상태
+     * @param sentAt 발송 시각 (발송 결과 전이면 큐잉 시각)
+     */
+    public record CurrentStatus(EmailLogStatus status, LocalDateTime sentAt) {
+    }
+}
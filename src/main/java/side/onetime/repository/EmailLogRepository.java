@@ -1,6 +1,7 @@
 package side.onetime.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,8 +14,19 @@ import side.onetime.repository.custom.EmailLogRepositoryCustom;
 
 public interface EmailLogRepository extends JpaRepository<EmailLog, Long>, EmailLogRepositoryCustom {
 
-    @Query("SELECT e.status, COUNT(e) FROM EmailLog e WHERE e.sentAt >= :since GROUP BY e.status")
-    List<Object[]> countByStatusSince(@Param("since") LocalDateTime since);
-
-    long countByStatus(EmailLogStatus status);
+    /**
+     * 주어진 유저 중 since 이후 같은 타겟 그룹으로 이미 발송한 유저 ID (IN 쿼리 한 번으로 중복 발송 확인)
+     * excludedStatus 상태의 로그(발송 실패)는 발송한 것으로 보지 않는다.
+     */
+    @Query("""
+        SELECT DISTINCT e.userId FROM EmailLog e
+        WHERE e.userId IN :userIds
+          AND e.sentAt >= :since
+          AND e.status <> :excludedStatus
+          AND e.targetGroup = :targetGroup
+    """)
+    List<Long> findSentUserIds(@Param("userIds") Collection<Long> userIds,
+                               @Param("targetGroup") String targetGroup,
+                               @Param("since") LocalDateTime since,
+                               @Param("excludedStatus") EmailLogStatus excludedStatus);
 }
@@ -0,0 +1,57 @@
+package side.onetime.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import side.onetime.domain.EmailOutbox;
+import side.onetime.domain.enums.EmailOutboxStatus;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발행할 아웃박스 행을 잠그고 가져온다.
+     * SKIP LOCKED로 다른 인스턴스(Blue/Green)가 지금 가져가는 행은 건너뛴다.
+     * 같은 트랜잭션에서 리스(next_attempt_at)를 걸어 커밋한 뒤에도 리스가 끝날 때까지 다시 가져가지 않는다.
+     * 행 락이 리스를 걸 때까지 유지되어야 하므로 반드시 트랜잭션 안에서 호출한다.
+     *
+     * @param now   기준 시각 (next_attempt_at이 지난 행만)
+     * @param limit 최대 행 수
+     * @return 잠긴 아웃박스 행 (id 오름차순)
+     */
+    @Query(value = """
+        SELECT * FROM email_outbox
+        WHERE status = 'PENDING'
+          AND next_attempt_at <= :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<EmailOutbox> claimPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    /**
+     * 발행 대기 중인 가장 오래된 행의 생성 시각 (발행 지연 측정용)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM EmailOutbox o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") EmailOutboxStatus status);
+
+    /**
+     * 보존 기간이 지난 발행 완료 행을 limit 단위로 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM email_outbox
+        WHERE status = 'PUBLISHED'
+          AND published_at < :threshold
+        LIMIT :limit
+    """, nativeQuery = true)
+    int deletePublishedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+}
@@ -0,0 +1,136 @@
+package side.onetime.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import side.onetime.dto.admin.email.response.UserEmailDto;
+
+/**
+ * 마케팅 타겟 그룹 수신자 스트리밍 조회
+ *
+ * 대상 전체를 List로 받지 않고 forward-only 커서로 한 행씩 읽어 chunkSize명씩 넘긴다.
+ * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 스트리밍하고, 그 외에는 전체 결과를 메모리에 올린다.
+ * 스트리밍 중에는 커넥션이 다른 쿼리를 실행할 수 없으므로 트랜잭션 밖에서 호출해야 하며,
+ * chunk 처리는 별도 커넥션(새 트랜잭션)에서 수행한다.
+ */
+@Repository
+public class EmailRecipientCursorRepository {
+
+    // 반환: [email, users_id, name, nickname]
+    private static final Map<String, String> GROUP_QUERIES = Map.of(
+            "agreed", """
+                SELECT email, users_id, name, nickname FROM users
+                WHERE status = 'ACTIVE'
+                  AND marketing_policy_agreement = 1
+                  AND email IS NOT NULL
+                ORDER BY created_date DESC
+                LIMIT ?
+                """,
+            // 마지막 활동 후 30일 이상 지난 유저 (DATEDIFF(NOW(), last_active_at) >= 30, idx_users_status_last_active)
+            "dormant", """
+                SELECT u.email, u.users_id, u.name, u.nickname
+                FROM users u
+                WHERE u.status = 'ACTIVE'
+                  AND u.last_active_at < DATE_SUB(CURDATE(), INTERVAL 29 DAY)
+                  AND u.marketing_policy_agreement = 1
+                  AND u.email IS NOT NULL
+                LIMIT ?
+                """,
+            // 가입 7일 이후에도 이벤트를 만들지 않은 유저
+            "noevent", """
+                SELECT u.email, u.users_id, u.name, u.nickname
+                FROM users u
+                LEFT JOIN event_participations ep ON u.users_id = ep.users_id
+                    AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                WHERE u.status = 'ACTIVE'
+                  AND u.marketing_policy_agreement = 1
+                  AND u.email IS NOT NULL
+                  AND ep.users_id IS NULL
+                  AND u.created_date < DATE_SUB(NOW(), INTERVAL 7 DAY)
+                LIMIT ?
+                """,
+            "onetime", """
+                SELECT u.email, u.users_id, u.name, u.nickname
+                FROM users u
+                JOIN event_participations ep ON u.users_id = ep.users_id
+                    AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                WHERE u.status = 'ACTIVE'
+                  AND u.marketing_policy_agreement = 1
+                  AND u.email IS NOT NULL
+                GROUP BY u.users_id, u.email, u.name, u.nickname
+                HAVING COUNT(ep.events_id) = 1
+                LIMIT ?
+                """,
+            "vip", """
+                SELECT u.email, u.users_id, u.name, u.nickname
+                FROM users u
+                JOIN event_participations ep ON u.users_id = ep.users_id
+                    AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                WHERE u.status = 'ACTIVE'
+                  AND u.email IS NOT NULL
+                GROUP BY u.users_id, u.email, u.name, u.nickname
+                HAVING COUNT(ep.events_id) >= 5
+                ORDER BY COUNT(ep.events_id) DESC
+                LIMIT ?
+                """
+    );
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public EmailRecipientCursorRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 지원하는 타겟 그룹인지 확인 (대소문자 무시)
+     */
+    public boolean supports(String group) {
+        return group != null && GROUP_QUERIES.containsKey(group.toLowerCase());
+    }
+
+    /**
+     * 타겟 그룹 수신자를 커서로 읽어 chunkSize명씩 chunkHandler에 넘긴다.
+     * chunkHandler가 예외를 던지면 조회를 중단하고 예외를 그대로 전파한다.
+     *
+     * @param group        타겟 그룹 (supports가 true여야 함)
+     * @param limit        최대 수신자 수
+     * @param chunkSize    chunk당 수신자 수
+     * @param chunkHandler chunk 처리기 (chunk 목록은 호출 이후 재사용되지 않음)
+     * @return 읽은 수신자 수
+     */
+    public long stream(String group, long limit, int chunkSize, Consumer<List<UserEmailDto>> chunkHandler) {
+        String sql = GROUP_QUERIES.get(group.toLowerCase());
+        if (sql == null) {
+            throw new IllegalArgumentException("Unsupported target group: " + group);
+        }
+
+        List<UserEmailDto> chunk = new ArrayList<>(chunkSize);
+        long[] scanned = {0};
+
+        PreparedStatementSetter limitSetter = ps -> ps.setLong(1, limit);
+        RowCallbackHandler rowHandler = rs -> {
+            chunk.add(new UserEmailDto(rs.getString(1), rs.getLong(2), rs.getString(3), rs.getString(4)));
+            scanned[0]++;
+            if (chunk.size() >= chunkSize) {
+                chunkHandler.accept(List.copyOf(chunk));
+                chunk.clear();
+            }
+        };
+        streamingJdbcTemplate.query(sql, limitSetter, rowHandler);
+
+        if (!chunk.isEmpty()) {
+            chunkHandler.accept(List.copyOf(chunk));
+        }
+        return scanned[0];
+    }
+}
@@ -0,0 +1,34 @@
+package side.onetime.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import side.onetime.domain.EmailStatusDailyCount;
+import side.onetime.domain.enums.EmailLogStatus;
+
+public interface EmailStatusDailyCountRepository extends JpaRepository<EmailStatusDailyCount, Long> {
+
+    /**
+     * (일자, 상태) 카운터에 건수를 더한다(음수면 뺀다). 행이 없으면 만든다.
+     * 여러 키를 갱신할 때는 데드락을 피하도록 항상 같은 순서(일자, 상태)로 호출한다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO email_status_daily_counts (stat_date, status, log_count)
+        VALUES (:statDate, :status, :delta) AS new
+        ON DUPLICATE KEY UPDATE log_count = email_status_daily_counts.log_count + new.log_count
+    """, nativeQuery = true)
+    int increment(@Param("statDate") LocalDate statDate,
+                  @Param("status") String status,
+                  @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.logCount), 0) FROM EmailStatusDailyCount c WHERE c.status = :status")
+    long sumByStatus(@Param("status") EmailLogStatus status);
+
+    List<EmailStatusDailyCount> findByStatDate(LocalDate statDate);
+}
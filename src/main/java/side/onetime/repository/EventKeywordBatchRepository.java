@@ -0,0 +1,119 @@
+package side.onetime.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 키워드 태그 저장 (event_keywords)
+ *
+ * 이벤트별로 원하는 키워드 집합을 받아 현재 태그와 비교하고, 달라진 행만 지우거나 넣는다.
+ * 사전이 그대로면 백필을 다시 돌려도 쓰기가 생기지 않는다.
+ * 호출한 쪽의 트랜잭션 안에서 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventKeywordBatchRepository {
+
+    private static final String SELECT_KEYWORDS_SQL = """
+            SELECT events_id, keyword
+            FROM event_keywords
+            WHERE events_id IN (:eventIds)
+            """;
+
+    private static final String DELETE_KEYWORD_SQL = """
+            DELETE FROM event_keywords
+            WHERE events_id = :eventId AND keyword = :keyword
+            """;
+
+    /**
+     * 제목 수정과 백필이 같은 이벤트를 동시에 태깅해도 실패하지 않도록 중복 행은 무시한다.
+     */
+    private static final String INSERT_KEYWORD_SQL = """
+            INSERT IGNORE INTO event_keywords (events_id, keyword)
+            VALUES (:eventId, :keyword)
+            """;
+
+    private static final String SELECT_EVENT_TITLES_SQL = """
+            SELECT events_id, title
+            FROM events
+            WHERE events_id > :afterId AND status != 'DELETED'
+            ORDER BY events_id
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 이벤트별 키워드 태그를 주어진 집합과 같게 맞춥니다.
+     *
+     * @param keywordsByEventId 이벤트 ID별 키워드 집합 (빈 집합이면 태그를 모두 지움)
+     * @return 지우거나 넣은 행 수
+     */
+    public int sync(Map<Long, Set<String>> keywordsByEventId) {
+        if (keywordsByEventId.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Set<String>> current = findKeywords(keywordsByEventId.keySet());
+
+        List<SqlParameterSource> deletes = new ArrayList<>();
+        List<SqlParameterSource> inserts = new ArrayList<>();
+        keywordsByEventId.forEach((eventId, keywords) -> {
+            Set<String> existing = current.getOrDefault(eventId, Set.of());
+            existing.stream()
+                    .filter(keyword -> !keywords.contains(keyword))
+                    .forEach(keyword -> deletes.add(row(eventId, keyword)));
+            keywords.stream()
+                    .filter(keyword -> !existing.contains(keyword))
+                    .forEach(keyword -> inserts.add(row(eventId, keyword)));
+        });
+
+        if (!deletes.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(DELETE_KEYWORD_SQL, deletes.toArray(SqlParameterSource[]::new));
+        }
+        if (!inserts.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(INSERT_KEYWORD_SQL, inserts.toArray(SqlParameterSource[]::new));
+        }
+        return deletes.size() + inserts.size();
+    }
+
+    /**
+     * 삭제되지 않은 이벤트의 ID와 제목을 ID 순으로 조회합니다. (백필 커서)
+     *
+     * @param afterId 이 ID보다 큰 이벤트부터
+     * @param limit   최대 건수
+     */
+    public List<EventTitle> findEventTitlesAfter(long afterId, int limit) {
+        return namedParameterJdbcTemplate.query(SELECT_EVENT_TITLES_SQL,
+                new MapSqlParameterSource("afterId", afterId).addValue("limit", limit),
+                (rs, rowNum) -> new EventTitle(rs.getLong("events_id"), rs.getString("title")));
+    }
+
+    private Map<Long, Set<String>> findKeywords(Collection<Long> eventIds) {
+        Map<Long, Set<String>> keywords = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_KEYWORDS_SQL, new MapSqlParameterSource("eventIds", eventIds),
+                rs -> {
+                    keywords.computeIfAbsent(rs.getLong("events_id"), id -> new HashSet<>())
+                            .add(rs.getString("keyword"));
+                });
+        return keywords;
+    }
+
+    private static SqlParameterSource row(Long eventId, String keyword) {
+        return new MapSqlParameterSource("eventId", eventId).addValue("keyword", keyword);
+    }
+
+    public record EventTitle(Long eventId, String title) {
+    }
+}
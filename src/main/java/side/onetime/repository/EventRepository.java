@@ -1,9 +1,12 @@
 package side.onetime.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import side.onetime.domain.Event;
+import side.onetime.domain.enums.QrCodeStatus;
 import side.onetime.repository.custom.EventRepositoryCustom;
 
 import java.time.LocalDateTime;
@@ -25,4 +28,69 @@ public interface EventRepository extends JpaRepository<Event,Long>, EventReposit
     WHERE e.eventId = :eventId
     """)
     Optional<Event> findByEventIdWithMembers(@Param("eventId") UUID eventId);
+
+    /**
+     * QR 코드 생성 완료 처리
+     * 백그라운드 워커가 업로드한 파일명을 기록하고 READY로 변경
+     *
+     * @param id         이벤트 PK
+     * @param qrFileName S3에 업로드된 QR 파일명
+     * @return 업데이트된 행 수 (0이면 그 사이 삭제된 이벤트)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE Event e
+    SET e.qrFileName = :qrFileName,
+        e.qrStatus = side.onetime.domain.enums.QrCodeStatus.READY
+    WHERE e.id = :id
+    """)
+    int completeQrCode(@Param("id") Long id, @Param("qrFileName") String qrFileName);
+
+    /**
+     * QR 코드 상태 전이
+     * 현재 상태가 expected인 경우에만 변경 (동시 재시도 요청 중 하나만 성공)
+     *
+     * @param id       이벤트 PK
+     * @param expected 기대하는 현재 상태
+     * @param next     변경할 상태
+     * @return 업데이트된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE Event e
+    SET e.qrStatus = :next
+    WHERE e.id = :id
+      AND e.qrStatus = :expected
+    """)
+    int updateQrStatusIf(@Param("id") Long id,
+                         @Param("expected") QrCodeStatus expected,
+                         @Param("next") QrCodeStatus next);
+
+    /**
+     * QR 코드 재생성 요청
+     * READY가 아니고, 생성 중(PENDING)이라면 staleBefore보다 오래 전에 요청된 경우에만 PENDING으로 바꾸고 요청 시각을 갱신
+     * (실패한 생성, QR 없이 남은 과거 이벤트, 커밋 이후 인스턴스 종료 등으로 유실된 요청. 동시 조회 중 하나만 성공)
+     *
+     * @param id          이벤트 PK
+     * @param now         요청 시각
+     * @param staleBefore 이보다 오래된 PENDING은 유실된 것으로 봄
+     * @return 업데이트된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE Event e
+    SET e.qrStatus = side.onetime.domain.enums.QrCodeStatus.PENDING,
+        e.qrRequestedAt = :now
+    WHERE e.id = :id
+      AND (e.qrStatus <> side.onetime.domain.enums.QrCodeStatus.READY OR e.qrFileName IS NULL)
+      AND (e.qrStatus <> side.onetime.domain.enums.QrCodeStatus.PENDING
+           OR e.qrRequestedAt IS NULL
+           OR e.qrRequestedAt < :staleBefore)
+    """)
+    int requeueQrCode(@Param("id") Long id,
+                      @Param("now") LocalDateTime now,
+                      @Param("staleBefore") LocalDateTime staleBefore);
 }
@@ -0,0 +1,18 @@
+package side.onetime.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import side.onetime.domain.StatisticsActiveUserRollup;
+import side.onetime.domain.enums.StatisticsPeriod;
+
+public interface StatisticsActiveUserRollupRepository extends JpaRepository<StatisticsActiveUserRollup, Long> {
+
+    /**
+     * 시작일이 기간 안에 있는 활성 유저 롤업 (양 끝 포함)
+     */
+    List<StatisticsActiveUserRollup> findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+            StatisticsPeriod periodType, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,16 @@
+package side.onetime.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import side.onetime.domain.StatisticsDailyRollup;
+
+public interface StatisticsDailyRollupRepository extends JpaRepository<StatisticsDailyRollup, Long> {
+
+    /**
+     * 기간 내 일자별 롤업 (양 끝 포함). 집계가 없는 날은 행이 없을 수 있다.
+     */
+    List<StatisticsDailyRollup> findByStatDateBetweenOrderByStatDate(LocalDate startDate, LocalDate endDate);
+}
@@ -13,24 +13,6 @@ public interface StatisticsRepository extends Repository<User, Long> {
 
     // ==================== DAU / MAU (refresh_token 기준) ====================
 
-    /**
-     * DAU (Daily Active Users) - refresh_token.last_used_at 기준 (회원만)
-     * 날짜별 고유 사용자 수 조회
-     * status 무관하게 last_used_at이 기간 내에 있으면 활성 사용자로 카운트
-     */
-    @Query(value = """
-        SELECT DATE(last_used_at) AS date, COUNT(DISTINCT users_id) AS dau
-        FROM refresh_token
-        WHERE last_used_at >= :startDate AND last_used_at < :endDate
-          AND user_type = 'USER'
-        GROUP BY DATE(last_used_at)
-        ORDER BY date
-        """, nativeQuery = true)
-    List<Object[]> findDailyActiveUsers(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
     /**
      * MAU (Monthly Active Users) - refresh_token.last_used_at 기준 (회원만)
      * 월별 고유 사용자 수 조회
@@ -72,7 +54,7 @@ public interface StatisticsRepository extends Repository<User, Long> {
      * 휴면 기간별 분포 (대시보드용)
      * 7일+, 30일+, 90일+ 기준
      * 기간 내 가입한 유저 기준
-     * last_used_at이 NULL이면 issued_at 사용, 둘 다 NULL이면 created_date 사용
+     * users.last_active_at 기준 (가입, 로그인, 토큰 재발급 시각)
      */
     @Query(value = """
         SELECT
@@ -84,13 +66,10 @@ public interface StatisticsRepository extends Repository<User, Long> {
             END AS dormant_group,
             COUNT(*) AS user_count
         FROM (
-            SELECT u.users_id,
-                   DATEDIFF(NOW(), COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date)) AS days_inactive
+            SELECT DATEDIFF(NOW(), u.last_active_at) AS days_inactive
             FROM users u
-            LEFT JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'
             WHERE u.status = 'ACTIVE'
               AND u.created_date >= :startDate AND u.created_date < :endDate
-            GROUP BY u.users_id, u.created_date
         ) sub
         GROUP BY dormant_group
         ORDER BY
@@ -108,23 +87,19 @@ public interface StatisticsRepository extends Repository<User, Long> {
 
     /**
      * 휴면 유저 상세 리스트 (리텐션용 - 모든 유저)
-     * last_used_at이 NULL이면 issued_at 사용, 둘 다 NULL이면 created_date 사용
+     * users.last_active_at 기준, DATEDIFF(NOW(), last_active_at) >= days
      */
     @Query(value = """
         SELECT u.users_id, u.email, u.name, u.nickname, u.provider, u.provider_id,
                u.service_policy_agreement, u.privacy_policy_agreement, u.marketing_policy_agreement,
                u.sleep_start_time, u.sleep_end_time, u.language, u.created_date, u.updated_date,
-               COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date) AS last_login,
-               DATEDIFF(NOW(), COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date)) AS days_inactive
+               u.last_active_at AS last_login,
+               DATEDIFF(NOW(), u.last_active_at) AS days_inactive
         FROM users u
-        LEFT JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'
         WHERE u.status = 'ACTIVE'
+          AND u.last_active_at < DATE_SUB(CURDATE(), INTERVAL (:days - 1) DAY)
           AND u.created_date >= :startDate AND u.created_date < :endDate
-        GROUP BY u.users_id, u.email, u.name, u.nickname, u.provider, u.provider_id,
-                 u.service_policy_agreement, u.privacy_policy_agreement, u.marketing_policy_agreement,
-                 u.sleep_start_time, u.sleep_end_time, u.language, u.created_date, u.updated_date
-        HAVING days_inactive >= :days
-        ORDER BY days_inactive DESC
+        ORDER BY u.last_active_at
         """, nativeQuery = true)
     List<Object[]> findDormantUserDetailsForRetention(
             @Param("days") int days,
@@ -132,30 +107,6 @@ public interface StatisticsRepository extends Repository<User, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
-    /**
-     * 기간 내 가입 유저의 휴면율 (30일+ 미접속)
-     * 반환: [dormant_count, total_count]
-     * last_used_at이 NULL이면 issued_at 사용, 둘 다 NULL이면 created_date 사용
-     */
-    @Query(value = """
-        SELECT
-            SUM(CASE WHEN days_inactive >= 30 THEN 1 ELSE 0 END) AS dormant_count,
-            COUNT(*) AS total_count
-        FROM (
-            SELECT u.users_id,
-                   DATEDIFF(NOW(), COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date)) AS days_inactive
-            FROM users u
-            LEFT JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'
-            WHERE u.status = 'ACTIVE'
-              AND u.created_date >= :startDate AND u.created_date < :endDate
-            GROUP BY u.users_id, u.created_date
-        ) sub
-        """, nativeQuery = true)
-    List<Object[]> countDormantRateByDateRange(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
     // ==================== 날짜 범위 필터 버전 (마케팅 타겟) ====================
 
     /**
@@ -176,20 +127,16 @@ public interface StatisticsRepository extends Repository<User, Long> {
 
     /**
      * 기간 내 가입한 유저 중 휴면 유저 수 (30일+ 미접속)
-     * last_used_at이 NULL이면 issued_at 사용, 둘 다 NULL이면 created_date 사용
+     * users.last_active_at 기준, DATEDIFF(NOW(), last_active_at) >= 30
      * 마케팅 동의 여부 무관
      */
     @Query(value = """
-        SELECT COUNT(*) FROM (
-            SELECT u.users_id
-            FROM users u
-            LEFT JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'
-            WHERE u.status = 'ACTIVE'
-              AND u.created_date >= :startDate
-              AND u.created_date < :endDate
-            GROUP BY u.users_id, u.created_date
-            HAVING DATEDIFF(NOW(), COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date)) >= 30
-        ) sub
+        SELECT COUNT(*)
+        FROM users u
+        WHERE u.status = 'ACTIVE'
+          AND u.last_active_at < DATE_SUB(CURDATE(), INTERVAL 29 DAY)
+          AND u.created_date >= :startDate
+          AND u.created_date < :endDate
         """, nativeQuery = true)
     Long countDormantUsersByDateRange(
             @Param("startDate") LocalDateTime startDate,
@@ -526,44 +473,17 @@ public interface StatisticsRepository extends Repository<User, Long> {
     List<Object[]> countParticipantsByEventIds(@Param("eventIds") List<Long> eventIds);
 
     /**
-     * 이벤트 키워드 분석 (타이틀에서 키워드 포함 여부)
-     * 30개 키워드 지원
+     * 이벤트 키워드 분석 (event_keywords 태그 기준)
+     * 키워드 사전은 event.keyword.dictionary 설정이며, 건수가 많은 순으로 반환
      */
     @Query(value = """
-        SELECT
-            SUM(CASE WHEN title LIKE '%회의%' THEN 1 ELSE 0 END) AS keyword_meeting,
-            SUM(CASE WHEN title LIKE '%스터디%' THEN 1 ELSE 0 END) AS keyword_study,
-            SUM(CASE WHEN title LIKE '%밥%' THEN 1 ELSE 0 END) AS keyword_meal,
-            SUM(CASE WHEN title LIKE '%술%' THEN 1 ELSE 0 END) AS keyword_drink,
-            SUM(CASE WHEN title LIKE '%MT%' OR title LIKE '%mt%' THEN 1 ELSE 0 END) AS keyword_mt,
-            SUM(CASE WHEN title LIKE '%면접%' THEN 1 ELSE 0 END) AS keyword_interview,
-            SUM(CASE WHEN title LIKE '%프로젝트%' THEN 1 ELSE 0 END) AS keyword_project,
-            SUM(CASE WHEN title LIKE '%동아리%' THEN 1 ELSE 0 END) AS keyword_club,
-            SUM(CASE WHEN title LIKE '%모임%' THEN 1 ELSE 0 END) AS keyword_gathering,
-            SUM(CASE WHEN title LIKE '%여행%' THEN 1 ELSE 0 END) AS keyword_travel,
-            SUM(CASE WHEN title LIKE '%점심%' THEN 1 ELSE 0 END) AS keyword_lunch,
-            SUM(CASE WHEN title LIKE '%저녁%' THEN 1 ELSE 0 END) AS keyword_dinner,
-            SUM(CASE WHEN title LIKE '%식사%' THEN 1 ELSE 0 END) AS keyword_dining,
-            SUM(CASE WHEN title LIKE '%커피%' THEN 1 ELSE 0 END) AS keyword_coffee,
-            SUM(CASE WHEN title LIKE '%미팅%' THEN 1 ELSE 0 END) AS keyword_meeting2,
-            SUM(CASE WHEN title LIKE '%팀%' THEN 1 ELSE 0 END) AS keyword_team,
-            SUM(CASE WHEN title LIKE '%워크샵%' THEN 1 ELSE 0 END) AS keyword_workshop,
-            SUM(CASE WHEN title LIKE '%세미나%' THEN 1 ELSE 0 END) AS keyword_seminar,
-            SUM(CASE WHEN title LIKE '%강의%' THEN 1 ELSE 0 END) AS keyword_lecture,
-            SUM(CASE WHEN title LIKE '%수업%' THEN 1 ELSE 0 END) AS keyword_class,
-            SUM(CASE WHEN title LIKE '%운동%' THEN 1 ELSE 0 END) AS keyword_exercise,
-            SUM(CASE WHEN title LIKE '%헬스%' THEN 1 ELSE 0 END) AS keyword_fitness,
-            SUM(CASE WHEN title LIKE '%축구%' THEN 1 ELSE 0 END) AS keyword_soccer,
-            SUM(CASE WHEN title LIKE '%농구%' THEN 1 ELSE 0 END) AS keyword_basketball,
-            SUM(CASE WHEN title LIKE '%야구%' THEN 1 ELSE 0 END) AS keyword_baseball,
-            SUM(CASE WHEN title LIKE '%테니스%' THEN 1 ELSE 0 END) AS keyword_tennis,
-            SUM(CASE WHEN title LIKE '%골프%' THEN 1 ELSE 0 END) AS keyword_golf,
-            SUM(CASE WHEN title LIKE '%등산%' THEN 1 ELSE 0 END) AS keyword_hiking,
-            SUM(CASE WHEN title LIKE '%캠핑%' THEN 1 ELSE 0 END) AS keyword_camping,
-            SUM(CASE WHEN title LIKE '%파티%' THEN 1 ELSE 0 END) AS keyword_party
-        FROM events
-        WHERE status = 'ACTIVE'
-          AND created_date >= :startDate AND created_date < :endDate
+        SELECT ek.keyword, COUNT(*) AS cnt
+        FROM events e
+        JOIN event_keywords ek ON ek.events_id = e.events_id
+        WHERE e.status = 'ACTIVE'
+          AND e.created_date >= :startDate AND e.created_date < :endDate
+        GROUP BY ek.keyword
+        ORDER BY cnt DESC, ek.keyword
         """, nativeQuery = true)
     List<Object[]> getKeywordCounts(
             @Param("startDate") LocalDateTime startDate,
@@ -606,108 +526,36 @@ public interface StatisticsRepository extends Repository<User, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
-    // ==================== 이메일 발송용 쿼리 ====================
-
-    /**
-     * 마케팅 동의 유저 이메일+userId+name+nickname 목록
-     * 반환: [email, users_id, name, nickname]
-     */
-    @Query(value = """
-        SELECT email, users_id, name, nickname FROM users
-        WHERE status = 'ACTIVE'
-          AND marketing_policy_agreement = 1
-          AND email IS NOT NULL
-        ORDER BY created_date DESC
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Object[]> findMarketingAgreedUserEmailsWithIds(@Param("limit") int limit);
-
-    /**
-     * 휴면 유저 이메일+userId+name+nickname 목록
-     * 반환: [email, users_id, name, nickname]
-     */
-    @Query(value = """
-        SELECT u.email, u.users_id, u.name, u.nickname
-        FROM users u
-        LEFT JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'
-        WHERE u.status = 'ACTIVE'
-          AND u.marketing_policy_agreement = 1
-          AND u.email IS NOT NULL
-        GROUP BY u.users_id, u.email, u.name, u.nickname
-        HAVING DATEDIFF(NOW(), MAX(COALESCE(rt.last_used_at, rt.issued_at))) >= :days
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Object[]> findDormantUserEmailsWithIds(
-            @Param("days") int days,
-            @Param("limit") int limit
-    );
-
-    /**
-     * 이벤트 미생성 유저 이메일+userId+name+nickname 목록
-     * 반환: [email, users_id, name, nickname]
-     */
-    @Query(value = """
-        SELECT u.email, u.users_id, u.name, u.nickname
-        FROM users u
-        LEFT JOIN event_participations ep ON u.users_id = ep.users_id
-            AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
-        WHERE u.status = 'ACTIVE'
-          AND u.marketing_policy_agreement = 1
-          AND u.email IS NOT NULL
-          AND ep.users_id IS NULL
-          AND u.created_date < DATE_SUB(NOW(), INTERVAL :daysAfterSignup DAY)
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Object[]> findNoEventUserEmailsWithIds(
-            @Param("daysAfterSignup") int daysAfterSignup,
-            @Param("limit") int limit
-    );
-
-    /**
-     * 1회성 유저 이메일+userId+name+nickname 목록
-     * 반환: [email, users_id, name, nickname]
-     */
-    @Query(value = """
-        SELECT u.email, u.users_id, u.name, u.nickname
-        FROM users u
-        JOIN event_participations ep ON u.users_id = ep.users_id
-            AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
-        WHERE u.status = 'ACTIVE'
-          AND u.marketing_policy_agreement = 1
-          AND u.email IS NOT NULL
-        GROUP BY u.users_id, u.email, u.name, u.nickname
-        HAVING COUNT(ep.events_id) = 1
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Object[]> findOneTimeUserEmailsWithIds(@Param("limit") int limit);
+    // ==================== 유저 검색 (이메일 발송용) ====================
 
     /**
-     * VIP 유저 이메일+userId+name+nickname 목록
-     * 반환: [email, users_id, name, nickname]
+     * 이름 또는 이메일로 유저 검색
+     * 검색 인덱스(ft_users_search)가 없을 때 쓴다 (users 전체 스캔).
      */
     @Query(value = """
-        SELECT u.email, u.users_id, u.name, u.nickname
+        SELECT u.users_id, u.name, u.email, u.nickname, u.provider
         FROM users u
-        JOIN event_participations ep ON u.users_id = ep.users_id
-            AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
         WHERE u.status = 'ACTIVE'
           AND u.email IS NOT NULL
-        GROUP BY u.users_id, u.email, u.name, u.nickname
-        HAVING COUNT(ep.events_id) >= 5
-        ORDER BY COUNT(ep.events_id) DESC
+          AND (u.name LIKE CONCAT('%', :query, '%')
+               OR u.email LIKE CONCAT('%', :query, '%')
+               OR u.nickname LIKE CONCAT('%', :query, '%'))
+        ORDER BY u.created_date DESC
         LIMIT :limit
         """, nativeQuery = true)
-    List<Object[]> findVipUserEmailsWithIds(@Param("limit") int limit);
-
-    // ==================== 유저 검색 (이메일 발송용) ====================
+    List<Object[]> searchUsersByNameOrEmail(@Param("query") String query, @Param("limit") int limit);
 
     /**
-     * 이름 또는 이메일로 유저 검색
+     * 이름/이메일/닉네임 부분 일치 유저 검색 (ngram FULLTEXT 인덱스 ft_users_search)
+     * MATCH로 인덱스에서 후보를 찾고, 같은 조건을 LIKE로 한 번 더 확인한다.
+     *
+     * @param phrase BOOLEAN MODE 구문 검색어 (UserSearchIndex.phrase)
      */
     @Query(value = """
         SELECT u.users_id, u.name, u.email, u.nickname, u.provider
         FROM users u
-        WHERE u.status = 'ACTIVE'
+        WHERE MATCH(u.name, u.email, u.nickname) AGAINST (:phrase IN BOOLEAN MODE)
+          AND u.status = 'ACTIVE'
           AND u.email IS NOT NULL
           AND (u.name LIKE CONCAT('%', :query, '%')
                OR u.email LIKE CONCAT('%', :query, '%')
@@ -715,12 +563,14 @@ public interface StatisticsRepository extends Repository<User, Long> {
         ORDER BY u.created_date DESC
         LIMIT :limit
         """, nativeQuery = true)
-    List<Object[]> searchUsersByNameOrEmail(@Param("query") String query, @Param("limit") int limit);
+    List<Object[]> searchUsersByFullText(@Param("phrase") String phrase, @Param("query") String query,
+                                         @Param("limit") int limit);
 
-    // ==================== 전환 퍼널 분석 ====================
+    // ==================== 가입자 수 ====================
 
     /**
-     * Step 1: 총 가입자 수 (기간 내)
+     * 총 가입자 수 (기간 내)
+     * 전환 퍼널은 stats_daily_rollups에서 읽는다.
      */
     @Query(value = """
         SELECT COUNT(*) FROM users
@@ -732,112 +582,8 @@ public interface StatisticsRepository extends Repository<User, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
-    /**
-     * Step 2: 첫 이벤트 생성 유저 수
-     * 해당 기간 가입자 중 이벤트를 1개 이상 생성한 유저
-     */
-    @Query(value = """
-        SELECT COUNT(DISTINCT u.users_id)
-        FROM users u
-        JOIN event_participations ep ON u.users_id = ep.users_id
-        WHERE u.status = 'ACTIVE'
-          AND u.created_date >= :startDate AND u.created_date < :endDate
-          AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
-        """, nativeQuery = true)
-    Long countUsersWithFirstEvent(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
-    /**
-     * Step 3: 참여자 1명 이상 받은 유저 수
-     * 이벤트 생성 후 members 또는 PARTICIPANT가 1명 이상 있는 이벤트의 생성자
-     */
-    @Query(value = """
-        SELECT COUNT(DISTINCT creator_user_id) FROM (
-            SELECT ep_creator.users_id AS creator_user_id
-            FROM users u
-            JOIN event_participations ep_creator ON u.users_id = ep_creator.users_id
-            JOIN events e ON ep_creator.events_id = e.events_id
-            LEFT JOIN event_participations ep_participant ON e.events_id = ep_participant.events_id
-                AND ep_participant.participation_role = 'PARTICIPANT'
-            LEFT JOIN members m ON e.events_id = m.events_id
-            WHERE u.status = 'ACTIVE'
-              AND u.created_date >= :startDate AND u.created_date < :endDate
-              AND ep_creator.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
-              AND e.status != 'DELETED'
-            GROUP BY ep_creator.users_id, e.events_id
-            HAVING COUNT(ep_participant.event_participations_id) > 0
-                OR COUNT(m.members_id) > 0
-        ) AS users_with_participants
-        """, nativeQuery = true)
-    Long countUsersWithParticipants(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
-    /**
-     * Step 4: 2번째 이벤트 생성 유저 수
-     * 이벤트를 2개 이상 생성한 유저
-     */
-    @Query(value = """
-        SELECT COUNT(*) FROM (
-            SELECT u.users_id
-            FROM users u
-            JOIN event_participations ep ON u.users_id = ep.users_id
-            WHERE u.status = 'ACTIVE'
-              AND u.created_date >= :startDate AND u.created_date < :endDate
-              AND ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
-            GROUP BY u.users_id
-            HAVING COUNT(DISTINCT ep.events_id) >= 2
-        ) AS users_with_two_events
-        """, nativeQuery = true)
-    Long countUsersWithSecondEvent(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
     // ==================== 코호트 리텐션 분석 ====================
 
-    /**
-     * 코호트별 가입자 수 (월별)
-     */
-    @Query(value = """
-        SELECT DATE_FORMAT(created_date, '%Y-%m') AS cohort_month,
-               COUNT(*) AS cohort_size
-        FROM users
-        WHERE status = 'ACTIVE'
-          AND created_date >= :startDate AND created_date < :endDate
-        GROUP BY DATE_FORMAT(created_date, '%Y-%m')
-        ORDER BY cohort_month
-        """, nativeQuery = true)
-    List<Object[]> findCohortSizes(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
-    /**
-     * 코호트별 월별 활성 유저 수
-     * refresh_token.last_used_at 기준 (status 무관)
-     */
-    @Query(value = """
-        SELECT
-            DATE_FORMAT(u.created_date, '%Y-%m') AS cohort_month,
-            DATE_FORMAT(rt.last_used_at, '%Y-%m') AS active_month,
-            COUNT(DISTINCT u.users_id) AS active_users
-        FROM users u
-        JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'
-        WHERE u.status = 'ACTIVE'
-          AND u.created_date >= :startDate AND u.created_date < :endDate
-          AND rt.last_used_at >= u.created_date
-        GROUP BY DATE_FORMAT(u.created_date, '%Y-%m'), DATE_FORMAT(rt.last_used_at, '%Y-%m')
-        ORDER BY cohort_month, active_month
-        """, nativeQuery = true)
-    List<Object[]> findCohortMonthlyActivity(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
     // ==================== TTV (Time to Value) 분석 ====================
 
     /**
@@ -917,53 +663,6 @@ public interface StatisticsRepository extends Repository<User, Long> {
             @Param("endDate") LocalDateTime endDate
     );
 
-    /**
-     * 월별 WAU 트렌드 (각 월의 주 평균 WAU)
-     * users.status = 'ACTIVE'인 유저만 카운트
-     * 반환: [month, avg_wau]
-     */
-    @Query(value = """
-        SELECT DATE_FORMAT(week_start, '%Y-%m') AS month,
-               AVG(weekly_users) AS avg_wau
-        FROM (
-            SELECT DATE(DATE_SUB(rt.last_used_at, INTERVAL WEEKDAY(rt.last_used_at) DAY)) AS week_start,
-                   COUNT(DISTINCT rt.users_id) AS weekly_users
-            FROM refresh_token rt
-            JOIN users u ON rt.users_id = u.users_id
-            WHERE rt.last_used_at >= :startDate AND rt.last_used_at < :endDate
-              AND rt.user_type = 'USER'
-              AND u.status = 'ACTIVE'
-            GROUP BY week_start
-        ) AS weekly_data
-        GROUP BY month
-        ORDER BY month
-        """, nativeQuery = true)
-    List<Object[]> findMonthlyAvgWau(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
-    /**
-     * 월별 MAU
-     * users.status = 'ACTIVE'인 유저만 카운트
-     * 반환: [month, mau]
-     */
-    @Query(value = """
-        SELECT DATE_FORMAT(rt.last_used_at, '%Y-%m') AS month,
-               COUNT(DISTINCT rt.users_id) AS mau
-        FROM refresh_token rt
-        JOIN users u ON rt.users_id = u.users_id
-        WHERE rt.last_used_at >= :startDate AND rt.last_used_at < :endDate
-          AND rt.user_type = 'USER'
-          AND u.status = 'ACTIVE'
-        GROUP BY month
-        ORDER BY month
-        """, nativeQuery = true)
-    List<Object[]> findMonthlyMau(
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
-    );
-
     // ==================== 유저 상세 정보 ====================
 
     /**
@@ -0,0 +1,262 @@
+package side.onetime.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import side.onetime.domain.enums.StatisticsPeriod;
+
+/**
+ * 대시보드 롤업 테이블 집계 (stats_daily_rollups, stats_active_user_rollups)
+ *
+ * 원본 테이블을 기간 단위로 한 번 GROUP BY 해서 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE로 덮어쓴다.
+ * 집계 전에 기간 안의 모든 날에 0 행을 먼저 넣으므로, 원본 행이 사라진 날도 0으로 바뀌고
+ * MAX(stat_date)가 마지막으로 집계한 날이 된다.
+ * 일자별 집계 메서드는 [from, to) 구간이며, 초기화와 집계가 함께 반영되도록 호출한 쪽의 트랜잭션 안에서 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRollupBatchRepository {
+
+    private static final String ALL_COLUMNS = """
+            stat_date,
+            signups, marketing_agreed_signups, google_signups, kakao_signups, naver_signups,
+            dormant_signups, first_event_users, participant_received_users, second_event_users,
+            events_created, confirmed_events, participant_events, participations, members""";
+
+    private static final String ZERO_ROW = "(:statDate, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)";
+
+    private static final String RESET_SIGNUPS_SQL = "INSERT INTO stats_daily_rollups (" + ALL_COLUMNS + ") VALUES "
+            + ZERO_ROW + """
+
+            ON DUPLICATE KEY UPDATE
+                signups = 0, marketing_agreed_signups = 0, google_signups = 0, kakao_signups = 0, naver_signups = 0,
+                dormant_signups = 0, first_event_users = 0, participant_received_users = 0, second_event_users = 0
+            """;
+
+    private static final String RESET_EVENTS_SQL = "INSERT INTO stats_daily_rollups (" + ALL_COLUMNS + ") VALUES "
+            + ZERO_ROW + """
+
+            ON DUPLICATE KEY UPDATE
+                events_created = 0, confirmed_events = 0, participant_events = 0, participations = 0, members = 0
+            """;
+
+    /**
+     * 가입일별 유저 집계. 휴면/퍼널 컬럼은 실행 시점의 유저 상태 기준이다. 휴면은 users.last_active_at으로 판단한다.
+     * 파생 테이블은 모두 기간 내 가입 유저로 좁혀 전체 event_participations를 훑지 않는다.
+     */
+    private static final String UPSERT_SIGNUPS_SQL = "INSERT INTO stats_daily_rollups (" + ALL_COLUMNS + ")" + """
+
+            SELECT src.*, 0, 0, 0, 0, 0
+            FROM (
+                SELECT DATE(u.created_date) AS stat_date,
+                       COUNT(*) AS signups,
+                       SUM(CASE WHEN u.marketing_policy_agreement = 1 THEN 1 ELSE 0 END) AS marketing_agreed_signups,
+                       SUM(CASE WHEN u.provider = 'google' THEN 1 ELSE 0 END) AS google_signups,
+                       SUM(CASE WHEN u.provider = 'kakao' THEN 1 ELSE 0 END) AS kakao_signups,
+                       SUM(CASE WHEN u.provider = 'naver' THEN 1 ELSE 0 END) AS naver_signups,
+                       SUM(CASE WHEN DATEDIFF(NOW(), u.last_active_at) >= 30 THEN 1 ELSE 0 END) AS dormant_signups,
+                       SUM(CASE WHEN ce.created_events >= 1 THEN 1 ELSE 0 END) AS first_event_users,
+                       SUM(CASE WHEN pr.users_id IS NOT NULL THEN 1 ELSE 0 END) AS participant_received_users,
+                       SUM(CASE WHEN ce.created_events >= 2 THEN 1 ELSE 0 END) AS second_event_users
+                FROM users u
+                LEFT JOIN (
+                    SELECT ep.users_id, COUNT(DISTINCT ep.events_id) AS created_events
+                    FROM event_participations ep
+                    JOIN users cu ON ep.users_id = cu.users_id
+                    WHERE ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                      AND cu.created_date >= :startDate AND cu.created_date < :endDate
+                    GROUP BY ep.users_id
+                ) ce ON ce.users_id = u.users_id
+                LEFT JOIN (
+                    SELECT DISTINCT ep.users_id
+                    FROM event_participations ep
+                    JOIN users pu ON ep.users_id = pu.users_id
+                    JOIN events e ON ep.events_id = e.events_id
+                    WHERE ep.participation_role IN ('CREATOR', 'CREATOR_AND_PARTICIPANT')
+                      AND pu.created_date >= :startDate AND pu.created_date < :endDate
+                      AND e.status != 'DELETED'
+                      AND (EXISTS (SELECT 1 FROM event_participations p
+                                   WHERE p.events_id = e.events_id AND p.participation_role = 'PARTICIPANT')
+                           OR EXISTS (SELECT 1 FROM members m WHERE m.events_id = e.events_id))
+                ) pr ON pr.users_id = u.users_id
+                WHERE u.status = 'ACTIVE'
+                  AND u.created_date >= :startDate AND u.created_date < :endDate
+                GROUP BY DATE(u.created_date)
+            ) AS src
+            ON DUPLICATE KEY UPDATE
+                signups = src.signups,
+                marketing_agreed_signups = src.marketing_agreed_signups,
+                google_signups = src.google_signups,
+                kakao_signups = src.kakao_signups,
+                naver_signups = src.naver_signups,
+                dormant_signups = src.dormant_signups,
+                first_event_users = src.first_event_users,
+                participant_received_users = src.participant_received_users,
+                second_event_users = src.second_event_users
+            """;
+
+    /**
+     * 생성일별 이벤트 집계. 참여자 수는 이벤트마다 인덱스(events_id)로 센다.
+     */
+    private static final String UPSERT_EVENTS_SQL = "INSERT INTO stats_daily_rollups (" + ALL_COLUMNS + ")" + """
+
+            SELECT src.stat_date, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+                   src.events_created, src.confirmed_events, src.participant_events, src.participations, src.members
+            FROM (
+                SELECT DATE(e.created_date) AS stat_date,
+                       SUM(CASE WHEN e.status = 'ACTIVE' THEN 1 ELSE 0 END) AS events_created,
+                       SUM(CASE WHEN e.status = 'CONFIRMED' THEN 1 ELSE 0 END) AS confirmed_events,
+                       SUM(CASE WHEN e.status != 'DELETED' THEN 1 ELSE 0 END) AS participant_events,
+                       SUM(CASE WHEN e.status != 'DELETED' THEN
+                               (SELECT COUNT(*) FROM event_participations ep
+                                WHERE ep.events_id = e.events_id AND ep.participation_role NOT IN ('CREATOR'))
+                           ELSE 0 END) AS participations,
+                       SUM(CASE WHEN e.status != 'DELETED' THEN
+                               (SELECT COUNT(*) FROM members m WHERE m.events_id = e.events_id)
+                           ELSE 0 END) AS members
+                FROM events e
+                WHERE e.created_date >= :startDate AND e.created_date < :endDate
+                GROUP BY DATE(e.created_date)
+            ) AS src
+            ON DUPLICATE KEY UPDATE
+                events_created = src.events_created,
+                confirmed_events = src.confirmed_events,
+                participant_events = src.participant_events,
+                participations = src.participations,
+                members = src.members
+            """;
+
+    private static final String UPSERT_ACTIVE_USERS_SQL = """
+            INSERT INTO stats_active_user_rollups (period_type, period_start, active_users)
+            SELECT src.period_type, src.period_start, src.active_users
+            FROM (
+                SELECT :periodType AS period_type,
+                       %s AS period_start,
+                       COUNT(DISTINCT rt.users_id) AS active_users
+                FROM refresh_token rt
+                JOIN users u ON rt.users_id = u.users_id
+                WHERE rt.last_used_at >= :startDate AND rt.last_used_at < :endDate
+                  AND rt.user_type = 'USER'
+                  AND u.status = 'ACTIVE'
+                GROUP BY period_start
+            ) AS src
+            ON DUPLICATE KEY UPDATE
+                active_users = GREATEST(stats_active_user_rollups.active_users, src.active_users)
+            """;
+
+    /**
+     * since 이후 이벤트 컬럼 값이 바뀌었을 수 있는 생성일.
+     * 확정/수정(updated_date), 삭제(deleted_at), 참여자/멤버 추가(created_date)를 이벤트 생성일로 모은다.
+     */
+    private static final String CHANGED_EVENT_DAYS_SQL = """
+            SELECT DATE(e.created_date) AS stat_date
+            FROM events e
+            WHERE e.updated_date >= :since OR e.deleted_at >= :since
+            UNION
+            SELECT DATE(e.created_date)
+            FROM members m
+            JOIN events e ON e.events_id = m.events_id
+            WHERE m.created_date >= :since
+            UNION
+            SELECT DATE(e.created_date)
+            FROM event_participations ep
+            JOIN events e ON e.events_id = ep.events_id
+            WHERE ep.created_date >= :since
+            ORDER BY stat_date
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 가입 유저 컬럼을 다시 집계합니다.
+     *
+     * @return 집계한 가입일 수
+     */
+    public int rollupSignups(LocalDate from, LocalDate to) {
+        resetDays(RESET_SIGNUPS_SQL, from, to);
+        return namedParameterJdbcTemplate.update(UPSERT_SIGNUPS_SQL, range(from, to));
+    }
+
+    /**
+     * 이벤트 컬럼을 다시 집계합니다.
+     *
+     * @return 집계한 생성일 수
+     */
+    public int rollupEvents(LocalDate from, LocalDate to) {
+        resetDays(RESET_EVENTS_SQL, from, to);
+        return namedParameterJdbcTemplate.update(UPSERT_EVENTS_SQL, range(from, to));
+    }
+
+    /**
+     * since 이후 이벤트 컬럼 값이 바뀌었을 수 있는 이벤트 생성일을 조회합니다.
+     *
+     * @return 생성일 오름차순 (중복 없음)
+     */
+    public List<LocalDate> findChangedEventDays(LocalDateTime since) {
+        return namedParameterJdbcTemplate.queryForList(CHANGED_EVENT_DAYS_SQL,
+                new MapSqlParameterSource("since", since), LocalDate.class);
+    }
+
+    /**
+     * 활성 유저 수를 기간 단위로 집계해 기존 값보다 클 때만 반영합니다.
+     * from, to는 기간 경계(주: 월요일, 월: 1일)에 맞춰 넘겨야 경계 기간이 잘려 집계되지 않는다.
+     */
+    public int rollupActiveUsers(StatisticsPeriod period, LocalDate from, LocalDate to) {
+        String sql = UPSERT_ACTIVE_USERS_SQL.formatted(periodStartExpression(period));
+        return namedParameterJdbcTemplate.update(sql, range(from, to).addValue("periodType", period.name()));
+    }
+
+    /**
+     * 마지막으로 집계한 날 (롤업이 비어 있으면 null)
+     */
+    public LocalDate findLastRollupDate() {
+        return namedParameterJdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT MAX(stat_date) FROM stats_daily_rollups", LocalDate.class);
+    }
+
+    /**
+     * 가장 이른 가입일/이벤트 생성일 (데이터가 없으면 null)
+     */
+    public LocalDate findFirstActivityDate() {
+        return namedParameterJdbcTemplate.getJdbcTemplate().queryForObject("""
+                SELECT DATE(MIN(first_date)) FROM (
+                    SELECT MIN(created_date) AS first_date FROM users
+                    UNION ALL
+                    SELECT MIN(created_date) FROM events
+                ) t
+                """, LocalDate.class);
+    }
+
+    private void resetDays(String sql, LocalDate from, LocalDate to) {
+        List<SqlParameterSource> days = new ArrayList<>();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            days.add(new MapSqlParameterSource("statDate", Date.valueOf(day)));
+        }
+        if (!days.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate(sql, days.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private MapSqlParameterSource range(LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+                .addValue("startDate", from.atStartOfDay())
+                .addValue("endDate", to.atStartOfDay());
+    }
+
+    private String periodStartExpression(StatisticsPeriod period) {
+        return switch (period) {
+            case DAY -> "DATE(rt.last_used_at)";
+            case WEEK -> "DATE(DATE_SUB(rt.last_used_at, INTERVAL WEEKDAY(rt.last_used_at) DAY))";
+            case MONTH -> "DATE(DATE_FORMAT(rt.last_used_at, '%Y-%m-01'))";
+        };
+    }
+}
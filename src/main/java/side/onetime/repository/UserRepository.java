@@ -1,12 +1,15 @@
 package side.onetime.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import side.onetime.domain.Event;
 import side.onetime.domain.User;
 import side.onetime.repository.custom.UserRepositoryCustom;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +20,7 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
 
     boolean existsByProviderId(String providerId);
 
-    void withdraw(User user);
+    List<Event> withdraw(User user);
 
     @Query("""
         SELECT DISTINCT u FROM User u
@@ -28,4 +31,25 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
         AND e = :event
     """)
     List<User> findAllWithSelectionsAndSchedulesByEventAndUserIds(@Param("event") Event event, @Param("userIds") List<Long> userIds);
+
+    /**
+     * 마지막 활동 시각 갱신 (저장된 값이 staleBefore보다 이전일 때만)
+     * 같은 유저의 잦은 활동은 조건에서 걸러져 쓰기가 생기지 않는다.
+     *
+     * @param userId      유저 ID
+     * @param activeAt    활동 시각
+     * @param staleBefore 이 시각 이후에 이미 기록되어 있으면 갱신하지 않음
+     * @return 업데이트된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE User u
+        SET u.lastActiveAt = :activeAt
+        WHERE u.id = :userId
+          AND u.lastActiveAt < :staleBefore
+    """)
+    int updateLastActiveAtIfStale(@Param("userId") Long userId,
+                                  @Param("activeAt") LocalDateTime activeAt,
+                                  @Param("staleBefore") LocalDateTime staleBefore);
 }
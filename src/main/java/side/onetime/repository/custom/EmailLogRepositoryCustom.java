@@ -5,13 +5,16 @@ import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 
-import side.onetime.domain.EmailLog;
+import side.onetime.dto.admin.email.response.EmailLogResponse;
 
 public interface EmailLogRepositoryCustom {
 
-    List<EmailLog> findAllWithFilters(Pageable pageable, String search,
-                                      LocalDateTime startDate, LocalDateTime endDate,
-                                      String status, String targetGroup);
+    /**
+     * 필터 조건에 맞는 이메일 로그 목록 (캠페인 본문 제외)
+     */
+    List<EmailLogResponse> findAllWithFilters(Pageable pageable, String search,
+                                              LocalDateTime startDate, LocalDateTime endDate,
+                                              String status, String targetGroup);
 
     long countWithFilters(String search, LocalDateTime startDate, LocalDateTime endDate,
                           String status, String targetGroup);
@@ -6,13 +6,15 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
-import side.onetime.domain.EmailLog;
+import side.onetime.domain.QEmailCampaign;
 import side.onetime.domain.QEmailLog;
 import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.dto.admin.email.response.EmailLogResponse;
 
 @Repository
 @RequiredArgsConstructor
@@ -20,12 +22,27 @@ public class EmailLogRepositoryImpl implements EmailLogRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
     private final QEmailLog emailLog = QEmailLog.emailLog;
+    private final QEmailCampaign emailCampaign = QEmailCampaign.emailCampaign;
 
     @Override
-    public List<EmailLog> findAllWithFilters(Pageable pageable, String search,
-                                              LocalDateTime startDate, LocalDateTime endDate,
-                                              String status, String targetGroup) {
-        JPAQuery<EmailLog> query = queryFactory.selectFrom(emailLog);
+    public List<EmailLogResponse> findAllWithFilters(Pageable pageable, String search,
+                                                      LocalDateTime startDate, LocalDateTime endDate,
+                                                      String status, String targetGroup) {
+        // 목록에서는 캠페인 본문(content)을 읽지 않도록 필요한 컬럼만 조회
+        JPAQuery<EmailLogResponse> query = queryFactory
+                .select(Projections.constructor(EmailLogResponse.class,
+                        emailLog.id,
+                        emailCampaign.id,
+                        emailLog.userId,
+                        emailLog.recipient,
+                        emailCampaign.subject,
+                        emailCampaign.contentType,
+                        emailLog.status,
+                        emailLog.errorMessage,
+                        emailCampaign.targetGroup,
+                        emailLog.sentAt))
+                .from(emailLog)
+                .join(emailLog.campaign, emailCampaign);
 
         applyFilters(query, search, startDate, endDate, status, targetGroup);
 
@@ -38,6 +55,9 @@ public class EmailLogRepositoryImpl implements EmailLogRepositoryCustom {
     public long countWithFilters(String search, LocalDateTime startDate, LocalDateTime endDate,
                                   String status, String targetGroup) {
         JPAQuery<Long> query = queryFactory.select(emailLog.count()).from(emailLog);
+        if (hasText(search) || hasText(targetGroup)) {
+            query.join(emailLog.campaign, emailCampaign);
+        }
 
         applyFilters(query, search, startDate, endDate, status, targetGroup);
 
@@ -49,11 +69,11 @@ public class EmailLogRepositoryImpl implements EmailLogRepositoryCustom {
                                LocalDateTime startDate, LocalDateTime endDate,
                                String status, String targetGroup) {
         // 검색 (수신자 OR 제목)
-        if (search != null && !search.trim().isEmpty()) {
+        if (hasText(search)) {
             String searchTerm = search.trim();
             query.where(
                     emailLog.recipient.containsIgnoreCase(searchTerm)
-                            .or(emailLog.subject.containsIgnoreCase(searchTerm))
+                            .or(emailCampaign.subject.containsIgnoreCase(searchTerm))
             );
         }
 
@@ -76,8 +96,12 @@ public class EmailLogRepositoryImpl implements EmailLogRepositoryCustom {
         }
 
         // 타겟 그룹 필터
-        if (targetGroup != null && !targetGroup.isBlank()) {
-            query.where(emailLog.targetGroup.eq(targetGroup));
+        if (hasText(targetGroup)) {
+            query.where(emailCampaign.targetGroup.eq(targetGroup));
         }
     }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
 }
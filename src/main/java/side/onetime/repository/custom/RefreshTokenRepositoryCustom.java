@@ -1,6 +1,7 @@
 package side.onetime.repository.custom;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RefreshTokenRepositoryCustom {
 
@@ -43,4 +44,42 @@ public interface RefreshTokenRepositoryCustom {
      * @return 삭제된 토큰 수
      */
     int hardDeleteOldInactiveTokens(LocalDateTime threshold);
+
+    /**
+     * 만료된 ACTIVE 토큰 ID를 키셋 페이지네이션으로 조회 (청크 단위 정리용)
+     *
+     * @param now    현재 시각
+     * @param lastId 이전 청크의 마지막 ID (이 ID 초과부터 조회)
+     * @param limit  청크 크기
+     * @return ID 오름차순 토큰 ID 목록
+     */
+    List<Long> findExpiredActiveTokenIds(LocalDateTime now, Long lastId, int limit);
+
+    /**
+     * 지정한 ID 중 여전히 만료된 ACTIVE 상태인 토큰만 EXPIRED로 변경
+     *
+     * @param ids 대상 토큰 ID 목록
+     * @param now 현재 시각
+     * @return 변경된 토큰 수
+     */
+    int expireTokensByIds(List<Long> ids, LocalDateTime now);
+
+    /**
+     * 오래된 비활성 토큰 ID를 키셋 페이지네이션으로 조회 (청크 단위 삭제용)
+     *
+     * @param threshold 기준 시각 (이 시각 이전에 수정된 토큰 대상)
+     * @param lastId    이전 청크의 마지막 ID (이 ID 초과부터 조회)
+     * @param limit     청크 크기
+     * @return ID 오름차순 토큰 ID 목록
+     */
+    List<Long> findOldInactiveTokenIds(LocalDateTime threshold, Long lastId, int limit);
+
+    /**
+     * 지정한 ID 중 여전히 삭제 조건을 만족하는 비활성 토큰만 삭제 (Hard Delete)
+     *
+     * @param ids       대상 토큰 ID 목록
+     * @param threshold 기준 시각
+     * @return 삭제된 토큰 수
+     */
+    int hardDeleteByIds(List<Long> ids, LocalDateTime threshold);
 }
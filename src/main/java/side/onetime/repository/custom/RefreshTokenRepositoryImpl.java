@@ -3,6 +3,7 @@ package side.onetime.repository.custom;
 import static side.onetime.domain.QRefreshToken.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.transaction.annotation.Transactional;
 
@@ -71,4 +72,57 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepositoryCustom
                         .and(refreshToken.updatedDate.lt(threshold)))
                 .execute();
     }
+
+    @Override
+    public List<Long> findExpiredActiveTokenIds(LocalDateTime now, Long lastId, int limit) {
+        return queryFactory.select(refreshToken.id)
+                .from(refreshToken)
+                .where(refreshToken.id.gt(lastId)
+                        .and(refreshToken.status.eq(TokenStatus.ACTIVE))
+                        .and(refreshToken.expiryAt.lt(now)))
+                .orderBy(refreshToken.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @Transactional
+    public int expireTokensByIds(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // 조회 이후 rotate/revoke된 토큰은 건드리지 않도록 상태 조건을 다시 건다
+        return (int) queryFactory.update(refreshToken)
+                .set(refreshToken.status, TokenStatus.EXPIRED)
+                .set(refreshToken.updatedDate, now)
+                .where(refreshToken.id.in(ids)
+                        .and(refreshToken.status.eq(TokenStatus.ACTIVE))
+                        .and(refreshToken.expiryAt.lt(now)))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findOldInactiveTokenIds(LocalDateTime threshold, Long lastId, int limit) {
+        return queryFactory.select(refreshToken.id)
+                .from(refreshToken)
+                .where(refreshToken.id.gt(lastId)
+                        .and(refreshToken.status.in(TokenStatus.REVOKED, TokenStatus.EXPIRED, TokenStatus.ROTATED))
+                        .and(refreshToken.updatedDate.lt(threshold)))
+                .orderBy(refreshToken.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @Transactional
+    public int hardDeleteByIds(List<Long> ids, LocalDateTime threshold) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return (int) queryFactory.delete(refreshToken)
+                .where(refreshToken.id.in(ids)
+                        .and(refreshToken.status.in(TokenStatus.REVOKED, TokenStatus.EXPIRED, TokenStatus.ROTATED))
+                        .and(refreshToken.updatedDate.lt(threshold)))
+                .execute();
+    }
 }
@@ -57,21 +57,17 @@ public class StatisticsRepositoryImpl implements StatisticsRepositoryCustom {
                                                                    LocalDateTime startDate, LocalDateTime endDate) {
         StringBuilder sql = new StringBuilder();
         sql.append("SELECT ").append(USER_SELECT_COLUMNS);
-        sql.append(", COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date) AS last_login");
-        sql.append(", DATEDIFF(NOW(), COALESCE(MAX(COALESCE(rt.last_used_at, rt.issued_at)), u.created_date)) AS days_inactive");
+        sql.append(", u.last_active_at AS last_login");
+        sql.append(", DATEDIFF(NOW(), u.last_active_at) AS days_inactive");
         sql.append(" FROM users u");
-        sql.append(" LEFT JOIN refresh_token rt ON u.users_id = rt.users_id AND rt.user_type = 'USER'");
         sql.append(" WHERE u.status = 'ACTIVE'");
+        sql.append(" AND u.last_active_at < DATE_SUB(CURDATE(), INTERVAL (:days - 1) DAY)");
         sql.append(" AND u.created_date >= :startDate AND u.created_date < :endDate");
 
         if (search != null && !search.isBlank()) {
             sql.append(" AND (u.name LIKE :search OR u.email LIKE :search OR u.nickname LIKE :search)");
         }
 
-        sql.append(" GROUP BY u.users_id, u.email, u.name, u.nickname, u.provider, u.provider_id,");
-        sql.append(" u.service_policy_agreement, u.privacy_policy_agreement, u.marketing_policy_agreement,");
-        sql.append(" u.sleep_start_time, u.sleep_end_time, u.language, u.created_date, u.updated_date");
-        sql.append(" HAVING days_inactive >= :days");
         sql.append(" ORDER BY ").append(getSortClause(sort, "u", SortContext.USER));
 
         Query query = entityManager.createNativeQuery(sql.toString());
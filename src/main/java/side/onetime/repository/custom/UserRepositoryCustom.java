@@ -1,6 +1,7 @@
 package side.onetime.repository.custom;
 
 import org.springframework.data.domain.Pageable;
+import side.onetime.domain.Event;
 import side.onetime.domain.User;
 
 import java.time.LocalDateTime;
@@ -8,7 +9,7 @@ import java.util.List;
 
 public interface UserRepositoryCustom {
 
-    void withdraw(User user);
+    List<Event> withdraw(User user);
 
     List<User> findAllWithSort(Pageable pageable, String keyword, String sorting);
 
@@ -13,16 +13,19 @@ import static side.onetime.domain.QUser.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Pageable;
 
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import side.onetime.domain.Event;
 import side.onetime.domain.User;
 import side.onetime.domain.enums.EventStatus;
 import side.onetime.domain.enums.Language;
@@ -31,12 +34,16 @@ import side.onetime.domain.enums.Status;
 import side.onetime.domain.enums.TokenStatus;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.AdminErrorStatus;
+import side.onetime.global.config.search.NgramMatchFunctionContributor;
+import side.onetime.global.config.search.UserSearchIndex;
 import side.onetime.util.NamingUtil;
 
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    // 리포지토리 슬라이스 테스트처럼 검색 인덱스 빈이 없으면 LIKE 검색
+    private final ObjectProvider<UserSearchIndex> userSearchIndexProvider;
 
     /**
      * 유저 서비스 탈퇴 메서드.
@@ -50,9 +57,10 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
      * 3. 최종적으로 User: status를 DELETED로, providerId를 null로 업데이트
      *
      * @param activeUser 탈퇴할 유저
+     * @return 삭제된(유저가 생성한) 이벤트 목록 (QR 이미지 정리용)
      */
     @Override
-    public void withdraw(User activeUser) {
+    public List<Event> withdraw(User activeUser) {
         // 유저가 생성한 이벤트 ID 리스트 조회
         List<Long> eventIds = queryFactory
                 .select(eventParticipation.event.id)
@@ -64,8 +72,13 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                 )
                 .fetch();
         LocalDateTime deletedTime = LocalDateTime.now();
+        List<Event> createdEvents = List.of();
 
         if (!eventIds.isEmpty()) {
+            createdEvents = queryFactory.selectFrom(event)
+                    .where(event.id.in(eventIds))
+                    .fetch();
+
             queryFactory.delete(selection)
                     .where(selection.schedule.event.id.in(eventIds))
                     .execute();
@@ -119,6 +132,8 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                 .set(user.deletedAt, deletedTime)
                 .where(user.eq(activeUser))
                 .execute();
+
+        return createdEvents;
     }
 
     /**
@@ -184,12 +199,7 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 
         // 검색 조건 (이름, 이메일, 닉네임)
         if (search != null && !search.trim().isEmpty()) {
-            String searchTerm = search.trim();
-            query.where(
-                    user.name.containsIgnoreCase(searchTerm)
-                            .or(user.email.containsIgnoreCase(searchTerm))
-                            .or(user.nickname.containsIgnoreCase(searchTerm))
-            );
+            query.where(searchCondition(search.trim()));
         }
 
         // 기간 필터 (가입일 기준)
@@ -225,12 +235,7 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
                 .where(user.status.eq(Status.ACTIVE));
 
         if (search != null && !search.trim().isEmpty()) {
-            String searchTerm = search.trim();
-            query.where(
-                    user.name.containsIgnoreCase(searchTerm)
-                            .or(user.email.containsIgnoreCase(searchTerm))
-                            .or(user.nickname.containsIgnoreCase(searchTerm))
-            );
+            query.where(searchCondition(search.trim()));
         }
         if (startDate != null) {
             query.where(user.createdDate.goe(startDate));
@@ -242,4 +247,26 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
         Long count = query.fetchOne();
         return count != null ? count : 0;
     }
+
+    /**
+     * 이름/이메일/닉네임 검색 조건
+     * 검색 인덱스(ft_users_search)가 있으면 MATCH로 후보를 찾은 뒤 부분 일치를 다시 확인하고,
+     * 검색어가 ngram 토큰보다 짧으면 앞부분 일치, 인덱스가 없으면 부분 일치(LIKE '%검색어%')로 찾는다.
+     */
+    private BooleanExpression searchCondition(String term) {
+        BooleanExpression contains = user.name.containsIgnoreCase(term)
+                .or(user.email.containsIgnoreCase(term))
+                .or(user.nickname.containsIgnoreCase(term));
+
+        UserSearchIndex userSearchIndex = userSearchIndexProvider.getIfAvailable();
+        UserSearchIndex.Mode mode = userSearchIndex != null ? userSearchIndex.modeFor(term) : UserSearchIndex.Mode.SCAN;
+        return switch (mode) {
+            case FULL_TEXT -> Expressions.numberTemplate(Double.class,
+                            "function('" + NgramMatchFunctionContributor.NGRAM_MATCH + "', {0}, {1}, {2}, {3})",
+                            user.name, user.email, user.nickname, UserSearchIndex.phrase(term))
+                    .gt(0)
+                    .and(contains);
+            case SCAN -> contains;
+        };
+    }
 }
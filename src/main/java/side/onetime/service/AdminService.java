@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import side.onetime.auth.service.AdminIdentityResolver;
 import side.onetime.domain.AdminUser;
 import side.onetime.domain.Event;
 import side.onetime.domain.RefreshToken;
@@ -50,6 +51,7 @@ import side.onetime.util.JwtUtil;
 public class AdminService {
 
     private final AdminRepository adminRepository;
+    private final AdminIdentityResolver adminIdentityResolver;
     private final EventRepository eventRepository;
     private final EventParticipationRepository eventParticipationRepository;
     private final ScheduleRepository scheduleRepository;
@@ -136,8 +138,7 @@ public class AdminService {
     @Transactional(readOnly = true)
     public GetAdminUserProfileResponse getAdminUserProfile() {
 
-        AdminUser adminUser = adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        AdminUser adminUser = adminIdentityResolver.getLoginAdmin();
         return GetAdminUserProfileResponse.from(adminUser);
     }
 
@@ -155,8 +156,7 @@ public class AdminService {
     @Transactional(readOnly = true)
     public List<AdminUserDetailResponse> getAllAdminUserDetail() {
 
-        AdminUser adminUser = adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        AdminUser adminUser = adminIdentityResolver.getLoginAdmin();
         if (!AdminStatus.MASTER.equals(adminUser.getAdminStatus())) {
             throw new CustomException(AdminErrorStatus._ONLY_CAN_MASTER_ADMIN_USER);
         }
@@ -180,8 +180,7 @@ public class AdminService {
     @Transactional
     public void updateAdminUserStatus(UpdateAdminUserStatusRequest request) {
 
-        AdminUser adminUser = adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        AdminUser adminUser = adminIdentityResolver.getLoginAdmin();
         if (!AdminStatus.MASTER.equals(adminUser.getAdminStatus())) {
             throw new CustomException(AdminErrorStatus._ONLY_CAN_MASTER_ADMIN_USER);
         }
@@ -189,6 +188,7 @@ public class AdminService {
         AdminUser targetAdminUser = adminRepository.findById(request.id())
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
         targetAdminUser.updateAdminStatus(request.adminStatus());
+        adminIdentityResolver.evict(targetAdminUser.getId());
     }
 
     /**
@@ -203,6 +203,7 @@ public class AdminService {
         AdminUser adminUser = adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
         adminRepository.delete(adminUser);
+        adminIdentityResolver.evict(adminUser.getId());
     }
 
     /**
@@ -234,8 +235,7 @@ public class AdminService {
     public GetAllDashboardEventsResponse getAllDashboardEvents(Pageable pageable, String keyword, String sorting,
                                                                 String search, LocalDate startDate, LocalDate endDate,
                                                                 Integer hour, Integer dayOfWeek) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
@@ -299,8 +299,7 @@ public class AdminService {
     @Transactional(readOnly = true)
     public GetAllDashboardUsersResponse getAllDashboardUsers(Pageable pageable, String keyword, String sorting,
                                                               String search, LocalDate startDate, LocalDate endDate) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
@@ -5,11 +5,13 @@ import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import side.onetime.auth.service.AdminIdentityResolver;
 import side.onetime.domain.Banner;
 import side.onetime.domain.BannerStaging;
 import side.onetime.dto.admin.response.PageInfo;
@@ -22,10 +24,9 @@ import side.onetime.dto.banner.response.GetBannerResponse;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.AdminErrorStatus;
 import side.onetime.global.config.sync.BannerSyncProperties;
-import side.onetime.repository.AdminRepository;
 import side.onetime.repository.BannerRepository;
 import side.onetime.repository.BannerStagingRepository;
-import side.onetime.util.AdminAuthorizationUtil;
+import side.onetime.util.S3AsyncUploader;
 import side.onetime.util.S3Util;
 
 @Slf4j
@@ -34,10 +35,12 @@ import side.onetime.util.S3Util;
 public class BannerService {
 
     private final BannerRepository bannerRepository;
-    private final AdminRepository adminRepository;
+    private final AdminIdentityResolver adminIdentityResolver;
     private final BannerStagingRepository bannerStagingRepository;
     private final RestClient bannerClient;
     private final S3Util s3Util;
+    private final S3AsyncUploader s3AsyncUploader;
+    private final TransactionTemplate transactionTemplate;
 	private final BannerSyncProperties bannerSyncProperties;
 
     /**
@@ -46,17 +49,24 @@ public class BannerService {
      * 요청 정보를 바탕으로 배너를 등록합니다.
      * 기본적으로 비활성화 및 삭제되지 않은 상태로 저장됩니다.
      *
+     * 이미지 업로드 동안 DB 트랜잭션을 잡지 않도록, 업로드가 끝난 뒤 배너를 저장합니다.
+     * 저장에 실패하면 업로드한 이미지를 삭제합니다.
+     *
      * @param request 배너 등록 요청 객체
      * @param imageFile 배너 등록 이미지 객체
      */
-    @Transactional
     public void registerBanner(RegisterBannerRequest request, MultipartFile imageFile) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
-        Banner newBanner = bannerRepository.save(request.toEntity());
+        adminIdentityResolver.getLoginAdmin();
+        String imageUrl = uploadBannerImage("banner", imageFile);
 
-        String imageUrl = uploadBannerImage(newBanner.getId(), imageFile);
-        newBanner.updateImageUrl(imageUrl);
+        try {
+            Banner newBanner = request.toEntity();
+            newBanner.updateImageUrl(imageUrl);
+            bannerRepository.save(newBanner);
+        } catch (RuntimeException e) {
+            deleteExistingBannerImage(imageUrl);
+            throw e;
+        }
     }
 
     /**
@@ -70,8 +80,7 @@ public class BannerService {
      */
     @Transactional(readOnly = true)
     public GetBannerResponse getBanner(Long id) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
         Banner banner = bannerRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_BANNER));
         return GetBannerResponse.from(banner);
@@ -86,8 +95,7 @@ public class BannerService {
      */
     @Transactional(readOnly = true)
     public GetAllBannersResponse getAllBanners(Pageable pageable) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 
         List<GetBannerResponse> banners = bannerRepository.findAllByIsDeletedFalseOrderByCreatedDateDesc(pageable).stream()
                 .map(GetBannerResponse::from)
@@ -128,16 +136,46 @@ public class BannerService {
      * 삭제되지 않은 배너를 ID 기준으로 조회합니다.
      * 요청 객체에서 null이 아닌 필드만 선택적으로 수정합니다.
      *
+     * 새 이미지는 트랜잭션 밖에서 먼저 업로드하고, 업로드가 끝난 뒤 짧은 트랜잭션으로 DB를 수정합니다.
+     * 기존 이미지는 수정이 커밋된 뒤 삭제합니다.
+     *
      * @param id 수정할 배너 ID
      * @param request 수정 요청 객체
      * @param imageFile 배너 수정 이미지 객체
      */
-    @Transactional
     public void updateBanner(Long id, UpdateBannerRequest request, MultipartFile imageFile) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
+        if (!bannerRepository.existsByIdAndIsDeletedFalse(id)) {
+            throw new CustomException(AdminErrorStatus._NOT_FOUND_BANNER);
+        }
+
+        String newImageUrl = imageFile != null ? uploadBannerImage("banner/" + id, imageFile) : null;
+
+        String replacedImageUrl;
+        try {
+            replacedImageUrl = transactionTemplate.execute(status -> applyBannerUpdate(id, request, newImageUrl));
+        } catch (RuntimeException e) {
+            deleteExistingBannerImage(newImageUrl);
+            throw e;
+        }
+
+        if (newImageUrl != null) {
+            deleteExistingBannerImage(replacedImageUrl);
+        }
+    }
+
+    /**
+     * 배너 수정 내용을 반영하는 메서드. (트랜잭션 안에서 호출)
+     *
+     * @param id 수정할 배너 ID
+     * @param request 수정 요청 객체
+     * @param newImageUrl 업로드된 새 이미지 URL (이미지 변경이 없으면 null)
+     * @return 교체되기 전 이미지 URL
+     */
+    private String applyBannerUpdate(Long id, UpdateBannerRequest request, String newImageUrl) {
         Banner banner = bannerRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_BANNER));
+        String previousImageUrl = banner.getImageUrl();
 
         if (request.organization() != null) banner.updateOrganization(request.organization());
         if (request.title() != null) banner.updateTitle(request.title());
@@ -146,13 +184,9 @@ public class BannerService {
         if (request.colorCode() != null) banner.updateColorCode(request.colorCode());
         if (request.linkUrl() != null) banner.updateLinkUrl(request.linkUrl());
         if (request.isActivated() != null) banner.updateIsActivated(request.isActivated());
+        if (newImageUrl != null) banner.updateImageUrl(newImageUrl);
 
-        if (imageFile != null) {
-            deleteExistingBannerImage(banner.getImageUrl());
-
-            String newImageUrl = uploadBannerImage(banner.getId(), imageFile);
-            banner.updateImageUrl(newImageUrl);
-        }
+        return previousImageUrl;
     }
 
     /**
@@ -165,8 +199,7 @@ public class BannerService {
      */
     @Transactional
     public void deleteBanner(Long id) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
         Banner banner = bannerRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_BANNER));
         banner.markAsDeleted();
@@ -196,8 +229,7 @@ public class BannerService {
      */
     @Transactional(readOnly = true)
     public void exportBanners() {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 		
 		if (!bannerSyncProperties.canExport()) {
 			throw new CustomException(AdminErrorStatus._SYNC_DISABLED_ENVIRONMENT);
@@ -231,8 +263,7 @@ public class BannerService {
      */
     @Transactional
     public void importBanners() {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 
         List<BannerStaging> bannerStagings = bannerStagingRepository.findAll();
         List<Long> bannerStagingIds = bannerStagings.stream()
@@ -312,18 +343,19 @@ public class BannerService {
 
     /**
      * S3에 배너 이미지를 업로드하는 메서드.
-     * 주어진 이벤트 ID를 기반으로 QR 코드를 생성한 후, S3에 업로드합니다.
+     * 비동기 S3 클라이언트로 스트리밍 업로드하며(큰 파일은 multipart), 완료될 때까지 기다립니다.
      *
-     * @param bannerId 업로드할 배너의 ID
+     * @param directoryName 업로드할 디렉토리명
      * @param imageFile 업로드할 이미지 파일
      * @return S3에 업로드된 이미지 Public URL
      * @throws CustomException S3 업로드 실패 시 발생
      */
-    private String uploadBannerImage(Long bannerId, MultipartFile imageFile) {
+    private String uploadBannerImage(String directoryName, MultipartFile imageFile) {
         try {
-            String imageFileName = s3Util.uploadImage("banner/" + bannerId, imageFile);
+            String imageFileName = s3AsyncUploader.upload(directoryName, imageFile);
             return s3Util.getPublicUrl(imageFileName);
         } catch (Exception e) {
+            log.error("❌ 배너 이미지 업로드 실패 - directory: {}", directoryName, e);
             throw new CustomException(AdminErrorStatus._FAILED_UPLOAD_BANNER_IMAGE);
         }
     }
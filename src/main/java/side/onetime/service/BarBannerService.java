@@ -9,6 +9,7 @@ import org.springframework.web.client.RestClient;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import side.onetime.auth.service.AdminIdentityResolver;
 import side.onetime.domain.BarBanner;
 import side.onetime.domain.BarBannerStaging;
 import side.onetime.dto.admin.response.PageInfo;
@@ -21,10 +22,8 @@ import side.onetime.dto.barbanner.response.GetBarBannerResponse;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.AdminErrorStatus;
 import side.onetime.global.config.sync.BannerSyncProperties;
-import side.onetime.repository.AdminRepository;
 import side.onetime.repository.BarBannerRepository;
 import side.onetime.repository.BarBannerStagingRepository;
-import side.onetime.util.AdminAuthorizationUtil;
 
 @Slf4j
 @Service
@@ -32,7 +31,7 @@ import side.onetime.util.AdminAuthorizationUtil;
 public class BarBannerService {
 	
     private final BarBannerRepository barBannerRepository;
-    private final AdminRepository adminRepository;
+    private final AdminIdentityResolver adminIdentityResolver;
     private final BarBannerStagingRepository barBannerStagingRepository;
     private final RestClient bannerClient;
 	private final BannerSyncProperties bannerSyncProperties;
@@ -47,8 +46,7 @@ public class BarBannerService {
      */
     @Transactional
     public void registerBarBanner(RegisterBarBannerRequest request) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
         BarBanner newBarBanner = request.toEntity();
         barBannerRepository.save(newBarBanner);
     }
@@ -64,8 +62,7 @@ public class BarBannerService {
      */
     @Transactional(readOnly = true)
     public GetBarBannerResponse getBarBanner(Long id) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
         BarBanner barBanner = barBannerRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_BAR_BANNER));
         return GetBarBannerResponse.from(barBanner);
@@ -80,8 +77,7 @@ public class BarBannerService {
      */
     @Transactional(readOnly = true)
     public GetAllBarBannersResponse getAllBarBanners(Pageable pageable) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 
         List<GetBarBannerResponse> barBanners = barBannerRepository.findAllByIsDeletedFalseOrderByCreatedDateDesc(pageable).stream()
                 .map(GetBarBannerResponse::from)
@@ -127,8 +123,7 @@ public class BarBannerService {
      */
     @Transactional
     public void updateBarBanner(Long id, UpdateBarBannerRequest request) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
         BarBanner barBanner = barBannerRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_BAR_BANNER));
 
@@ -150,8 +145,7 @@ public class BarBannerService {
      */
     @Transactional
     public void deleteBarBanner(Long id) {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
         BarBanner barBanner = barBannerRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_BAR_BANNER));
         barBanner.markAsDeleted();
@@ -166,8 +160,7 @@ public class BarBannerService {
      */
     @Transactional(readOnly = true)
     public void exportBarBanners() {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 		
 		if (!bannerSyncProperties.canExport()) {
 			throw new CustomException(AdminErrorStatus._SYNC_DISABLED_ENVIRONMENT);
@@ -201,8 +194,7 @@ public class BarBannerService {
      */
     @Transactional
     public void importBarBanners() {
-        adminRepository.findById(AdminAuthorizationUtil.getLoginAdminId())
-                .orElseThrow(() -> new CustomException(AdminErrorStatus._NOT_FOUND_ADMIN_USER));
+        adminIdentityResolver.getLoginAdmin();
 
         List<BarBannerStaging> barBannerStagings = barBannerStagingRepository.findAll();
         List<Long> barBannerStagingIds = barBannerStagings.stream()
@@ -0,0 +1,106 @@
+package side.onetime.service;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.enums.CohortType;
+import side.onetime.repository.CohortRetentionBatchRepository;
+
+/**
+ * 코호트 리텐션 집계 스케줄러 (기본 매시 10분)
+ *
+ * 코호트 기준마다 마지막으로 고정한 기간 다음부터 현재 기간까지 집계한다.
+ * - 끝난 기간: 마지막으로 한 번 집계하고 고정한다. 이후에는 다시 읽지 않는다.
+ * - 현재 기간: 실행할 때마다 다시 집계한다.
+ * 고정한 기간이 없으면 첫 가입일부터 백필한다. 기간마다 짧은 트랜잭션으로 커밋하므로, 중간에 실패해도 다음 실행이 이어서 집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CohortRetentionScheduler {
+
+    private static final String METRIC_PREFIX = "statistics.cohort";
+
+    private final CohortRetentionBatchRepository cohortRetentionBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${statistics.cohort.max-periods:12}")
+    private int maxPeriods;
+
+    /**
+     * 모든 코호트 기준의 열린 기간 집계
+     */
+    @Scheduled(cron = "${statistics.cohort.cron:0 10 * * * *}")
+    public void refresh() {
+        LocalDate today = LocalDate.now();
+        for (CohortType cohortType : CohortType.values()) {
+            refresh(cohortType, today);
+        }
+    }
+
+    void refresh(CohortType cohortType, LocalDate today) {
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        LocalDate from = null;
+        LocalDate current = cohortType.periodStart(today);
+        int periods = 0;
+        try {
+            from = resolveStart(cohortType);
+            for (LocalDate period = from; period != null && !period.isAfter(current);
+                 period = cohortType.plusPeriods(period, 1)) {
+                upsertPeriod(cohortType, period, period.isBefore(current));
+                periods++;
+            }
+            completed = true;
+        } catch (RuntimeException e) {
+            // 고정된 기간은 남으므로 다음 실행에서 이어서 집계된다
+            log.error("[Cohort Retention] 집계 중단", kv("alert", "cohort_retention_failed"),
+                    kv("cohort_type", cohortType), kv("from", from), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Timer.builder(METRIC_PREFIX + ".duration")
+                    .tag("cohort_type", cohortType.name())
+                    .tag("completed", String.valueOf(completed))
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("[Cohort Retention] 집계 종료", kv("cohort_type", cohortType), kv("from", from),
+                    kv("periods", periods), kv("completed", completed),
+                    kv("duration_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        }
+    }
+
+    /**
+     * 집계 시작 기간
+     *
+     * @return 마지막 고정 기간의 다음 기간, 고정된 기간이 없으면 첫 가입일의 기간, 유저가 없으면 null
+     */
+    LocalDate resolveStart(CohortType cohortType) {
+        LocalDate lastFinalized = cohortRetentionBatchRepository.findLastFinalizedPeriod(cohortType);
+        if (lastFinalized != null) {
+            return cohortType.plusPeriods(lastFinalized, 1);
+        }
+        LocalDate firstSignupDate = cohortRetentionBatchRepository.findFirstSignupDate();
+        return firstSignupDate != null ? cohortType.periodStart(firstSignupDate) : null;
+    }
+
+    /**
+     * 활동 기간 하나를 한 트랜잭션으로 집계합니다. M0부터 max-periods 안의 코호트만 포함합니다.
+     */
+    void upsertPeriod(CohortType cohortType, LocalDate period, boolean finalized) {
+        LocalDate cohortFrom = cohortType.plusPeriods(period, -(maxPeriods - 1L));
+        transactionTemplate.executeWithoutResult(status ->
+                cohortRetentionBatchRepository.upsertPeriod(cohortType, period, cohortFrom, finalized));
+    }
+}
@@ -0,0 +1,186 @@
+package side.onetime.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.dto.admin.email.request.EmailDeliveryReportRequest;
+import side.onetime.dto.admin.email.response.EmailDeliveryReportResponse;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EmailErrorStatus;
+import side.onetime.repository.EmailLogBatchRepository;
+import side.onetime.repository.EmailStatusDailyCountRepository;
+
+/**
+ * 이메일 발송 결과 수집 서비스
+ *
+ * 배치 서버가 보낸 결과를 1000건씩 나누어, chunk마다 한 트랜잭션에서 아래를 수행한다.
+ * 1. 대상 로그를 ID 오름차순으로 잠그고 현재 상태 조회 (SELECT ... FOR UPDATE)
+ * 2. 현재보다 뒤 단계인 결과만 UPDATE ... CASE 한 문장으로 반영 (SENT/FAILED면 sent_at을 실제 발송 시각으로 바꿈)
+ * 3. 반영한 건수만큼 일자별 상태 카운터 증가, FAILED였던 로그가 재전달로 바뀌면 그 실패 카운터는 감소
+ *
+ * 발송 전(QUEUED/FAILED) 로그가 SENT를 건너뛰고 바로 DELIVERED 등이 되어도 SENT를 거친 것으로 보고,
+ * SENT 카운터를 함께 올리고 sent_at을 발송 시각으로 바꾼다.
+ *
+ * 이미 반영된 결과는 상태가 바뀌지 않으므로 같은 요청을 재전송해도 로그와 카운터가 그대로다. (멱등)
+ * 중간 chunk에서 실패하면 앞 chunk는 커밋되어 있으므로, 배치 서버는 같은 요청을 그대로 재전송하면 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailDeliveryStatusService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final Comparator<CounterKey> COUNTER_ORDER = Comparator
+            .comparing(CounterKey::statDate)
+            .thenComparing(key -> key.status().name());
+
+    private final EmailLogBatchRepository emailLogBatchRepository;
+    private final EmailStatusDailyCountRepository emailStatusDailyCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${email.delivery.api-key:}")
+    private String apiKey;
+
+    /**
+     * 발송 결과를 이메일 로그에 반영합니다.
+     *
+     * @param requestApiKey 배치 서버 인증 키 (X-API-KEY)
+     * @param request       발송 결과 목록
+     * @return 받은/반영/무시 건수
+     */
+    public EmailDeliveryReportResponse report(String requestApiKey, EmailDeliveryReportRequest request) {
+        verifyApiKey(requestApiKey);
+
+        List<LogResult> results = latestPerLog(request.results());
+        int applied = 0;
+        for (int from = 0; from < results.size(); from += CHUNK_SIZE) {
+            List<LogResult> chunk =
+                    results.subList(from, Math.min(from + CHUNK_SIZE, results.size()));
+            Integer chunkApplied = transactionTemplate.execute(status -> applyChunk(chunk));
+            applied += chunkApplied != null ? chunkApplied : 0;
+        }
+
+        EmailDeliveryReportResponse response = EmailDeliveryReportResponse.of(request.results().size(), applied);
+        meterRegistry.counter("email.delivery.results", "result", "applied").increment(response.applied());
+        meterRegistry.counter("email.delivery.results", "result", "ignored").increment(response.ignored());
+        log.info("[EmailDelivery] 발송 결과 반영 - received={}, applied={}, ignored={}",
+                response.received(), response.applied(), response.ignored());
+        return response;
+    }
+
+    /**
+     * chunk 하나를 반영합니다. (호출한 쪽의 트랜잭션 안에서 실행)
+     *
+     * @param chunk 로그 ID 오름차순, ID 중복 없음
+     * @return 상태를 바꾼 로그 수
+     */
+    int applyChunk(List<LogResult> chunk) {
+        List<Long> ids = chunk.stream().map(logResult -> logResult.latest().emailLogId()).toList();
+        Map<Long, EmailLogBatchRepository.CurrentStatus> currentStatuses = emailLogBatchRepository.lockStatuses(ids);
+
+        List<EmailLogBatchRepository.StatusUpdate> updates = new ArrayList<>();
+        Map<CounterKey, Long> counterDeltas = new TreeMap<>(COUNTER_ORDER);
+        LocalDateTime receivedAt = LocalDateTime.now();
+
+        for (LogResult logResult : chunk) {
+            EmailDeliveryReportRequest.Result result = logResult.latest();
+            EmailLogBatchRepository.CurrentStatus current = currentStatuses.get(result.emailLogId());
+            if (current == null || !result.status().supersedes(current.status())) {
+                continue;
+            }
+            LocalDateTime occurredAt = occurredAt(result, receivedAt);
+            // 발송 전 로그가 SENT를 건너뛰었으면 SENT도 거친 것으로 본다
+            boolean skipsSent = result.status() != EmailLogStatus.SENT
+                    && result.status().isSentOrLater() && !current.status().isSentOrLater();
+            LocalDateTime sentAt = null;
+            if (result.status().isSendResult()) {
+                sentAt = occurredAt;
+            } else if (skipsSent) {
+                // 같은 요청의 SENT 결과가 있으면 그 시각, 없으면 이후 단계의 시각을 발송 시각으로 쓴다
+                sentAt = logResult.sent() != null ? occurredAt(logResult.sent(), receivedAt) : occurredAt;
+            }
+            // sent_at은 발송 시도 결과만 바꾼다. 이미 발송된 로그를 이후 단계(DELIVERED 등)의 시각으로 덮어쓰지 않는다
+            updates.add(new EmailLogBatchRepository.StatusUpdate(result.emailLogId(), result.status(),
+                    sentAt, result.errorMessage(), current.status() == EmailLogStatus.FAILED));
+
+            counterDeltas.merge(new CounterKey(occurredAt.toLocalDate(), result.status()), 1L, Long::sum);
+            if (skipsSent) {
+                counterDeltas.merge(new CounterKey(sentAt.toLocalDate(), EmailLogStatus.SENT), 1L, Long::sum);
+            }
+            if (current.status() == EmailLogStatus.FAILED) {
+                // 실패 카운터는 실패를 반영할 때 sent_at 날짜로 올렸다
+                counterDeltas.merge(new CounterKey(current.sentAt().toLocalDate(), EmailLogStatus.FAILED), -1L, Long::sum);
+            }
+        }
+
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        emailLogBatchRepository.updateStatuses(updates);
+        counterDeltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                emailStatusDailyCountRepository.increment(key.statDate(), key.status().name(), delta);
+            }
+        });
+        return updates.size();
+    }
+
+    private void verifyApiKey(String requestApiKey) {
+        if (!StringUtils.hasText(apiKey) || requestApiKey == null
+                || !MessageDigest.isEqual(apiKey.getBytes(StandardCharsets.UTF_8),
+                        requestApiKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(EmailErrorStatus._EMAIL_DELIVERY_API_KEY_INVALID);
+        }
+    }
+
+    /**
+     * 같은 로그의 결과가 여러 건이면 가장 뒤 단계만 남기고, 잠금 순서를 맞추기 위해 로그 ID 오름차순으로 정렬한다.
+     * 함께 온 SENT 결과는 발송 시각을 정하는 데 쓰도록 따로 남긴다.
+     */
+    private List<LogResult> latestPerLog(List<EmailDeliveryReportRequest.Result> results) {
+        Map<Long, LogResult> latest = new LinkedHashMap<>();
+        for (EmailDeliveryReportRequest.Result result : results) {
+            LogResult logResult = new LogResult(result, result.status() == EmailLogStatus.SENT ? result : null);
+            latest.merge(result.emailLogId(), logResult, (previous, next) -> new LogResult(
+                    previous.latest().status().supersedes(next.latest().status()) ? previous.latest() : next.latest(),
+                    next.sent() != null ? next.sent() : previous.sent()));
+        }
+        return latest.values().stream()
+                .sorted(Comparator.comparing(logResult -> logResult.latest().emailLogId()))
+                .toList();
+    }
+
+    private LocalDateTime occurredAt(EmailDeliveryReportRequest.Result result, LocalDateTime receivedAt) {
+        return result.sentAt() != null ? result.sentAt() : receivedAt;
+    }
+
+    /**
+     * 한 로그에 반영할 결과
+     *
+     * @param latest 가장 뒤 단계의 결과
+     * @param sent   같은 요청에 함께 온 SENT 결과 (없으면 null)
+     */
+    record LogResult(EmailDeliveryReportRequest.Result latest, EmailDeliveryReportRequest.Result sent) {
+    }
+
+    private record CounterKey(LocalDate statDate, EmailLogStatus status) {
+    }
+}
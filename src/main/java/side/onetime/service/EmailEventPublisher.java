@@ -1,49 +1,194 @@
 package side.onetime.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import side.onetime.dto.admin.email.request.EmailEventMessage;
-import side.onetime.exception.CustomException;
-import side.onetime.exception.status.EmailErrorStatus;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+/**
+ * 이메일 이벤트 SQS 발행기.
+ *
+ * EmailOutboxRelay가 가져온 메시지 본문을 SendMessageBatch(요청당 최대 10개, 합계 256KB)로 묶어
+ * 여러 배치를 병렬 발행한다. 배치 중 실패한 엔트리만 개별 SendMessage로 재시도하고,
+ * 배치별 지연 시간/크기/결과를 메트릭으로 남긴다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class EmailEventPublisher {
 
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final int MAX_BATCH_BYTES = 256 * 1024;
+
     private final SqsClient sqsClient;
-    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService batchSender;
 
     @Value("${spring.cloud.aws.sqs.queue-url}")
     private String queueUrl;
 
-    public void publish(EmailEventMessage message) {
-        try {
-            String messageBody = objectMapper.writeValueAsString(message);
+    @Value("${email.sqs.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${email.sqs.retry-backoff:PT0.2S}")
+    private Duration retryBackoff;
+
+    public EmailEventPublisher(SqsClient sqsClient, MeterRegistry meterRegistry,
+                               @Value("${email.sqs.parallelism:4}") int parallelism) {
+        this.sqsClient = sqsClient;
+        this.meterRegistry = meterRegistry;
+        this.batchSender = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("sqs-batch-", 0).daemon(true).factory());
+    }
+
+    /**
+     * 직렬화된 메시지들을 SendMessageBatch로 병렬 발행합니다.
+     *
+     * @param entries 엔트리 ID → 메시지 본문 (ID는 영문/숫자/-/_ 80자 이내, 고유)
+     * @return 재시도 후에도 발행에 실패한 엔트리 ID
+     */
+    public Set<String> publishAll(Map<String, String> entries) {
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        List<CompletableFuture<Void>> futures = groupIntoBatches(entries).stream()
+                .map(batch -> CompletableFuture.runAsync(() -> failed.addAll(sendBatch(batch)), batchSender))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return failed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchSender.shutdown();
+    }
 
-            log.info("[EmailEventPublisher] SQS 발행 - 수신자: {}명, 그룹: {}",
-                    message.recipients().size(), message.targetGroup());
+    /**
+     * 요청당 엔트리 수(10개)와 전체 크기(256KB) 제한을 모두 만족하도록 엔트리를 묶는다.
+     */
+    private List<List<SendMessageBatchRequestEntry>> groupIntoBatches(Map<String, String> entries) {
+        List<List<SendMessageBatchRequestEntry>> batches = new ArrayList<>();
+        List<SendMessageBatchRequestEntry> current = new ArrayList<>();
+        int currentBytes = 0;
 
-            sqsClient.sendMessage(SendMessageRequest.builder()
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            int bytes = entry.getValue().getBytes(StandardCharsets.UTF_8).length;
+            if (!current.isEmpty() && (current.size() >= MAX_BATCH_ENTRIES || currentBytes + bytes > MAX_BATCH_BYTES)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(SendMessageBatchRequestEntry.builder()
+                    .id(entry.getKey())
+                    .messageBody(entry.getValue())
+                    .build());
+            currentBytes += bytes;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * @return 재시도 후에도 실패한 엔트리 ID
+     */
+    private List<String> sendBatch(List<SendMessageBatchRequestEntry> batch) {
+        long startedAt = System.nanoTime();
+        List<SendMessageBatchRequestEntry> retryTargets = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        String result = "success";
+
+        try {
+            SendMessageBatchResponse response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
                     .queueUrl(queueUrl)
-                    .messageBody(messageBody)
+                    .entries(batch)
                     .build());
 
-            log.info("[EmailEventPublisher] SQS 발행 완료");
-        } catch (JsonProcessingException e) {
-            log.error("[EmailEventPublisher] 메시지 직렬화 실패", e);
-            throw new CustomException(EmailErrorStatus._EMAIL_SQS_PUBLISH_FAILED);
+            Map<String, SendMessageBatchRequestEntry> byId = new LinkedHashMap<>();
+            batch.forEach(entry -> byId.put(entry.id(), entry));
+            for (BatchResultErrorEntry error : response.failed()) {
+                log.warn("[EmailEventPublisher] 배치 엔트리 실패 - id={}, code={}, senderFault={}",
+                        error.id(), error.code(), error.senderFault());
+                // 요청 자체가 잘못된 경우(senderFault)는 재시도해도 성공하지 않는다
+                if (Boolean.TRUE.equals(error.senderFault())) {
+                    failed.add(error.id());
+                } else {
+                    retryTargets.add(byId.get(error.id()));
+                }
+            }
+            if (!response.failed().isEmpty()) {
+                result = "partial";
+            }
         } catch (Exception e) {
-            log.error("[EmailEventPublisher] SQS 발행 실패", e);
-            throw new CustomException(EmailErrorStatus._EMAIL_SQS_PUBLISH_FAILED);
+            log.warn("[EmailEventPublisher] 배치 요청 실패 - entries={}, error={}", batch.size(), e.getMessage());
+            retryTargets.addAll(batch);
+            result = "error";
+        }
+
+        Timer.builder("email.sqs.batch")
+                .description("SendMessageBatch 요청 지연 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        meterRegistry.summary("email.sqs.batch.entries").record(batch.size());
+        meterRegistry.counter("email.sqs.messages", "result", "sent")
+                .increment(batch.size() - retryTargets.size() - failed.size());
+        meterRegistry.counter("email.sqs.messages", "result", "failed").increment(failed.size());
+
+        for (SendMessageBatchRequestEntry entry : retryTargets) {
+            if (!retryIndividually(entry)) {
+                failed.add(entry.id());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 실패한 엔트리를 개별 SendMessage로 재시도합니다.
+     *
+     * @return 발행 성공 여부
+     */
+    private boolean retryIndividually(SendMessageBatchRequestEntry entry) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                Thread.sleep(retryBackoff.toMillis() * attempt);
+                sqsClient.sendMessage(SendMessageRequest.builder()
+                        .queueUrl(queueUrl)
+                        .messageBody(entry.messageBody())
+                        .build());
+                meterRegistry.counter("email.sqs.messages", "result", "retried").increment();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("[EmailEventPublisher] 개별 재시도 실패 - id={}, attempt={}, error={}",
+                        entry.id(), attempt, e.getMessage());
+            }
         }
+        meterRegistry.counter("email.sqs.messages", "result", "failed").increment();
+        return false;
     }
 }
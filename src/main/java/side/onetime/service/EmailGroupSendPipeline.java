@@ -0,0 +1,217 @@
+package side.onetime.service;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.EmailLog;
+import side.onetime.domain.enums.EmailCampaignStatus;
+import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.dto.admin.email.request.EmailEventMessage;
+import side.onetime.dto.admin.email.response.UserEmailDto;
+import side.onetime.global.config.AsyncConfig;
+import side.onetime.global.config.datasource.AnalyticsLane;
+import side.onetime.repository.EmailCampaignRepository;
+import side.onetime.repository.EmailLogBatchRepository;
+import side.onetime.repository.EmailLogRepository;
+import side.onetime.repository.EmailRecipientCursorRepository;
+
+/**
+ * 마케팅 그룹 스트리밍 발송 파이프라인
+ *
+ * 대상 유저를 커서로 chunk-size명씩 읽고, chunk마다 새 트랜잭션에서 아래를 수행한 뒤 커밋한다.
+ * 1. dedupe-window 안에 같은 타겟 그룹으로 이미 발송한 유저를 IN 쿼리 한 번으로 제외
+ * 2. EmailLog 일괄 INSERT + 아웃박스 적재
+ * 3. 캠페인 진행 건수 갱신
+ *
+ * 메모리에는 한 chunk만 올라가므로 대상 수와 관계없이 사용량이 일정하다.
+ * 중간에 실패하면 이미 커밋된 chunk는 그대로 발송되고, 같은 요청을 다시 실행하면 중복 제외로 나머지만 발송된다.
+ */
+@Slf4j
+@Component
+public class EmailGroupSendPipeline {
+
+    private static final String METRIC_PREFIX = "email.group_send";
+
+    private final EmailRecipientCursorRepository emailRecipientCursorRepository;
+    private final EmailLogRepository emailLogRepository;
+    private final EmailLogBatchRepository emailLogBatchRepository;
+    private final EmailCampaignRepository emailCampaignRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${email.group-send.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${email.group-send.dedupe-window:P30D}")
+    private Duration dedupeWindow;
+
+    @Value("${email.group-send.progress-log-interval:10}")
+    private int progressLogInterval;
+
+    public EmailGroupSendPipeline(EmailRecipientCursorRepository emailRecipientCursorRepository,
+                                  EmailLogRepository emailLogRepository,
+                                  EmailLogBatchRepository emailLogBatchRepository,
+                                  EmailCampaignRepository emailCampaignRepository,
+                                  EmailOutboxService emailOutboxService,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.emailRecipientCursorRepository = emailRecipientCursorRepository;
+        this.emailLogRepository = emailLogRepository;
+        this.emailLogBatchRepository = emailLogBatchRepository;
+        this.emailCampaignRepository = emailCampaignRepository;
+        this.emailOutboxService = emailOutboxService;
+        this.meterRegistry = meterRegistry;
+
+        // 커서 커넥션과 섞이지 않도록 chunk마다 항상 새 트랜잭션을 연다
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 그룹 발송을 emailGroupSendExecutor에서 실행합니다. 진행 상황은 캠페인 진행 건수로 조회합니다.
+     */
+    @Async(AsyncConfig.EMAIL_GROUP_SEND_EXECUTOR)
+    public void runAsync(EmailCampaign campaign, long limit) {
+        run(campaign, limit);
+    }
+
+    /**
+     * 캠페인의 타겟 그룹 대상에게 chunk 단위로 발송합니다.
+     * 커서가 트랜잭션 커넥션을 공유하지 않도록 트랜잭션 밖에서 호출해야 합니다.
+     *
+     * @param campaign 발송 캠페인 (저장된 상태, 타겟 그룹 필수)
+     * @param limit    최대 수신자 수
+     * @return 조회/적재/제외 건수
+     */
+    public Result run(EmailCampaign campaign, long limit) {
+        String targetGroup = campaign.getTargetGroup();
+        LocalDateTime dedupeSince = LocalDateTime.now().minus(dedupeWindow);
+        Progress progress = new Progress();
+        long startedAt = System.nanoTime();
+
+        try {
+            // 타겟 조회 커서는 분석 레인에서 연다. chunk 트랜잭션은 같은 레인 작업이라 자리를 더 받지 않는다
+            AnalyticsLane.call(() -> emailRecipientCursorRepository.stream(targetGroup, limit, chunkSize, users -> {
+                ChunkResult result = chunkTransactionTemplate.execute(status ->
+                        sendChunk(campaign, users, dedupeSince));
+                progress.add(users.size(), result.queued(), result.skipped());
+
+                if (progress.chunks % progressLogInterval == 0) {
+                    log.info("[EmailGroupSend] 진행 중 - {}, {}, {}, {}, {}",
+                            kv("campaign_id", campaign.getId()), kv("target_group", targetGroup),
+                            kv("scanned", progress.scanned), kv("queued", progress.queued),
+                            kv("skipped", progress.skipped));
+                }
+            }));
+        } catch (RuntimeException e) {
+            finish(campaign, EmailCampaignStatus.FAILED);
+            log.error("[EmailGroupSend] 발송 중단 - {}, {}, {}, {}", kv("alert", "email_group_send_failed"),
+                    kv("campaign_id", campaign.getId()), kv("target_group", targetGroup),
+                    kv("queued", progress.queued), e);
+            throw e;
+        }
+
+        finish(campaign, EmailCampaignStatus.COMPLETED);
+        Timer.builder(METRIC_PREFIX + ".duration")
+                .description("그룹 발송 전체 소요 시간")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("[EmailGroupSend] 발송 완료 - {}, {}, {}, {}, {}",
+                kv("campaign_id", campaign.getId()), kv("target_group", targetGroup),
+                kv("scanned", progress.scanned), kv("queued", progress.queued), kv("skipped", progress.skipped));
+
+        return new Result(progress.scanned, progress.queued, progress.skipped);
+    }
+
+    /**
+     * chunk 하나를 처리합니다. (호출한 쪽의 트랜잭션 안에서 실행)
+     */
+    ChunkResult sendChunk(EmailCampaign campaign, List<UserEmailDto> users, LocalDateTime dedupeSince) {
+        List<Long> userIds = users.stream().map(UserEmailDto::userId).toList();
+        Set<Long> alreadySent = new HashSet<>(emailLogRepository.findSentUserIds(
+                userIds, campaign.getTargetGroup(), dedupeSince, EmailLogStatus.FAILED));
+
+        List<UserEmailDto> targets = users.stream()
+                .filter(user -> !alreadySent.contains(user.userId()))
+                .toList();
+        int skipped = users.size() - targets.size();
+
+        if (!targets.isEmpty()) {
+            List<EmailLog> emailLogs = targets.stream()
+                    .map(user -> EmailLog.builder()
+                            .campaign(campaign)
+                            .userId(user.userId())
+                            .recipient(user.email())
+                            .status(EmailLogStatus.QUEUED)
+                            .build())
+                    .toList();
+            List<Long> emailLogIds = emailLogBatchRepository.insertAll(emailLogs);
+
+            List<EmailEventMessage.Recipient> recipients = new ArrayList<>(targets.size());
+            for (int i = 0; i < targets.size(); i++) {
+                UserEmailDto user = targets.get(i);
+                recipients.add(new EmailEventMessage.Recipient(
+                        emailLogIds.get(i), user.email(), user.userId(), user.name(), user.nickname()));
+            }
+            emailOutboxService.enqueue(EmailEventMessage.of(
+                    campaign.getSubject(), campaign.getContent(), campaign.getContentType(),
+                    campaign.getTargetGroup(), recipients));
+        }
+
+        emailCampaignRepository.addProgress(campaign.getId(), users.size(), targets.size(), skipped);
+        meterRegistry.counter(METRIC_PREFIX + ".recipients", "result", "queued").increment(targets.size());
+        meterRegistry.counter(METRIC_PREFIX + ".recipients", "result", "skipped").increment(skipped);
+        return new ChunkResult(targets.size(), skipped);
+    }
+
+    private void finish(EmailCampaign campaign, EmailCampaignStatus status) {
+        chunkTransactionTemplate.executeWithoutResult(tx ->
+                emailCampaignRepository.finish(campaign.getId(), status, LocalDateTime.now()));
+    }
+
+    /**
+     * 그룹 발송 결과
+     *
+     * @param scanned 커서에서 읽은 대상 수
+     * @param queued  아웃박스에 적재한 수신자 수
+     * @param skipped 이미 발송하여 제외한 수
+     */
+    public record Result(long scanned, long queued, long skipped) {
+    }
+
+    record ChunkResult(int queued, int skipped) {
+    }
+
+    private static class Progress {
+        private long chunks;
+        private long scanned;
+        private long queued;
+        private long skipped;
+
+        private void add(int scanned, int queued, int skipped) {
+            this.chunks++;
+            this.scanned += scanned;
+            this.queued += queued;
+            this.skipped += skipped;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package side.onetime.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import side.onetime.dto.admin.email.request.EmailEventMessage;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EmailErrorStatus;
+
+/**
+ * 이메일 이벤트 메시지 분할기.
+ *
+ * 수신자 전체를 하나의 SQS 메시지에 담으면 256KB 제한을 넘거나, 컨슈머가 병렬 처리할 수 없는 큰 메시지가 된다.
+ * 제목/본문은 그대로 두고 수신자를 나누어, 크기(max-message-size)와 수신자 수(max-recipients-per-message)를
+ * 모두 만족하는 여러 메시지 본문(JSON)으로 만든다. 각 메시지의 형식은 기존 EmailEventMessage와 같다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailMessageChunker {
+
+    // 수신자 사이의 ',' 구분자
+    private static final int SEPARATOR_BYTES = 1;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${email.sqs.max-message-size:192KB}")
+    private DataSize maxMessageSize;
+
+    @Value("${email.sqs.max-recipients-per-message:500}")
+    private int maxRecipientsPerMessage;
+
+    /**
+     * 메시지를 크기/수신자 수 제한에 맞게 나누어 직렬화합니다.
+     *
+     * @param message 원본 메시지
+     * @return 직렬화된 메시지 목록 (수신자 순서 유지)
+     * @throws CustomException 수신자 한 명만 담아도 제한을 넘는 경우 (본문이 너무 큰 경우)
+     */
+    public List<Chunk> chunk(EmailEventMessage message) {
+        long limit = maxMessageSize.toBytes();
+        long baseBytes = sizeOf(withRecipients(message, List.of()));
+
+        List<Chunk> chunks = new ArrayList<>();
+        List<EmailEventMessage.Recipient> current = new ArrayList<>();
+        long currentBytes = baseBytes;
+
+        for (EmailEventMessage.Recipient recipient : message.recipients()) {
+            long recipientBytes = sizeOf(recipient) + SEPARATOR_BYTES;
+            if (baseBytes + recipientBytes > limit) {
+                throw new CustomException(EmailErrorStatus._EMAIL_MESSAGE_TOO_LARGE);
+            }
+
+            if (!current.isEmpty()
+                    && (currentBytes + recipientBytes > limit || current.size() >= maxRecipientsPerMessage)) {
+                chunks.add(new Chunk(serialize(withRecipients(message, current)), current.size()));
+                current = new ArrayList<>();
+                currentBytes = baseBytes;
+            }
+            current.add(recipient);
+            currentBytes += recipientBytes;
+        }
+
+        if (!current.isEmpty()) {
+            chunks.add(new Chunk(serialize(withRecipients(message, current)), current.size()));
+        }
+        return chunks;
+    }
+
+    private EmailEventMessage withRecipients(EmailEventMessage message, List<EmailEventMessage.Recipient> recipients) {
+        return new EmailEventMessage(message.subject(), message.content(), message.contentType(),
+                message.targetGroup(), List.copyOf(recipients), message.requestedAt());
+    }
+
+    private long sizeOf(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException e) {
+            throw new CustomException(EmailErrorStatus._EMAIL_SQS_PUBLISH_FAILED);
+        }
+    }
+
+    private String serialize(EmailEventMessage message) {
+        try {
+            String body = objectMapper.writeValueAsString(message);
+            if (body.getBytes(StandardCharsets.UTF_8).length > maxMessageSize.toBytes()) {
+                throw new CustomException(EmailErrorStatus._EMAIL_MESSAGE_TOO_LARGE);
+            }
+            return body;
+        } catch (JsonProcessingException e) {
+            throw new CustomException(EmailErrorStatus._EMAIL_SQS_PUBLISH_FAILED);
+        }
+    }
+
+    /**
+     * 분할된 메시지
+     *
+     * @param body           직렬화된 메시지 본문 (JSON)
+     * @param recipientCount 본문에 포함된 수신자 수
+     */
+    public record Chunk(String body, int recipientCount) {
+    }
+}
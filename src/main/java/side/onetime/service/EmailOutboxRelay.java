@@ -0,0 +1,212 @@
+package side.onetime.service;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.EmailOutbox;
+import side.onetime.domain.enums.EmailOutboxStatus;
+import side.onetime.repository.EmailOutboxRepository;
+
+/**
+ * 이메일 아웃박스 릴레이
+ *
+ * 한 배치를 세 단계로 처리한다. SQS 호출(재시도 백오프 포함) 동안 커넥션과 행 락을 쥐지 않기 위해서다.
+ * 1. 짧은 트랜잭션: PENDING 행을 batch-size 단위로 잠그고(FOR UPDATE SKIP LOCKED) next_attempt_at을 리스 만료 시각으로 미룬 뒤 커밋
+ * 2. 트랜잭션 밖: SQS에 일괄 발행
+ * 3. 짧은 트랜잭션: 발행 결과(PUBLISHED/재시도/FAILED)를 기록
+ * Blue/Green 두 인스턴스가 동시에 실행해도 리스 중인 행은 가져가지 않으므로 한 행을 같이 발행하지 않는다.
+ * 발행 후 결과 기록 전에 인스턴스가 죽으면 리스가 끝난 뒤 같은 메시지가 다시 발행되므로
+ * 컨슈머는 emailLogId 기준으로 멱등하게 처리해야 한다. (SQS 자체도 at-least-once)
+ *
+ * 대기 행 수와 가장 오래된 대기 행의 나이를 게이지로 노출하고, lag-alarm-threshold를 넘으면
+ * alert 필드를 붙인 ERROR 로그를 남긴다. (CloudWatch 메트릭 필터로 알람)
+ */
+@Slf4j
+@Component
+public class EmailOutboxRelay {
+
+    private static final String METRIC_PREFIX = "email.outbox";
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailEventPublisher emailEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${email.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${email.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.retry-backoff:PT10S}")
+    private Duration retryBackoff;
+
+    @Value("${email.outbox.lease-duration:PT1M}")
+    private Duration leaseDuration;
+
+    @Value("${email.outbox.lag-alarm-threshold:PT5M}")
+    private Duration lagAlarmThreshold;
+
+    @Value("${email.outbox.retention:P7D}")
+    private Duration retention;
+
+    public EmailOutboxRelay(EmailOutboxRepository emailOutboxRepository, EmailEventPublisher emailEventPublisher,
+                            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailEventPublisher = emailEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC_PREFIX + ".pending", pendingCount, AtomicLong::get)
+                .description("발행 대기 중인 아웃박스 행 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 발행 대기 행의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발행 대기 행이 남아 있는 동안 배치 단위로 발행
+     * 한 번의 실행은 max-batches-per-run 배치까지만 처리하고 다음 주기로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT1S}",
+            initialDelayString = "${email.outbox.initial-delay:PT10S}")
+    public void relay() {
+        long startedAt = System.nanoTime();
+        int total = 0;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int claimed = relayBatch();
+            if (claimed == 0) {
+                break;
+            }
+            total += claimed;
+            if (claimed < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            Timer.builder(METRIC_PREFIX + ".relay.duration")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.info("[Email Outbox] 릴레이 완료", kv("rows", total),
+                    kv("duration_ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+        }
+        refreshBacklog();
+    }
+
+    /**
+     * 한 배치를 가져와(리스) 트랜잭션 밖에서 발행한 뒤 결과를 기록
+     *
+     * @return 가져온 행 수
+     */
+    int relayBatch() {
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> claim(LocalDateTime.now()));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        claimed.forEach(row -> entries.put(String.valueOf(row.getId()), row.getPayload()));
+        Set<String> failed = emailEventPublisher.publishAll(entries);
+
+        transactionTemplate.executeWithoutResult(status ->
+                recordResults(claimed.stream().map(EmailOutbox::getId).toList(), failed));
+        return claimed.size();
+    }
+
+    /**
+     * 발행할 행을 잠그고 리스를 건다. 커밋하면 행 락은 풀리지만 리스가 끝날 때까지 다른 릴레이가 가져가지 않는다.
+     */
+    private List<EmailOutbox> claim(LocalDateTime now) {
+        List<EmailOutbox> rows = emailOutboxRepository.claimPending(now, batchSize);
+        rows.forEach(row -> row.lease(now, leaseDuration));
+        return rows;
+    }
+
+    /**
+     * 발행 결과 기록. 리스가 끝나 다른 인스턴스가 이미 처리한 행(PENDING이 아님)은 건드리지 않는다.
+     */
+    private void recordResults(List<Long> ids, Set<String> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        int published = 0;
+        int recipients = 0;
+        for (EmailOutbox row : emailOutboxRepository.findAllById(ids)) {
+            if (row.getStatus() != EmailOutboxStatus.PENDING) {
+                continue;
+            }
+            if (!failed.contains(String.valueOf(row.getId()))) {
+                row.markPublished(now);
+                published++;
+                recipients += row.getRecipientCount();
+            } else if (row.markFailed(now, maxAttempts, retryBackoff)) {
+                meterRegistry.counter(METRIC_PREFIX + ".rows", "result", "dead").increment();
+                log.error("[Email Outbox] 최대 재시도 초과", kv("alert", "email_outbox_dead"),
+                        kv("outbox_id", row.getId()), kv("attempts", row.getAttempts()));
+            } else {
+                meterRegistry.counter(METRIC_PREFIX + ".rows", "result", "retry").increment();
+            }
+        }
+
+        meterRegistry.counter(METRIC_PREFIX + ".rows", "result", "published").increment(published);
+        meterRegistry.counter(METRIC_PREFIX + ".recipients").increment(recipients);
+    }
+
+    /**
+     * 대기 행 수/지연 게이지 갱신 및 지연 알람
+     */
+    private void refreshBacklog() {
+        pendingCount.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+
+        LocalDateTime oldest = emailOutboxRepository.findOldestCreatedAt(EmailOutboxStatus.PENDING);
+        long lag = oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds());
+        lagSeconds.set(lag);
+
+        if (lag >= lagAlarmThreshold.toSeconds()) {
+            log.error("[Email Outbox] 발행 지연", kv("alert", "email_outbox_lag"),
+                    kv("lag_seconds", lag), kv("pending", pendingCount.get()));
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 발행 완료 행 삭제
+     */
+    @Scheduled(cron = "${email.outbox.cleanup-cron:0 30 4 * * *}")
+    public void deletePublished() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(
+                    status -> emailOutboxRepository.deletePublishedBefore(threshold, batchSize * 10));
+            total += deleted;
+        } while (deleted > 0);
+
+        log.info("[Email Outbox] 발행 완료 행 정리", kv("deleted", total), kv("threshold", threshold));
+    }
+}
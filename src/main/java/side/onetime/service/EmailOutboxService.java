@@ -0,0 +1,42 @@
+package side.onetime.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import side.onetime.domain.EmailOutbox;
+import side.onetime.dto.admin.email.request.EmailEventMessage;
+import side.onetime.repository.EmailOutboxRepository;
+
+/**
+ * 이메일 아웃박스 적재 서비스
+ *
+ * EmailLog를 저장하는 트랜잭션 안에서 SQS 메시지를 email_outbox에 함께 저장한다.
+ * 두 테이블이 같이 커밋되거나 같이 롤백되므로, QUEUED 로그만 남고 메시지가 사라지는 경우가 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailMessageChunker emailMessageChunker;
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    /**
+     * 이메일 이벤트를 SQS 메시지 크기 단위로 나누어 아웃박스에 저장합니다.
+     * 호출한 쪽의 트랜잭션에 참여해야 하므로 트랜잭션 밖에서는 호출할 수 없습니다.
+     *
+     * @param message 이메일 이벤트 메시지
+     * @return 저장된 아웃박스 행 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int enqueue(EmailEventMessage message) {
+        List<EmailOutbox> rows = emailMessageChunker.chunk(message).stream()
+                .map(chunk -> EmailOutbox.pending(chunk.body(), chunk.recipientCount()))
+                .toList();
+        emailOutboxRepository.saveAll(rows);
+        return rows.size();
+    }
+}
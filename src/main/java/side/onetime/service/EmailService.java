@@ -2,15 +2,18 @@ package side.onetime.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import side.onetime.domain.AdminUser;
+import side.onetime.domain.EmailCampaign;
 import side.onetime.domain.EmailLog;
+import side.onetime.domain.EmailStatusDailyCount;
 import side.onetime.domain.EmailTemplate;
 import side.onetime.domain.User;
+import side.onetime.domain.enums.EmailCampaignStatus;
 import side.onetime.domain.enums.EmailLogStatus;
 import side.onetime.domain.enums.EmailTemplateCode;
 import side.onetime.dto.admin.email.request.*;
@@ -19,9 +22,12 @@ import side.onetime.exception.CustomException;
 import side.onetime.exception.status.EmailErrorStatus;
 import side.onetime.global.common.status.ErrorStatus;
 import side.onetime.repository.AdminRepository;
+import side.onetime.repository.EmailCampaignRepository;
+import side.onetime.repository.EmailLogBatchRepository;
 import side.onetime.repository.EmailLogRepository;
+import side.onetime.repository.EmailRecipientCursorRepository;
+import side.onetime.repository.EmailStatusDailyCountRepository;
 import side.onetime.repository.EmailTemplateRepository;
-import side.onetime.repository.StatisticsRepository;
 import side.onetime.util.AdminAuthorizationUtil;
 
 import java.time.LocalDate;
@@ -32,16 +38,21 @@ import java.util.List;
 /**
  * 이메일 서비스
  * SQS를 통한 비동기 이메일 발송 (QUEUED → 배치에서 SES 발송)
+ * EmailLog와 SQS 메시지(email_outbox)를 같은 트랜잭션에 저장하고, EmailOutboxRelay가 커밋된 메시지를 발행한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailGroupSendPipeline emailGroupSendPipeline;
+    private final EmailRecipientCursorRepository emailRecipientCursorRepository;
     private final AdminRepository adminRepository;
-    private final StatisticsRepository statisticsRepository;
+    private final EmailCampaignRepository emailCampaignRepository;
     private final EmailLogRepository emailLogRepository;
+    private final EmailLogBatchRepository emailLogBatchRepository;
+    private final EmailStatusDailyCountRepository emailStatusDailyCountRepository;
     private final EmailTemplateRepository emailTemplateRepository;
 
     /**
@@ -49,6 +60,8 @@ public class EmailService {
      */
     @Transactional
     public SendEmailResponse sendEmail(SendEmailRequest request) {
+        EmailCampaign campaign = createCampaign(request.subject(), request.content(),
+                request.getContentType(), null);
         List<EmailLog> emailLogs = new ArrayList<>();
         List<EmailEventMessage.Recipient> recipients = new ArrayList<>();
         
@@ -56,28 +69,26 @@ public class EmailService {
             String email = request.to().get(i);
             Long userId = request.getUserIdAt(i);
 
-            EmailLog emailLog = createQueuedEmailLog(userId, email, request.subject(),
-                    request.content(), request.getContentType(), null);
+            EmailLog emailLog = createQueuedEmailLog(campaign, userId, email);
             emailLogs.add(emailLog);
         }
         
-        emailLogRepository.saveAll(emailLogs);
+        List<Long> emailLogIds = emailLogBatchRepository.insertAll(emailLogs);
 
-        for (int i = 0; i < emailLogs.size(); i++) {
-            EmailLog emailLog = emailLogs.get(i);
+        for (int i = 0; i < emailLogIds.size(); i++) {
             String email = request.to().get(i);
             Long userId = request.getUserIdAt(i);
             
             recipients.add(new EmailEventMessage.Recipient(
-                    emailLog.getId(), email, userId, null, null));
+                    emailLogIds.get(i), email, userId, null, null));
         }
 
         EmailEventMessage message = EmailEventMessage.of(
                 request.subject(), request.content(), request.getContentType(),
                 null, recipients);
-        applicationEventPublisher.publishEvent(message);
+        emailOutboxService.enqueue(message);
 
-        log.info("[Email] SQS 발행 완료 - {}건 QUEUED", recipients.size());
+        log.info("[Email] 아웃박스 적재 완료 - {}건 QUEUED", recipients.size());
         return SendEmailResponse.queued(recipients.size());
     }
 
@@ -91,8 +102,9 @@ public class EmailService {
         AdminUser admin = adminRepository.findById(adminId)
                 .orElseThrow(() -> new CustomException(ErrorStatus._UNIDENTIFIED_USER));
 
-        EmailLog emailLog = createQueuedEmailLog(adminId, admin.getEmail(),
-                request.subject(), request.content(), request.getContentType(), "test");
+        EmailCampaign campaign = createCampaign(request.subject(), request.content(),
+                request.getContentType(), "test");
+        EmailLog emailLog = createQueuedEmailLog(campaign, adminId, admin.getEmail());
         emailLogRepository.save(emailLog);
 
         List<EmailEventMessage.Recipient> recipients = List.of(
@@ -103,87 +115,99 @@ public class EmailService {
         EmailEventMessage message = EmailEventMessage.of(
                 request.subject(), request.content(), request.getContentType(),
                 "test", recipients);
-        applicationEventPublisher.publishEvent(message);
+        emailOutboxService.enqueue(message);
 
-        log.info("[Email] 테스트 이메일 SQS 발행 완료 - 수신자: {}", admin.getEmail());
+        log.info("[Email] 테스트 이메일 아웃박스 적재 완료 - 수신자: {}", admin.getEmail());
         return SendEmailResponse.queued(1);
     }
 
     /**
-     * 마케팅 타겟 그룹에 일괄 발송 (SQS 발행)
+     * 마케팅 타겟 그룹에 일괄 발송 (SQS 발행, 최대 1000건)
      * 템플릿 변수는 raw 상태로 SQS에 전달, 변수 치환은 배치 측에서 수행
+     * 대상 조회 커서가 트랜잭션 커넥션을 공유하지 않도록 트랜잭션 없이 실행하고, chunk 단위로 커밋한다.
      */
-    @Transactional
     public SendEmailResponse sendToMarketingGroup(SendToGroupRequest request) {
-        List<UserEmailDto> users = getEmailsWithIdsByGroup(request.targetGroup(), request.getLimit());
+        if (!emailRecipientCursorRepository.supports(request.targetGroup())) {
+            log.warn("[Email] 알 수 없는 타겟 그룹 - 그룹: {}", request.targetGroup());
+            return SendEmailResponse.empty();
+        }
 
-        if (users.isEmpty()) {
-            log.warn("[Email] 대상 그룹에 발송 가능한 이메일 없음 - 그룹: {}", request.targetGroup());
+        EmailCampaign campaign = createCampaign(request.subject(), request.content(),
+                request.getContentType(), request.targetGroup(), EmailCampaignStatus.RUNNING);
+        EmailGroupSendPipeline.Result result = emailGroupSendPipeline.run(campaign, request.getLimit());
+
+        if (result.queued() == 0) {
+            log.warn("[Email] 대상 그룹에 발송 가능한 이메일 없음 - 그룹: {}, 중복 제외: {}",
+                    request.targetGroup(), result.skipped());
             return SendEmailResponse.empty();
         }
 
-        List<EmailLog> emailLogs = new ArrayList<>();
-        for (UserEmailDto user : users) {
-            EmailLog emailLog = createQueuedEmailLog(user.userId(), user.email(),
-                    request.subject(), request.content(), request.getContentType(),
-                    request.targetGroup());
-            emailLogs.add(emailLog);
+        log.info("[Email] 그룹 이메일 아웃박스 적재 완료 - 그룹: {}, {}건 QUEUED, 중복 제외 {}건",
+                request.targetGroup(), result.queued(), result.skipped());
+        return SendEmailResponse.queued((int) result.queued());
+    }
+
+    /**
+     * 마케팅 타겟 그룹 대량 발송 시작 (10만 명 이상 대상)
+     * 캠페인을 RUNNING으로 저장하고 emailGroupSendExecutor에서 스트리밍 발송한다.
+     * 진행 상황은 getCampaignProgress로 조회한다.
+     */
+    public EmailCampaignProgressResponse startGroupSend(SendToGroupBulkRequest request) {
+        if (!emailRecipientCursorRepository.supports(request.targetGroup())) {
+            throw new CustomException(EmailErrorStatus._EMAIL_TARGET_GROUP_INVALID);
         }
-        
-        emailLogRepository.saveAll(emailLogs);
 
-        List<EmailEventMessage.Recipient> recipients = new ArrayList<>();
-        for (int i = 0; i < users.size(); i++) {
-            UserEmailDto user = users.get(i);
-            EmailLog emailLog = emailLogs.get(i);
-            
-            recipients.add(new EmailEventMessage.Recipient(
-                    emailLog.getId(), user.email(), user.userId(),
-                    user.name(), user.nickname()));
+        EmailCampaign campaign = createCampaign(request.subject(), request.content(),
+                request.getContentType(), request.targetGroup(), EmailCampaignStatus.RUNNING);
+        try {
+            emailGroupSendPipeline.runAsync(campaign, request.getLimit());
+        } catch (TaskRejectedException e) {
+            emailCampaignRepository.delete(campaign);
+            throw new CustomException(EmailErrorStatus._EMAIL_GROUP_SEND_BUSY);
         }
 
-        EmailEventMessage message = EmailEventMessage.of(
-                request.subject(), request.content(), request.getContentType(),
-                request.targetGroup(), recipients);
-        applicationEventPublisher.publishEvent(message);
+        log.info("[Email] 그룹 대량 발송 시작 - 그룹: {}, campaignId: {}", request.targetGroup(), campaign.getId());
+        return EmailCampaignProgressResponse.from(campaign);
+    }
 
-        log.info("[Email] 그룹 이메일 SQS 발행 완료 - 그룹: {}, {}건 QUEUED",
-                request.targetGroup(), recipients.size());
-        return SendEmailResponse.queued(recipients.size());
+    /**
+     * 캠페인 발송 진행 상황 조회
+     */
+    @Transactional(readOnly = true)
+    public EmailCampaignProgressResponse getCampaignProgress(Long campaignId) {
+        EmailCampaign campaign = emailCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CustomException(EmailErrorStatus._EMAIL_CAMPAIGN_NOT_FOUND));
+        return EmailCampaignProgressResponse.from(campaign);
     }
 
     /**
-     * QUEUED 상태 이메일 로그 저장
+     * 발송 캠페인 저장 (제목/본문은 캠페인에 한 번만 저장)
      */
-    private EmailLog createQueuedEmailLog(Long userId, String recipient, String subject,
-                                         String content, String contentType, String targetGroup) {
-        return EmailLog.builder()
-                .userId(userId)
-                .recipient(recipient)
+    private EmailCampaign createCampaign(String subject, String content, String contentType, String targetGroup) {
+        return createCampaign(subject, content, contentType, targetGroup, EmailCampaignStatus.COMPLETED);
+    }
+
+    private EmailCampaign createCampaign(String subject, String content, String contentType, String targetGroup,
+                                         EmailCampaignStatus sendStatus) {
+        return emailCampaignRepository.save(EmailCampaign.builder()
                 .subject(subject)
                 .content(content)
                 .contentType(contentType)
-                .status(EmailLogStatus.QUEUED)
                 .targetGroup(targetGroup)
-                .build();
+                .sendStatus(sendStatus)
+                .build());
     }
 
     /**
-     * 마케팅 그룹별 이메일 + userId 목록 조회
+     * QUEUED 상태 이메일 로그 생성
      */
-    private List<UserEmailDto> getEmailsWithIdsByGroup(String group, int limit) {
-        List<Object[]> rows = switch (group.toLowerCase()) {
-            case "agreed" -> statisticsRepository.findMarketingAgreedUserEmailsWithIds(limit);
-            case "dormant" -> statisticsRepository.findDormantUserEmailsWithIds(30, limit);
-            case "noevent" -> statisticsRepository.findNoEventUserEmailsWithIds(7, limit);
-            case "onetime" -> statisticsRepository.findOneTimeUserEmailsWithIds(limit);
-            case "vip" -> statisticsRepository.findVipUserEmailsWithIds(limit);
-            default -> {
-                log.warn("[Email] 알 수 없는 타겟 그룹 - 그룹: {}", group);
-                yield List.of();
-            }
-        };
-        return rows.stream().map(UserEmailDto::from).toList();
+    private EmailLog createQueuedEmailLog(EmailCampaign campaign, Long userId, String recipient) {
+        return EmailLog.builder()
+                .campaign(campaign)
+                .userId(userId)
+                .recipient(recipient)
+                .status(EmailLogStatus.QUEUED)
+                .build();
     }
 
     /**
@@ -196,9 +220,9 @@ public class EmailService {
         EmailTemplate template = emailTemplateRepository.findByCode(templateCode)
                 .orElseThrow(() -> new CustomException(EmailErrorStatus._EMAIL_TEMPLATE_NOT_FOUND));
 
-        EmailLog emailLog = createQueuedEmailLog(
-                user.getId(), user.getEmail(), template.getSubject(),
-                template.getContent(), template.getContentType(), templateCode);
+        EmailCampaign campaign = createCampaign(template.getSubject(), template.getContent(),
+                template.getContentType(), templateCode);
+        EmailLog emailLog = createQueuedEmailLog(campaign, user.getId(), user.getEmail());
         emailLogRepository.save(emailLog);
 
         List<EmailEventMessage.Recipient> recipients = List.of(
@@ -209,9 +233,9 @@ public class EmailService {
         EmailEventMessage message = EmailEventMessage.of(
                 template.getSubject(), template.getContent(), template.getContentType(),
                 templateCode, recipients);
-        applicationEventPublisher.publishEvent(message);
+        emailOutboxService.enqueue(message);
 
-        log.info("[Email] 웰컴 이메일 SQS 발행 - userId: {}", user.getId());
+        log.info("[Email] 웰컴 이메일 아웃박스 적재 - userId: {}", user.getId());
     }
 
     /**
@@ -227,32 +251,38 @@ public class EmailService {
         LocalDateTime endDate = endDateStr != null && !endDateStr.isBlank()
                 ? LocalDate.parse(endDateStr).plusDays(1).atStartOfDay() : null;
 
-        List<EmailLog> logs = emailLogRepository.findAllWithFilters(pageable, search, startDate, endDate,
+        List<EmailLogResponse> logs = emailLogRepository.findAllWithFilters(pageable, search, startDate, endDate,
                 status, targetGroup);
         long totalElements = emailLogRepository.countWithFilters(search, startDate, endDate, status, targetGroup);
 
         return EmailLogPageResponse.of(logs, page, size, totalElements);
     }
 
+    /**
+     * 이메일 로그 상세 조회 (캠페인 본문 포함)
+     */
+    @Transactional(readOnly = true)
+    public EmailLogDetailResponse getEmailLog(Long id) {
+        EmailLog emailLog = emailLogRepository.findById(id)
+                .orElseThrow(() -> new CustomException(EmailErrorStatus._EMAIL_LOG_NOT_FOUND));
+        return EmailLogDetailResponse.from(emailLog);
+    }
+
     /**
      * 이메일 발송 통계 조회
+     * email_logs를 세지 않고 발송 결과 수집 시 갱신되는 일자별 상태 카운터를 읽는다.
      */
     @Transactional(readOnly = true)
     public EmailLogStatsResponse getEmailStats() {
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-        long totalSent = emailLogRepository.countByStatus(EmailLogStatus.SENT);
-
-        List<Object[]> todayStats = emailLogRepository.countByStatusSince(todayStart);
+        long totalSent = emailStatusDailyCountRepository.sumByStatus(EmailLogStatus.SENT);
         long sentTodayCount = 0;
         long failedTodayCount = 0;
 
-        for (Object[] stat : todayStats) {
-            EmailLogStatus statusEnum = (EmailLogStatus) stat[0];
-            Long count = (Long) stat[1];
-            if (statusEnum == EmailLogStatus.SENT) {
-                sentTodayCount = count;
-            } else if (statusEnum == EmailLogStatus.FAILED) {
-                failedTodayCount = count;
+        for (EmailStatusDailyCount count : emailStatusDailyCountRepository.findByStatDate(LocalDate.now())) {
+            if (count.getStatus() == EmailLogStatus.SENT) {
+                sentTodayCount = count.getLogCount();
+            } else if (count.getStatus() == EmailLogStatus.FAILED) {
+                failedTodayCount = count.getLogCount();
             }
         }
 
@@ -0,0 +1,94 @@
+package side.onetime.service;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.repository.EventKeywordBatchRepository;
+import side.onetime.repository.EventKeywordBatchRepository.EventTitle;
+
+/**
+ * 이벤트 키워드 백필 스케줄러 (기본 매일 04:40)
+ *
+ * 삭제되지 않은 전체 이벤트를 ID 순으로 chunk-size씩 읽어 현재 사전으로 다시 태깅한다.
+ * 최초 배포 시 기존 이벤트를 채우고, 사전에 키워드를 추가/삭제하면 다음 실행에서 과거 이벤트까지 반영된다.
+ * 달라진 태그만 쓰므로 사전이 그대로면 읽기만 한다.
+ *
+ * chunk마다 짧은 트랜잭션으로 커밋한다. 중간에 실패해도 커밋된 chunk는 남고, 다음 실행이 처음부터 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventKeywordBackfillScheduler {
+
+    private static final String METRIC_PREFIX = "event.keyword.backfill";
+
+    private final EventKeywordBatchRepository eventKeywordBatchRepository;
+    private final EventKeywordTagger eventKeywordTagger;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${event.keyword.backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 전체 이벤트 키워드 재태깅
+     */
+    @Scheduled(cron = "${event.keyword.backfill.cron:0 40 4 * * *}")
+    public void backfill() {
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        long lastEventId = 0L;
+        int scanned = 0;
+        int changed = 0;
+        try {
+            List<EventTitle> chunk;
+            do {
+                chunk = eventKeywordBatchRepository.findEventTitlesAfter(lastEventId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                changed += tagChunk(chunk);
+                scanned += chunk.size();
+                lastEventId = chunk.get(chunk.size() - 1).eventId();
+            } while (chunk.size() == chunkSize);
+            completed = true;
+        } catch (RuntimeException e) {
+            log.error("[Event Keyword Backfill] 태깅 중단", kv("alert", "event_keyword_backfill_failed"),
+                    kv("last_event_id", lastEventId), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Timer.builder(METRIC_PREFIX + ".duration")
+                    .tag("completed", String.valueOf(completed))
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("[Event Keyword Backfill] 태깅 종료", kv("scanned", scanned), kv("changed", changed),
+                    kv("completed", completed), kv("duration_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        }
+    }
+
+    /**
+     * chunk 하나를 한 트랜잭션으로 태깅합니다.
+     *
+     * @return 지우거나 넣은 태그 수
+     */
+    int tagChunk(List<EventTitle> chunk) {
+        Map<Long, Set<String>> keywordsByEventId = new LinkedHashMap<>();
+        chunk.forEach(event -> keywordsByEventId.put(event.eventId(), eventKeywordTagger.match(event.title())));
+        Integer changed = transactionTemplate.execute(status -> eventKeywordBatchRepository.sync(keywordsByEventId));
+        return changed != null ? changed : 0;
+    }
+}
@@ -0,0 +1,47 @@
+package side.onetime.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import side.onetime.domain.Event;
+import side.onetime.repository.EventKeywordBatchRepository;
+import side.onetime.util.KeywordMatcher;
+
+/**
+ * 이벤트 제목 키워드 태깅
+ *
+ * 키워드 사전(event.keyword.dictionary)으로 제목에 포함된 키워드를 찾아 event_keywords에 저장한다.
+ * 사전을 바꾼 뒤에는 {@link EventKeywordBackfillScheduler}가 기존 이벤트를 다시 태깅한다.
+ */
+@Component
+public class EventKeywordTagger {
+
+    private final EventKeywordBatchRepository eventKeywordBatchRepository;
+    private final KeywordMatcher keywordMatcher;
+
+    public EventKeywordTagger(EventKeywordBatchRepository eventKeywordBatchRepository,
+                              @Value("${event.keyword.dictionary}") List<String> dictionary) {
+        this.eventKeywordBatchRepository = eventKeywordBatchRepository;
+        this.keywordMatcher = KeywordMatcher.of(dictionary);
+    }
+
+    /**
+     * 이벤트의 현재 제목으로 키워드 태그를 맞춥니다. 호출한 쪽의 트랜잭션에서 저장됩니다.
+     *
+     * @param event 저장된(ID가 있는) 이벤트
+     */
+    public void tag(Event event) {
+        eventKeywordBatchRepository.sync(Map.of(event.getId(), match(event.getTitle())));
+    }
+
+    /**
+     * 제목에 포함된 사전 키워드를 반환합니다.
+     */
+    public Set<String> match(String title) {
+        return keywordMatcher.findAll(title);
+    }
+}
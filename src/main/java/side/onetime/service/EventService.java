@@ -1,10 +1,10 @@
 package side.onetime.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 import side.onetime.domain.*;
 import side.onetime.domain.enums.Category;
 import side.onetime.domain.enums.EventStatus;
@@ -12,7 +12,9 @@ import side.onetime.domain.enums.ParticipationRole;
 import side.onetime.dto.event.request.ConfirmEventRequest;
 import side.onetime.dto.event.request.CreateEventRequest;
 import side.onetime.dto.event.request.ModifyEventRequest;
+import side.onetime.dto.event.request.QrCodeGenerationMessage;
 import side.onetime.dto.event.response.*;
+import side.onetime.dto.s3.S3ObjectDeletionMessage;
 import side.onetime.dto.schedule.request.GetFilteredSchedulesRequest;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.EventErrorStatus;
@@ -22,6 +24,7 @@ import side.onetime.exception.status.UserErrorStatus;
 import side.onetime.repository.*;
 import side.onetime.util.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -46,7 +49,15 @@ public class EventService {
 	private final ScheduleBatchRepository scheduleBatchRepository;
 	private final JwtUtil jwtUtil;
 	private final S3Util s3Util;
-    private final QrUtil qrUtil;
+    private final LazyQrCodeProvider lazyQrCodeProvider;
+    private final EventKeywordTagger eventKeywordTagger;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${qr.generation.lazy:false}")
+    private boolean lazyQrGeneration;
+
+    @Value("${qr.generation.pending-timeout:PT5M}")
+    private Duration qrPendingTimeout;
 
     /**
      * 비로그인 사용자를 위한 이벤트 생성 메서드.
@@ -57,7 +68,8 @@ public class EventService {
     @Transactional
     public CreateEventResponse createEventForAnonymousUser(CreateEventRequest createEventRequest) {
         Event savedEvent = eventRepository.save(createEventRequest.toEntity());
-        createAndAddQrCode(savedEvent);
+        eventKeywordTagger.tag(savedEvent);
+        requestQrCode(savedEvent);
         validateAndSaveSchedules(savedEvent, createEventRequest);
         return CreateEventResponse.of(savedEvent);
     }
@@ -73,7 +85,8 @@ public class EventService {
     public CreateEventResponse createEventForAuthenticatedUser(CreateEventRequest createEventRequest, String authorizationHeader) {
         User user = jwtUtil.getUserFromHeader(authorizationHeader);
         Event savedEvent = eventRepository.save(createEventRequest.toEntity());
-        createAndAddQrCode(savedEvent);
+        eventKeywordTagger.tag(savedEvent);
+        requestQrCode(savedEvent);
 
         // 이벤트 참여 정보 저장
         EventParticipation eventParticipation = EventParticipation.builder()
@@ -190,15 +203,17 @@ public class EventService {
     }
 
     /**
-     * 이벤트 저장 및 QR 코드 생성 후 저장하는 메서드.
+     * QR 코드 생성을 요청하는 메서드.
+     * 이벤트는 PENDING 상태로 저장되고, 실제 생성/업로드는 커밋 이후 QrCodeGenerationWorker가 수행합니다.
+     * 지연 생성 모드에서는 첫 QR 조회 시점에 생성하므로 요청하지 않습니다.
      *
      * @param event 생성된 이벤트
      */
-    @Async
-    public void createAndAddQrCode(Event event) {
-        // QR 코드 생성 및 업로드
-        String qrFileName = generateAndUploadQrCode(event.getEventId());
-        event.addQrFileName(qrFileName);
+    private void requestQrCode(Event event) {
+        if (lazyQrGeneration) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(QrCodeGenerationMessage.from(event));
     }
 
     /**
@@ -221,23 +236,6 @@ public class EventService {
         }
     }
 
-    /**
-     * QR 코드를 생성하고 S3에 업로드하는 메서드.
-     * 주어진 이벤트 ID를 기반으로 QR 코드를 생성한 후, S3에 업로드합니다.
-     *
-     * @param eventId QR 코드를 생성할 이벤트의 ID
-     * @return S3에 업로드된 QR 코드 파일 이름
-     * @throws CustomException QR 코드 생성 또는 S3 업로드 실패 시 발생
-     */
-    private String generateAndUploadQrCode(UUID eventId) {
-        try {
-            MultipartFile qrCodeFile = qrUtil.getQrCodeFile(eventId);
-            return s3Util.uploadImage("qr", qrCodeFile);
-        } catch (Exception e) {
-            throw new CustomException(EventErrorStatus._FAILED_GENERATE_QR_CODE);
-        }
-    }
-
     /**
      * 날짜 기반 스케줄을 생성하고 저장하는 메서드.
      * 이벤트의 날짜 범위와 시작/종료 시간을 기반으로 모든 가능한 스케줄을 생성합니다.
@@ -681,7 +679,9 @@ public class EventService {
         EventParticipation eventParticipation = verifyUserHasEventAccess(user, eventId);
 
         eventRepository.deleteEvent(eventParticipation.getEvent());
-        s3Util.deleteFile(eventParticipation.getEvent().getQrFileName()); // QR 이미지 삭제
+        // QR 이미지는 커밋 이후 삭제
+        applicationEventPublisher.publishEvent(
+                S3ObjectDeletionMessage.of(List.of(QrUtil.objectKeyOf(eventParticipation.getEvent()))));
     }
 
     /**
@@ -700,7 +700,11 @@ public class EventService {
             throw new CustomException(EventErrorStatus._CANNOT_MODIFY_CONFIRMED_EVENT);
         }
 
+        String previousTitle = event.getTitle();
         event.updateTitle(modifyEventRequest.title());
+        if (!Objects.equals(previousTitle, event.getTitle())) {
+            eventKeywordTagger.tag(event);
+        }
         updateEventRanges(event, event.getSchedules(), modifyEventRequest.ranges(), modifyEventRequest.startTime(), modifyEventRequest.endTime());
 
         // 변경된 범위에 따른 새로운 스케줄 목록
@@ -851,19 +855,35 @@ public class EventService {
      * 이벤트 QR Code 조회 메서드.
      * 특정 이벤트의 QR 코드 이미지를 S3에서 가져와 URL을 반환합니다.
      *
+     * 지연 생성 모드에서는 첫 조회 시 QR 코드를 생성/업로드한 뒤 URL을 반환합니다.
+     * 그 외에는 아직 생성 중이면 PENDING 응답을 반환하고,
+     * 생성에 실패했거나 QR 없이 남아 있는 이벤트, pending-timeout이 지나도록 PENDING인 이벤트는 이 시점에 한 번 더 생성을 요청합니다.
+     *
+     * S3 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     *
      * @param eventId QR 코드를 조회할 이벤트의 ID
-     * @return QR 코드 이미지 URL
-     * @throws CustomException 이벤트 또는 QR 코드를 찾을 수 없는 경우
+     * @return QR 코드 이미지 URL 또는 생성 대기 상태
+     * @throws CustomException 이벤트를 찾을 수 없거나 지연 생성에 실패한 경우
      */
-    @Transactional(readOnly = true)
     public GetEventQrCodeResponse getEventQrCode(String eventId) {
         Event event = eventRepository.findByEventId(UUID.fromString(eventId))
                 .orElseThrow(() -> new CustomException(EventErrorStatus._NOT_FOUND_EVENT));
-        if (event.getQrFileName() == null) {
-            throw new CustomException(EventErrorStatus._NOT_FOUND_EVENT_QR_CODE);
+        if (event.isQrCodeReady()) {
+            String qrCodeImgUrl = s3Util.getPublicUrl(event.getQrFileName());
+            return GetEventQrCodeResponse.from(qrCodeImgUrl);
+        }
+        if (lazyQrGeneration) {
+            String qrCodeImgUrl = s3Util.getPublicUrl(lazyQrCodeProvider.getOrCreate(event.getEventId()));
+            return GetEventQrCodeResponse.from(qrCodeImgUrl);
         }
 
-        String qrCodeImgUrl = s3Util.getPublicUrl(event.getQrFileName());
-        return GetEventQrCodeResponse.from(qrCodeImgUrl);
+        // 생성 중이면 기다리고, 실패했거나 요청이 유실된 것으로 보이면(PENDING이 오래됨) 조건부 UPDATE에 성공한 한 요청만 재생성을 요청
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(qrPendingTimeout);
+        if (!event.isQrCodeGenerating(staleBefore)
+                && eventRepository.requeueQrCode(event.getId(), now, staleBefore) == 1) {
+            requestQrCode(event);
+        }
+        return GetEventQrCodeResponse.pending();
     }
 }
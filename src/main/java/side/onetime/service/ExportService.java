@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import side.onetime.dto.admin.statistics.response.MarketingTargetDetailResponse;
@@ -98,6 +99,7 @@ public class ExportService {
     /**
      * CSV 내보내기용 유저 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<Object[]> getUsersForCsvExport(String search, LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
@@ -107,6 +109,7 @@ public class ExportService {
     /**
      * CSV 내보내기용 이벤트 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<Object[]> getEventsForCsvExport(String search, LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
@@ -0,0 +1,124 @@
+package side.onetime.service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EventErrorStatus;
+import side.onetime.util.QrUtil;
+import side.onetime.util.S3Util;
+
+/**
+ * QR 코드 지연 생성기 (qr.generation.lazy=true)
+ *
+ * 대부분의 이벤트는 QR을 열어보지 않으므로, 첫 조회 시점에만 렌더링/업로드합니다.
+ * - S3 키는 이벤트 UUID로 결정(qr/{uuid}.png)되어 DB에 파일명을 기록하지 않습니다.
+ * - 같은 이벤트의 동시 첫 요청은 Single-Flight로 한 번만 생성합니다.
+ *   다른 인스턴스(Blue/Green)와 겹치더라도 같은 키에 같은 이미지를 덮어쓰므로 안전합니다.
+ * - 최근 렌더링한 PNG는 작은 LRU에 보관해, 업로드 실패 후 재요청 시 다시 렌더링하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LazyQrCodeProvider {
+
+    private static final String CONTENT_TYPE = "image/png";
+    private static final long WAIT_TIMEOUT_SECONDS = 5;
+    private static final long RENDER_CACHE_MAX_BYTES = 4L * 1024 * 1024;
+
+    private final QrUtil qrUtil;
+    private final S3Util s3Util;
+
+    private final Cache<UUID, CompletableFuture<String>> inFlights = Caffeine.newBuilder()
+            .expireAfterWrite(WAIT_TIMEOUT_SECONDS * 2, TimeUnit.SECONDS)
+            .maximumSize(10_000)
+            .build();
+
+    // S3에 있는 것으로 확인된 키 (HEAD 요청 생략)
+    private final Cache<String, Boolean> uploadedKeys = Caffeine.newBuilder()
+            .expireAfterWrite(1, TimeUnit.DAYS)
+            .maximumSize(100_000)
+            .build();
+
+    // 최근 렌더링한 PNG (1-bit PNG는 수 KB 수준)
+    private final Cache<UUID, byte[]> renderedImages = Caffeine.newBuilder()
+            .maximumWeight(RENDER_CACHE_MAX_BYTES)
+            .weigher((UUID eventId, byte[] png) -> png.length)
+            .build();
+
+    /**
+     * 이벤트 QR 코드의 S3 키를 반환합니다. 필요하면 이 시점에 생성/업로드합니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return S3 객체 키
+     * @throws CustomException QR 코드 생성 또는 업로드 실패 시
+     */
+    public String getOrCreate(UUID eventId) {
+        String key = QrUtil.lazyObjectKey(eventId);
+        if (uploadedKeys.getIfPresent(key) != null) {
+            return key;
+        }
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlights.asMap().putIfAbsent(eventId, created);
+        if (existing == null) {
+            return lead(eventId, key, created);
+        }
+        return follow(eventId, existing);
+    }
+
+    private String lead(UUID eventId, String key, CompletableFuture<String> inFlight) {
+        try {
+            if (!s3Util.exists(key)) {
+                byte[] png = renderedImages.get(eventId, this::render);
+                s3Util.uploadBytes(key, png, CONTENT_TYPE);
+                log.info("[LazyQrCodeProvider] QR 코드 지연 생성 - eventId={}, bytes={}", eventId, png.length);
+            }
+            uploadedKeys.put(key, Boolean.TRUE);
+            inFlight.complete(key);
+            return key;
+        } catch (RuntimeException e) {
+            log.error("[LazyQrCodeProvider] QR 코드 생성 실패 - eventId={}", eventId, e);
+            CustomException failure = new CustomException(EventErrorStatus._FAILED_GENERATE_QR_CODE);
+            inFlight.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            inFlights.asMap().remove(eventId, inFlight);
+        }
+    }
+
+    private String follow(UUID eventId, CompletableFuture<String> inFlight) {
+        try {
+            return inFlight.get(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(EventErrorStatus._FAILED_GENERATE_QR_CODE);
+        } catch (TimeoutException e) {
+            log.warn("[LazyQrCodeProvider] 진행 중인 QR 생성 대기 시간 초과 - eventId={}", eventId);
+            throw new CustomException(EventErrorStatus._FAILED_GENERATE_QR_CODE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(EventErrorStatus._FAILED_GENERATE_QR_CODE);
+        }
+    }
+
+    private byte[] render(UUID eventId) {
+        try {
+            return qrUtil.getQrCodeBytes(eventId);
+        } catch (Exception e) {
+            throw new IllegalStateException("QR 코드 렌더링 실패: " + eventId, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package side.onetime.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.enums.QrCodeStatus;
+import side.onetime.dto.event.request.QrCodeGenerationMessage;
+import side.onetime.global.config.AsyncConfig;
+import side.onetime.repository.EventRepository;
+import side.onetime.util.QrUtil;
+import side.onetime.util.S3Util;
+
+/**
+ * QR 코드 백그라운드 생성 워커.
+ *
+ * 이벤트 생성 트랜잭션이 커밋된 뒤 qrGenerationExecutor에서 QR 렌더링과 S3 업로드를 수행하고,
+ * 완료되면 qr_file_name을 채우고 상태를 READY로 바꿉니다.
+ * 실패 시 지수 백오프(+jitter)로 재시도하며, 최종 실패하면 FAILED로 남겨 조회 시점에 다시 요청되도록 합니다.
+ * (조회 시점의 재요청은 트랜잭션 밖에서 발행되므로 fallbackExecution으로 바로 처리합니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrCodeGenerationWorker {
+
+    private static final String QR_DIRECTORY = "qr";
+
+    private final EventRepository eventRepository;
+    private final QrUtil qrUtil;
+    private final S3Util s3Util;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${qr.generation.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${qr.generation.initial-backoff:PT0.5S}")
+    private Duration initialBackoff;
+
+    @Value("${qr.generation.max-backoff:PT5S}")
+    private Duration maxBackoff;
+
+    @Async(AsyncConfig.QR_GENERATION_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(QrCodeGenerationMessage message) {
+        long backoffMillis = initialBackoff.toMillis();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                generate(message);
+                record("success", attempt);
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("[QrCodeGenerationWorker] QR 생성 최종 실패 - eventId={}, attempts={}",
+                            message.eventId(), attempt, e);
+                    eventRepository.updateQrStatusIf(message.id(), QrCodeStatus.PENDING, QrCodeStatus.FAILED);
+                    record("failed", attempt);
+                    return;
+                }
+                log.warn("[QrCodeGenerationWorker] QR 생성 실패, 재시도 예정 - eventId={}, attempt={}, error={}",
+                        message.eventId(), attempt, e.getMessage());
+            }
+
+            if (!sleep(backoffMillis)) {
+                eventRepository.updateQrStatusIf(message.id(), QrCodeStatus.PENDING, QrCodeStatus.FAILED);
+                record("interrupted", attempt);
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, maxBackoff.toMillis());
+        }
+    }
+
+    private void generate(QrCodeGenerationMessage message) throws Exception {
+        String qrFileName = s3Util.uploadImage(QR_DIRECTORY, qrUtil.getQrCodeFile(message.eventId()));
+
+        if (eventRepository.completeQrCode(message.id(), qrFileName) == 0) {
+            // 업로드 사이에 이벤트가 사라진 경우 고아 파일 정리
+            log.info("[QrCodeGenerationWorker] 이벤트가 존재하지 않아 업로드한 QR 삭제 - eventId={}", message.eventId());
+            s3Util.deleteFile(qrFileName);
+        }
+    }
+
+    /**
+     * @return 인터럽트 없이 대기를 마쳤으면 true
+     */
+    private boolean sleep(long backoffMillis) {
+        // 동시에 실패한 작업들이 같은 시점에 재시도하지 않도록 [backoff/2, backoff] 구간에서 대기
+        long jittered = backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+        try {
+            Thread.sleep(jittered);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String result, int attempts) {
+        meterRegistry.counter("qr.generation", "result", result).increment();
+        meterRegistry.summary("qr.generation.attempts").record(attempts);
+    }
+}
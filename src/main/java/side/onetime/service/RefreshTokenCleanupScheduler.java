@@ -1,11 +1,21 @@
 package side.onetime.service;
 
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import side.onetime.repository.RefreshTokenRepository;
@@ -14,24 +24,138 @@ import side.onetime.repository.RefreshTokenRepository;
  * Refresh Token 정리 스케줄러
  *
  * - 만료된 토큰 상태 업데이트 (ACTIVE → EXPIRED)
- * - Hard delete는 통계(MAU/DAU)에서 last_used_at을 사용하므로 비활성화
+ * - 오래된 비활성 토큰 물리 삭제 (기본 비활성화: 통계(MAU/DAU)에서 last_used_at을 사용)
+ *
+ * 한 번의 대량 UPDATE/DELETE는 행 락을 오래 잡아 markAsRotatedIfActive와 경합하므로,
+ * ID 키셋 페이지네이션으로 청크를 나누고 청크마다 짧은 트랜잭션을 커밋한 뒤 잠시 쉰다.
+ * 처리된 행은 조회 조건에서 빠지므로 중간에 끊겨도 다음 실행이 남은 구간부터 이어서 처리한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RefreshTokenCleanupScheduler {
 
+    private static final String METRIC_PREFIX = "refresh_token.cleanup";
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${refresh-token.cleanup.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${refresh-token.cleanup.pause-millis:200}")
+    private long pauseMillis;
+
+    @Value("${refresh-token.cleanup.max-duration:PT20M}")
+    private Duration maxDuration;
+
+    @Value("${refresh-token.cleanup.retention-days:30}")
+    private int retentionDays;
 
     /**
      * 만료된 토큰 상태 업데이트
      *
-     * ACTIVE 상태이면서 expiry_at이 지난 토큰을 EXPIRED로 변경
+     * ACTIVE 상태이면서 expiry_at이 지난 토큰을 청크 단위로 EXPIRED로 변경
      */
     @Scheduled(cron = "${refresh-token.cleanup.update-expired-cron:0 0 3 * * *}")
-    @Transactional
     public void updateExpiredTokens() {
-        int count = refreshTokenRepository.updateExpiredTokens(LocalDateTime.now());
-        log.info("[RefreshToken Cleanup] 만료 토큰 상태 업데이트: {}건", count);
+        LocalDateTime now = LocalDateTime.now();
+        sweep("expire",
+                lastId -> refreshTokenRepository.findExpiredActiveTokenIds(now, lastId, chunkSize),
+                ids -> refreshTokenRepository.expireTokensByIds(ids, now));
+    }
+
+    /**
+     * 오래된 비활성 토큰 물리 삭제
+     *
+     * REVOKED/EXPIRED/ROTATED 상태로 retention-days 이상 지난 토큰을 청크 단위로 삭제
+     * 기본 cron은 "-"(비활성)이며, 통계 보존 정책이 정리되면 설정으로 켠다.
+     */
+    @Scheduled(cron = "${refresh-token.cleanup.hard-delete-cron:-}")
+    public void hardDeleteOldInactiveTokens() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        sweep("hard_delete",
+                lastId -> refreshTokenRepository.findOldInactiveTokenIds(threshold, lastId, chunkSize),
+                ids -> refreshTokenRepository.hardDeleteByIds(ids, threshold));
+    }
+
+    /**
+     * 키셋 페이지네이션 기반 청크 정리 루프
+     *
+     * @param job      작업 이름 (로그/메트릭 태그)
+     * @param fetchIds 마지막 ID 이후의 대상 ID 청크 조회
+     * @param apply    청크 단위 변경 (각 호출이 하나의 짧은 트랜잭션)
+     */
+    private void sweep(String job, LongFunction<List<Long>> fetchIds, Function<List<Long>, Integer> apply) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+        Counter rowCounter = meterRegistry.counter(METRIC_PREFIX + ".rows", "job", job);
+        Counter chunkCounter = meterRegistry.counter(METRIC_PREFIX + ".chunks", "job", job);
+
+        long lastId = 0L;
+        int chunks = 0;
+        int total = 0;
+        boolean completed = false;
+
+        while (true) {
+            List<Long> ids = fetchIds.apply(lastId);
+            if (ids.isEmpty()) {
+                completed = true;
+                break;
+            }
+
+            int affected = apply.apply(ids);
+            lastId = ids.get(ids.size() - 1);
+            chunks++;
+            total += affected;
+            rowCounter.increment(affected);
+            chunkCounter.increment();
+
+            log.debug("[RefreshToken Cleanup] 청크 처리", kv("job", job), kv("chunk", chunks),
+                    kv("affected", affected), kv("last_id", lastId), kv("total", total));
+
+            if (ids.size() < chunkSize) {
+                completed = true;
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                // 남은 행은 조회 조건을 그대로 만족하므로 다음 실행에서 이어서 처리된다
+                log.warn("[RefreshToken Cleanup] 최대 실행 시간 초과로 중단", kv("job", job),
+                        kv("last_id", lastId), kv("total", total));
+                break;
+            }
+            if (!pause()) {
+                log.warn("[RefreshToken Cleanup] 인터럽트로 중단", kv("job", job), kv("last_id", lastId));
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder(METRIC_PREFIX + ".duration")
+                .tag("job", job)
+                .tag("completed", String.valueOf(completed))
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        log.info("[RefreshToken Cleanup] 정리 완료", kv("job", job), kv("total", total), kv("chunks", chunks),
+                kv("completed", completed), kv("duration_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+    }
+
+    /**
+     * 청크 사이 대기 (동시 요청에 락/IO 여유를 준다)
+     *
+     * @return 계속 진행해도 되면 true, 인터럽트되면 false
+     */
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
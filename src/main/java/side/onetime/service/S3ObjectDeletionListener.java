@@ -0,0 +1,85 @@
+package side.onetime.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.dto.s3.S3ObjectDeletionMessage;
+import side.onetime.global.config.AsyncConfig;
+import side.onetime.util.S3Util;
+
+/**
+ * S3 객체 일괄 삭제 리스너.
+ *
+ * DB 삭제가 커밋된 뒤에만 S3 객체를 지웁니다. (롤백되면 파일이 남아 있어야 하므로)
+ * DeleteObjects로 최대 1000개씩 삭제하고, 일부 키가 실패하면 해당 키만 백오프 후 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectDeletionListener {
+
+    private final S3Util s3Util;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${s3.delete.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${s3.delete.initial-backoff:PT1S}")
+    private Duration initialBackoff;
+
+    @Async(AsyncConfig.S3_CLEANUP_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(S3ObjectDeletionMessage message) {
+        if (message.isEmpty()) {
+            return;
+        }
+
+        List<String> remaining = message.keys();
+        long backoffMillis = initialBackoff.toMillis();
+
+        for (int attempt = 1; ; attempt++) {
+            List<String> failed = s3Util.deleteFiles(remaining);
+            meterRegistry.counter("s3.delete.objects", "result", "deleted")
+                    .increment(remaining.size() - failed.size());
+
+            if (failed.isEmpty()) {
+                log.info("[S3ObjectDeletionListener] S3 일괄 삭제 완료 - keys={}, attempts={}",
+                        message.keys().size(), attempt);
+                return;
+            }
+            if (attempt >= maxAttempts || !sleep(backoffMillis)) {
+                meterRegistry.counter("s3.delete.objects", "result", "failed").increment(failed.size());
+                log.error("[S3ObjectDeletionListener] S3 일괄 삭제 최종 실패 - failed={}, sample={}",
+                        failed.size(), failed.subList(0, Math.min(10, failed.size())));
+                return;
+            }
+
+            log.warn("[S3ObjectDeletionListener] S3 일부 삭제 실패, 재시도 예정 - failed={}, attempt={}",
+                    failed.size(), attempt);
+            remaining = failed;
+            backoffMillis *= 2;
+        }
+    }
+
+    /**
+     * @return 인터럽트 없이 대기를 마쳤으면 true
+     */
+    private boolean sleep(long backoffMillis) {
+        try {
+            Thread.sleep(backoffMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
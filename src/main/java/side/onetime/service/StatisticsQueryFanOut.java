@@ -0,0 +1,188 @@
+package side.onetime.service;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.AdminErrorStatus;
+import side.onetime.global.config.AsyncConfig;
+import side.onetime.global.config.cache.UncacheableResult;
+import side.onetime.global.config.datasource.AnalyticsLane;
+import side.onetime.global.config.query.QueryEndpointContext;
+
+/**
+ * 통계 조회 병렬 실행기
+ *
+ * 서로 독립인 읽기 전용 조회를 statisticsQueryExecutor에서 동시에 실행하고, 한 기한(timeout) 안에서 결과를 모은다.
+ * 응답 시간이 조회 시간의 합이 아니라 가장 느린 조회의 시간이 된다.
+ * - 분기마다 새 읽기 전용 트랜잭션(커넥션)을 연다. 트랜잭션 타임아웃을 남은 기한으로 걸어 기한을 넘긴 쿼리는 DB에서도 취소된다.
+ * - 기한이 지난 뒤에 실행 차례가 온 분기는 쿼리를 실행하지 않는다.
+ * - 호출한 쪽은 트랜잭션 밖에서 fork 해야 한다. 트랜잭션 안이면 호출 스레드가 커넥션을 쥔 채 기다린다.
+ * - 필수 결과는 join(), 없어도 되는 결과는 joinOrElse()로 받아 부분 결과로 응답한다.
+ * - 분기의 조회 메트릭에는 fork한 요청의 엔드포인트가 붙는다.
+ * - 분기는 fork한 요청의 분석 레인 자리를 함께 쓴다. 분기 수만큼 자리를 받지 않는다.
+ */
+@Slf4j
+@Component
+public class StatisticsQueryFanOut {
+
+    private static final String METRIC_PREFIX = "statistics.fan_out";
+
+    private final Executor executor;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${statistics.fan-out.timeout:PT10S}")
+    private Duration timeout;
+
+    public StatisticsQueryFanOut(@Qualifier(AsyncConfig.STATISTICS_QUERY_EXECUTOR) Executor executor,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 조회 묶음을 시작합니다. 이 묶음에서 fork한 분기는 모두 지금부터 timeout 안에 끝나야 합니다.
+     *
+     * @param operation 로그/메트릭 태그 (예: dashboard_summary)
+     */
+    public Scope open(String operation) {
+        return new Scope(operation, System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 같은 기한을 공유하는 조회 묶음
+     */
+    public final class Scope {
+
+        private final String operation;
+        private final long deadlineNanos;
+
+        private Scope(String operation, long deadlineNanos) {
+            this.operation = operation;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 조회를 별도 스레드의 읽기 전용 트랜잭션에서 시작합니다.
+         *
+         * @param branch 로그/메트릭 태그 (예: current, previous)
+         * @param query  실행할 조회
+         */
+        public <T> Branch<T> fork(String branch, Supplier<T> query) {
+            long startedAt = System.nanoTime();
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(
+                    QueryEndpointContext.propagate(AnalyticsLane.propagate(() -> runReadOnly(query))), executor);
+            return new Branch<>(this, branch, future, startedAt);
+        }
+
+        private <T> T runReadOnly(Supplier<T> query) {
+            long remainingNanos = remainingNanos();
+            if (remainingNanos <= 0) {
+                throw new CancellationException("기한이 지나 조회를 실행하지 않음");
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            // 초 단위이므로 올림해서 남은 기한보다 먼저 끊기지 않게 한다
+            transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999L)));
+            return transactionTemplate.execute(status -> query.get());
+        }
+
+        private long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+    }
+
+    /**
+     * 실행 중인 조회 하나
+     */
+    public final class Branch<T> {
+
+        private final Scope scope;
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final long startedAt;
+
+        private Branch(Scope scope, String name, CompletableFuture<T> future, long startedAt) {
+            this.scope = scope;
+            this.name = name;
+            this.future = future;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 결과를 기다립니다. 기한 안에 끝나지 않거나 실패하면 예외를 던집니다.
+         *
+         * @throws CustomException _STATISTICS_QUERY_UNAVAILABLE
+         */
+        public T join() {
+            return await(() -> {
+                throw new CustomException(AdminErrorStatus._STATISTICS_QUERY_UNAVAILABLE);
+            });
+        }
+
+        /**
+         * 결과를 기다립니다. 기한 안에 끝나지 않거나 실패하면 fallback을 반환합니다.
+         * 이때 응답은 부분 결과이므로 캐시에 저장하지 않도록 표시합니다.
+         */
+        public T joinOrElse(T fallback) {
+            return await(() -> {
+                UncacheableResult.mark();
+                return fallback;
+            });
+        }
+
+        private T await(Supplier<T> onFailure) {
+            String result = "success";
+            try {
+                return future.get(Math.max(0, scope.remainingNanos()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException e) {
+                result = "timeout";
+                future.cancel(true);
+                log.warn("[Statistics FanOut] 조회 기한 초과", kv("operation", scope.operation), kv("branch", name),
+                        kv("timeout_ms", timeout.toMillis()));
+                return onFailure.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                result = cause instanceof CancellationException ? "timeout" : "failure";
+                log.warn("[Statistics FanOut] 조회 실패", kv("operation", scope.operation), kv("branch", name),
+                        kv("result", result), cause);
+                return onFailure.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = "interrupted";
+                future.cancel(true);
+                return onFailure.get();
+            } finally {
+                Timer.builder(METRIC_PREFIX + ".branch")
+                        .tag("operation", scope.operation)
+                        .tag("branch", name)
+                        .tag("result", result)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
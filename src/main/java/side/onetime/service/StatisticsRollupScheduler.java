@@ -0,0 +1,180 @@
+package side.onetime.service;
+
+import static net.logstash.logback.argument.StructuredArguments.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.enums.StatisticsPeriod;
+import side.onetime.repository.StatisticsRollupBatchRepository;
+
+/**
+ * 대시보드 롤업 집계 스케줄러
+ *
+ * - 증분 집계 (기본 매시 5분): 마지막 집계일에서 late-window만큼 앞선 날부터 오늘까지만 다시 집계한다.
+ *   최근 며칠 안의 변경(이벤트 확정/삭제, 탈퇴 등)을 매시 따라잡는다. 롤업이 비어 있으면 첫 데이터부터 백필한다.
+ * - 일간 재집계 (기본 매일 04:20)
+ *   - 가입 유저 컬럼: 휴면/퍼널 컬럼은 가입 후에도 계속 바뀌므로 첫 데이터부터 전체 가입일을 다시 집계한다.
+ *   - 이벤트 컬럼: 이벤트도 생성 후 며칠이 지나 확정/삭제될 수 있다. event-change-window 안에 바뀐 이벤트의 생성일만 다시 집계한다.
+ *     late-window보다 늦은 변경은 다음 날 반영된다.
+ *
+ * 일자 구간은 batch-days 단위로 나누어 구간마다 짧은 트랜잭션으로 커밋한다.
+ * 중간에 실패해도 커밋된 구간은 남고, 다음 실행이 MAX(stat_date) 기준으로 이어서 집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsRollupScheduler {
+
+    private static final String METRIC_PREFIX = "statistics.rollup";
+
+    private final StatisticsRollupBatchRepository statisticsRollupBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${statistics.rollup.late-window:P3D}")
+    private Duration lateWindow;
+
+    @Value("${statistics.rollup.batch-days:31}")
+    private int batchDays;
+
+    @Value("${statistics.rollup.event-change-window:P2D}")
+    private Duration eventChangeWindow;
+
+    /**
+     * 최근 일자 증분 집계 (가입, 이벤트, DAU/WAU/MAU)
+     */
+    @Scheduled(cron = "${statistics.rollup.cron:0 5 * * * *}")
+    public void rollupRecentDays() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = resolveIncrementalStart(today);
+        if (from == null) {
+            return;
+        }
+        LocalDate to = today.plusDays(1);
+        execute("incremental", from, to, () -> {
+            rollupRange(from, to, true);
+            rollupActiveUsers(from, to);
+        });
+    }
+
+    /**
+     * 일간 재집계 (전체 가입일의 휴면/퍼널 컬럼, 최근 바뀐 이벤트 생성일의 이벤트 컬럼)
+     */
+    @Scheduled(cron = "${statistics.rollup.cohort-cron:0 20 4 * * *}")
+    public void refreshSignupCohorts() {
+        LocalDate from = statisticsRollupBatchRepository.findFirstActivityDate();
+        if (from == null) {
+            return;
+        }
+        LocalDate to = LocalDate.now().plusDays(1);
+        execute("cohort", from, to, () -> rollupRange(from, to, false));
+        refreshChangedEventDays(LocalDateTime.now().minus(eventChangeWindow));
+    }
+
+    /**
+     * since 이후 확정/삭제되거나 참여자가 늘어난 이벤트의 생성일만 이벤트 컬럼을 다시 집계합니다.
+     * 생성일이 오래된 이벤트가 늦게 바뀌어도 전체 이벤트를 다시 세지 않는다.
+     */
+    void refreshChangedEventDays(LocalDateTime since) {
+        List<LocalDate> days = statisticsRollupBatchRepository.findChangedEventDays(since);
+        if (days.isEmpty()) {
+            return;
+        }
+        execute("event-changes", days.get(0), days.get(days.size() - 1).plusDays(1), () -> {
+            for (int from = 0; from < days.size(); from += batchDays) {
+                List<LocalDate> batch = days.subList(from, Math.min(from + batchDays, days.size()));
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(day ->
+                        statisticsRollupBatchRepository.rollupEvents(day, day.plusDays(1))));
+            }
+        });
+    }
+
+    /**
+     * 증분 집계 시작일
+     *
+     * @return 마지막 집계일 - late-window (오늘을 넘지 않음), 롤업이 비어 있으면 첫 데이터 날짜, 데이터가 없으면 null
+     */
+    LocalDate resolveIncrementalStart(LocalDate today) {
+        LocalDate lastRollupDate = statisticsRollupBatchRepository.findLastRollupDate();
+        if (lastRollupDate == null) {
+            return statisticsRollupBatchRepository.findFirstActivityDate();
+        }
+        LocalDate from = lastRollupDate.minusDays(lateWindow.toDays());
+        return from.isAfter(today) ? today : from;
+    }
+
+    /**
+     * 집계 작업 하나를 실행하고 소요 시간을 기록합니다. 실패해도 예외를 던지지 않고 다음 실행에 맡깁니다.
+     *
+     * @param from 로그에 남길 구간 시작일
+     * @param to   로그에 남길 구간 끝(제외)
+     */
+    private void execute(String job, LocalDate from, LocalDate to, Runnable work) {
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        try {
+            work.run();
+            completed = true;
+        } catch (RuntimeException e) {
+            // 커밋된 구간은 남으므로 다음 실행에서 이어서 집계된다
+            log.error("[Statistics Rollup] 집계 중단", kv("alert", "statistics_rollup_failed"), kv("job", job),
+                    kv("from", from), kv("to", to), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Timer.builder(METRIC_PREFIX + ".duration")
+                    .tag("job", job)
+                    .tag("completed", String.valueOf(completed))
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("[Statistics Rollup] 집계 종료", kv("job", job), kv("from", from), kv("to", to),
+                    kv("completed", completed), kv("duration_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        }
+    }
+
+    /**
+     * [from, to) 구간을 batch-days마다 나누어 집계합니다.
+     */
+    private void rollupRange(LocalDate from, LocalDate to, boolean includeEvents) {
+        for (LocalDate batchFrom = from; batchFrom.isBefore(to); batchFrom = batchFrom.plusDays(batchDays)) {
+            LocalDate batchTo = batchFrom.plusDays(batchDays).isBefore(to) ? batchFrom.plusDays(batchDays) : to;
+            rollupDays(batchFrom, batchTo, includeEvents);
+        }
+    }
+
+    /**
+     * [from, to) 일자 구간 하나를 한 트랜잭션으로 집계합니다.
+     */
+    void rollupDays(LocalDate from, LocalDate to, boolean includeEvents) {
+        transactionTemplate.executeWithoutResult(status -> {
+            statisticsRollupBatchRepository.rollupSignups(from, to);
+            if (includeEvents) {
+                statisticsRollupBatchRepository.rollupEvents(from, to);
+            }
+        });
+    }
+
+    /**
+     * 활성 유저는 주/월 경계가 잘리지 않도록 구간 전체를 기간 시작일에 맞춰 한 번에 집계합니다.
+     */
+    void rollupActiveUsers(LocalDate from, LocalDate to) {
+        statisticsRollupBatchRepository.rollupActiveUsers(StatisticsPeriod.DAY, from, to);
+        statisticsRollupBatchRepository.rollupActiveUsers(StatisticsPeriod.WEEK,
+                from.with(DayOfWeek.MONDAY), to);
+        statisticsRollupBatchRepository.rollupActiveUsers(StatisticsPeriod.MONTH,
+                from.withDayOfMonth(1), to);
+    }
+}
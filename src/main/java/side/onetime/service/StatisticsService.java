@@ -12,12 +12,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import side.onetime.domain.CohortRetention;
+import side.onetime.domain.StatisticsActiveUserRollup;
+import side.onetime.domain.StatisticsDailyRollup;
+import side.onetime.domain.enums.CohortType;
+import side.onetime.domain.enums.StatisticsPeriod;
 import side.onetime.dto.admin.email.response.UserSearchResult;
 import side.onetime.dto.admin.statistics.response.CohortRetentionResponse;
 import side.onetime.dto.admin.statistics.response.DashboardChartsResponse;
@@ -27,12 +35,20 @@ import side.onetime.dto.admin.statistics.response.EventStatisticsResponse;
 import side.onetime.dto.admin.statistics.response.FunnelAnalysisResponse;
 import side.onetime.dto.admin.statistics.response.MarketingTargetDetailResponse;
 import side.onetime.dto.admin.statistics.response.MarketingTargetsResponse;
+import side.onetime.dto.admin.statistics.response.QueryPerformanceResponse;
 import side.onetime.dto.admin.statistics.response.RetentionStatisticsResponse;
 import side.onetime.dto.admin.statistics.response.StickinessResponse;
 import side.onetime.dto.admin.statistics.response.TimeWeekdayHeatmapResponse;
 import side.onetime.dto.admin.statistics.response.TtvDistributionResponse;
 import side.onetime.dto.admin.statistics.response.UserDetailResponse;
 import side.onetime.dto.admin.statistics.response.UserStatisticsResponse;
+import side.onetime.global.config.CacheConfig;
+import side.onetime.global.config.cache.StatisticsCacheable;
+import side.onetime.global.config.query.QueryStatsRecorder;
+import side.onetime.global.config.search.UserSearchIndex;
+import side.onetime.repository.CohortRetentionRepository;
+import side.onetime.repository.StatisticsActiveUserRollupRepository;
+import side.onetime.repository.StatisticsDailyRollupRepository;
 import side.onetime.repository.StatisticsRepository;
 import side.onetime.repository.custom.StatisticsRepositoryCustom;
 
@@ -44,6 +60,12 @@ public class StatisticsService {
 
     private final StatisticsRepository statisticsRepository;
     private final StatisticsRepositoryCustom statisticsRepositoryCustom;
+    private final StatisticsDailyRollupRepository statisticsDailyRollupRepository;
+    private final StatisticsActiveUserRollupRepository statisticsActiveUserRollupRepository;
+    private final StatisticsQueryFanOut statisticsQueryFanOut;
+    private final CohortRetentionRepository cohortRetentionRepository;
+    private final QueryStatsRecorder queryStatsRecorder;
+    private final UserSearchIndex userSearchIndex;
 
     private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
 
@@ -96,51 +118,144 @@ public class StatisticsService {
         return value != null ? value : 0L;
     }
 
+    /**
+     * 일자별 롤업 합계 (StatisticsRollupScheduler가 집계한 stats_daily_rollups 기준)
+     */
+    private record RollupTotals(
+            long signups,
+            long marketingAgreedSignups,
+            long googleSignups,
+            long kakaoSignups,
+            long naverSignups,
+            long dormantSignups,
+            long firstEventUsers,
+            long participantReceivedUsers,
+            long secondEventUsers,
+            long eventsCreated,
+            long confirmedEvents,
+            long participantEvents,
+            long participations,
+            long members
+    ) {
+        static RollupTotals sum(List<StatisticsDailyRollup> rollups) {
+            long[] t = new long[14];
+            for (StatisticsDailyRollup r : rollups) {
+                t[0] += r.getSignups();
+                t[1] += r.getMarketingAgreedSignups();
+                t[2] += r.getGoogleSignups();
+                t[3] += r.getKakaoSignups();
+                t[4] += r.getNaverSignups();
+                t[5] += r.getDormantSignups();
+                t[6] += r.getFirstEventUsers();
+                t[7] += r.getParticipantReceivedUsers();
+                t[8] += r.getSecondEventUsers();
+                t[9] += r.getEventsCreated();
+                t[10] += r.getConfirmedEvents();
+                t[11] += r.getParticipantEvents();
+                t[12] += r.getParticipations();
+                t[13] += r.getMembers();
+            }
+            return new RollupTotals(t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7], t[8], t[9], t[10], t[11], t[12], t[13]);
+        }
+    }
+
+    /**
+     * 기간 내 일자별 롤업 조회 (양 끝 포함, 기간 일수만큼의 행)
+     */
+    private List<StatisticsDailyRollup> findDailyRollups(LocalDate startDate, LocalDate endDate) {
+        return statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(startDate, endDate);
+    }
+
+    /**
+     * 시작일이 기간 안에 있는 활성 유저 롤업 조회
+     */
+    private List<StatisticsActiveUserRollup> findActiveUserRollups(StatisticsPeriod period,
+                                                                   LocalDate startDate, LocalDate endDate) {
+        return statisticsActiveUserRollupRepository
+                .findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(period, startDate, endDate);
+    }
+
     // ==================== Public Service Methods ====================
 
     /**
      * 유저 검색 (이름/이메일/닉네임)
-     * 이메일 발송 시 특정 유저 선택용
+     * 이메일 발송 시 특정 유저 선택용. 검색 인덱스가 있으면 인덱스로 찾는다.
      */
     @Transactional(readOnly = true)
     public List<UserSearchResult> searchUsers(String query, int limit) {
-        return statisticsRepository.searchUsersByNameOrEmail(query, limit)
-                .stream()
+        String term = query.trim();
+        List<Object[]> rows = switch (userSearchIndex.modeFor(term)) {
+            case FULL_TEXT -> statisticsRepository.searchUsersByFullText(UserSearchIndex.phrase(term), term, limit);
+            case SCAN -> statisticsRepository.searchUsersByNameOrEmail(term, limit);
+        };
+        return rows.stream()
                 .map(UserSearchResult::from)
                 .toList();
     }
 
+    /**
+     * 통계 응답 캐시 전체 삭제
+     * 롤업 재집계, 데이터 보정 직후 바로 반영해야 할 때 사용
+     */
+    @CacheEvict(cacheNames = {CacheConfig.STATISTICS_HISTORY_CACHE, CacheConfig.STATISTICS_LIVE_CACHE}, allEntries = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeCache() {
+        log.info("[Statistics] 통계 캐시 삭제");
+    }
+
+    /**
+     * 통계 쿼리 성능
+     * 서버 시작 이후 리포지토리 메서드별 누적 시간 상위 목록과 최근 느린 쿼리
+     *
+     * @param limit 반환할 메서드 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public QueryPerformanceResponse getQueryPerformance(int limit) {
+        return QueryPerformanceResponse.of(
+                queryStatsRecorder.since(),
+                queryStatsRecorder.slowThreshold().toMillis(),
+                queryStatsRecorder.topByTotalTime(limit).stream()
+                        .map(QueryPerformanceResponse.QueryRow::from)
+                        .toList(),
+                queryStatsRecorder.recentSlowQueries().stream()
+                        .map(QueryPerformanceResponse.SlowQueryRow::from)
+                        .toList()
+        );
+    }
+
     /**
      * Get dashboard summary statistics
-     * refresh_token 기반 MAU 적용 (설계 문서 12.3 쿼리)
-     * Native Query로 최적화됨
+     * 일자별 롤업(stats_daily_rollups, stats_active_user_rollups)에서 기간 일수만큼의 행만 읽어 합산
      * 이전 기간 대비 증감률 포함
+     * 현재/이전 기간은 각자의 읽기 전용 트랜잭션에서 동시에 조회하고, 이전 기간이 기한 안에 끝나지 않으면 비교 없이 응답
      */
-    @Transactional(readOnly = true)
+    @StatisticsCacheable
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardSummaryResponse getDashboardSummary(LocalDate startDate, LocalDate endDate) {
-        DateTimeRange range = DateTimeRange.of(startDate, endDate);
-
-        // 현재 기간 통계 조회
-        SummaryData current = getSummaryDataForRange(range);
-
         // 이전 기간 계산 (동일 길이의 이전 기간)
         long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
         LocalDate prevEndDate = startDate.minusDays(1);
         LocalDate prevStartDate = prevEndDate.minusDays(daysBetween);
-        DateTimeRange prevRange = DateTimeRange.of(prevStartDate, prevEndDate);
 
-        // 이전 기간 통계 조회
-        SummaryData previous = getSummaryDataForRange(prevRange);
+        StatisticsQueryFanOut.Scope scope = statisticsQueryFanOut.open("dashboard_summary");
+        StatisticsQueryFanOut.Branch<SummaryData> currentBranch =
+                scope.fork("current", () -> getSummaryDataForRange(startDate, endDate));
+        StatisticsQueryFanOut.Branch<SummaryData> previousBranch =
+                scope.fork("previous", () -> getSummaryDataForRange(prevStartDate, prevEndDate));
+
+        SummaryData current = currentBranch.join();
+        SummaryData previous = previousBranch.joinOrElse(null);
 
         // 비교 데이터 생성
-        DashboardSummaryResponse.ComparisonData comparison = DashboardSummaryResponse.ComparisonData.of(
-                current.totalUsers, previous.totalUsers,
-                current.totalEvents, previous.totalEvents,
-                current.mau, previous.mau,
-                current.avgParticipants, previous.avgParticipants,
-                current.dormantRate, previous.dormantRate,
-                current.marketingTargetUsers, previous.marketingTargetUsers
-        );
+        DashboardSummaryResponse.ComparisonData comparison = previous == null ? null
+                : DashboardSummaryResponse.ComparisonData.of(
+                        current.totalUsers, previous.totalUsers,
+                        current.totalEvents, previous.totalEvents,
+                        current.mau, previous.mau,
+                        current.avgParticipants, previous.avgParticipants,
+                        current.dormantRate, previous.dormantRate,
+                        current.marketingTargetUsers, previous.marketingTargetUsers
+                );
 
         return DashboardSummaryResponse.of(
                 current.totalUsers, current.activeUsers, current.totalEvents,
@@ -155,49 +270,35 @@ public class StatisticsService {
     /**
      * 기간별 요약 통계 데이터 조회 (내부 헬퍼)
      */
-    private SummaryData getSummaryDataForRange(DateTimeRange range) {
-        // Native Query로 유저 통계 조회 (totalUsers, marketingAgreed)
-        Object[] userStats = getFirstRow(statisticsRepository.getUserStatsByDateRange(range.start(), range.end()));
-        long totalUsers = extractLong(userStats, 0);
-        long marketingTargetUsers = extractLong(userStats, 1);
+    private SummaryData getSummaryDataForRange(LocalDate startDate, LocalDate endDate) {
+        RollupTotals totals = RollupTotals.sum(findDailyRollups(startDate, endDate));
 
-        // Native Query로 이벤트 통계 조회
-        Object[] eventStats = getFirstRow(statisticsRepository.getEventStatsByDateRange(range.start(), range.end()));
-        long totalEvents = extractLong(eventStats, 0);
+        // 기간 내 가입 유저 (ACTIVE), 마케팅 동의 유저
+        long totalUsers = totals.signups();
+        long marketingTargetUsers = totals.marketingAgreedSignups();
 
-        // 확정 이벤트 수
-        long confirmedEvents = nullToZero(statisticsRepository.countConfirmedEvents(range.start(), range.end()));
+        // 기간 내 생성 이벤트, 확정 이벤트
+        long totalEvents = totals.eventsCreated();
+        long confirmedEvents = totals.confirmedEvents();
 
-        // Active users - refresh_token 기반 (기간 내 로그인)
-        List<Object[]> dauData = statisticsRepository.findDailyActiveUsers(range.start(), range.end());
-        long activeUsers = dauData.stream()
-                .mapToLong(row -> extractLong(row, 1))
+        // Active users - 기간 내 최대 DAU
+        long activeUsers = findActiveUserRollups(StatisticsPeriod.DAY, startDate, endDate).stream()
+                .mapToLong(StatisticsActiveUserRollup::getActiveUsers)
                 .max()
                 .orElse(0L);
 
-        // MAU - refresh_token 기반 (기간 내)
-        List<Object[]> mauData = statisticsRepository.findMonthlyActiveUsers(range.start(), range.end());
-        long mau = mauData.stream()
-                .mapToLong(row -> extractLong(row, 1))
+        // MAU - 기간에 걸친 월별 MAU 합
+        long mau = findActiveUserRollups(StatisticsPeriod.MONTH, startDate.withDayOfMonth(1), endDate).stream()
+                .mapToLong(StatisticsActiveUserRollup::getActiveUsers)
                 .sum();
 
-        // Average participants per event - Native Query 사용
-        Object[] avgData = getFirstRow(statisticsRepository.getAvgParticipantsData(range.start(), range.end()));
-        double avgParticipants = 0;
-        if (avgData != null) {
-            long eventCount = extractLong(avgData, 0);
-            long epCount = extractLong(avgData, 1);
-            long memberCount = extractLong(avgData, 2);
-            if (eventCount > 0) {
-                avgParticipants = (double) (epCount + memberCount) / eventCount;
-            }
-        }
+        // Average participants per event
+        double avgParticipants = totals.participantEvents() > 0
+                ? (double) (totals.participations() + totals.members()) / totals.participantEvents()
+                : 0;
 
         // Dormant rate (기간 내 가입 유저 중 30일+ 미접속 비율)
-        Object[] dormantData = getFirstRow(statisticsRepository.countDormantRateByDateRange(range.start(), range.end()));
-        long dormantUsers = extractLong(dormantData, 0);
-        long totalUsersInRange = extractLong(dormantData, 1);
-        double dormantRate = totalUsersInRange > 0 ? (double) dormantUsers / totalUsersInRange * 100 : 0;
+        double dormantRate = totals.signups() > 0 ? (double) totals.dormantSignups() / totals.signups() * 100 : 0;
 
         return new SummaryData(totalUsers, activeUsers, totalEvents, confirmedEvents, mau, avgParticipants, dormantRate, marketingTargetUsers);
     }
@@ -218,10 +319,12 @@ public class StatisticsService {
 
     /**
      * Get dashboard chart data
-     * Native Query로 최적화됨
+     * 월별 가입자, Provider 분포, 요일별 이벤트는 일자별 롤업에서 계산
      * 이전 기간 비교 데이터 포함
+     * 현재 롤업, 이전 롤업, 키워드를 동시에 조회하고, 기한 안에 끝나지 않은 차트는 비워서 응답
      */
-    @Transactional(readOnly = true)
+    @StatisticsCacheable
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardChartsResponse getDashboardCharts(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
 
@@ -229,20 +332,51 @@ public class StatisticsService {
         long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
         LocalDate prevEndDate = startDate.minusDays(1);
         LocalDate prevStartDate = prevEndDate.minusDays(daysBetween);
-        DateTimeRange prevRange = DateTimeRange.of(prevStartDate, prevEndDate);
 
-        // Monthly signups with comparison - Native Query 사용
-        DashboardChartsResponse.ChartDataWithComparison monthlySignups =
-                getMonthlySignupsWithComparisonFromNativeQuery(range, prevRange, startDate, endDate, prevStartDate, prevEndDate);
+        StatisticsQueryFanOut.Scope scope = statisticsQueryFanOut.open("dashboard_charts");
+        StatisticsQueryFanOut.Branch<List<StatisticsDailyRollup>> currentBranch =
+                scope.fork("current", () -> findDailyRollups(startDate, endDate));
+        StatisticsQueryFanOut.Branch<List<StatisticsDailyRollup>> previousBranch =
+                scope.fork("previous", () -> findDailyRollups(prevStartDate, prevEndDate));
+        // Top keywords - Native Query 사용
+        StatisticsQueryFanOut.Branch<List<DashboardChartsResponse.KeywordItem>> keywordsBranch =
+                scope.fork("keywords", () -> getTopKeywordsFromNativeQuery(range.start(), range.end()));
+
+        List<StatisticsDailyRollup> rollups = currentBranch.joinOrElse(null);
+        List<StatisticsDailyRollup> prevRollups = previousBranch.joinOrElse(null);
+        List<DashboardChartsResponse.KeywordItem> topKeywords = keywordsBranch.joinOrElse(List.of());
+
+        if (rollups == null) {
+            // 0으로 채운 차트와 구분되도록 빈 차트로 응답
+            DashboardChartsResponse.ChartData empty = DashboardChartsResponse.ChartData.of(List.of(), List.of());
+            return DashboardChartsResponse.of(
+                    DashboardChartsResponse.ChartDataWithComparison.of(List.of(), List.of()),
+                    empty, empty, topKeywords);
+        }
 
-        // Provider distribution - Native Query 사용
-        DashboardChartsResponse.ChartData providers = getProviderDistributionFromNativeQuery(range.start(), range.end());
+        // Monthly signups with comparison (이전 기간이 없으면 비교 없이)
+        Map<String, Long> currentSignups = sumSignupsByMonth(rollups, startDate, endDate);
+        DashboardChartsResponse.ChartDataWithComparison monthlySignups;
+        if (prevRollups == null) {
+            monthlySignups = DashboardChartsResponse.ChartDataWithComparison.of(
+                    new ArrayList<>(currentSignups.keySet()),
+                    new ArrayList<>(currentSignups.values())
+            );
+        } else {
+            Map<String, Long> previousSignups = sumSignupsByMonth(prevRollups, prevStartDate, prevEndDate);
+            monthlySignups = DashboardChartsResponse.ChartDataWithComparison.of(
+                    new ArrayList<>(currentSignups.keySet()),
+                    new ArrayList<>(currentSignups.values()),
+                    new ArrayList<>(previousSignups.values()),
+                    new ArrayList<>(previousSignups.keySet())
+            );
+        }
 
-        // Weekday distribution - Native Query 사용
-        DashboardChartsResponse.ChartData weekdayDistribution = getWeekdayDistributionFromNativeQuery(range.start(), range.end());
+        // Provider distribution
+        DashboardChartsResponse.ChartData providers = getProviderDistribution(RollupTotals.sum(rollups));
 
-        // Top keywords - Native Query 사용
-        List<DashboardChartsResponse.KeywordItem> topKeywords = getTopKeywordsFromNativeQuery(range.start(), range.end());
+        // Weekday distribution
+        DashboardChartsResponse.ChartData weekdayDistribution = getWeekdayDistribution(rollups);
 
         return DashboardChartsResponse.of(monthlySignups, providers, weekdayDistribution, topKeywords);
     }
@@ -251,6 +385,7 @@ public class StatisticsService {
      * Get user statistics
      * Native Query로 최적화됨
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public UserStatisticsResponse getUserStatistics(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
@@ -299,6 +434,7 @@ public class StatisticsService {
      * Get event statistics
      * Native Query로 최적화됨
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public EventStatisticsResponse getEventStatistics(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
@@ -358,6 +494,7 @@ public class StatisticsService {
      * refresh_token 기반 MAU 및 휴면 유저 분석 (설계 문서 12.3 쿼리 적용)
      * 모든 지표가 선택한 기간 내 가입 유저 기준으로 계산됨
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public RetentionStatisticsResponse getRetentionStatistics(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
@@ -371,7 +508,7 @@ public class StatisticsService {
                 ))
                 .toList();
 
-        // Dormant users by period (refresh_token.last_used_at 기준)
+        // Dormant users by period (users.last_active_at 기준)
         // 7일+, 30일+, 90일+ 각각 해당 기간 이상 미접속 유저 전체
         // 기간 내 가입 유저 기준
         List<Object[]> dormantDistribution = statisticsRepository.findDormantUserDistribution(range.start(), range.end());
@@ -420,15 +557,15 @@ public class StatisticsService {
      * @param endDate 종료일
      * @return 퍼널 분석 데이터
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public FunnelAnalysisResponse getFunnelAnalysis(LocalDate startDate, LocalDate endDate) {
-        DateTimeRange range = DateTimeRange.of(startDate, endDate);
-
-        // Step counts (null-safe)
-        long signups = nullToZero(statisticsRepository.countSignups(range.start(), range.end()));
-        long firstEvent = nullToZero(statisticsRepository.countUsersWithFirstEvent(range.start(), range.end()));
-        long withParticipants = nullToZero(statisticsRepository.countUsersWithParticipants(range.start(), range.end()));
-        long secondEvent = nullToZero(statisticsRepository.countUsersWithSecondEvent(range.start(), range.end()));
+        // Step counts - 가입일별 롤업 합계
+        RollupTotals totals = RollupTotals.sum(findDailyRollups(startDate, endDate));
+        long signups = totals.signups();
+        long firstEvent = totals.firstEventUsers();
+        long withParticipants = totals.participantReceivedUsers();
+        long secondEvent = totals.secondEventUsers();
 
         // Calculate rates (from signup)
         double signupRate = 100.0;
@@ -461,74 +598,60 @@ public class StatisticsService {
 
     /**
      * Get cohort retention analysis
-     * 가입월 기준 코호트별 M0~M11 리텐션율 계산
+     * 코호트별 0~(periods-1) 기간 리텐션율 (cohort_retention 집계 테이블 기준)
      * refresh_token.last_used_at 기준 활성 판단
      *
-     * @param months 분석할 코호트 수 (기본 12개월)
+     * @param cohortType 코호트 기준 (가입월, 가입 주, 첫 이벤트 생성월)
+     * @param periods    분석할 코호트 수이자 기간 수 (기본 12)
      * @return 코호트 리텐션 데이터
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
-    public CohortRetentionResponse getCohortRetention(int months) {
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusMonths(months);
+    public CohortRetentionResponse getCohortRetention(CohortType cohortType, int periods) {
+        LocalDate cohortFrom = cohortType.plusPeriods(cohortType.periodStart(LocalDate.now()), -(periods - 1L));
 
-        // 1. 코호트별 가입자 수 조회
-        Map<String, Integer> cohortSizes = statisticsRepository.findCohortSizes(startDate, endDate)
+        Map<LocalDate, List<CohortRetention>> cellsByCohort = cohortRetentionRepository
+                .findByCohortTypeAndCohortStartGreaterThanEqualOrderByCohortStartAscPeriodOffsetAsc(cohortType, cohortFrom)
                 .stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> ((Number) row[1]).intValue()
-                ));
+                .collect(Collectors.groupingBy(CohortRetention::getCohortStart, TreeMap::new, Collectors.toList()));
 
-        // 2. 코호트별 월별 활성 유저 조회
-        Map<String, Map<String, Integer>> activityMatrix = statisticsRepository
-                .findCohortMonthlyActivity(startDate, endDate)
-                .stream()
-                .collect(Collectors.groupingBy(
-                        row -> (String) row[0],  // cohort_month
-                        Collectors.toMap(
-                                row -> (String) row[1],  // active_month
-                                row -> ((Number) row[2]).intValue(),
-                                (v1, v2) -> v1  // 중복 키 처리
-                        )
-                ));
-
-        // 3. 리텐션율 계산
-        List<CohortRetentionResponse.CohortRow> cohorts = cohortSizes.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> buildCohortRow(
-                        entry.getKey(),
-                        entry.getValue(),
-                        activityMatrix.getOrDefault(entry.getKey(), Map.of()),
-                        months
-                ))
+        List<CohortRetentionResponse.CohortRow> cohorts = cellsByCohort.entrySet().stream()
+                .map(entry -> buildCohortRow(cohortType, entry.getKey(), entry.getValue(), periods))
+                .toList();
+        List<String> periodLabels = IntStream.range(0, periods)
+                .mapToObj(cohortType::periodLabel)
                 .toList();
 
-        return CohortRetentionResponse.of(cohorts, months);
+        return CohortRetentionResponse.of(cohorts, periodLabels);
     }
 
     /**
      * 코호트 행 데이터 빌드
+     * 코호트 크기는 가장 최근 기간 셀의 값을 쓴다. (진행 중인 코호트는 가입이 계속 늘어난다)
      */
     private CohortRetentionResponse.CohortRow buildCohortRow(
-            String cohortMonth, int size, Map<String, Integer> activity, int maxPeriods) {
-        YearMonth cohort = YearMonth.parse(cohortMonth);
-        List<Double> retention = new ArrayList<>();
+            CohortType cohortType, LocalDate cohortStart, List<CohortRetention> cells, int maxPeriods) {
+        long size = cells.get(cells.size() - 1).getCohortSize();
+        Map<Integer, Long> activeByOffset = cells.stream()
+                .collect(Collectors.toMap(CohortRetention::getPeriodOffset, CohortRetention::getActiveUsers));
 
+        List<Double> retention = new ArrayList<>();
         for (int i = 0; i < maxPeriods; i++) {
-            String targetMonth = cohort.plusMonths(i).toString();
-            int activeCount = activity.getOrDefault(targetMonth, 0);
+            long activeCount = activeByOffset.getOrDefault(i, 0L);
             double rate = size > 0 ? Math.round((double) activeCount / size * 1000.0) / 10.0 : 0;
             retention.add(rate);
         }
 
-        return CohortRetentionResponse.CohortRow.of(cohortMonth, size, retention);
+        String label = cohortType.getPeriod() == StatisticsPeriod.MONTH
+                ? YearMonth.from(cohortStart).toString()
+                : cohortStart.toString();
+        return CohortRetentionResponse.CohortRow.of(label, (int) size, retention);
     }
 
     /**
      * Get marketing targets (전체 기간)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MarketingTargetsResponse getMarketingTargets() {
         return getMarketingTargets(LocalDate.of(2000, 1, 1), LocalDate.now().plusDays(1));
     }
@@ -536,33 +659,43 @@ public class StatisticsService {
     /**
      * Get marketing targets (날짜 범위 필터)
      * 해당 기간 내 가입한 유저 / 생성된 이벤트 기준
+     * 6개 집계를 동시에 조회하고, 기한 안에 끝나지 않은 항목은 null로 응답
      */
-    @Transactional(readOnly = true)
+    @StatisticsCacheable
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MarketingTargetsResponse getMarketingTargets(LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
+        StatisticsQueryFanOut.Scope scope = statisticsQueryFanOut.open("marketing_targets");
+
         // 기간 내 가입한 유저 중 마케팅 동의 유저
-        long marketingAgreed = nullToZero(statisticsRepository.countMarketingAgreedUsersByDateRange(startDateTime, endDateTime));
+        StatisticsQueryFanOut.Branch<Long> marketingAgreed = scope.fork("marketing_agreed", () ->
+                nullToZero(statisticsRepository.countMarketingAgreedUsersByDateRange(startDateTime, endDateTime)));
 
         // 기간 내 가입한 유저 중 휴면 유저 (30일+ 미접속)
-        long dormantUsers = nullToZero(statisticsRepository.countDormantUsersByDateRange(startDateTime, endDateTime));
+        StatisticsQueryFanOut.Branch<Long> dormantUsers = scope.fork("dormant", () ->
+                nullToZero(statisticsRepository.countDormantUsersByDateRange(startDateTime, endDateTime)));
 
         // 기간 내 가입한 유저 중 이벤트 미생성 (가입 7일 경과)
-        long noEventUsers = nullToZero(statisticsRepository.countNoEventUsersByDateRange(startDateTime, endDateTime));
+        StatisticsQueryFanOut.Branch<Long> noEventUsers = scope.fork("no_event", () ->
+                nullToZero(statisticsRepository.countNoEventUsersByDateRange(startDateTime, endDateTime)));
 
         // 기간 내 가입한 유저 중 일회성 유저
-        long oneTimeUsers = nullToZero(statisticsRepository.countOneTimeUsersByDateRange(startDateTime, endDateTime));
+        StatisticsQueryFanOut.Branch<Long> oneTimeUsers = scope.fork("one_time", () ->
+                nullToZero(statisticsRepository.countOneTimeUsersByDateRange(startDateTime, endDateTime)));
 
         // 기간 내 가입한 유저 중 VIP 유저
-        long vipUsers = nullToZero(statisticsRepository.countVipUsersByDateRange(startDateTime, endDateTime));
+        StatisticsQueryFanOut.Branch<Long> vipUsers = scope.fork("vip", () ->
+                nullToZero(statisticsRepository.countVipUsersByDateRange(startDateTime, endDateTime)));
 
         // 기간 내 생성된 이벤트 중 참여자 0명
-        long zeroParticipantEvents = nullToZero(statisticsRepository.countZeroParticipantEventsByDateRange(startDateTime, endDateTime));
+        StatisticsQueryFanOut.Branch<Long> zeroParticipantEvents = scope.fork("zero_participant_events", () ->
+                nullToZero(statisticsRepository.countZeroParticipantEventsByDateRange(startDateTime, endDateTime)));
 
         return MarketingTargetsResponse.of(
-                marketingAgreed, dormantUsers, noEventUsers,
-                oneTimeUsers, vipUsers, zeroParticipantEvents
+                marketingAgreed.joinOrElse(null), dormantUsers.joinOrElse(null), noEventUsers.joinOrElse(null),
+                oneTimeUsers.joinOrElse(null), vipUsers.joinOrElse(null), zeroParticipantEvents.joinOrElse(null)
         );
     }
 
@@ -737,54 +870,26 @@ public class StatisticsService {
     }
 
     /**
-     * 이전 기간 비교 데이터를 포함한 월별 가입자 조회
+     * 월별 가입자 합계 (기간에 걸친 월은 0으로 채움)
      */
-    private DashboardChartsResponse.ChartDataWithComparison getMonthlySignupsWithComparisonFromNativeQuery(
-            DateTimeRange range, DateTimeRange prevRange,
-            LocalDate startDate, LocalDate endDate,
-            LocalDate prevStartDate, LocalDate prevEndDate) {
-
-        // 현재 기간 데이터
-        Map<String, Long> currentData = new TreeMap<>();
-        long monthsBetween = ChronoUnit.MONTHS.between(startDate.withDayOfMonth(1), endDate.withDayOfMonth(1)) + 1;
-        for (int i = 0; i < monthsBetween; i++) {
-            String month = startDate.plusMonths(i).format(MONTH_FORMATTER);
-            currentData.put(month, 0L);
+    private Map<String, Long> sumSignupsByMonth(List<StatisticsDailyRollup> rollups,
+                                                LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> monthlyData = new TreeMap<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            monthlyData.put(month.format(MONTH_FORMATTER), 0L);
         }
-        statisticsRepository.findMonthlySignups(range.start(), range.end()).forEach(row -> {
-            String month = (String) row[0];
-            long count = ((Number) row[1]).longValue();
-            currentData.put(month, count);
-        });
-
-        // 이전 기간 데이터
-        Map<String, Long> previousData = new TreeMap<>();
-        long prevMonthsBetween = ChronoUnit.MONTHS.between(prevStartDate.withDayOfMonth(1), prevEndDate.withDayOfMonth(1)) + 1;
-        for (int i = 0; i < prevMonthsBetween; i++) {
-            String month = prevStartDate.plusMonths(i).format(MONTH_FORMATTER);
-            previousData.put(month, 0L);
+        for (StatisticsDailyRollup rollup : rollups) {
+            monthlyData.merge(rollup.getStatDate().format(MONTH_FORMATTER), rollup.getSignups(), Long::sum);
         }
-        statisticsRepository.findMonthlySignups(prevRange.start(), prevRange.end()).forEach(row -> {
-            String month = (String) row[0];
-            long count = ((Number) row[1]).longValue();
-            previousData.put(month, count);
-        });
-
-        return DashboardChartsResponse.ChartDataWithComparison.of(
-                new ArrayList<>(currentData.keySet()),
-                new ArrayList<>(currentData.values()),
-                new ArrayList<>(previousData.values()),
-                new ArrayList<>(previousData.keySet())
-        );
+        return monthlyData;
     }
 
-    private DashboardChartsResponse.ChartData getProviderDistributionFromNativeQuery(
-            LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        Map<String, Long> distribution = statisticsRepository.getProviderDistribution(startDateTime, endDateTime).stream()
-                .collect(Collectors.toMap(
-                        row -> (String) row[0],
-                        row -> ((Number) row[1]).longValue()
-                ));
+    private DashboardChartsResponse.ChartData getProviderDistribution(RollupTotals totals) {
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        distribution.put("google", totals.googleSignups());
+        distribution.put("kakao", totals.kakaoSignups());
+        distribution.put("naver", totals.naverSignups());
+        distribution.values().removeIf(count -> count == 0);
 
         return DashboardChartsResponse.ChartData.of(
                 new ArrayList<>(distribution.keySet()),
@@ -792,29 +897,18 @@ public class StatisticsService {
         );
     }
 
-    private DashboardChartsResponse.ChartData getWeekdayDistributionFromNativeQuery(
-            LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        // DAYOFWEEK: 1=SUN, 2=MON, 3=TUE, 4=WED, 5=THU, 6=FRI, 7=SAT
+    private DashboardChartsResponse.ChartData getWeekdayDistribution(List<StatisticsDailyRollup> rollups) {
+        // DayOfWeek 순서(월~일)와 같은 순서
         String[] weekdays = {"월", "화", "수", "목", "금", "토", "일"};
-        Map<String, Long> distribution = new LinkedHashMap<>();
-        for (String day : weekdays) {
-            distribution.put(day, 0L);
+        long[] counts = new long[weekdays.length];
+        for (StatisticsDailyRollup rollup : rollups) {
+            counts[rollup.getStatDate().getDayOfWeek().getValue() - 1] += rollup.getEventsCreated();
         }
 
-        // MySQL DAYOFWEEK을 요일명으로 변환
-        Map<Integer, String> dayMap = Map.of(
-                1, "일", 2, "월", 3, "화", 4, "수",
-                5, "목", 6, "금", 7, "토"
-        );
-
-        statisticsRepository.getEventWeekdayDistribution(startDateTime, endDateTime).forEach(row -> {
-            int dayOfWeek = ((Number) row[0]).intValue();
-            long count = ((Number) row[1]).longValue();
-            String dayName = dayMap.get(dayOfWeek);
-            if (dayName != null) {
-                distribution.put(dayName, count);
-            }
-        });
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < weekdays.length; i++) {
+            distribution.put(weekdays[i], counts[i]);
+        }
 
         return DashboardChartsResponse.ChartData.of(
                 new ArrayList<>(distribution.keySet()),
@@ -824,29 +918,10 @@ public class StatisticsService {
 
     private List<DashboardChartsResponse.KeywordItem> getTopKeywordsFromNativeQuery(
             LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        List<Object[]> keywordDataList = statisticsRepository.getKeywordCounts(startDateTime, endDateTime);
-
-        if (keywordDataList == null || keywordDataList.isEmpty()) {
-            return List.of();
-        }
-
-        Object[] keywordData = keywordDataList.get(0);
-
-        // 키워드 30개 (쿼리 순서와 동일)
-        String[] keywords = getKeywordArray();
-        Map<String, Long> keywordCounts = new HashMap<>();
-
-        for (int i = 0; i < keywords.length && i < keywordData.length; i++) {
-            long count = keywordData[i] != null ? ((Number) keywordData[i]).longValue() : 0;
-            if (count > 0) {
-                keywordCounts.put(keywords[i], count);
-            }
-        }
-
+        Map<String, Long> keywordCounts = getKeywordCounts(startDateTime, endDateTime);
         long total = keywordCounts.values().stream().mapToLong(Long::longValue).sum();
 
         return keywordCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
                 .limit(20)
                 .map(e -> DashboardChartsResponse.KeywordItem.of(
                         e.getKey(),
@@ -868,37 +943,21 @@ public class StatisticsService {
 
     private List<EventStatisticsResponse.KeywordData> extractTopKeywordsFromNativeQuery(
             LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        List<Object[]> keywordDataList = statisticsRepository.getKeywordCounts(startDateTime, endDateTime);
-
-        if (keywordDataList == null || keywordDataList.isEmpty()) {
-            return List.of();
-        }
-
-        Object[] keywordData = keywordDataList.get(0);
-
-        String[] keywords = getKeywordArray();
-        Map<String, Long> keywordCounts = new HashMap<>();
-
-        for (int i = 0; i < keywords.length && i < keywordData.length; i++) {
-            long count = keywordData[i] != null ? ((Number) keywordData[i]).longValue() : 0;
-            if (count > 0) {
-                keywordCounts.put(keywords[i], count);
-            }
-        }
-
-        return keywordCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        return getKeywordCounts(startDateTime, endDateTime).entrySet().stream()
                 .limit(20)
                 .map(e -> new EventStatisticsResponse.KeywordData(e.getKey(), e.getValue()))
                 .toList();
     }
 
-    private String[] getKeywordArray() {
-        return new String[]{
-            "회의", "스터디", "밥", "술", "MT", "면접", "프로젝트", "동아리", "모임", "여행",
-            "점심", "저녁", "식사", "커피", "미팅", "팀", "워크샵", "세미나", "강의", "수업",
-            "운동", "헬스", "축구", "농구", "야구", "테니스", "골프", "등산", "캠핑", "파티"
-        };
+    /**
+     * 키워드별 이벤트 수 (건수가 많은 순, 0건 키워드 제외)
+     */
+    private Map<String, Long> getKeywordCounts(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Map<String, Long> keywordCounts = new LinkedHashMap<>();
+        for (Object[] row : statisticsRepository.getKeywordCounts(startDateTime, endDateTime)) {
+            keywordCounts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return keywordCounts;
     }
 
     /**
@@ -909,6 +968,7 @@ public class StatisticsService {
      * @param endDate 종료일
      * @return TTV 분포 데이터
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public TtvDistributionResponse getTtvDistribution(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
@@ -972,6 +1032,7 @@ public class StatisticsService {
      * @param endDate 종료일
      * @return 히트맵 데이터
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public TimeWeekdayHeatmapResponse getTimeWeekdayHeatmap(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
@@ -1020,10 +1081,12 @@ public class StatisticsService {
      * 서비스 점착도 = WAU / MAU × 100
      * - WAU: 최근 7일 활성 유저
      * - MAU: 최근 30일 활성 유저
+     * 현재 값은 오늘까지의 이동 구간이라 직접 집계하고, 월별 추이는 주/월 활성 유저 롤업에서 읽는다.
      *
      * @param months 분석할 개월 수
      * @return 점착도 데이터
      */
+    @StatisticsCacheable
     @Transactional(readOnly = true)
     public StickinessResponse getStickiness(int months) {
         LocalDate now = LocalDate.now();
@@ -1040,24 +1103,27 @@ public class StatisticsService {
         // Current stickiness
         double currentStickiness = currentMau > 0 ? Math.round((double) currentWau / currentMau * 1000.0) / 10.0 : 0;
 
-        // Build monthly trend
-        LocalDateTime trendStart = now.minusMonths(months).withDayOfMonth(1).atStartOfDay();
-        List<Object[]> monthlyWauData = statisticsRepository.findMonthlyAvgWau(trendStart, endDate);
-        List<Object[]> monthlyMauData = statisticsRepository.findMonthlyMau(trendStart, endDate);
+        // Build monthly trend - 주/월 활성 유저 롤업
+        LocalDate trendStart = now.minusMonths(months).withDayOfMonth(1);
+
+        // 월별 주 평균 WAU (주 시작일이 속한 월 기준)
+        Map<String, List<Long>> weeklyByMonth = new TreeMap<>();
+        for (StatisticsActiveUserRollup week : findActiveUserRollups(StatisticsPeriod.WEEK, trendStart, now)) {
+            weeklyByMonth.computeIfAbsent(week.getPeriodStart().format(MONTH_FORMATTER), month -> new ArrayList<>())
+                    .add(week.getActiveUsers());
+        }
 
         // Build MAU map
         Map<String, Long> mauMap = new HashMap<>();
-        for (Object[] row : monthlyMauData) {
-            String month = (String) row[0];
-            long mau = ((Number) row[1]).longValue();
-            mauMap.put(month, mau);
+        for (StatisticsActiveUserRollup month : findActiveUserRollups(StatisticsPeriod.MONTH, trendStart, now)) {
+            mauMap.put(month.getPeriodStart().format(MONTH_FORMATTER), month.getActiveUsers());
         }
 
         // Build trend
         List<StickinessResponse.MonthlyStickiness> trend = new ArrayList<>();
-        for (Object[] row : monthlyWauData) {
-            String month = (String) row[0];
-            long avgWau = Math.round(((Number) row[1]).doubleValue());
+        for (Map.Entry<String, List<Long>> entry : weeklyByMonth.entrySet()) {
+            String month = entry.getKey();
+            long avgWau = Math.round(entry.getValue().stream().mapToLong(Long::longValue).average().orElse(0));
             long mau = mauMap.getOrDefault(month, 0L);
             double stickiness = mau > 0 ? Math.round((double) avgWau / mau * 1000.0) / 10.0 : 0;
             trend.add(StickinessResponse.MonthlyStickiness.of(month, avgWau, mau, stickiness));
@@ -1072,6 +1138,7 @@ public class StatisticsService {
      * 이벤트 확정 통계 조회
      * 확정률, 확정자 유형 분포, 카테고리별 확정률, 일별 추이
      */
+    @StatisticsCacheable
     public EventConfirmationStatsResponse getEventConfirmationStats(LocalDate startDate, LocalDate endDate) {
         DateTimeRange range = DateTimeRange.of(startDate, endDate);
 
@@ -30,6 +30,7 @@ public class TestAuthService {
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserActivityRecorder userActivityRecorder;
 
     /**
      * 테스트 로그인 API.
@@ -64,6 +65,7 @@ public class TestAuthService {
                 now, expiryAt, "127.0.0.1", "E2E-Test-Agent"
         );
         refreshTokenRepository.save(refreshToken);
+        userActivityRecorder.record(testUserId, now);
 
         return TestTokenResponse.of(accessToken, refreshToken.getTokenValue());
     }
@@ -0,0 +1,103 @@
+package side.onetime.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import side.onetime.dto.token.request.ReissueTokenRequest;
+import side.onetime.dto.token.response.ReissueTokenResponse;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.TokenErrorStatus;
+import side.onetime.util.JwtUtil;
+
+/**
+ * 인스턴스 내 토큰 재발급 Single-Flight
+ *
+ * 어드민 대시보드는 페이지 로드 시 같은 만료 액세스 토큰으로 여러 XHR을 동시에 보낸다.
+ * 리프레시 토큰 jti 단위로 첫 요청만 TokenService.reissueToken을 호출하고,
+ * 나머지 요청은 짧은 공유 구간 동안 같은 로테이션 결과를 받는다.
+ * 다른 인스턴스(Blue/Green)에서 들어온 동시 요청은 기존 TokenService의 Grace Period 로직이 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenReissueCoordinator {
+
+    private static final long SHARE_WINDOW_SECONDS = 3;
+    private static final long WAIT_TIMEOUT_SECONDS = 5;
+
+    private final TokenService tokenService;
+    private final JwtUtil jwtUtil;
+
+    private final Cache<String, InFlight> inFlights = Caffeine.newBuilder()
+            .expireAfterWrite(SHARE_WINDOW_SECONDS, TimeUnit.SECONDS)
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * 리프레시 토큰 jti 기준으로 재발급을 한 번만 수행하고 결과를 공유합니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @param userIp       클라이언트 IP 주소
+     * @param userAgent    클라이언트 User-Agent
+     * @return 새 액세스/리프레시 토큰
+     * @throws CustomException 재발급 실패 시 (대기 중이던 요청도 같은 예외를 받는다)
+     */
+    public ReissueTokenResponse reissue(String refreshToken, String userIp, String userAgent) {
+        String jti = jwtUtil.getClaimFromToken(refreshToken, "jti", String.class);
+
+        InFlight created = new InFlight(refreshToken, new CompletableFuture<>());
+        InFlight existing = inFlights.asMap().putIfAbsent(jti, created);
+
+        if (existing == null) {
+            return lead(jti, created, userIp, userAgent);
+        }
+        if (!existing.refreshToken().equals(refreshToken)) {
+            // 같은 jti에 다른 토큰 값 → 공유하지 않고 TokenService 검증에 맡긴다
+            return tokenService.reissueToken(new ReissueTokenRequest(refreshToken), userIp, userAgent);
+        }
+        return follow(jti, existing);
+    }
+
+    private ReissueTokenResponse lead(String jti, InFlight inFlight, String userIp, String userAgent) {
+        try {
+            ReissueTokenResponse response = tokenService.reissueToken(
+                    new ReissueTokenRequest(inFlight.refreshToken()), userIp, userAgent);
+            inFlight.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            inFlight.result().completeExceptionally(e);
+            inFlights.asMap().remove(jti, inFlight);
+            throw e;
+        }
+    }
+
+    private ReissueTokenResponse follow(String jti, InFlight inFlight) {
+        try {
+            ReissueTokenResponse response = inFlight.result().get(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            log.debug("[Token Reissue] 진행 중인 재발급 결과 공유 - jti={}", jti);
+            return response;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CustomException(TokenErrorStatus._DUPLICATED_REQUEST);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(TokenErrorStatus._DUPLICATED_REQUEST);
+        }
+    }
+
+    private record InFlight(String refreshToken, CompletableFuture<ReissueTokenResponse> result) {
+    }
+}
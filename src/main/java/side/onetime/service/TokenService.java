@@ -26,6 +26,7 @@ public class TokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtUtil jwtUtil;
+    private final UserActivityRecorder userActivityRecorder;
 
     /**
      * 리프레시 토큰으로 액세스/리프레시 토큰을 재발행 하는 메서드.
@@ -111,6 +112,9 @@ public class TokenService {
 
         RefreshToken newToken = oldToken.rotate(newJti, newRefreshToken, now, expiryAt, userIp, userAgent);
         refreshTokenRepository.save(newToken);
+        if ("USER".equals(oldToken.getUserType())) {
+            userActivityRecorder.record(oldToken.getUserId(), now);
+        }
 
         return ReissueTokenResponse.of(newAccessToken, newRefreshToken);
     }
@@ -0,0 +1,37 @@
+package side.onetime.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import side.onetime.repository.UserRepository;
+
+/**
+ * 유저 마지막 활동 시각(users.last_active_at) 기록
+ *
+ * 로그인과 토큰 재발급 시 호출한다. 저장된 값이 granularity보다 오래됐을 때만 갱신하므로,
+ * 같은 유저가 짧은 간격으로 여러 번 활동해도 쓰기는 granularity당 한 번이다.
+ * 휴면 판정은 일 단위이므로 granularity만큼 늦게 반영되어도 결과가 거의 바뀌지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserActivityRecorder {
+
+    private final UserRepository userRepository;
+
+    @Value("${user.last-active.granularity:PT1H}")
+    private Duration granularity;
+
+    /**
+     * 유저의 활동을 기록합니다.
+     *
+     * @param userId   유저 ID
+     * @param activeAt 활동 시각
+     */
+    public void record(Long userId, LocalDateTime activeAt) {
+        userRepository.updateLastActiveAtIfStale(userId, activeAt, activeAt.minus(granularity));
+    }
+}
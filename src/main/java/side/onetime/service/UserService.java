@@ -2,14 +2,17 @@ package side.onetime.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import side.onetime.domain.Event;
 import side.onetime.domain.GuideViewLog;
 import side.onetime.domain.RefreshToken;
 import side.onetime.domain.User;
 import side.onetime.domain.enums.GuideType;
 import side.onetime.dto.user.request.*;
+import side.onetime.dto.s3.S3ObjectDeletionMessage;
 import side.onetime.dto.user.response.*;
 import side.onetime.exception.CustomException;
 import side.onetime.exception.status.UserErrorStatus;
@@ -17,9 +20,11 @@ import side.onetime.repository.GuideViewLogRepository;
 import side.onetime.repository.RefreshTokenRepository;
 import side.onetime.repository.UserRepository;
 import side.onetime.util.JwtUtil;
+import side.onetime.util.QrUtil;
 import side.onetime.util.UserAuthorizationUtil;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,6 +38,7 @@ public class UserService {
     private final JwtUtil jwtUtil;
     private final GuideViewLogRepository guideViewLogRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 유저 온보딩 처리 메서드.
@@ -149,12 +155,15 @@ public class UserService {
      *
      * 인증된 유저의 계정을 삭제합니다.
      * (RefreshToken revoke는 userRepository.withdraw() 내부에서 처리)
+     * 유저가 생성한 이벤트의 QR 이미지는 커밋 이후 일괄 삭제합니다.
      */
     @Transactional
     public void withdrawUser() {
         User user = userRepository.findById(UserAuthorizationUtil.getLoginUserId())
                 .orElseThrow(() -> new CustomException(UserErrorStatus._NOT_FOUND_USER));
-        userRepository.withdraw(user);
+        List<Event> deletedEvents = userRepository.withdraw(user);
+        applicationEventPublisher.publishEvent(S3ObjectDeletionMessage.of(
+                deletedEvents.stream().map(QrUtil::objectKeyOf).toList()));
     }
 
     /**
@@ -0,0 +1,123 @@
+package side.onetime.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다중 키워드 매칭 (Aho-Corasick)
+ *
+ * 사전 전체로 오토마톤을 한 번 만들고, 문자열을 한 번 훑어 포함된 키워드를 모두 찾는다.
+ * 사전 크기와 관계없이 문자열 길이에 비례하는 시간이 든다. 대소문자는 구분하지 않는다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 함께 써도 된다.
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<String>> outputs = new ArrayList<>();
+    private final int[] failure;
+
+    private KeywordMatcher(Collection<String> keywords) {
+        newNode();
+        for (Map.Entry<String, String> keyword : normalizeKeywords(keywords).entrySet()) {
+            int node = ROOT;
+            for (char c : keyword.getKey().toCharArray()) {
+                Integer next = transitions.get(node).get(c);
+                if (next == null) {
+                    next = newNode();
+                    transitions.get(node).put(c, next);
+                }
+                node = next;
+            }
+            outputs.get(node).add(keyword.getValue());
+        }
+        this.failure = buildFailureLinks();
+    }
+
+    /**
+     * 사전으로 매처를 만듭니다. 빈 값은 무시하고, 대소문자만 다른 키워드는 처음 것만 남깁니다.
+     *
+     * @param keywords 키워드 사전
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        return new KeywordMatcher(keywords);
+    }
+
+    /**
+     * 문자열에 포함된 키워드를 사전에 등록된 표기로 반환합니다.
+     *
+     * @param text 검사할 문자열 (null이면 빈 결과)
+     * @return 등장 순서대로 중복 없는 키워드 목록
+     */
+    public Set<String> findAll(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return found;
+        }
+        int node = ROOT;
+        for (char c : normalize(text).toCharArray()) {
+            while (node != ROOT && !transitions.get(node).containsKey(c)) {
+                node = failure[node];
+            }
+            node = transitions.get(node).getOrDefault(c, ROOT);
+            found.addAll(outputs.get(node));
+        }
+        return found;
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    /**
+     * 너비 우선으로 실패 링크를 연결하고, 실패 링크가 가리키는 노드의 키워드를 출력에 합칩니다.
+     * 루트의 자식은 루트로 실패합니다. 얕은 노드를 먼저 처리하므로 합칠 때 실패 노드의 출력은 이미 완성되어 있습니다.
+     */
+    private int[] buildFailureLinks() {
+        int[] links = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(node).entrySet()) {
+                char c = transition.getKey();
+                int child = transition.getValue();
+                int fallback = links[node];
+                while (fallback != ROOT && !transitions.get(fallback).containsKey(c)) {
+                    fallback = links[fallback];
+                }
+                links[child] = transitions.get(fallback).getOrDefault(c, ROOT);
+                outputs.get(child).addAll(outputs.get(links[child]));
+                queue.add(child);
+            }
+        }
+        return links;
+    }
+
+    private static Map<String, String> normalizeKeywords(Collection<String> keywords) {
+        Map<String, String> normalized = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            String stripped = keyword.strip();
+            normalized.putIfAbsent(normalize(stripped), stripped);
+        }
+        return normalized;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
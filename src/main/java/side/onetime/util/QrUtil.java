@@ -2,15 +2,19 @@ package side.onetime.util;
 
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import side.onetime.domain.Event;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -19,6 +23,12 @@ import java.util.UUID;
 @Service
 public class QrUtil {
 
+    private static final String LAZY_QR_DIRECTORY = "qr/";
+    private static final int QR_SIZE = 512;
+    // TYPE_BYTE_BINARY 기본 팔레트: 0 = 검정, 1 = 흰색
+    private static final int BLACK = 0;
+    private static final int WHITE = 1;
+
     @Value("${qr.event-base-url}")
     private String qrEventBaseUrl;
 
@@ -41,6 +51,39 @@ public class QrUtil {
         return FileUtil.convertToMultipartFile(qrCodeBytes, fileName);
     }
 
+    /**
+     * 이벤트 QR 코드 PNG 생성 메서드.
+     *
+     * @param eventId QR 코드를 생성할 이벤트의 ID
+     * @return PNG 이미지 데이터
+     * @throws Exception QR 코드 생성 중 오류 발생 시
+     */
+    public byte[] getQrCodeBytes(UUID eventId) throws Exception {
+        return generateQRCode(qrEventBaseUrl + eventId);
+    }
+
+    /**
+     * 지연 생성 모드에서 사용하는 QR 코드의 S3 키.
+     * 이벤트 UUID만으로 결정되므로 DB에 파일명을 기록하지 않아도 됩니다.
+     *
+     * @param eventId 이벤트 ID
+     * @return S3 객체 키 (예: qr/{eventId}.png)
+     */
+    public static String lazyObjectKey(UUID eventId) {
+        return LAZY_QR_DIRECTORY + eventId + ".png";
+    }
+
+    /**
+     * 이벤트에 연결된 QR 코드의 S3 키를 반환하는 메서드. (삭제용)
+     * 즉시 생성 모드에서 기록한 파일명이 있으면 그 값을, 없으면 지연 생성 키를 사용합니다.
+     *
+     * @param event 이벤트
+     * @return S3 객체 키
+     */
+    public static String objectKeyOf(Event event) {
+        return event.getQrFileName() != null ? event.getQrFileName() : lazyObjectKey(event.getEventId());
+    }
+
     /**
      * QR 코드 생성 메서드.
      * 주어진 URL을 QR 코드 이미지 데이터로 변환합니다.
@@ -62,12 +105,36 @@ public class QrUtil {
         hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
 
         // QR 코드 생성
-        BitMatrix bitMatrix = qrCodeWriter.encode(qrContent, BarcodeFormat.QR_CODE, 512, 512, hints);
+        BitMatrix bitMatrix = qrCodeWriter.encode(qrContent, BarcodeFormat.QR_CODE, QR_SIZE, QR_SIZE, hints);
 
-        // ByteArrayOutputStream을 사용해 이미지를 바이트 배열로 변환
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+        return toPng(bitMatrix);
+    }
 
+    /**
+     * BitMatrix를 1-bit 흑백 PNG로 변환하는 메서드.
+     * MatrixToImageWriter는 ARGB 이미지(픽셀당 4바이트)를 만들지만, QR 코드는 흑백이므로
+     * 1-bit 팔레트 이미지로 그려 렌더링 메모리와 PNG 크기를 줄입니다.
+     *
+     * @param bitMatrix QR 코드 행렬
+     * @return PNG 이미지 데이터
+     * @throws IOException PNG 인코딩 실패 시
+     */
+    private byte[] toPng(BitMatrix bitMatrix) throws IOException {
+        int width = bitMatrix.getWidth();
+        int height = bitMatrix.getHeight();
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        WritableRaster raster = image.getRaster();
+
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                row[x] = bitMatrix.get(x, y) ? BLACK : WHITE;
+            }
+            raster.setPixels(0, y, width, 1, row);
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "PNG", outputStream);
         return outputStream.toByteArray();
     }
 }
@@ -0,0 +1,204 @@
+package side.onetime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+/**
+ * 비동기 S3 업로더.
+ *
+ * S3AsyncClient(Netty 커넥션 풀 + multipart)로 MultipartFile을 스트리밍 업로드합니다.
+ * 큰 파일도 메모리에 모두 올리지 않고, 임계값 이상이면 파트 단위로 병렬 전송합니다.
+ * 업로드 지연 시간, 크기, 처리량을 디렉토리 태그로 메트릭에 기록합니다.
+ */
+@Slf4j
+@Component
+public class S3AsyncUploader {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final MeterRegistry meterRegistry;
+    // InputStream을 읽어 SDK로 넘기는 스레드 (Netty 이벤트 루프에서 블로킹 I/O를 하지 않도록 분리)
+    private final ExecutorService streamReader;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${s3.upload.timeout:PT60S}")
+    private Duration uploadTimeout;
+
+    public S3AsyncUploader(S3AsyncClient s3AsyncClient, MeterRegistry meterRegistry,
+                           @Value("${s3.upload.stream-threads:4}") int streamThreads) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.meterRegistry = meterRegistry;
+        this.streamReader = Executors.newFixedThreadPool(streamThreads,
+                Thread.ofPlatform().name("s3-upload-stream-", 0).daemon(true).factory());
+    }
+
+    /**
+     * S3에 파일을 비동기로 업로드합니다.
+     *
+     * @param directoryName 업로드할 디렉토리명
+     * @param file          업로드할 파일
+     * @return S3에 저장된 파일 이름 (업로드 완료 시 완료되는 Future)
+     */
+    public CompletableFuture<String> uploadAsync(String directoryName, MultipartFile file) {
+        String fileName = newKey(directoryName, file);
+        return putObject(directoryName, fileName, file).thenApply(response -> fileName);
+    }
+
+    /**
+     * S3에 파일을 업로드하고 완료될 때까지 기다립니다. (트랜잭션 밖에서 호출)
+     * 제한 시간을 넘기거나 중단되면 전송을 취소하고, 남은 multipart 업로드와 이미 올라간 객체를 정리합니다.
+     *
+     * @param directoryName 업로드할 디렉토리명
+     * @param file          업로드할 파일
+     * @return S3에 저장된 파일 이름
+     * @throws IOException 업로드 실패 또는 제한 시간 초과 시
+     */
+    public String upload(String directoryName, MultipartFile file) throws IOException {
+        String fileName = newKey(directoryName, file);
+        CompletableFuture<PutObjectResponse> put = putObject(directoryName, fileName, file);
+        try {
+            put.get(uploadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return fileName;
+        } catch (ExecutionException e) {
+            throw new IOException("S3 업로드 실패: " + directoryName, e.getCause());
+        } catch (TimeoutException e) {
+            abandon(fileName, put);
+            throw new IOException("S3 업로드 시간 초과: " + directoryName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(fileName, put);
+            throw new IOException("S3 업로드 중단: " + directoryName, e);
+        }
+    }
+
+    private String newKey(String directoryName, MultipartFile file) {
+        return directoryName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+    }
+
+    private CompletableFuture<PutObjectResponse> putObject(String directoryName, String fileName, MultipartFile file) {
+        long size = file.getSize();
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .contentType(file.getContentType())
+                .contentLength(size)
+                .build();
+
+        InputStream inputStream;
+        try {
+            inputStream = file.getInputStream();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<PutObjectResponse> put =
+                s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromInputStream(inputStream, size, streamReader));
+        put.whenComplete((response, error) -> {
+            closeQuietly(inputStream);
+            record(directoryName, size, System.nanoTime() - startedAt, error == null);
+        });
+        return put;
+    }
+
+    /**
+     * 기다림을 포기한 업로드 정리. 전송을 취소한 뒤 진행 중인 multipart 업로드를 중단하고,
+     * 취소 직전에 완료되었을 수 있는 객체를 지운다. 호출 스레드는 정리를 기다리지 않는다.
+     */
+    private void abandon(String key, CompletableFuture<PutObjectResponse> put) {
+        put.cancel(true);
+        s3AsyncClient.listMultipartUploads(ListMultipartUploadsRequest.builder()
+                        .bucket(bucket)
+                        .prefix(key)
+                        .build())
+                .thenCompose(response -> CompletableFuture.allOf(response.uploads().stream()
+                        .filter(upload -> key.equals(upload.key()))
+                        .map(upload -> s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(upload.uploadId())
+                                .build()))
+                        .toArray(CompletableFuture[]::new)))
+                .thenCompose(ignored -> s3AsyncClient.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .build()))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.warn("[S3AsyncUploader] 시간 초과 업로드 정리 실패 - key={}", key, error);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamReader.shutdown();
+    }
+
+    private void record(String directoryName, long size, long elapsedNanos, boolean success) {
+        String directory = directoryName.contains("/")
+                ? directoryName.substring(0, directoryName.indexOf('/'))
+                : directoryName;
+
+        Timer.builder("s3.upload.duration")
+                .description("S3 업로드 지연 시간")
+                .tag("directory", directory)
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (!success) {
+            log.warn("[S3AsyncUploader] 업로드 실패 - directory={}, bytes={}", directoryName, size);
+            return;
+        }
+
+        DistributionSummary.builder("s3.upload.size")
+                .baseUnit("bytes")
+                .tag("directory", directory)
+                .register(meterRegistry)
+                .record(size);
+
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        DistributionSummary.builder("s3.upload.throughput")
+                .description("업로드 처리량")
+                .baseUnit("bytes_per_second")
+                .tag("directory", directory)
+                .register(meterRegistry)
+                .record(size / seconds);
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("[S3AsyncUploader] 스트림 종료 실패", e);
+        }
+    }
+}
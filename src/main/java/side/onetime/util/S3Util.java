@@ -1,22 +1,37 @@
 package side.onetime.util;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3Util {
+    // DeleteObjects 요청당 최대 키 수 (S3 제한)
+    public static final int MAX_DELETE_KEYS = 1000;
+
     private final S3Client s3Client;
 
     @Value("${spring.cloud.aws.s3.bucket}")
@@ -51,6 +66,47 @@ public class S3Util {
         return fileName;
     }
 
+    /**
+     * 지정한 키로 바이트 데이터를 S3에 업로드하는 메서드.
+     * 같은 키로 다시 업로드하면 덮어쓰므로, 결정적인 키를 사용하는 경우 재시도해도 안전합니다.
+     *
+     * @param key         S3 객체 키
+     * @param content     업로드할 데이터
+     * @param contentType Content-Type
+     */
+    public void uploadBytes(String key, byte[] content, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+    }
+
+    /**
+     * S3에 객체가 존재하는지 확인하는 메서드. (HEAD 요청)
+     * HEAD 응답에는 본문이 없어 SDK가 NoSuchKeyException 대신 상태 코드 404인 S3Exception을 던지기도 하므로 상태 코드로 판단합니다.
+     *
+     * @param key S3 객체 키
+     * @return 존재 여부
+     * @throws S3Exception 404 외의 오류 (권한 없음, 일시 장애 등)
+     */
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
     /**
      * S3에 저장된 파일의 퍼블릭 URL 반환 메서드.
      * 주어진 파일 이름에 해당하는 S3 파일의 퍼블릭 URL을 반환합니다.
@@ -96,4 +152,37 @@ public class S3Util {
 
         s3Client.deleteObject(deleteRequest);
     }
+
+    /**
+     * S3에서 여러 파일을 일괄 삭제하는 메서드.
+     * DeleteObjects(quiet 모드)로 최대 1000개씩 나누어 요청하고, 삭제하지 못한 키를 반환합니다.
+     * 존재하지 않는 키는 S3가 성공으로 처리합니다.
+     *
+     * @param fileNames 삭제할 파일 이름 목록
+     * @return 삭제에 실패한 파일 이름 목록
+     */
+    public List<String> deleteFiles(List<String> fileNames) {
+        List<String> failed = new ArrayList<>();
+
+        for (int from = 0; from < fileNames.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = fileNames.subList(from, Math.min(from + MAX_DELETE_KEYS, fileNames.size()));
+            List<ObjectIdentifier> objects = chunk.stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build();
+
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+                response.errors().forEach(error -> failed.add(error.key()));
+            } catch (SdkException e) {
+                log.warn("[S3Util] 일괄 삭제 요청 실패 - keys={}, error={}", chunk.size(), e.getMessage());
+                failed.addAll(chunk);
+            }
+        }
+        return failed;
+    }
 }
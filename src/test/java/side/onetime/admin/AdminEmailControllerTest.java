@@ -19,11 +19,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import side.onetime.configuration.AdminControllerTestConfig;
 import side.onetime.controller.AdminEmailController;
+import side.onetime.domain.enums.EmailCampaignStatus;
 import side.onetime.domain.enums.EmailLogStatus;
 import side.onetime.dto.admin.email.request.CreateEmailTemplateRequest;
 import side.onetime.dto.admin.email.request.SendEmailRequest;
+import side.onetime.dto.admin.email.request.SendToGroupBulkRequest;
 import side.onetime.dto.admin.email.request.SendToGroupRequest;
 import side.onetime.dto.admin.email.request.UpdateEmailTemplateRequest;
+import side.onetime.dto.admin.email.response.EmailCampaignProgressResponse;
+import side.onetime.dto.admin.email.response.EmailLogDetailResponse;
 import side.onetime.dto.admin.email.response.EmailLogPageResponse;
 import side.onetime.dto.admin.email.response.EmailLogResponse;
 import side.onetime.dto.admin.email.response.EmailLogStatsResponse;
@@ -98,6 +102,60 @@ public class AdminEmailControllerTest extends AdminControllerTestConfig {
         Mockito.verify(emailService).sendToMarketingGroup(any(SendToGroupRequest.class));
     }
 
+    @Test
+    @DisplayName("마케팅 그룹 대량 발송을 시작하고 캠페인 ID를 반환한다")
+    public void startGroupSend() throws Exception {
+        // given
+        SendToGroupBulkRequest request = new SendToGroupBulkRequest(
+                "agreed",
+                "마케팅 이메일",
+                "안녕하세요, OneTime 입니다.",
+                "HTML",
+                null
+        );
+        EmailCampaignProgressResponse response = new EmailCampaignProgressResponse(
+                10L, "agreed", EmailCampaignStatus.RUNNING, 0, 0, 0,
+                LocalDateTime.of(2025, 3, 1, 10, 0, 0), null
+        );
+
+        // when
+        Mockito.when(emailService.startGroupSend(any(SendToGroupBulkRequest.class))).thenReturn(response);
+
+        // then
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/v1/admin/email/send-to-group/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.payload.campaignId").value(10))
+                .andExpect(jsonPath("$.payload.status").value("RUNNING"));
+
+        Mockito.verify(emailService).startGroupSend(any(SendToGroupBulkRequest.class));
+    }
+
+    @Test
+    @DisplayName("캠페인 발송 진행 상황을 조회한다")
+    public void getCampaignProgress() throws Exception {
+        // given
+        EmailCampaignProgressResponse response = new EmailCampaignProgressResponse(
+                10L, "agreed", EmailCampaignStatus.COMPLETED, 120_000, 118_500, 1_500,
+                LocalDateTime.of(2025, 3, 1, 10, 0, 0), LocalDateTime.of(2025, 3, 1, 10, 4, 0)
+        );
+
+        // when
+        Mockito.when(emailService.getCampaignProgress(10L)).thenReturn(response);
+
+        // then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/admin/email/campaigns/{id}/progress", 10L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.payload.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.payload.queuedCount").value(118_500))
+                .andExpect(jsonPath("$.payload.skippedCount").value(1_500));
+
+        Mockito.verify(emailService).getCampaignProgress(10L);
+    }
+
     // ==================== Email Logs ====================
 
     @Test
@@ -106,12 +164,12 @@ public class AdminEmailControllerTest extends AdminControllerTestConfig {
         // given
         List<EmailLogResponse> logs = List.of(
                 new EmailLogResponse(
-                        1L, 1L, "hong@example.com", "테스트 제목", null,
+                        1L, 10L, 1L, "hong@example.com", "테스트 제목",
                         "TEXT", EmailLogStatus.SENT, null, null,
                         LocalDateTime.of(2025, 3, 1, 10, 0, 0)
                 ),
                 new EmailLogResponse(
-                        2L, 2L, "kim@example.com", "테스트 제목", null,
+                        2L, 10L, 2L, "kim@example.com", "테스트 제목",
                         "TEXT", EmailLogStatus.SENT, null, "agreed",
                         LocalDateTime.of(2025, 3, 1, 10, 1, 0)
                 )
@@ -141,7 +199,7 @@ public class AdminEmailControllerTest extends AdminControllerTestConfig {
         // given
         List<EmailLogResponse> logs = List.of(
                 new EmailLogResponse(
-                        3L, 3L, "fail@example.com", "실패 메일", null,
+                        3L, 11L, 3L, "fail@example.com", "실패 메일",
                         "TEXT", EmailLogStatus.FAILED, "SMTP error", null,
                         LocalDateTime.of(2025, 3, 1, 10, 2, 0)
                 )
@@ -165,6 +223,29 @@ public class AdminEmailControllerTest extends AdminControllerTestConfig {
         Mockito.verify(emailService).getEmailLogs(eq(0), eq(20), eq("FAILED"), isNull(), isNull(), isNull(), isNull());
     }
 
+    @Test
+    @DisplayName("이메일 발송 로그 상세를 캠페인 본문과 함께 조회한다")
+    public void getEmailLog() throws Exception {
+        // given
+        EmailLogDetailResponse response = new EmailLogDetailResponse(
+                1L, 10L, 1L, "hong@example.com", "테스트 제목", "<p>본문</p>",
+                "HTML", EmailLogStatus.SENT, null, "agreed",
+                LocalDateTime.of(2025, 3, 1, 10, 0, 0)
+        );
+
+        // when
+        Mockito.when(emailService.getEmailLog(1L)).thenReturn(response);
+
+        // then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/admin/email/logs/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.payload.campaignId").value(10))
+                .andExpect(jsonPath("$.payload.content").value("<p>본문</p>"));
+
+        Mockito.verify(emailService).getEmailLog(1L);
+    }
+
     // ==================== Email Stats ====================
 
     @Test
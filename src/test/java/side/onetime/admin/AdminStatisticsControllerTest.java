@@ -4,7 +4,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import side.onetime.configuration.AdminControllerTestConfig;
 import side.onetime.controller.AdminStatisticsController;
 import side.onetime.domain.enums.Category;
+import side.onetime.domain.enums.CohortType;
 import side.onetime.domain.enums.Language;
 import side.onetime.dto.admin.email.response.UserSearchResult;
 import side.onetime.dto.admin.response.DashboardEvent;
@@ -27,6 +30,7 @@ import side.onetime.dto.admin.response.PageInfo;
 import side.onetime.dto.admin.statistics.response.CohortRetentionResponse;
 import side.onetime.dto.admin.statistics.response.FunnelAnalysisResponse;
 import side.onetime.dto.admin.statistics.response.MarketingTargetDetailResponse;
+import side.onetime.dto.admin.statistics.response.QueryPerformanceResponse;
 import side.onetime.dto.admin.statistics.response.StickinessResponse;
 import side.onetime.dto.admin.statistics.response.TimeWeekdayHeatmapResponse;
 import side.onetime.dto.admin.statistics.response.TtvDistributionResponse;
@@ -203,11 +207,12 @@ public class AdminStatisticsControllerTest extends AdminControllerTestConfig {
         CohortRetentionResponse response = CohortRetentionResponse.of(cohorts, 4);
 
         // when
-        Mockito.when(statisticsService.getCohortRetention(anyInt()))
+        Mockito.when(statisticsService.getCohortRetention(any(CohortType.class), anyInt()))
                 .thenReturn(response);
 
         // then
         mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/admin/statistics/cohort")
+                        .param("type", "SIGNUP_MONTH")
                         .param("months", "12"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.is_success").value(true))
@@ -355,6 +360,49 @@ public class AdminStatisticsControllerTest extends AdminControllerTestConfig {
                 .andExpect(jsonPath("$.payload.totalCount").value(1));
     }
 
+    @Test
+    @DisplayName("통계 캐시를 삭제한다")
+    public void purgeCache() throws Exception {
+        // given
+        Mockito.doNothing().when(statisticsService).purgeCache();
+
+        // then
+        mockMvc.perform(RestDocumentationRequestBuilders.delete("/api/v1/admin/statistics/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true));
+
+        Mockito.verify(statisticsService).purgeCache();
+    }
+
+    @Test
+    @DisplayName("통계 쿼리 성능을 조회한다")
+    public void getQueryPerformance() throws Exception {
+        // given
+        QueryPerformanceResponse response = QueryPerformanceResponse.of(
+                LocalDateTime.of(2025, 3, 1, 10, 0),
+                500,
+                List.of(new QueryPerformanceResponse.QueryRow("StatisticsRepository", "countSignups",
+                        10, 1200.0, 120.0, 640.0, 1.0, 1, 0, List.of("GET /admin/statistics/users"))),
+                List.of(new QueryPerformanceResponse.SlowQueryRow(LocalDateTime.of(2025, 3, 1, 11, 0),
+                        "StatisticsRepository", "countSignups", "GET /admin/statistics/users", 640, 1,
+                        Map.of("startDate", "2025-01-01T00:00")))
+        );
+
+        // when
+        Mockito.when(statisticsService.getQueryPerformance(anyInt()))
+                .thenReturn(response);
+
+        // then
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/admin/statistics/queries")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.payload.slow_threshold_ms").value(500))
+                .andExpect(jsonPath("$.payload.queries[0].method").value("countSignups"))
+                .andExpect(jsonPath("$.payload.queries[0].total_ms").value(1200.0))
+                .andExpect(jsonPath("$.payload.recent_slow_queries[0].duration_ms").value(640));
+    }
+
     @Test
     @DisplayName("복귀 유저를 조회한다")
     public void getReturningUsers() throws Exception {
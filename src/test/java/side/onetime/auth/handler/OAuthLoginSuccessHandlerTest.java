@@ -0,0 +1,113 @@
+package side.onetime.auth.handler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import side.onetime.domain.RefreshToken;
+import side.onetime.domain.User;
+import side.onetime.domain.enums.Language;
+import side.onetime.repository.RefreshTokenRepository;
+import side.onetime.repository.UserRepository;
+import side.onetime.service.UserActivityRecorder;
+import side.onetime.util.ClientInfoExtractor;
+import side.onetime.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OAuth 로그인 성공 처리 테스트")
+class OAuthLoginSuccessHandlerTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private ClientInfoExtractor clientInfoExtractor;
+
+    @Mock
+    private UserActivityRecorder userActivityRecorder;
+
+    @InjectMocks
+    private OAuthLoginSuccessHandler oAuthLoginSuccessHandler;
+
+    private static final Long USER_ID = 1L;
+    private static final String PROVIDER_ID = "google-sub-123";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(oAuthLoginSuccessHandler, "ACCESS_TOKEN_REDIRECT_URI",
+                "https://onetime.test/login?register=%s&access=%s&refresh=%s");
+        ReflectionTestUtils.setField(oAuthLoginSuccessHandler, "REGISTER_TOKEN_REDIRECT_URI",
+                "https://onetime.test/register?token=%s&name=%s");
+    }
+
+    @Test
+    @DisplayName("기존 유저가 로그인하면 활동 시각을 기록한다")
+    void existingUser_RecordsActivity() throws Exception {
+        // given
+        User user = User.builder()
+                .name("홍길동")
+                .email("hong@example.com")
+                .nickname("길동이")
+                .provider("GOOGLE")
+                .providerId(PROVIDER_ID)
+                .language(Language.KOR)
+                .build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        given(userRepository.findByProviderId(PROVIDER_ID)).willReturn(user);
+        given(jwtUtil.calculateRefreshTokenExpiryAt(any(LocalDateTime.class)))
+                .willReturn(LocalDateTime.now().plusDays(14));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        oAuthLoginSuccessHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response, googleLogin());
+
+        // then
+        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+        then(userActivityRecorder).should().record(eq(USER_ID), any(LocalDateTime.class));
+        assertThat(response.getRedirectedUrl()).startsWith("https://onetime.test/login");
+    }
+
+    @Test
+    @DisplayName("신규 유저는 가입 전이므로 활동 시각을 기록하지 않는다")
+    void newUser_DoesNotRecordActivity() throws Exception {
+        // given
+        given(userRepository.findByProviderId(PROVIDER_ID)).willReturn(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        oAuthLoginSuccessHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response, googleLogin());
+
+        // then
+        then(userActivityRecorder).shouldHaveNoInteractions();
+        assertThat(response.getRedirectedUrl()).startsWith("https://onetime.test/register");
+    }
+
+    private static OAuth2AuthenticationToken googleLogin() {
+        DefaultOAuth2User principal = new DefaultOAuth2User(List.of(),
+                Map.of("sub", PROVIDER_ID, "name", "홍길동", "email", "hong@example.com"), "sub");
+        return new OAuth2AuthenticationToken(principal, List.of(), "google");
+    }
+}
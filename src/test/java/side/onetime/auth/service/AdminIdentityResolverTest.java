@@ -0,0 +1,167 @@
+package side.onetime.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import side.onetime.domain.AdminUser;
+import side.onetime.domain.enums.AdminStatus;
+import side.onetime.exception.CustomException;
+import side.onetime.repository.AdminRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("관리자 식별 캐시 테스트")
+class AdminIdentityResolverTest {
+
+    private static final Long ADMIN_ID = 1L;
+    private static final Duration CACHE_TTL = Duration.ofSeconds(3);
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private AdminIdentityResolver adminIdentityResolver;
+
+    @BeforeEach
+    void setUp() {
+        adminIdentityResolver = new AdminIdentityResolver(adminRepository, CACHE_TTL, nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 캐시된 관리자를 반환하고 DB를 다시 조회하지 않는다")
+    void loadAdmin_CacheHit() {
+        // given
+        AdminUser admin = admin(AdminStatus.MASTER);
+        given(adminRepository.findById(ADMIN_ID)).willReturn(Optional.of(admin));
+
+        // when
+        AdminUser first = adminIdentityResolver.loadAdmin(ADMIN_ID);
+        advance(Duration.ofSeconds(2));
+        AdminUser second = adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // then
+        assertThat(second).isSameAs(first);
+        then(adminRepository).should(times(1)).findById(ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 DB를 다시 조회해 다른 인스턴스의 변경을 반영한다")
+    void loadAdmin_Expired() {
+        // given - 다른 인스턴스에서 권한이 바뀐 상황
+        given(adminRepository.findById(ADMIN_ID))
+                .willReturn(Optional.of(admin(AdminStatus.MASTER)))
+                .willReturn(Optional.of(admin(AdminStatus.PENDING_APPROVAL)));
+        adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // when
+        advance(CACHE_TTL.plusMillis(1));
+        AdminUser reloaded = adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // then
+        assertThat(reloaded.getAdminStatus()).isEqualTo(AdminStatus.PENDING_APPROVAL);
+        then(adminRepository).should(times(2)).findById(ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 바로 DB를 다시 조회한다")
+    void evict_WithoutTransaction() {
+        // given
+        given(adminRepository.findById(ADMIN_ID)).willReturn(Optional.of(admin(AdminStatus.MASTER)));
+        adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // when
+        adminIdentityResolver.evict(ADMIN_ID);
+        adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // then
+        then(adminRepository).should(times(2)).findById(ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 후에 캐시를 지운다")
+    void evict_AfterCommit() {
+        // given
+        given(adminRepository.findById(ADMIN_ID)).willReturn(Optional.of(admin(AdminStatus.MASTER)));
+        AdminUser cached = adminIdentityResolver.loadAdmin(ADMIN_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - 커밋 전에는 캐시가 그대로 남는다
+        adminIdentityResolver.evict(ADMIN_ID);
+
+        // then
+        assertThat(adminIdentityResolver.loadAdmin(ADMIN_ID)).isSameAs(cached);
+        then(adminRepository).should(times(1)).findById(ADMIN_ID);
+
+        // when - 커밋
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // then
+        then(adminRepository).should(times(2)).findById(ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 캐시를 지우지 않는다")
+    void evict_RolledBack() {
+        // given
+        given(adminRepository.findById(ADMIN_ID)).willReturn(Optional.of(admin(AdminStatus.MASTER)));
+        adminIdentityResolver.loadAdmin(ADMIN_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        adminIdentityResolver.evict(ADMIN_ID);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        adminIdentityResolver.loadAdmin(ADMIN_ID);
+
+        // then
+        then(adminRepository).should(times(1)).findById(ADMIN_ID);
+    }
+
+    @Test
+    @DisplayName("없는 관리자는 예외를 던지고 캐시하지 않는다")
+    void loadAdmin_NotFound() {
+        given(adminRepository.findById(ADMIN_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> adminIdentityResolver.loadAdmin(ADMIN_ID)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> adminIdentityResolver.loadAdmin(ADMIN_ID)).isInstanceOf(CustomException.class);
+        then(adminRepository).should(times(2)).findById(ADMIN_ID);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static AdminUser admin(AdminStatus adminStatus) {
+        AdminUser admin = AdminUser.builder()
+                .name("관리자")
+                .email("admin@onetime.kr")
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(admin, "id", ADMIN_ID);
+        admin.updateAdminStatus(adminStatus);
+        return admin;
+    }
+}
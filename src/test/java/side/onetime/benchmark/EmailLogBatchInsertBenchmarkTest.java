@@ -0,0 +1,182 @@
+package side.onetime.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.EmailLog;
+import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.repository.EmailLogBatchRepository;
+
+/**
+ * email_logs 저장 방식 비교 벤치마크.
+ *
+ * - 행 단위: IDENTITY 전략의 saveAll과 같은 방식 (행마다 INSERT + 생성 키 조회)
+ * - 일괄: EmailLogBatchRepository (다중 VALUES INSERT + 생성 키 일괄 조회)
+ *
+ * 두 방식 모두 하나의 트랜잭션 안에서 실행하고, 일괄 방식이 돌려준 ID가 입력 순서와 일치하는지 검증한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class EmailLogBatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailLogBatchInsertBenchmarkTest.class);
+
+    private static MySQLContainer<?> mysql;
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static EmailLogBatchRepository emailLogBatchRepository;
+
+    @BeforeAll
+    static void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.0");
+        mysql.start();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(mysql.getJdbcUrl());
+        config.setUsername(mysql.getUsername());
+        config.setPassword(mysql.getPassword());
+        dataSource = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        emailLogBatchRepository = new EmailLogBatchRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE email_logs (
+                    id            BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    campaign_id   BIGINT       NOT NULL,
+                    user_id       BIGINT       NOT NULL,
+                    recipient     VARCHAR(255) NOT NULL,
+                    status        VARCHAR(20)  NOT NULL,
+                    error_message TEXT,
+                    target_group  VARCHAR(50),
+                    sent_at       DATETIME(6)  NOT NULL,
+                    INDEX idx_email_logs_campaign (campaign_id)
+                )
+                """);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @BeforeEach
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE email_logs");
+    }
+
+    @ParameterizedTest(name = "{0}명")
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    @DisplayName("행 단위 INSERT vs 다중 VALUES INSERT")
+    void compareInsert(int recipients) {
+        List<EmailLog> emailLogs = emailLogsOf(recipients);
+
+        long rowByRowNanos = measure(() -> insertRowByRow(emailLogs));
+        jdbcTemplate.execute("TRUNCATE TABLE email_logs");
+
+        List<Long> ids = new ArrayList<>();
+        long batchNanos = measure(() -> ids.addAll(emailLogBatchRepository.insertAll(emailLogs)));
+
+        log.info("[Benchmark] recipients={}, row-by-row={} ms, batch={} ms, speedup={}",
+                recipients, rowByRowNanos / 1_000_000, batchNanos / 1_000_000,
+                String.format("%.1f", (double) rowByRowNanos / batchNanos));
+
+        assertIdsMatchInputOrder(emailLogs, ids);
+    }
+
+    private long measure(Runnable insert) {
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> insert.run());
+        return System.nanoTime() - startedAt;
+    }
+
+    private void insertRowByRow(List<EmailLog> emailLogs) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO email_logs (campaign_id, user_id, recipient, status, error_message, sent_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                for (EmailLog emailLog : emailLogs) {
+                    ps.setLong(1, emailLog.getCampaign().getId());
+                    ps.setLong(2, emailLog.getUserId());
+                    ps.setString(3, emailLog.getRecipient());
+                    ps.setString(4, emailLog.getStatus().name());
+                    ps.setString(5, null);
+                    ps.setTimestamp(6, Timestamp.valueOf(emailLog.getSentAt()));
+                    ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private void assertIdsMatchInputOrder(List<EmailLog> emailLogs, List<Long> ids) {
+        assertThat(ids).hasSize(emailLogs.size()).isSorted().doesNotHaveDuplicates();
+
+        Map<Long, String> recipientById = new HashMap<>();
+        jdbcTemplate.query("SELECT id, recipient FROM email_logs", rs -> {
+            recipientById.put(rs.getLong(1), rs.getString(2));
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(recipientById.get(ids.get(i))).isEqualTo(emailLogs.get(i).getRecipient());
+        }
+    }
+
+    private List<EmailLog> emailLogsOf(int count) {
+        EmailCampaign campaign = EmailCampaign.builder()
+                .subject("[OneTime] 소식")
+                .content("<p>{{name}}님, 안녕하세요.</p>")
+                .contentType("HTML")
+                .targetGroup("agreed")
+                .build();
+        ReflectionTestUtils.setField(campaign, "id", 1L);
+
+        return IntStream.range(0, count)
+                .mapToObj(i -> EmailLog.builder()
+                        .campaign(campaign)
+                        .userId((long) i)
+                        .recipient("user" + i + "@onetime.run")
+                        .status(EmailLogStatus.QUEUED)
+                        .build())
+                .toList();
+    }
+}
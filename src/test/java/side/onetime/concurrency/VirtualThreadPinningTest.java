@@ -0,0 +1,53 @@
+package side.onetime.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 가상 스레드 모드에서 캐리어 스레드 고정(pinning)을 유발하는 코드를 검출하는 테스트.
+ * - JDK 21에서 synchronized 블록/메서드 안에서 블로킹 I/O가 일어나면 가상 스레드가 캐리어 스레드에 고정된다.
+ * - 애플리케이션 코드에서는 synchronized 대신 ReentrantLock 또는 동시성 컬렉션을 사용한다.
+ * - 라이브러리 내부 고정은 운영에서 -Djdk.tracePinnedThreads=short 로 추적한다.
+ */
+class VirtualThreadPinningTest {
+
+    private static final Path MAIN_SOURCE_ROOT = Paths.get("src", "main", "java");
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    @DisplayName("애플리케이션 코드에는 synchronized 블록/메서드가 없어야 한다")
+    void mainSourcesShouldNotUseSynchronized() throws IOException {
+        List<String> violations = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(MAIN_SOURCE_ROOT)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".java")).toList()) {
+                List<String> lines = Files.readAllLines(file);
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i).trim();
+                    if (line.startsWith("//") || line.startsWith("*")) {
+                        continue;
+                    }
+                    if (SYNCHRONIZED.matcher(line).find()) {
+                        violations.add(MAIN_SOURCE_ROOT.relativize(file) + ":" + (i + 1));
+                    }
+                }
+            }
+        }
+
+        assertThat(violations)
+                .withFailMessage("가상 스레드 pinning 위험 - synchronized 대신 ReentrantLock을 사용하세요:\n%s",
+                        String.join("\n", violations))
+                .isEmpty();
+    }
+}
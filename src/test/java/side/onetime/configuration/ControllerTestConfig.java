@@ -16,6 +16,7 @@ import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 import side.onetime.auth.service.CustomAdminDetailsService;
 import side.onetime.auth.service.CustomUserDetailsService;
+import side.onetime.service.TokenReissueCoordinator;
 import side.onetime.service.TokenService;
 import side.onetime.util.ClientInfoExtractor;
 import side.onetime.util.JwtUtil;
@@ -52,6 +53,9 @@ public abstract class ControllerTestConfig {
     @MockBean
     protected TokenService tokenService;
 
+    @MockBean
+    protected TokenReissueCoordinator tokenReissueCoordinator;
+
     @BeforeEach
     void setUp(final RestDocumentationContextProvider restDocumentation) {
         mockMvc = MockMvcBuilders.webAppContextSetup(context)
@@ -874,6 +874,7 @@ public class EventControllerTest extends ControllerTestConfig {
                 .andExpect(jsonPath("$.code").value("200"))
                 .andExpect(jsonPath("$.message").value("이벤트 QR 코드 조회에 성공했습니다."))
                 .andExpect(jsonPath("$.payload.qr_code_img_url").value(qrCodeImgUrl))
+                .andExpect(jsonPath("$.payload.qr_status").value("READY"))
 
                 // docs
                 .andDo(MockMvcRestDocumentationWrapper.document("event/get-event-qr-code",
@@ -891,11 +892,32 @@ public class EventControllerTest extends ControllerTestConfig {
                                                 fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
                                                 fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
                                                 fieldWithPath("payload").type(JsonFieldType.OBJECT).description("응답 데이터"),
-                                                fieldWithPath("payload.qr_code_img_url").type(JsonFieldType.STRING).description("QR 코드 이미지 URL")
+                                                fieldWithPath("payload.qr_code_img_url").type(JsonFieldType.STRING).description("QR 코드 이미지 URL"),
+                                                fieldWithPath("payload.qr_status").type(JsonFieldType.STRING).description("QR 코드 생성 상태 (READY, PENDING)")
                                         )
                                         .responseSchema(Schema.schema("GetEventQrCodeResponseSchema"))
                                         .build()
                         )
                 ));
     }
+
+    @Test
+    @DisplayName("QR 코드가 아직 생성 중이면 202와 PENDING 상태를 반환한다.")
+    public void getEventQrCodePending() throws Exception {
+        // given
+        String eventId = UUID.randomUUID().toString();
+        Mockito.when(eventService.getEventQrCode(anyString())).thenReturn(GetEventQrCodeResponse.pending());
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/events/qr/{event_id}", eventId)
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.is_success").value(true))
+                .andExpect(jsonPath("$.code").value("202"))
+                .andExpect(jsonPath("$.payload.qr_code_img_url").isEmpty())
+                .andExpect(jsonPath("$.payload.qr_status").value("PENDING"));
+    }
 }
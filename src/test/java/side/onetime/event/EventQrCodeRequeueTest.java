@@ -0,0 +1,133 @@
+package side.onetime.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import side.onetime.domain.Event;
+import side.onetime.domain.enums.Category;
+import side.onetime.domain.enums.QrCodeStatus;
+import side.onetime.dto.event.request.QrCodeGenerationMessage;
+import side.onetime.dto.event.response.GetEventQrCodeResponse;
+import side.onetime.repository.EventRepository;
+import side.onetime.service.EventService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QR 코드 조회 시 재생성 요청 테스트")
+class EventQrCodeRequeueTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private EventService eventService;
+
+    private static final Long EVENT_PK = 1L;
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final Duration PENDING_TIMEOUT = Duration.ofMinutes(5);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventService, "lazyQrGeneration", false);
+        ReflectionTestUtils.setField(eventService, "qrPendingTimeout", PENDING_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("방금 요청된 PENDING 이벤트는 다시 요청하지 않는다")
+    void recentPending_DoesNotRequeue() {
+        // given
+        givenEvent(QrCodeStatus.PENDING, LocalDateTime.now().minusSeconds(10));
+
+        // when
+        GetEventQrCodeResponse response = eventService.getEventQrCode(EVENT_ID.toString());
+
+        // then
+        assertThat(response.qrStatus()).isEqualTo(QrCodeStatus.PENDING);
+        then(eventRepository).should(never()).requeueQrCode(anyLong(), any(), any());
+        then(applicationEventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("pending-timeout이 지나도록 PENDING이면 요청이 유실된 것으로 보고 다시 요청한다")
+    void stalePending_Requeues() {
+        // given - 커밋 이후 인스턴스가 종료되어 워커가 실행되지 않은 이벤트
+        givenEvent(QrCodeStatus.PENDING, LocalDateTime.now().minusMinutes(10));
+        given(eventRepository.requeueQrCode(eq(EVENT_PK), any(), any())).willReturn(1);
+
+        // when
+        GetEventQrCodeResponse response = eventService.getEventQrCode(EVENT_ID.toString());
+
+        // then
+        assertThat(response.qrStatus()).isEqualTo(QrCodeStatus.PENDING);
+        then(eventRepository).should().requeueQrCode(eq(EVENT_PK), any(LocalDateTime.class),
+                argThat(staleBefore -> staleBefore.isAfter(LocalDateTime.now().minus(PENDING_TIMEOUT).minusSeconds(5))
+                        && staleBefore.isBefore(LocalDateTime.now().minus(PENDING_TIMEOUT).plusSeconds(5))));
+        then(applicationEventPublisher).should().publishEvent(new QrCodeGenerationMessage(EVENT_PK, EVENT_ID));
+    }
+
+    @Test
+    @DisplayName("요청 시각이 없는 PENDING 이벤트(컬럼 추가 전 생성)도 다시 요청한다")
+    void pendingWithoutRequestedAt_Requeues() {
+        givenEvent(QrCodeStatus.PENDING, null);
+        given(eventRepository.requeueQrCode(eq(EVENT_PK), any(), any())).willReturn(1);
+
+        eventService.getEventQrCode(EVENT_ID.toString());
+
+        then(applicationEventPublisher).should().publishEvent(new QrCodeGenerationMessage(EVENT_PK, EVENT_ID));
+    }
+
+    @Test
+    @DisplayName("FAILED 이벤트는 다시 요청한다")
+    void failed_Requeues() {
+        givenEvent(QrCodeStatus.FAILED, LocalDateTime.now().minusSeconds(10));
+        given(eventRepository.requeueQrCode(eq(EVENT_PK), any(), any())).willReturn(1);
+
+        eventService.getEventQrCode(EVENT_ID.toString());
+
+        then(applicationEventPublisher).should().publishEvent(new QrCodeGenerationMessage(EVENT_PK, EVENT_ID));
+    }
+
+    @Test
+    @DisplayName("동시 조회 중 다른 요청이 먼저 다시 요청했으면 요청하지 않는다")
+    void requeueLost_DoesNotPublish() {
+        givenEvent(QrCodeStatus.PENDING, LocalDateTime.now().minusMinutes(10));
+        given(eventRepository.requeueQrCode(eq(EVENT_PK), any(), any())).willReturn(0);
+
+        GetEventQrCodeResponse response = eventService.getEventQrCode(EVENT_ID.toString());
+
+        assertThat(response.qrStatus()).isEqualTo(QrCodeStatus.PENDING);
+        then(applicationEventPublisher).shouldHaveNoInteractions();
+    }
+
+    private void givenEvent(QrCodeStatus qrStatus, LocalDateTime qrRequestedAt) {
+        Event event = Event.builder()
+                .eventId(EVENT_ID)
+                .title("회의")
+                .startTime("09:00")
+                .endTime("18:00")
+                .category(Category.DATE)
+                .build();
+        ReflectionTestUtils.setField(event, "id", EVENT_PK);
+        ReflectionTestUtils.setField(event, "qrStatus", qrStatus);
+        ReflectionTestUtils.setField(event, "qrRequestedAt", qrRequestedAt);
+        given(eventRepository.findByEventId(EVENT_ID)).willReturn(Optional.of(event));
+    }
+}
@@ -0,0 +1,103 @@
+package side.onetime.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import side.onetime.exception.CustomException;
+import side.onetime.service.LazyQrCodeProvider;
+import side.onetime.util.QrUtil;
+import side.onetime.util.S3Util;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LazyQrCodeProvider 테스트")
+class LazyQrCodeProviderTest {
+
+    @InjectMocks
+    private LazyQrCodeProvider lazyQrCodeProvider;
+
+    @Mock
+    private QrUtil qrUtil;
+
+    @Mock
+    private S3Util s3Util;
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final String KEY = QrUtil.lazyObjectKey(EVENT_ID);
+    private static final byte[] PNG = new byte[]{1, 2, 3};
+
+    @Test
+    @DisplayName("같은 이벤트의 동시 첫 요청은 한 번만 렌더링/업로드한다")
+    void getOrCreate_ConcurrentFirstRequestsShareUpload() throws Exception {
+        // given
+        CountDownLatch leaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(s3Util.exists(KEY)).willReturn(false);
+        given(qrUtil.getQrCodeBytes(EVENT_ID)).willAnswer(invocation -> {
+            leaderEntered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return PNG;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<String> leader = executor.submit(() -> lazyQrCodeProvider.getOrCreate(EVENT_ID));
+            leaderEntered.await(5, TimeUnit.SECONDS);
+            Future<String> follower = executor.submit(() -> lazyQrCodeProvider.getOrCreate(EVENT_ID));
+            release.countDown();
+
+            // then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(KEY);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(KEY);
+            then(s3Util).should(times(1)).uploadBytes(KEY, PNG, "image/png");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 업로드된 키는 다시 확인하거나 렌더링하지 않는다")
+    void getOrCreate_SkipsKnownKey() throws Exception {
+        // given
+        given(s3Util.exists(KEY)).willReturn(true);
+
+        // when
+        lazyQrCodeProvider.getOrCreate(EVENT_ID);
+        lazyQrCodeProvider.getOrCreate(EVENT_ID);
+
+        // then
+        then(s3Util).should(times(1)).exists(KEY);
+        then(qrUtil).should(never()).getQrCodeBytes(any());
+        then(s3Util).should(never()).uploadBytes(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("업로드 실패 후 재요청하면 렌더링 결과를 재사용한다")
+    void getOrCreate_ReusesRenderedImageAfterFailure() throws Exception {
+        // given
+        given(s3Util.exists(KEY)).willReturn(false);
+        given(qrUtil.getQrCodeBytes(EVENT_ID)).willReturn(PNG);
+        willThrow(new RuntimeException("S3 down")).willDoNothing()
+                .given(s3Util).uploadBytes(KEY, PNG, "image/png");
+
+        // when & then
+        assertThatThrownBy(() -> lazyQrCodeProvider.getOrCreate(EVENT_ID)).isInstanceOf(CustomException.class);
+        assertThat(lazyQrCodeProvider.getOrCreate(EVENT_ID)).isEqualTo(KEY);
+        then(qrUtil).should(times(1)).getQrCodeBytes(EVENT_ID);
+    }
+}
@@ -0,0 +1,108 @@
+package side.onetime.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.enums.QrCodeStatus;
+import side.onetime.dto.event.request.QrCodeGenerationMessage;
+import side.onetime.repository.EventRepository;
+import side.onetime.service.QrCodeGenerationWorker;
+import side.onetime.util.QrUtil;
+import side.onetime.util.S3Util;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QrCodeGenerationWorker 테스트")
+class QrCodeGenerationWorkerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private QrUtil qrUtil;
+
+    @Mock
+    private S3Util s3Util;
+
+    @Mock
+    private MultipartFile qrFile;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QrCodeGenerationWorker worker;
+
+    private static final Long EVENT_PK = 1L;
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final String QR_FILE_NAME = "qr/file-name";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new QrCodeGenerationWorker(eventRepository, qrUtil, s3Util, meterRegistry);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "initialBackoff", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(worker, "maxBackoff", Duration.ofMillis(2));
+        given(qrUtil.getQrCodeFile(EVENT_ID)).willReturn(qrFile);
+    }
+
+    @Test
+    @DisplayName("업로드 실패 후 재시도에 성공하면 파일명을 기록한다")
+    void handle_RetriesThenCompletes() throws Exception {
+        // given
+        given(s3Util.uploadImage(eq("qr"), any(MultipartFile.class)))
+                .willThrow(new IOException("S3 timeout"))
+                .willReturn(QR_FILE_NAME);
+        given(eventRepository.completeQrCode(EVENT_PK, QR_FILE_NAME)).willReturn(1);
+
+        // when
+        worker.handle(new QrCodeGenerationMessage(EVENT_PK, EVENT_ID));
+
+        // then
+        then(s3Util).should(times(2)).uploadImage(eq("qr"), any(MultipartFile.class));
+        then(eventRepository).should().completeQrCode(EVENT_PK, QR_FILE_NAME);
+        then(eventRepository).should(never()).updateQrStatusIf(anyLong(), any(), any());
+        assertThat(meterRegistry.counter("qr.generation", "result", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED로 표시한다")
+    void handle_MarksFailedAfterMaxAttempts() throws Exception {
+        // given
+        given(s3Util.uploadImage(eq("qr"), any(MultipartFile.class))).willThrow(new IOException("S3 down"));
+
+        // when
+        worker.handle(new QrCodeGenerationMessage(EVENT_PK, EVENT_ID));
+
+        // then
+        then(s3Util).should(times(3)).uploadImage(eq("qr"), any(MultipartFile.class));
+        then(eventRepository).should().updateQrStatusIf(EVENT_PK, QrCodeStatus.PENDING, QrCodeStatus.FAILED);
+        then(eventRepository).should(never()).completeQrCode(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("업로드 사이에 이벤트가 삭제되었으면 업로드한 파일을 지운다")
+    void handle_DeletesOrphanFile() throws Exception {
+        // given
+        given(s3Util.uploadImage(eq("qr"), any(MultipartFile.class))).willReturn(QR_FILE_NAME);
+        given(eventRepository.completeQrCode(EVENT_PK, QR_FILE_NAME)).willReturn(0);
+
+        // when
+        worker.handle(new QrCodeGenerationMessage(EVENT_PK, EVENT_ID));
+
+        // then
+        then(s3Util).should().deleteFile(QR_FILE_NAME);
+    }
+}
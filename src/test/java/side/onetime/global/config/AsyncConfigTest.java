@@ -0,0 +1,137 @@
+package side.onetime.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.global.config.async.AsyncExecutorProperties;
+import side.onetime.global.config.async.SaturationPolicy;
+
+/**
+ * 풀 1, 큐 1인 실행기를 포화시켜 정책별 동작과 거절 메트릭을 확인한다.
+ */
+@DisplayName("비동기 실행기 포화 정책 테스트")
+class AsyncConfigTest {
+
+    private static final String BEAN_NAME = AsyncConfig.DEFAULT_EXECUTOR;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS: 포화되면 호출한 스레드에서 바로 실행한다")
+    void callerRuns() throws InterruptedException {
+        // given
+        executor = saturatedExecutor(SaturationPolicy.CALLER_RUNS);
+
+        // when
+        executor.execute(() -> ran.add(Thread.currentThread().getName()));
+
+        // then
+        assertThat(ran).containsExactly(Thread.currentThread().getName());
+        assertThat(rejectedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DISCARD: 포화되면 작업을 버리고 예외 없이 반환한다")
+    void discard() throws InterruptedException {
+        // given
+        executor = saturatedExecutor(SaturationPolicy.DISCARD);
+
+        // when
+        executor.execute(() -> ran.add("discarded"));
+        release.countDown();
+        executor.shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+
+        // then - 실행 중이던 작업과 큐의 작업만 실행된다
+        assertThat(ran).containsExactly("running", "queued");
+        assertThat(rejectedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("ABORT: 포화되면 TaskRejectedException을 던진다")
+    void abort() throws InterruptedException {
+        // given
+        executor = saturatedExecutor(SaturationPolicy.ABORT);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> ran.add("aborted")))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(ran).doesNotContain("aborted");
+        assertThat(rejectedCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("거절이 반복되면 executor.rejected가 그만큼 늘어난다")
+    void rejectedCounter_Accumulates() throws InterruptedException {
+        // given
+        executor = saturatedExecutor(SaturationPolicy.DISCARD);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> ran.add("discarded"));
+        }
+
+        // then
+        assertThat(rejectedCount()).isEqualTo(3.0);
+    }
+
+    /**
+     * 풀 1, 큐 1을 채운 실행기. 첫 작업은 release까지 막혀 있고 두 번째 작업은 큐에서 기다린다.
+     */
+    private ThreadPoolTaskExecutor saturatedExecutor(SaturationPolicy policy) throws InterruptedException {
+        AsyncConfig asyncConfig = new AsyncConfig(new AsyncExecutorProperties(
+                Map.of("default", new AsyncExecutorProperties.Pool(1, 1, 1, policy))));
+        ThreadPoolTaskExecutor taskExecutor = asyncConfig.taskExecutor();
+        taskExecutor.initialize();
+        asyncConfig.asyncExecutorMetrics(Map.of(BEAN_NAME, taskExecutor)).bindTo(registry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        taskExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            ran.add("running");
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        taskExecutor.execute(() -> ran.add("queued"));
+        return taskExecutor;
+    }
+
+    private double rejectedCount() {
+        FunctionCounter counter = registry.find("executor.rejected").tag("name", BEAN_NAME).functionCounter();
+        assertThat(counter).isNotNull();
+        return counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
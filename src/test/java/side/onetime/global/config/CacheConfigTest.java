@@ -0,0 +1,127 @@
+package side.onetime.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import side.onetime.global.config.cache.CacheSpecProperties;
+import side.onetime.global.config.cache.StatisticsCacheable;
+
+/**
+ * 캐시 어드바이스와 트랜잭션 어드바이스가 함께 걸린 빈으로, 비동기 갱신이 트랜잭션을 거치는지 확인한다.
+ * 갱신 작업은 실행기에 쌓아 두었다가 테스트 스레드에서 실행한다.
+ */
+@SpringJUnitConfig(CacheConfigTest.TestConfig.class)
+@DisplayName("캐시 설정 테스트")
+class CacheConfigTest {
+
+    private static final List<Runnable> REFRESHES = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private ReadOnlyStatistics statistics;
+
+    @Test
+    @DisplayName("비동기 갱신도 원래 메서드의 읽기 전용 트랜잭션 안에서 실행한다")
+    void refreshAhead_RunsInsideReadOnlyTransaction() {
+        // given - 값이 없으면 호출 스레드가 계산해 저장한다
+        LocalDate today = LocalDate.now();
+        assertThat(statistics.count(today)).isEqualTo(1);
+
+        // when - refresh-after-write(0)가 지났으므로 기존 값을 반환하고 갱신을 요청한다
+        Integer stale = statistics.count(today);
+        assertThat(REFRESHES).hasSize(1);
+        REFRESHES.get(0).run();
+
+        // then
+        assertThat(stale).isEqualTo(1);
+        assertThat(statistics.readOnlyTransactions()).containsExactly(true, true);
+        assertThat(statistics.count(today)).isEqualTo(2);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(CacheConfig.class)
+    static class TestConfig {
+
+        @Bean
+        CacheSpecProperties cacheSpecProperties() {
+            return new CacheSpecProperties(Map.of(CacheConfig.STATISTICS_LIVE_CACHE,
+                    new CacheSpecProperties.Spec(10, Duration.ofMinutes(5), Duration.ZERO)));
+        }
+
+        @Bean(name = AsyncConfig.CACHE_REFRESH_EXECUTOR)
+        Executor cacheRefreshExecutor() {
+            return REFRESHES::add;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Bean
+        ReadOnlyStatistics readOnlyStatistics() {
+            return new ReadOnlyStatistics();
+        }
+    }
+
+    static class ReadOnlyStatistics {
+
+        private final List<Boolean> readOnlyTransactions = new CopyOnWriteArrayList<>();
+
+        @StatisticsCacheable
+        @Transactional(readOnly = true)
+        public Integer count(LocalDate endDate) {
+            readOnlyTransactions.add(TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return readOnlyTransactions.size();
+        }
+
+        public List<Boolean> readOnlyTransactions() {
+            return List.copyOf(readOnlyTransactions);
+        }
+    }
+
+    /**
+     * 커넥션 없이 트랜잭션 동기화 상태만 설정하는 트랜잭션 매니저
+     */
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
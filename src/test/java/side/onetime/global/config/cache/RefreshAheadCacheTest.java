@@ -0,0 +1,112 @@
+package side.onetime.global.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RefreshAheadCache 테스트")
+class RefreshAheadCacheTest {
+
+    @Test
+    @DisplayName("값이 없으면 계산해서 저장하고, 이후에는 저장된 값을 반환한다")
+    void get_LoadsOnce() {
+        RefreshAheadCache cache = new RefreshAheadCache("test",
+                new CacheSpecProperties.Spec(10, Duration.ofMinutes(5), null), Runnable::run);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("key", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.get("key", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("refresh-after-write가 지나면 기존 값을 반환하고 실행기에서 다시 계산한다")
+    void get_RefreshesAhead() {
+        // given
+        List<Runnable> refreshes = new ArrayList<>();
+        RefreshAheadCache cache = new RefreshAheadCache("test",
+                new CacheSpecProperties.Spec(10, Duration.ofMinutes(5), Duration.ZERO), refreshes::add);
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("key", calls::incrementAndGet);
+
+        // when
+        Integer stale = cache.get("key", calls::incrementAndGet);
+
+        // then - 갱신 전에는 기존 값, 갱신 후에는 새 값
+        assertThat(stale).isEqualTo(1);
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+        assertThat(cache.get("key").get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("계산 중 저장하지 않도록 표시한 값은 반환만 하고 저장하지 않는다")
+    void get_SkipsUncacheableResult() {
+        RefreshAheadCache cache = new RefreshAheadCache("test",
+                new CacheSpecProperties.Spec(10, Duration.ofMinutes(5), null), Runnable::run);
+        AtomicInteger calls = new AtomicInteger();
+
+        Integer partial = cache.get("key", () -> {
+            UncacheableResult.mark();
+            return calls.incrementAndGet();
+        });
+
+        assertThat(partial).isEqualTo(1);
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.get("key", calls::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시 키는 선언 클래스와 파라미터 타입까지 구분하고, 문자열 파라미터는 공백을 정리한다")
+    void statisticsCacheKey() throws NoSuchMethodException {
+        LocalDate date = LocalDate.of(2026, 10, 19);
+        StatisticsCacheKey summary = StatisticsCacheKey.of(
+                SummaryQueries.class.getDeclaredMethod("count", LocalDate.class), date);
+
+        assertThat(StatisticsCacheKey.of(SummaryQueries.class.getDeclaredMethod("count", LocalDate.class), date))
+                .isEqualTo(summary);
+        assertThat(StatisticsCacheKey.of(ChartQueries.class.getDeclaredMethod("count", LocalDate.class), date))
+                .isNotEqualTo(summary);
+        assertThat(StatisticsCacheKey.of(SummaryQueries.class.getDeclaredMethod("count", Object.class), date))
+                .isNotEqualTo(summary);
+        assertThat(StatisticsCacheKey.of(SummaryQueries.class.getDeclaredMethod("count", Object.class), " kor "))
+                .isEqualTo(StatisticsCacheKey.of(SummaryQueries.class.getDeclaredMethod("count", Object.class), "kor"));
+    }
+
+    @Test
+    @DisplayName("날짜 파라미터가 모두 오늘 이전일 때만 지난 기간으로 본다")
+    void isPastRange() {
+        LocalDate today = LocalDate.of(2026, 10, 19);
+
+        assertThat(StatisticsCacheResolver.isPastRange(new Object[]{today.minusDays(30), today.minusDays(1)}, today)).isTrue();
+        assertThat(StatisticsCacheResolver.isPastRange(new Object[]{today.minusDays(30), today}, today)).isFalse();
+        assertThat(StatisticsCacheResolver.isPastRange(new Object[]{12}, today)).isFalse();
+    }
+
+    @SuppressWarnings("unused")
+    private static class SummaryQueries {
+
+        int count(LocalDate date) {
+            return 0;
+        }
+
+        int count(Object value) {
+            return 0;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class ChartQueries {
+
+        int count(LocalDate date) {
+            return 0;
+        }
+    }
+}
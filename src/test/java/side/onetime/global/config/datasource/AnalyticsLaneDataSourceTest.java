@@ -0,0 +1,237 @@
+package side.onetime.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.service.StatisticsQueryFanOut;
+
+@DisplayName("AnalyticsLaneDataSource 테스트")
+class AnalyticsLaneDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource target;
+    private AnalyticsLaneDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        AnalyticsLaneLimiter limiter = new AnalyticsLaneLimiter(
+                new AnalyticsLaneProperties(1, Duration.ofMillis(100), Duration.ofSeconds(5)), meterRegistry);
+        target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        dataSource = new AnalyticsLaneDataSource(target,
+                new StaticListableBeanFactory(Map.of("analyticsLaneLimiter", limiter))
+                        .getBeanProvider(AnalyticsLaneLimiter.class));
+    }
+
+    @Test
+    @DisplayName("레인 밖의 커넥션은 제한 없이 그대로 넘긴다")
+    void outsideLane_PassesThrough() throws Exception {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertThat(first).isNotInstanceOf(ConnectionProxy.class);
+        assertThat(second).isNotSameAs(first);
+        assertThat(activeConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("레인 커넥션은 닫을 때까지 자리를 쥐고, 만든 Statement에 쿼리 제한 시간을 건다")
+    void insideLane_HoldsPermitAndAppliesQueryTimeout() throws Exception {
+        // given
+        Connection targetConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        given(target.getConnection()).willReturn(targetConnection);
+        given(targetConnection.prepareStatement("SELECT 1")).willReturn(statement);
+
+        // when
+        Connection connection = AnalyticsLane.call(() -> open());
+        connection.prepareStatement("SELECT 1");
+
+        // then
+        then(statement).should().setQueryTimeout(5);
+        assertThat(activeConnections()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+        then(targetConnection).should(times(2)).close();
+        assertThat(activeConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 작업이 커넥션을 하나 더 열면 자리를 더 받지 않는다")
+    void insideLane_NestedConnectionOnSameThreadSharesPermit() throws Exception {
+        AnalyticsLane.call(() -> {
+            Connection cursor = open();
+            Connection chunk = open();
+            assertThat(activeConnections()).isEqualTo(1);
+            close(chunk);
+            assertThat(activeConnections()).isEqualTo(1);
+            close(cursor);
+            return null;
+        });
+
+        assertThat(activeConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("자리가 없으면 acquire-timeout만큼 기다린 뒤 거절한다")
+    void insideLane_RejectsWhenSaturated() throws Exception {
+        // given - 한도 1을 다른 작업이 쥐고 있음
+        Connection held = AnalyticsLane.call(() -> open());
+
+        // when
+        CompletableFuture<Connection> rejected = CompletableFuture.supplyAsync(
+                () -> AnalyticsLane.call(() -> open()));
+
+        // then
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseInstanceOf(AnalyticsLaneBusyException.class);
+        assertThat(meterRegistry.get("datasource.analytics_lane.acquire").tag("outcome", "rejected").timer().count())
+                .isEqualTo(1);
+
+        // 자리를 돌려주면 다시 얻을 수 있음
+        held.close();
+        Connection next = CompletableFuture.supplyAsync(() -> AnalyticsLane.call(() -> open())).join();
+        assertThat(activeConnections()).isEqualTo(1);
+        next.close();
+    }
+
+    @Test
+    @DisplayName("병렬 조회 분기는 fork한 요청의 자리 하나를 함께 쓴다")
+    void fanOutInsideLane_SharesOnePermit() throws Exception {
+        // given - 한도 1, 분기 6개가 동시에 트랜잭션(커넥션)을 쥐고 있도록 함
+        int branches = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(branches);
+        StatisticsQueryFanOut fanOut = new StatisticsQueryFanOut(executor,
+                new DataSourceTransactionManager(dataSource), meterRegistry);
+        ReflectionTestUtils.setField(fanOut, "timeout", Duration.ofSeconds(5));
+        CountDownLatch allOpen = new CountDownLatch(branches);
+
+        try {
+            // when
+            List<Double> active = AnalyticsLane.call(() -> {
+                StatisticsQueryFanOut.Scope scope = fanOut.open("dashboard_summary");
+                List<StatisticsQueryFanOut.Branch<Double>> forked = IntStream.range(0, branches)
+                        .mapToObj(i -> scope.fork("branch-" + i, () -> {
+                            allOpen.countDown();
+                            await(allOpen);
+                            return activeConnections();
+                        }))
+                        .toList();
+                return forked.stream().map(StatisticsQueryFanOut.Branch::join).toList();
+            });
+
+            // then
+            assertThat(active).hasSize(branches).containsOnly(1.0);
+            assertThat(activeConnections()).isZero();
+            assertThat(meterRegistry.get("datasource.analytics_lane.acquire").tag("outcome", "acquired").timer().count())
+                    .isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 작업의 분기가 동시에 처음 커넥션을 열어도 자리는 하나만 얻고, 다른 작업은 기다린다")
+    void concurrentFirstOpensInSameScope_AcquireOnce() throws Exception {
+        // given - 한도 1을 다른 작업이 쥐고 있어 첫 분기가 자리를 기다리는 동안 다른 분기도 도착함
+        Connection held = AnalyticsLane.call(() -> open());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<CompletableFuture<Connection>> opened = AnalyticsLane.call(() -> IntStream.range(0, 3)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(AnalyticsLane.propagate(() -> open()), executor))
+                    .toList());
+            Thread.sleep(30);
+
+            // when - 다른 작업이 자리를 돌려줌
+            held.close();
+
+            // then
+            List<Connection> connections = opened.stream().map(CompletableFuture::join).toList();
+            assertThat(activeConnections()).isEqualTo(1);
+            assertThat(meterRegistry.get("datasource.analytics_lane.acquire").tag("outcome", "rejected").timer().count())
+                    .isZero();
+            connections.forEach(AnalyticsLaneDataSourceTest::close);
+            assertThat(activeConnections()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("레인 여부는 넘긴 작업에만 이어지고 실행 스레드에는 남지 않는다")
+    void propagate_CarriesLaneOnlyForTask() throws Exception {
+        AnalyticsLane.enter();
+        Runnable task;
+        try {
+            task = AnalyticsLane.propagate(() -> {
+                assertThat(AnalyticsLane.isActive()).isTrue();
+            });
+        } finally {
+            AnalyticsLane.exit();
+        }
+
+        CompletableFuture.runAsync(task).join();
+        CompletableFuture.runAsync(() -> {
+            assertThat(AnalyticsLane.isActive()).isFalse();
+        }).join();
+        assertThat(AnalyticsLane.isActive()).isFalse();
+    }
+
+    private Connection open() {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("분기가 모두 열리지 않음");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double activeConnections() {
+        return meterRegistry.get("datasource.analytics_lane.active").gauge().value();
+    }
+}
@@ -0,0 +1,234 @@
+package side.onetime.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 읽기 복제본 라우팅 테스트.
+ *
+ * MySQL 컨테이너 두 개를 GTID 복제(source → replica)로 묶고, 어느 서버에서 실행됐는지 @@server_id로 확인한다.
+ * - source: server_id 1
+ * - replica: server_id 2 (read_only)
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SOURCE_ALIAS = "mysql-source";
+    private static final int SOURCE_SERVER_ID = 1;
+    private static final int REPLICA_SERVER_ID = 2;
+    private static final Duration REPLICATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private static Network network;
+    private static MySQLContainer<?> source;
+    private static MySQLContainer<?> replica;
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+    private static JdbcTemplate sourceRoot;
+    private static JdbcTemplate replicaRoot;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void startReplication() throws InterruptedException {
+        network = Network.newNetwork();
+        source = new MySQLContainer<>("mysql:8.0")
+                .withNetwork(network)
+                .withNetworkAliases(SOURCE_ALIAS)
+                .withCommand("--server-id=" + SOURCE_SERVER_ID, "--log-bin=mysql-bin",
+                        "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+        replica = new MySQLContainer<>("mysql:8.0")
+                .withNetwork(network)
+                .withCommand("--server-id=" + REPLICA_SERVER_ID,
+                        "--gtid-mode=ON", "--enforce-gtid-consistency=ON", "--read-only=ON");
+        source.start();
+        replica.start();
+
+        sourceRoot = rootJdbcTemplate(source);
+        replicaRoot = rootJdbcTemplate(replica);
+
+        // 컨테이너 초기화 때 남은 binlog(테스트 계정 생성 등)는 replica에도 이미 있으므로 비우고 시작한다
+        sourceRoot.execute("RESET MASTER");
+        replicaRoot.execute("RESET MASTER");
+
+        // 복제 계정과 지연 확인 권한은 source에서 만들어 replica로 복제한다
+        sourceRoot.execute("CREATE USER 'repl'@'%' IDENTIFIED WITH mysql_native_password BY 'repl'");
+        sourceRoot.execute("GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%'");
+        sourceRoot.execute("GRANT REPLICATION CLIENT ON *.* TO '" + source.getUsername() + "'@'%'");
+        replicaRoot.execute("CHANGE REPLICATION SOURCE TO SOURCE_HOST='" + SOURCE_ALIAS + "', SOURCE_PORT=3306, "
+                + "SOURCE_USER='repl', SOURCE_PASSWORD='repl', SOURCE_AUTO_POSITION=1");
+        replicaRoot.execute("START REPLICA");
+
+        primaryPool = pool(source, "primary");
+        replicaPool = pool(replica, "replica");
+        new JdbcTemplate(primaryPool).execute("CREATE TABLE routing_probe (id BIGINT PRIMARY KEY)");
+        awaitReplicaCaughtUp();
+    }
+
+    @AfterAll
+    static void stopReplication() {
+        if (primaryPool != null) {
+            primaryPool.close();
+        }
+        if (replicaPool != null) {
+            replicaPool.close();
+        }
+        if (replica != null) {
+            replica.stop();
+        }
+        if (source != null) {
+            source.stop();
+        }
+        if (network != null) {
+            network.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replicaPool, Duration.ofSeconds(1), Duration.ofSeconds(5), meterRegistry);
+        lagMonitor.check();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryPool, replicaPool, lagMonitor, meterRegistry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 primary에서 실행한다")
+    void routesByReadOnlyFlag() {
+        assertThat(readOnly.execute(status -> serverId())).isEqualTo(REPLICA_SERVER_ID);
+        assertThat(readWrite.execute(status -> serverId())).isEqualTo(SOURCE_SERVER_ID);
+        assertThat(serverId()).isEqualTo(SOURCE_SERVER_ID);
+
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read_only").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("datasource.routing", "target", "primary", "reason", "read_write").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기를 했으면 이후 읽기 전용 트랜잭션도 primary에서 실행한다")
+    void pinsReadsAfterWriteInSameRequest() {
+        // given - 요청 안에서 쓰기
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnly.execute(status -> serverId())).isEqualTo(REPLICA_SERVER_ID);
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO routing_probe (id) VALUES (1)"));
+
+        // when
+        Map<String, Object> row = readOnly.execute(status ->
+                jdbcTemplate.queryForMap("SELECT @@server_id AS server_id, COUNT(*) AS cnt FROM routing_probe WHERE id = 1"));
+
+        // then - 방금 쓴 행을 primary에서 읽음
+        assertThat(((Number) row.get("server_id")).intValue()).isEqualTo(SOURCE_SERVER_ID);
+        assertThat(((Number) row.get("cnt")).intValue()).isEqualTo(1);
+        assertThat(meterRegistry.counter("datasource.routing",
+                "target", "primary", "reason", "read_your_writes").count()).isEqualTo(1);
+
+        // 다른 요청에서는 다시 복제본
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readOnly.execute(status -> serverId())).isEqualTo(REPLICA_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("복제가 멈추면 읽기 전용 트랜잭션을 primary로 보내고, 따라잡으면 복제본으로 돌아간다")
+    void fallsBackToPrimaryWhileReplicationStopped() throws InterruptedException {
+        // given
+        replicaRoot.execute("STOP REPLICA SQL_THREAD");
+        try {
+            // when
+            lagMonitor.check();
+
+            // then
+            assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+            assertThat(readOnly.execute(status -> serverId())).isEqualTo(SOURCE_SERVER_ID);
+            assertThat(meterRegistry.counter("datasource.routing",
+                    "target", "primary", "reason", "replica_unavailable").count()).isEqualTo(1);
+        } finally {
+            replicaRoot.execute("START REPLICA SQL_THREAD");
+        }
+
+        awaitReplicaCaughtUp();
+        lagMonitor.check();
+        assertThat(readOnly.execute(status -> serverId())).isEqualTo(REPLICA_SERVER_ID);
+    }
+
+    private int serverId() {
+        return jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class);
+    }
+
+    private static void awaitReplicaCaughtUp() throws InterruptedException {
+        String sourceGtids = sourceRoot.queryForObject("SELECT @@GLOBAL.gtid_executed", String.class);
+        long deadline = System.nanoTime() + REPLICATION_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            Long lag = replicaRoot.query("SHOW REPLICA STATUS", rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                long value = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : value;
+            });
+            Integer applied = replicaRoot.queryForObject(
+                    "SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)", Integer.class, sourceGtids);
+            if (lag != null && lag == 0 && applied != null && applied == 1) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("복제본이 " + REPLICATION_TIMEOUT + " 안에 따라잡지 못함");
+    }
+
+    private static JdbcTemplate rootJdbcTemplate(MySQLContainer<?> container) {
+        return new JdbcTemplate(new DriverManagerDataSource(container.getJdbcUrl(), "root", container.getPassword()));
+    }
+
+    private static HikariDataSource pool(MySQLContainer<?> container, String poolName) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(container.getJdbcUrl());
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setPoolName(poolName);
+        config.setMaximumPoolSize(2);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,137 @@
+package side.onetime.global.config.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("QueryStatsRecorder 테스트")
+class QueryStatsRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryStatsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new QueryStatsRecorder(meterRegistry,
+                new QueryInstrumentationProperties(Duration.ofMillis(100), 10, 2));
+    }
+
+    @Test
+    @DisplayName("메서드별 시간과 행 수를 메트릭과 누적 통계로 남기고, 누적 시간이 큰 순서로 반환한다")
+    void record_AggregatesPerMethod() throws Exception {
+        // given
+        Method fast = SampleRepository.class.getMethod("findAll", LocalDateTime.class);
+        Method slow = SampleRepository.class.getMethod("count", String.class);
+
+        // when
+        recorder.record("SampleRepository", fast, new Object[]{null}, millis(10), List.of(1, 2, 3), false);
+        recorder.record("SampleRepository", fast, new Object[]{null}, millis(20), List.of(), false);
+        recorder.record("SampleRepository", slow, new Object[]{"x"}, millis(50), 1L, false);
+
+        // then
+        List<QueryStatsRecorder.QueryStats> top = recorder.topByTotalTime(10);
+        assertThat(top).extracting(QueryStatsRecorder.QueryStats::method).containsExactly("count", "findAll");
+        QueryStatsRecorder.QueryStats findAll = top.get(1);
+        assertThat(findAll.calls()).isEqualTo(2);
+        assertThat(findAll.totalNanos()).isEqualTo(millis(30));
+        assertThat(findAll.maxNanos()).isEqualTo(millis(20));
+        assertThat(findAll.rows()).isEqualTo(3);
+        assertThat(findAll.slowCalls()).isZero();
+        assertThat(meterRegistry.find("statistics.query.duration").tag("method", "findAll").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.find("statistics.query.rows").tag("method", "findAll").summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("느린 쿼리는 파라미터를 잘라서 최근 목록에 남기고, 목록은 설정한 수만 유지한다")
+    void record_KeepsRecentSlowQueries() throws Exception {
+        Method method = SampleRepository.class.getMethod("count", String.class);
+
+        recorder.record("SampleRepository", method, new Object[]{"first"}, millis(150), 1L, false);
+        recorder.record("SampleRepository", method, new Object[]{"second"}, millis(200), 1L, false);
+        recorder.record("SampleRepository", method, new Object[]{"a-very-long-search-term"}, millis(300), null, true);
+        recorder.record("SampleRepository", method, new Object[]{"fast"}, millis(5), 1L, false);
+
+        List<QueryStatsRecorder.SlowQuery> slowQueries = recorder.recentSlowQueries();
+        assertThat(slowQueries).hasSize(2);
+        assertThat(slowQueries.get(0).durationMs()).isEqualTo(300);
+        assertThat(slowQueries.get(0).params().values()).containsExactly("a-very-lon...");
+        assertThat(slowQueries.get(1).durationMs()).isEqualTo(200);
+
+        QueryStatsRecorder.QueryStats stats = recorder.topByTotalTime(1).get(0);
+        assertThat(stats.calls()).isEqualTo(4);
+        assertThat(stats.slowCalls()).isEqualTo(3);
+        assertThat(stats.errors()).isEqualTo(1);
+        assertThat(meterRegistry.counter("statistics.query.slow",
+                "repository", "SampleRepository", "method", "count", "endpoint", QueryEndpointContext.NONE)
+                .count()).isEqualTo(3);
+        assertThat(meterRegistry.find("statistics.query.duration").tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 스레드로 넘긴 작업은 넘긴 요청의 엔드포인트 패턴으로 기록한다")
+    void propagate_CarriesEndpoint() throws Exception {
+        // given - 요청 스레드에서 감싼 작업
+        Method method = SampleRepository.class.getMethod("count", String.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/statistics/cohort");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/admin/statistics/cohort");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Supplier<Void> task;
+        try {
+            task = QueryEndpointContext.propagate(() -> {
+                recorder.record("SampleRepository", method, new Object[]{"x"}, millis(1), 1L, false);
+                return null;
+            });
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // when - 요청 정보가 없는 스레드에서 실행
+        CompletableFuture.supplyAsync(task).get();
+
+        // then
+        assertThat(recorder.topByTotalTime(1).get(0).endpoints())
+                .containsExactly("GET /api/v1/admin/statistics/cohort");
+        assertThat(QueryEndpointContext.current()).isEqualTo(QueryEndpointContext.NONE);
+    }
+
+    @Test
+    @DisplayName("반환 행 수는 목록이면 크기, 단건이면 1, 없으면 0이다")
+    void countRows() {
+        assertThat(QueryStatsRecorder.countRows(List.of(1, 2))).isEqualTo(2);
+        assertThat(QueryStatsRecorder.countRows(Optional.empty())).isZero();
+        assertThat(QueryStatsRecorder.countRows(3L)).isEqualTo(1);
+        assertThat(QueryStatsRecorder.countRows(null)).isZero();
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    interface SampleRepository {
+
+        List<Object[]> findAll(LocalDateTime startDate);
+
+        Long count(String search);
+    }
+}
@@ -0,0 +1,173 @@
+package side.onetime.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import side.onetime.configuration.DatabaseTestConfig;
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.EmailLog;
+import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.global.config.JpaConfig;
+import side.onetime.global.config.QueryDslConfig;
+
+/**
+ * email_logs 다중 VALUES INSERT / 상태 UPDATE 테스트.
+ * 한 문장은 최대 1000행 또는 약 4MB(행마다 3 * (recipient + error_message 글자 수) + 64바이트로 추정)까지 담는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class})
+@DisplayName("EmailLogBatchRepository 일괄 저장/상태 변경 테스트")
+class EmailLogBatchRepositoryTest extends DatabaseTestConfig {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private JdbcTemplate statementCounter;
+    private EmailLogBatchRepository emailLogBatchRepository;
+    private EmailCampaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = spy(jdbcTemplate);
+        emailLogBatchRepository = new EmailLogBatchRepository(statementCounter);
+        campaign = testEntityManager.persistAndFlush(EmailCampaign.builder()
+                .subject("[OneTime] 소식")
+                .content("<p>{{name}}님, 안녕하세요.</p>")
+                .contentType("HTML")
+                .targetGroup("agreed")
+                .build());
+    }
+
+    @Test
+    @DisplayName("1000행을 넘으면 문장을 나누고, 생성된 ID를 입력 순서대로 돌려준다")
+    void insertAll_SplitsByRowCount() {
+        // given
+        List<EmailLog> emailLogs = emailLogsOf(2_500, null);
+
+        // when
+        List<Long> ids = emailLogBatchRepository.insertAll(emailLogs);
+
+        // then - 1000, 1000, 500행
+        then(statementCounter).should(times(3)).execute(any(ConnectionCallback.class));
+        assertIdsMatchInputOrder(emailLogs, ids);
+    }
+
+    @Test
+    @DisplayName("추정 크기가 4MB를 넘으면 1000행이 안 되어도 문장을 나누고, ID 순서를 유지한다")
+    void insertAll_SplitsByBytes() {
+        // given - 행마다 약 60KB로 추정되므로 한 문장에 69행씩 담긴다
+        List<EmailLog> emailLogs = emailLogsOf(150, "x".repeat(20_000));
+
+        // when
+        List<Long> ids = emailLogBatchRepository.insertAll(emailLogs);
+
+        // then - 69, 69, 12행
+        then(statementCounter).should(times(3)).execute(any(ConnectionCallback.class));
+        assertIdsMatchInputOrder(emailLogs, ids);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 쿼리를 실행하지 않고 빈 ID 목록을 돌려준다")
+    void insertAll_Empty() {
+        List<Long> ids = emailLogBatchRepository.insertAll(List.of());
+
+        assertThat(ids).isEmpty();
+        then(statementCounter).should(never()).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    @DisplayName("돌려받은 생성 키 수가 행 수와 다르면 예외를 던진다")
+    void insertAll_GeneratedKeyCountMismatch() throws Exception {
+        // given - 2행을 넣었는데 키가 1개만 돌아오는 드라이버
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        given(connection.prepareStatement(anyString(), anyInt())).willReturn(preparedStatement);
+        given(preparedStatement.getGeneratedKeys()).willReturn(keys);
+        given(keys.next()).willReturn(true, false);
+        given(keys.getLong(1)).willReturn(1L);
+
+        JdbcTemplate brokenJdbcTemplate = mock(JdbcTemplate.class);
+        given(brokenJdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        EmailLogBatchRepository repository = new EmailLogBatchRepository(brokenJdbcTemplate);
+
+        // when & then
+        assertThatThrownBy(() -> repository.insertAll(emailLogsOf(2, null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("expected=2, actual=1");
+    }
+
+    @Test
+    @DisplayName("FAILED에서 벗어나는 로그는 오류 메시지를 비우고, 나머지는 null이면 기존 메시지를 유지한다")
+    void updateStatuses_ClearsErrorMessageLeavingFailed() {
+        // given
+        List<Long> ids = emailLogBatchRepository.insertAll(emailLogsOf(2, "Throttling"));
+        LocalDateTime sentAt = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+        // when
+        int updated = emailLogBatchRepository.updateStatuses(List.of(
+                new EmailLogBatchRepository.StatusUpdate(ids.get(0), EmailLogStatus.SENT, sentAt, null, true),
+                new EmailLogBatchRepository.StatusUpdate(ids.get(1), EmailLogStatus.BOUNCED, null, null, false)));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(errorMessageOf(ids.get(0))).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT sent_at FROM email_logs WHERE id = ?",
+                LocalDateTime.class, ids.get(0))).isEqualTo(sentAt);
+        assertThat(errorMessageOf(ids.get(1))).isEqualTo("Throttling");
+    }
+
+    private void assertIdsMatchInputOrder(List<EmailLog> emailLogs, List<Long> ids) {
+        assertThat(ids).hasSize(emailLogs.size()).isSorted().doesNotHaveDuplicates();
+
+        Map<Long, String> recipientById = new HashMap<>();
+        jdbcTemplate.query("SELECT id, recipient FROM email_logs WHERE campaign_id = ?", rs -> {
+            recipientById.put(rs.getLong(1), rs.getString(2));
+        }, campaign.getId());
+        assertThat(recipientById).hasSize(emailLogs.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(recipientById.get(ids.get(i))).isEqualTo(emailLogs.get(i).getRecipient());
+        }
+    }
+
+    private String errorMessageOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT error_message FROM email_logs WHERE id = ?", String.class, id);
+    }
+
+    private List<EmailLog> emailLogsOf(int count, String errorMessage) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> EmailLog.builder()
+                        .campaign(campaign)
+                        .userId((long) i)
+                        .recipient("user" + i + "@onetime.run")
+                        .status(errorMessage == null ? EmailLogStatus.QUEUED : EmailLogStatus.FAILED)
+                        .errorMessage(errorMessage)
+                        .build())
+                .toList();
+    }
+}
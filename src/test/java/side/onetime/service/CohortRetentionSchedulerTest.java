@@ -0,0 +1,108 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.enums.CohortType;
+import side.onetime.repository.CohortRetentionBatchRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CohortRetentionScheduler 테스트")
+class CohortRetentionSchedulerTest {
+
+    @Mock
+    private CohortRetentionBatchRepository cohortRetentionBatchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CohortRetentionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new CohortRetentionScheduler(cohortRetentionBatchRepository, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "maxPeriods", 12);
+    }
+
+    @Test
+    @DisplayName("집계는 마지막 고정 기간 다음부터 시작하고, 고정된 기간이 없으면 첫 가입일의 기간부터 백필한다")
+    void resolveStart() {
+        given(cohortRetentionBatchRepository.findLastFinalizedPeriod(CohortType.SIGNUP_MONTH))
+                .willReturn(LocalDate.of(2026, 9, 1));
+        assertThat(scheduler.resolveStart(CohortType.SIGNUP_MONTH)).isEqualTo(LocalDate.of(2026, 10, 1));
+
+        given(cohortRetentionBatchRepository.findLastFinalizedPeriod(CohortType.SIGNUP_WEEK)).willReturn(null);
+        given(cohortRetentionBatchRepository.findFirstSignupDate()).willReturn(LocalDate.of(2024, 1, 3));
+        assertThat(scheduler.resolveStart(CohortType.SIGNUP_WEEK)).isEqualTo(LocalDate.of(2024, 1, 1));
+    }
+
+    @Test
+    @DisplayName("끝난 기간은 고정하고 현재 기간은 고정하지 않으며, 기간마다 트랜잭션을 나눈다")
+    void refresh_FinalizesPastPeriodsOnly() {
+        // given
+        givenTransactionRuns();
+        LocalDate today = LocalDate.of(2026, 10, 19);
+        given(cohortRetentionBatchRepository.findLastFinalizedPeriod(CohortType.SIGNUP_MONTH))
+                .willReturn(LocalDate.of(2026, 8, 1));
+
+        // when
+        scheduler.refresh(CohortType.SIGNUP_MONTH, today);
+
+        // then - 코호트는 max-periods(12) 안에서 시작한 것만 포함
+        InOrder inOrder = inOrder(cohortRetentionBatchRepository);
+        inOrder.verify(cohortRetentionBatchRepository).upsertPeriod(
+                CohortType.SIGNUP_MONTH, LocalDate.of(2026, 9, 1), LocalDate.of(2025, 10, 1), true);
+        inOrder.verify(cohortRetentionBatchRepository).upsertPeriod(
+                CohortType.SIGNUP_MONTH, LocalDate.of(2026, 10, 1), LocalDate.of(2025, 11, 1), false);
+        then(transactionTemplate).should(times(2)).executeWithoutResult(any());
+        assertThat(meterRegistry.timer("statistics.cohort.duration", "cohort_type", "SIGNUP_MONTH", "completed", "true")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 코호트 기준의 집계가 실패해도 다른 기준은 계속 집계한다")
+    void refresh_ContinuesOtherTypesOnFailure() {
+        // given
+        givenTransactionRuns();
+        LocalDate current = LocalDate.now().withDayOfMonth(1);
+        given(cohortRetentionBatchRepository.findLastFinalizedPeriod(CohortType.SIGNUP_MONTH))
+                .willThrow(new IllegalStateException("db down"));
+        given(cohortRetentionBatchRepository.findLastFinalizedPeriod(CohortType.SIGNUP_WEEK)).willReturn(null);
+        given(cohortRetentionBatchRepository.findFirstSignupDate()).willReturn(null);
+        given(cohortRetentionBatchRepository.findLastFinalizedPeriod(CohortType.CREATOR_MONTH))
+                .willReturn(current.minusMonths(1));
+
+        // when & then
+        assertThatCode(() -> scheduler.refresh()).doesNotThrowAnyException();
+        then(cohortRetentionBatchRepository).should()
+                .upsertPeriod(CohortType.CREATOR_MONTH, current, current.minusMonths(11), false);
+        then(cohortRetentionBatchRepository).should(never())
+                .upsertPeriod(eq(CohortType.SIGNUP_WEEK), any(), any(), anyBoolean());
+        assertThat(meterRegistry.timer("statistics.cohort.duration", "cohort_type", "SIGNUP_MONTH", "completed", "false")
+                .count()).isEqualTo(1);
+    }
+
+    private void givenTransactionRuns() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+}
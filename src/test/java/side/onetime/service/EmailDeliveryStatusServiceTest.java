@@ -0,0 +1,242 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.dto.admin.email.request.EmailDeliveryReportRequest;
+import side.onetime.dto.admin.email.response.EmailDeliveryReportResponse;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EmailErrorStatus;
+import side.onetime.repository.EmailLogBatchRepository;
+import side.onetime.repository.EmailStatusDailyCountRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailDeliveryStatusService 테스트")
+class EmailDeliveryStatusServiceTest {
+
+    private static final String API_KEY = "delivery-key";
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 10, 18, 9, 30);
+
+    @Mock
+    private EmailLogBatchRepository emailLogBatchRepository;
+
+    @Mock
+    private EmailStatusDailyCountRepository emailStatusDailyCountRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailDeliveryStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new EmailDeliveryStatusService(emailLogBatchRepository, emailStatusDailyCountRepository,
+                transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(service, "apiKey", API_KEY);
+    }
+
+    @Test
+    @DisplayName("현재보다 뒤 단계인 결과만 반영하고 일자별 카운터를 올린다")
+    void report_AppliesOnlyForwardTransitions() {
+        // given
+        givenTransactionRuns();
+        given(emailLogBatchRepository.lockStatuses(List.of(1L, 2L, 3L))).willReturn(Map.of(
+                1L, current(EmailLogStatus.QUEUED),
+                2L, current(EmailLogStatus.DELIVERED)));
+        EmailDeliveryReportRequest request = new EmailDeliveryReportRequest(List.of(
+                result(3L, EmailLogStatus.SENT, SENT_AT),       // 없는 로그
+                result(2L, EmailLogStatus.SENT, SENT_AT),       // 이미 뒤 단계
+                result(1L, EmailLogStatus.SENT, SENT_AT)));
+
+        // when
+        EmailDeliveryReportResponse response = service.report(API_KEY, request);
+
+        // then
+        assertThat(response).isEqualTo(new EmailDeliveryReportResponse(3, 1, 2));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailLogBatchRepository.StatusUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        then(emailLogBatchRepository).should().updateStatuses(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new EmailLogBatchRepository.StatusUpdate(1L, EmailLogStatus.SENT, SENT_AT, null, false));
+        then(emailStatusDailyCountRepository).should().increment(LocalDate.of(2026, 10, 18), "SENT", 1L);
+        assertThat(meterRegistry.counter("email.delivery.results", "result", "ignored").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 요청을 다시 보내면 아무것도 바꾸지 않는다")
+    void report_IsIdempotent() {
+        // given
+        givenTransactionRuns();
+        given(emailLogBatchRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, current(EmailLogStatus.SENT)));
+
+        // when
+        EmailDeliveryReportResponse response = service.report(API_KEY,
+                new EmailDeliveryReportRequest(List.of(result(1L, EmailLogStatus.SENT, SENT_AT))));
+
+        // then
+        assertThat(response.applied()).isZero();
+        then(emailLogBatchRepository).should(never()).updateStatuses(anyList());
+        then(emailStatusDailyCountRepository).should(never()).increment(any(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 로그의 결과가 여러 건이면 가장 뒤 단계만 반영하되, 건너뛴 SENT도 세고 카운터는 (일자, 상태) 순서로 올린다")
+    void report_KeepsLatestResultPerLog() {
+        // given
+        givenTransactionRuns();
+        given(emailLogBatchRepository.lockStatuses(List.of(1L, 2L))).willReturn(Map.of(
+                1L, current(EmailLogStatus.QUEUED),
+                2L, current(EmailLogStatus.QUEUED)));
+        EmailDeliveryReportRequest request = new EmailDeliveryReportRequest(List.of(
+                result(2L, EmailLogStatus.SENT, SENT_AT),
+                result(1L, EmailLogStatus.DELIVERED, SENT_AT),
+                result(1L, EmailLogStatus.SENT, SENT_AT.minusDays(1))));
+
+        // when
+        EmailDeliveryReportResponse response = service.report(API_KEY, request);
+
+        // then
+        assertThat(response).isEqualTo(new EmailDeliveryReportResponse(3, 2, 1));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailLogBatchRepository.StatusUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        then(emailLogBatchRepository).should().updateStatuses(captor.capture());
+        // 함께 온 SENT 결과의 시각을 발송 시각으로 쓴다
+        assertThat(captor.getValue()).containsExactly(
+                new EmailLogBatchRepository.StatusUpdate(
+                        1L, EmailLogStatus.DELIVERED, SENT_AT.minusDays(1), null, false),
+                new EmailLogBatchRepository.StatusUpdate(2L, EmailLogStatus.SENT, SENT_AT, null, false));
+        InOrder inOrder = inOrder(emailStatusDailyCountRepository);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 17), "SENT", 1L);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 18), "DELIVERED", 1L);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 18), "SENT", 1L);
+    }
+
+    @Test
+    @DisplayName("큐잉된 로그에 DELIVERED만 오면 SENT도 함께 세고 sent_at을 그 시각으로 바꾼다")
+    void report_QueuedThenDelivered() {
+        // given
+        givenTransactionRuns();
+        given(emailLogBatchRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, current(EmailLogStatus.QUEUED)));
+
+        // when
+        EmailDeliveryReportResponse response = service.report(API_KEY,
+                new EmailDeliveryReportRequest(List.of(result(1L, EmailLogStatus.DELIVERED, SENT_AT))));
+
+        // then
+        assertThat(response.applied()).isEqualTo(1);
+        then(emailLogBatchRepository).should().updateStatuses(List.of(
+                new EmailLogBatchRepository.StatusUpdate(1L, EmailLogStatus.DELIVERED, SENT_AT, null, false)));
+        InOrder inOrder = inOrder(emailStatusDailyCountRepository);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 18), "DELIVERED", 1L);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 18), "SENT", 1L);
+    }
+
+    @Test
+    @DisplayName("이미 발송된 로그가 다음 단계로 가면 SENT를 다시 세지 않고 sent_at도 바꾸지 않는다")
+    void report_SentThenDelivered() {
+        // given
+        givenTransactionRuns();
+        given(emailLogBatchRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, current(EmailLogStatus.SENT)));
+
+        // when
+        service.report(API_KEY,
+                new EmailDeliveryReportRequest(List.of(result(1L, EmailLogStatus.DELIVERED, SENT_AT))));
+
+        // then
+        then(emailLogBatchRepository).should().updateStatuses(List.of(
+                new EmailLogBatchRepository.StatusUpdate(1L, EmailLogStatus.DELIVERED, null, null, false)));
+        then(emailStatusDailyCountRepository).should().increment(LocalDate.of(2026, 10, 18), "DELIVERED", 1L);
+        then(emailStatusDailyCountRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("일시적인 실패 뒤 재전달로 성공하면 SENT로 바꾸고 오류 메시지를 비우며, 실패 카운터를 되돌린다")
+    void report_FailedThenSent() {
+        // given - 전날 실패로 반영된 로그
+        givenTransactionRuns();
+        LocalDateTime failedAt = SENT_AT.minusDays(1);
+        given(emailLogBatchRepository.lockStatuses(List.of(1L))).willReturn(Map.of(
+                1L, new EmailLogBatchRepository.CurrentStatus(EmailLogStatus.FAILED, failedAt)));
+
+        // when
+        EmailDeliveryReportResponse response = service.report(API_KEY,
+                new EmailDeliveryReportRequest(List.of(result(1L, EmailLogStatus.SENT, SENT_AT))));
+
+        // then
+        assertThat(response.applied()).isEqualTo(1);
+        then(emailLogBatchRepository).should().updateStatuses(List.of(
+                new EmailLogBatchRepository.StatusUpdate(1L, EmailLogStatus.SENT, SENT_AT, null, true)));
+        InOrder inOrder = inOrder(emailStatusDailyCountRepository);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 17), "FAILED", -1L);
+        inOrder.verify(emailStatusDailyCountRepository).increment(LocalDate.of(2026, 10, 18), "SENT", 1L);
+    }
+
+    @Test
+    @DisplayName("발송 성공 뒤에 늦게 도착한 실패는 무시한다")
+    void report_IgnoresFailureAfterSent() {
+        // given
+        givenTransactionRuns();
+        given(emailLogBatchRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, current(EmailLogStatus.SENT)));
+
+        // when
+        EmailDeliveryReportResponse response = service.report(API_KEY, new EmailDeliveryReportRequest(List.of(
+                new EmailDeliveryReportRequest.Result(1L, EmailLogStatus.FAILED, SENT_AT, "Throttling"))));
+
+        // then
+        assertThat(response.ignored()).isEqualTo(1);
+        then(emailLogBatchRepository).should(never()).updateStatuses(anyList());
+        then(emailStatusDailyCountRepository).should(never()).increment(any(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("인증 키가 다르거나 설정되지 않았으면 거절한다")
+    void report_RejectsInvalidApiKey() {
+        EmailDeliveryReportRequest request =
+                new EmailDeliveryReportRequest(List.of(result(1L, EmailLogStatus.SENT, SENT_AT)));
+
+        assertThatThrownBy(() -> service.report("wrong-key", request))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(EmailErrorStatus._EMAIL_DELIVERY_API_KEY_INVALID);
+
+        ReflectionTestUtils.setField(service, "apiKey", "");
+        assertThatThrownBy(() -> service.report("", request))
+                .isInstanceOf(CustomException.class);
+        then(emailLogBatchRepository).shouldHaveNoInteractions();
+    }
+
+    private void givenTransactionRuns() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private EmailLogBatchRepository.CurrentStatus current(EmailLogStatus status) {
+        return new EmailLogBatchRepository.CurrentStatus(status, SENT_AT.minusHours(1));
+    }
+
+    private EmailDeliveryReportRequest.Result result(Long emailLogId, EmailLogStatus status, LocalDateTime sentAt) {
+        return new EmailDeliveryReportRequest.Result(emailLogId, status, sentAt, null);
+    }
+}
@@ -0,0 +1,209 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.dto.admin.email.request.EmailEventMessage;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EmailErrorStatus;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailEventPublisher 테스트")
+class EmailEventPublisherTest {
+
+    @Mock
+    private SqsClient sqsClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private EmailMessageChunker chunker;
+    private EmailEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chunker = new EmailMessageChunker(objectMapper);
+        ReflectionTestUtils.setField(chunker, "maxMessageSize", DataSize.ofKilobytes(192));
+        ReflectionTestUtils.setField(chunker, "maxRecipientsPerMessage", 100);
+
+        publisher = new EmailEventPublisher(sqsClient, meterRegistry, 2);
+        ReflectionTestUtils.setField(publisher, "queueUrl", "https://sqs.test/queue");
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 2);
+        ReflectionTestUtils.setField(publisher, "retryBackoff", Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("수신자를 수 제한에 맞게 나누고 순서를 유지한다")
+    void chunk_SplitsByRecipientCount() throws Exception {
+        // given
+        EmailEventMessage message = messageOf(250, "본문");
+
+        // when
+        List<EmailMessageChunker.Chunk> chunks = chunker.chunk(message);
+
+        // then
+        assertThat(chunks).extracting(EmailMessageChunker.Chunk::recipientCount).containsExactly(100, 100, 50);
+        List<Long> ids = new ArrayList<>();
+        for (EmailMessageChunker.Chunk chunk : chunks) {
+            objectMapper.readValue(chunk.body(), EmailEventMessage.class).recipients()
+                    .forEach(recipient -> ids.add(recipient.emailLogId()));
+        }
+        assertThat(ids).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, 250).mapToLong(i -> i).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("메시지 크기 제한을 넘지 않도록 나눈다")
+    void chunk_SplitsBySize() {
+        // given
+        ReflectionTestUtils.setField(chunker, "maxMessageSize", DataSize.ofKilobytes(8));
+        EmailEventMessage message = messageOf(100, "x".repeat(4 * 1024));
+
+        // when
+        List<EmailMessageChunker.Chunk> chunks = chunker.chunk(message);
+
+        // then
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk ->
+                assertThat(chunk.body().getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(8 * 1024));
+    }
+
+    @Test
+    @DisplayName("본문만으로 크기 제한을 넘으면 예외가 발생한다")
+    void chunk_ThrowsWhenContentTooLarge() {
+        // given
+        ReflectionTestUtils.setField(chunker, "maxMessageSize", DataSize.ofKilobytes(1));
+        EmailEventMessage message = messageOf(1, "x".repeat(2 * 1024));
+
+        // when & then
+        assertThatThrownBy(() -> chunker.chunk(message))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(EmailErrorStatus._EMAIL_MESSAGE_TOO_LARGE);
+    }
+
+    @Test
+    @DisplayName("메시지를 요청당 최대 10개씩 배치 발행한다")
+    void publishAll_SendsInBatchesOfTen() {
+        // given
+        given(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willReturn(SendMessageBatchResponse.builder().build());
+
+        // when
+        Set<String> failed = publisher.publishAll(entriesOf(chunker.chunk(messageOf(2_500, "본문"))));
+
+        // then
+        assertThat(failed).isEmpty();
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        then(sqsClient).should(times(3)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(request ->
+                assertThat(request.entries()).hasSizeLessThanOrEqualTo(10));
+        assertThat(captor.getAllValues().stream().mapToInt(request -> request.entries().size()).sum()).isEqualTo(25);
+        assertThat(meterRegistry.counter("email.sqs.messages", "result", "sent").count()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("배치에서 실패한 엔트리만 개별 재시도한다")
+    void publishAll_RetriesOnlyFailedEntries() {
+        // given
+        given(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willReturn(SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build())
+                        .build());
+        given(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                .willReturn(SendMessageResponse.builder().build());
+
+        // when
+        Set<String> failed = publisher.publishAll(entriesOf(chunker.chunk(messageOf(300, "본문"))));
+
+        // then
+        assertThat(failed).isEmpty();
+        then(sqsClient).should(times(1)).sendMessage(any(SendMessageRequest.class));
+        assertThat(meterRegistry.counter("email.sqs.messages", "result", "sent").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("email.sqs.messages", "result", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패한 엔트리 ID를 반환한다")
+    void publishAll_ReturnsEntriesThatStillFail() {
+        // given
+        given(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willThrow(SdkClientException.create("timeout"));
+        given(sqsClient.sendMessage(any(SendMessageRequest.class)))
+                .willThrow(SdkClientException.create("timeout"));
+
+        // when
+        Set<String> failed = publisher.publishAll(Map.of("1", "{}"));
+
+        // then
+        assertThat(failed).containsExactly("1");
+        then(sqsClient).should(times(2)).sendMessage(any(SendMessageRequest.class));
+    }
+
+    @Test
+    @DisplayName("senderFault 엔트리는 재시도하지 않는다")
+    void publishAll_DoesNotRetrySenderFault() {
+        // given
+        given(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .willReturn(SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("1").code("InvalidMessageContents").senderFault(true).build())
+                        .build());
+
+        // when
+        Set<String> failed = publisher.publishAll(Map.of("1", "{}"));
+
+        // then
+        assertThat(failed).containsExactly("1");
+        then(sqsClient).should(never()).sendMessage(any(SendMessageRequest.class));
+    }
+
+    private Map<String, String> entriesOf(List<EmailMessageChunker.Chunk> chunks) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            entries.put(String.valueOf(i), chunks.get(i).body());
+        }
+        return entries;
+    }
+
+    private EmailEventMessage messageOf(int recipientCount, String content) {
+        List<EmailEventMessage.Recipient> recipients = IntStream.rangeClosed(1, recipientCount)
+                .mapToObj(i -> new EmailEventMessage.Recipient((long) i, "user" + i + "@test.com", (long) i, "이름", "닉네임"))
+                .toList();
+        return EmailEventMessage.of("제목", content, "TEXT", "all", recipients);
+    }
+}
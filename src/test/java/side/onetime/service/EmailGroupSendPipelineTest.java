@@ -0,0 +1,168 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.EmailCampaign;
+import side.onetime.domain.EmailLog;
+import side.onetime.domain.enums.EmailCampaignStatus;
+import side.onetime.domain.enums.EmailLogStatus;
+import side.onetime.dto.admin.email.request.EmailEventMessage;
+import side.onetime.dto.admin.email.response.UserEmailDto;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.EmailErrorStatus;
+import side.onetime.repository.EmailCampaignRepository;
+import side.onetime.repository.EmailLogBatchRepository;
+import side.onetime.repository.EmailLogRepository;
+import side.onetime.repository.EmailRecipientCursorRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailGroupSendPipeline 테스트")
+class EmailGroupSendPipelineTest {
+
+    @Mock
+    private EmailRecipientCursorRepository emailRecipientCursorRepository;
+
+    @Mock
+    private EmailLogRepository emailLogRepository;
+
+    @Mock
+    private EmailLogBatchRepository emailLogBatchRepository;
+
+    @Mock
+    private EmailCampaignRepository emailCampaignRepository;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailGroupSendPipeline pipeline;
+    private EmailCampaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new EmailGroupSendPipeline(emailRecipientCursorRepository, emailLogRepository,
+                emailLogBatchRepository, emailCampaignRepository, emailOutboxService, transactionManager,
+                meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "chunkSize", 2);
+        ReflectionTestUtils.setField(pipeline, "dedupeWindow", Duration.ofDays(30));
+        ReflectionTestUtils.setField(pipeline, "progressLogInterval", 1);
+
+        campaign = EmailCampaign.builder()
+                .subject("[OneTime] 소식")
+                .content("<p>{{name}}님, 안녕하세요.</p>")
+                .contentType("HTML")
+                .targetGroup("agreed")
+                .sendStatus(EmailCampaignStatus.RUNNING)
+                .build();
+        ReflectionTestUtils.setField(campaign, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("chunk마다 이미 발송한 유저를 제외하고 로그 저장, 아웃박스 적재, 진행 건수 갱신을 수행한다")
+    void run_SendsEachChunkExcludingAlreadySent() {
+        // given
+        givenRecipients(List.of(user(1L), user(2L)), List.of(user(3L)));
+        given(emailLogRepository.findSentUserIds(eq(List.of(1L, 2L)), eq("agreed"), any(), eq(EmailLogStatus.FAILED)))
+                .willReturn(List.of(2L));
+        given(emailLogRepository.findSentUserIds(eq(List.of(3L)), eq("agreed"), any(), eq(EmailLogStatus.FAILED)))
+                .willReturn(List.of());
+        given(emailLogBatchRepository.insertAll(anyList())).willReturn(List.of(100L)).willReturn(List.of(101L));
+
+        // when
+        EmailGroupSendPipeline.Result result = pipeline.run(campaign, 1_000);
+
+        // then
+        assertThat(result).isEqualTo(new EmailGroupSendPipeline.Result(3, 2, 1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailLog>> logsCaptor = ArgumentCaptor.forClass(List.class);
+        then(emailLogBatchRepository).should(times(2)).insertAll(logsCaptor.capture());
+        assertThat(logsCaptor.getAllValues().get(0)).extracting(EmailLog::getUserId).containsExactly(1L);
+
+        ArgumentCaptor<EmailEventMessage> messageCaptor = ArgumentCaptor.forClass(EmailEventMessage.class);
+        then(emailOutboxService).should(times(2)).enqueue(messageCaptor.capture());
+        assertThat(messageCaptor.getAllValues().get(0).recipients())
+                .extracting(EmailEventMessage.Recipient::emailLogId).containsExactly(100L);
+        assertThat(messageCaptor.getAllValues().get(0).subject()).isEqualTo("[OneTime] 소식");
+
+        then(emailCampaignRepository).should().addProgress(10L, 2, 1, 1);
+        then(emailCampaignRepository).should().addProgress(10L, 1, 1, 0);
+        then(emailCampaignRepository).should().finish(eq(10L), eq(EmailCampaignStatus.COMPLETED), any());
+        assertThat(meterRegistry.counter("email.group_send.recipients", "result", "skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("chunk 전원이 이미 발송 대상이면 로그와 아웃박스를 만들지 않는다")
+    void run_SkipsChunkWhenAllAlreadySent() {
+        // given
+        givenRecipients(List.of(user(1L), user(2L)));
+        given(emailLogRepository.findSentUserIds(anyList(), eq("agreed"), any(), eq(EmailLogStatus.FAILED)))
+                .willReturn(List.of(1L, 2L));
+
+        // when
+        EmailGroupSendPipeline.Result result = pipeline.run(campaign, 1_000);
+
+        // then
+        assertThat(result.queued()).isZero();
+        assertThat(result.skipped()).isEqualTo(2);
+        then(emailLogBatchRepository).should(never()).insertAll(anyList());
+        then(emailOutboxService).should(never()).enqueue(any());
+        then(emailCampaignRepository).should().addProgress(10L, 2, 0, 2);
+    }
+
+    @Test
+    @DisplayName("chunk 처리 중 실패하면 캠페인을 FAILED로 기록하고 예외를 전파한다")
+    void run_MarksFailedWhenChunkFails() {
+        // given
+        givenRecipients(List.of(user(1L)));
+        given(emailLogRepository.findSentUserIds(anyList(), eq("agreed"), any(), eq(EmailLogStatus.FAILED)))
+                .willReturn(List.of());
+        given(emailLogBatchRepository.insertAll(anyList())).willReturn(List.of(100L));
+        given(emailOutboxService.enqueue(any()))
+                .willThrow(new CustomException(EmailErrorStatus._EMAIL_MESSAGE_TOO_LARGE));
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.run(campaign, 1_000))
+                .isInstanceOf(CustomException.class);
+        then(emailCampaignRepository).should().finish(eq(10L), eq(EmailCampaignStatus.FAILED), any());
+        then(emailCampaignRepository).should(never()).addProgress(anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    @SafeVarargs
+    private void givenRecipients(List<UserEmailDto>... chunks) {
+        given(emailRecipientCursorRepository.stream(eq("agreed"), eq(1_000L), eq(2), any()))
+                .willAnswer(invocation -> {
+                    Consumer<List<UserEmailDto>> handler = invocation.getArgument(3);
+                    long scanned = 0;
+                    for (List<UserEmailDto> chunk : chunks) {
+                        handler.accept(chunk);
+                        scanned += chunk.size();
+                    }
+                    return scanned;
+                });
+    }
+
+    private UserEmailDto user(Long userId) {
+        return new UserEmailDto("user" + userId + "@onetime.run", userId, "이름", "닉네임");
+    }
+}
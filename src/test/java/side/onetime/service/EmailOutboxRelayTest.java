@@ -0,0 +1,231 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.EmailOutbox;
+import side.onetime.domain.enums.EmailOutboxStatus;
+import side.onetime.repository.EmailOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxRelay 테스트")
+class EmailOutboxRelayTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private EmailEventPublisher emailEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new EmailOutboxRelay(emailOutboxRepository, emailEventPublisher, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 2);
+        ReflectionTestUtils.setField(relay, "retryBackoff", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(relay, "leaseDuration", LEASE_DURATION);
+        ReflectionTestUtils.setField(relay, "lagAlarmThreshold", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("발행에 성공한 행은 PUBLISHED, 실패한 행은 재시도 대기로 남긴다")
+    void relayBatch_MarksPublishedAndRetry() {
+        // given
+        givenTransactionsRun();
+        EmailOutbox success = outbox(1L, 3);
+        EmailOutbox failure = outbox(2L, 5);
+        givenClaimed(success, failure);
+        given(emailEventPublisher.publishAll(Map.of("1", "payload-1", "2", "payload-2"))).willReturn(Set.of("2"));
+
+        // when
+        int claimed = relay.relayBatch();
+
+        // then
+        assertThat(claimed).isEqualTo(2);
+        assertThat(success.getStatus()).isEqualTo(EmailOutboxStatus.PUBLISHED);
+        assertThat(failure.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(failure.getAttempts()).isEqualTo(1);
+        assertThat(failure.getNextAttemptAt()).isAfter(failure.getCreatedAt());
+        assertThat(meterRegistry.counter("email.outbox.rows", "result", "published").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("email.outbox.recipients").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 행은 FAILED로 바꾼다")
+    void relayBatch_MarksFailedAfterMaxAttempts() {
+        // given
+        givenTransactionsRun();
+        EmailOutbox row = outbox(1L, 1);
+        ReflectionTestUtils.setField(row, "attempts", 1);
+        givenClaimed(row);
+        given(emailEventPublisher.publishAll(any())).willReturn(Set.of("1"));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(meterRegistry.counter("email.outbox.rows", "result", "dead").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가져온 행에 리스를 걸어 커밋한 뒤 트랜잭션 밖에서 발행하고, 결과는 별도 트랜잭션에서 기록한다")
+    void relayBatch_PublishesOutsideTransaction() {
+        // given
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+        willAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                return null;
+            } finally {
+                inTransaction.set(false);
+            }
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        EmailOutbox row = outbox(1L, 1);
+        givenClaimed(row);
+        AtomicReference<LocalDateTime> leasedUntil = new AtomicReference<>();
+        given(emailEventPublisher.publishAll(any())).willAnswer(invocation -> {
+            assertThat(inTransaction).isFalse();
+            leasedUntil.set(row.getNextAttemptAt());
+            return Set.of();
+        });
+
+        // when
+        relay.relayBatch();
+
+        // then - 발행하는 동안 리스 만료 시각까지 다른 릴레이가 가져가지 않는다
+        assertThat(leasedUntil.get()).isAfter(LocalDateTime.now().plus(LEASE_DURATION).minusSeconds(5));
+        InOrder inOrder = inOrder(transactionTemplate, emailEventPublisher);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(emailEventPublisher).publishAll(any());
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("리스가 끝나 다른 인스턴스가 먼저 처리한 행은 결과를 덮어쓰지 않는다")
+    void relayBatch_SkipsRowsHandledElsewhere() {
+        // given
+        givenTransactionsRun();
+        EmailOutbox row = outbox(1L, 1);
+        given(emailOutboxRepository.claimPending(any(), eq(2))).willReturn(List.of(row));
+        EmailOutbox reloaded = outbox(1L, 1);
+        reloaded.markPublished(LocalDateTime.now());
+        given(emailOutboxRepository.findAllById(List.of(1L))).willReturn(List.of(reloaded));
+        given(emailEventPublisher.publishAll(any())).willReturn(Set.of("1"));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        assertThat(reloaded.getStatus()).isEqualTo(EmailOutboxStatus.PUBLISHED);
+        assertThat(reloaded.getAttempts()).isEqualTo(1);
+        assertThat(meterRegistry.counter("email.outbox.rows", "result", "retry").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행 중 예외가 나면 결과를 기록하지 않고 리스가 끝난 뒤 다시 가져가게 둔다")
+    void relayBatch_PublishErrorLeavesLease() {
+        // given
+        givenTransactionsRun();
+        EmailOutbox row = outbox(1L, 1);
+        given(emailOutboxRepository.claimPending(any(), eq(2))).willReturn(List.of(row));
+        given(emailEventPublisher.publishAll(any())).willThrow(new IllegalStateException("sqs down"));
+
+        // when & then
+        assertThatThrownBy(() -> relay.relayBatch()).isInstanceOf(IllegalStateException.class);
+        then(transactionTemplate).should(never()).executeWithoutResult(any());
+        assertThat(row.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(row.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 이어지면 빈 배치가 나올 때까지 반복하고 대기 게이지를 갱신한다")
+    void relay_DrainsUntilPartialBatch() {
+        // given
+        givenTransactionsRun();
+        EmailOutbox first = outbox(1L, 1);
+        EmailOutbox second = outbox(2L, 1);
+        EmailOutbox third = outbox(3L, 1);
+        given(emailOutboxRepository.claimPending(any(), eq(2)))
+                .willReturn(List.of(first, second))
+                .willReturn(List.of(third));
+        given(emailOutboxRepository.findAllById(any()))
+                .willReturn(List.of(first, second))
+                .willReturn(List.of(third));
+        given(emailEventPublisher.publishAll(any())).willReturn(Set.of());
+        given(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING)).willReturn(7L);
+
+        // when
+        relay.relay();
+
+        // then
+        then(emailOutboxRepository).should(times(2)).claimPending(any(), eq(2));
+        assertThat(meterRegistry.counter("email.outbox.rows", "result", "published").count()).isEqualTo(3);
+        assertThat(meterRegistry.get("email.outbox.pending").gauge().value()).isEqualTo(7);
+    }
+
+    private void givenTransactionsRun() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private void givenClaimed(EmailOutbox... rows) {
+        given(emailOutboxRepository.claimPending(any(), eq(2))).willReturn(List.of(rows));
+        given(emailOutboxRepository.findAllById(Arrays.stream(rows).map(EmailOutbox::getId).toList()))
+                .willReturn(List.of(rows));
+    }
+
+    private EmailOutbox outbox(Long id, int recipientCount) {
+        EmailOutbox outbox = EmailOutbox.pending("payload-" + id, recipientCount);
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
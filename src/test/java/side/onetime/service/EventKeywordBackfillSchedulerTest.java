@@ -0,0 +1,91 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.repository.EventKeywordBatchRepository;
+import side.onetime.repository.EventKeywordBatchRepository.EventTitle;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventKeywordBackfillScheduler 테스트")
+class EventKeywordBackfillSchedulerTest {
+
+    @Mock
+    private EventKeywordBatchRepository eventKeywordBatchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventKeywordBackfillScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        EventKeywordTagger tagger = new EventKeywordTagger(eventKeywordBatchRepository, List.of("회의", "스터디", "MT"));
+        scheduler = new EventKeywordBackfillScheduler(eventKeywordBatchRepository, tagger, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("ID 커서로 chunk-size씩 읽어 chunk마다 트랜잭션으로 현재 사전의 태그를 맞춘다")
+    void backfill_TagsInChunks() {
+        // given
+        givenTransactionRuns();
+        given(eventKeywordBatchRepository.findEventTitlesAfter(0L, 2)).willReturn(List.of(
+                new EventTitle(1L, "주간 회의"),
+                new EventTitle(3L, "점심 약속")));
+        given(eventKeywordBatchRepository.findEventTitlesAfter(3L, 2)).willReturn(List.of(
+                new EventTitle(7L, "스터디 mt")));
+        given(eventKeywordBatchRepository.sync(anyMap())).willReturn(1);
+
+        // when
+        scheduler.backfill();
+
+        // then
+        then(eventKeywordBatchRepository).should().sync(Map.of(1L, Set.of("회의"), 3L, Set.of()));
+        then(eventKeywordBatchRepository).should().sync(Map.of(7L, Set.of("스터디", "MT")));
+        then(eventKeywordBatchRepository).should(never()).findEventTitlesAfter(7L, 2);
+        then(transactionTemplate).should(times(2)).execute(any());
+        assertThat(meterRegistry.get("event.keyword.backfill.duration").tag("completed", "true").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("chunk 태깅이 실패하면 중단하고 completed=false로 기록한다")
+    void backfill_StopsOnFailure() {
+        // given
+        given(eventKeywordBatchRepository.findEventTitlesAfter(0L, 2)).willReturn(List.of(
+                new EventTitle(1L, "주간 회의"),
+                new EventTitle(3L, "점심 약속")));
+        given(transactionTemplate.execute(any())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        scheduler.backfill();
+
+        // then
+        then(eventKeywordBatchRepository).should(never()).findEventTitlesAfter(3L, 2);
+        assertThat(meterRegistry.get("event.keyword.backfill.duration").tag("completed", "false").timer().count())
+                .isEqualTo(1);
+    }
+
+    private void givenTransactionRuns() {
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+    }
+}
@@ -0,0 +1,130 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.repository.RefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenCleanupScheduler 테스트")
+class RefreshTokenCleanupSchedulerTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new RefreshTokenCleanupScheduler(refreshTokenRepository, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(scheduler, "pauseMillis", 0L);
+        ReflectionTestUtils.setField(scheduler, "maxDuration", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(scheduler, "retentionDays", 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 인터럽트 테스트가 남긴 플래그를 지운다
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("마지막 ID 이후를 chunk-size씩 읽어 청크마다 만료 처리하고, 덜 찬 청크에서 끝낸다")
+    void updateExpiredTokens_ExpiresInChunks() {
+        // given
+        given(refreshTokenRepository.findExpiredActiveTokenIds(any(), eq(0L), eq(2))).willReturn(List.of(1L, 4L));
+        given(refreshTokenRepository.findExpiredActiveTokenIds(any(), eq(4L), eq(2))).willReturn(List.of(9L));
+        given(refreshTokenRepository.expireTokensByIds(anyList(), any())).willAnswer(
+                invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        scheduler.updateExpiredTokens();
+
+        // then
+        then(refreshTokenRepository).should().expireTokensByIds(eq(List.of(1L, 4L)), any());
+        then(refreshTokenRepository).should().expireTokensByIds(eq(List.of(9L)), any());
+        then(refreshTokenRepository).should(never()).findExpiredActiveTokenIds(any(), eq(9L), anyInt());
+        assertThat(meterRegistry.get("refresh_token.cleanup.rows").tag("job", "expire").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("refresh_token.cleanup.chunks").tag("job", "expire").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("refresh_token.cleanup.duration").tag("completed", "true").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 사이마다 pause-millis만큼 쉰다")
+    void hardDeleteOldInactiveTokens_PausesBetweenChunks() {
+        // given - 가득 찬 청크 두 개 뒤에 빈 조회, 청크 사이 대기는 두 번
+        ReflectionTestUtils.setField(scheduler, "pauseMillis", 30L);
+        given(refreshTokenRepository.findOldInactiveTokenIds(any(), eq(0L), eq(2))).willReturn(List.of(1L, 2L));
+        given(refreshTokenRepository.findOldInactiveTokenIds(any(), eq(2L), eq(2))).willReturn(List.of(3L, 4L));
+        given(refreshTokenRepository.findOldInactiveTokenIds(any(), eq(4L), eq(2))).willReturn(List.of());
+        given(refreshTokenRepository.hardDeleteByIds(anyList(), any())).willReturn(2);
+
+        // when
+        long startedAt = System.nanoTime();
+        scheduler.hardDeleteOldInactiveTokens();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // then
+        then(refreshTokenRepository).should(times(2)).hardDeleteByIds(anyList(), any());
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+        assertThat(meterRegistry.get("refresh_token.cleanup.duration").tag("job", "hard_delete")
+                .tag("completed", "true").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-duration을 넘기면 남은 청크를 다음 실행으로 미루고 completed=false로 기록한다")
+    void updateExpiredTokens_StopsAtMaxDuration() {
+        // given - 첫 청크를 처리하는 동안 제한 시간이 지난다
+        ReflectionTestUtils.setField(scheduler, "maxDuration", Duration.ZERO);
+        given(refreshTokenRepository.findExpiredActiveTokenIds(any(), eq(0L), eq(2))).willReturn(List.of(1L, 2L));
+        given(refreshTokenRepository.expireTokensByIds(anyList(), any())).willReturn(2);
+
+        // when
+        scheduler.updateExpiredTokens();
+
+        // then
+        then(refreshTokenRepository).should(times(1)).expireTokensByIds(anyList(), any());
+        then(refreshTokenRepository).should(never()).findExpiredActiveTokenIds(any(), eq(2L), anyInt());
+        assertThat(meterRegistry.get("refresh_token.cleanup.duration").tag("completed", "false").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 사이 대기 중 인터럽트되면 중단하고 인터럽트 상태를 유지한다")
+    void updateExpiredTokens_StopsWhenInterrupted() {
+        // given
+        ReflectionTestUtils.setField(scheduler, "pauseMillis", 1_000L);
+        given(refreshTokenRepository.findExpiredActiveTokenIds(any(), eq(0L), eq(2))).willReturn(List.of(1L, 2L));
+        given(refreshTokenRepository.expireTokensByIds(anyList(), any())).willReturn(2);
+        Thread.currentThread().interrupt();
+
+        // when
+        scheduler.updateExpiredTokens();
+
+        // then
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        then(refreshTokenRepository).should(never()).findExpiredActiveTokenIds(any(), eq(2L), anyInt());
+        assertThat(meterRegistry.get("refresh_token.cleanup.duration").tag("completed", "false").timer().count())
+                .isEqualTo(1);
+    }
+}
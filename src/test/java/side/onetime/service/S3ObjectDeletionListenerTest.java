@@ -0,0 +1,78 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.dto.s3.S3ObjectDeletionMessage;
+import side.onetime.util.S3Util;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3ObjectDeletionListener 테스트")
+class S3ObjectDeletionListenerTest {
+
+    @Mock
+    private S3Util s3Util;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3ObjectDeletionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new S3ObjectDeletionListener(s3Util, meterRegistry);
+        ReflectionTestUtils.setField(listener, "maxAttempts", 3);
+        ReflectionTestUtils.setField(listener, "initialBackoff", Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("일부 키가 실패하면 실패한 키만 재시도한다")
+    void handle_RetriesOnlyFailedKeys() {
+        // given
+        given(s3Util.deleteFiles(List.of("a", "b", "c"))).willReturn(List.of("b"));
+        given(s3Util.deleteFiles(List.of("b"))).willReturn(List.of());
+
+        // when
+        listener.handle(S3ObjectDeletionMessage.of(List.of("a", "b", "c")));
+
+        // then
+        then(s3Util).should().deleteFiles(List.of("b"));
+        assertThat(meterRegistry.counter("s3.delete.objects", "result", "deleted").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 이후에도 실패한 키는 실패 메트릭으로 기록한다")
+    void handle_GivesUpAfterMaxAttempts() {
+        // given
+        given(s3Util.deleteFiles(List.of("a"))).willReturn(List.of("a"));
+
+        // when
+        listener.handle(S3ObjectDeletionMessage.of(List.of("a")));
+
+        // then
+        then(s3Util).should(times(3)).deleteFiles(List.of("a"));
+        assertThat(meterRegistry.counter("s3.delete.objects", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 키와 중복 키는 제외하고, 남는 키가 없으면 호출하지 않는다")
+    void handle_SkipsEmptyMessage() {
+        // when
+        listener.handle(S3ObjectDeletionMessage.of(Arrays.asList(null, " ")));
+
+        // then
+        then(s3Util).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,131 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.AdminErrorStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsQueryFanOut 테스트")
+class StatisticsQueryFanOutTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private StatisticsQueryFanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        meterRegistry = new SimpleMeterRegistry();
+        fanOut = new StatisticsQueryFanOut(executor, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(fanOut, "timeout", Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("분기는 동시에 실행되고, 각자 새 읽기 전용 트랜잭션에서 조회한다")
+    void fork_RunsBranchesConcurrentlyInReadOnlyTransactions() {
+        // given - 두 분기가 서로를 기다리므로 순차 실행이면 기한을 넘긴다
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        StatisticsQueryFanOut.Scope scope = fanOut.open("test");
+
+        // when
+        StatisticsQueryFanOut.Branch<String> first = scope.fork("first", () -> awaitOther(bothStarted, "a"));
+        StatisticsQueryFanOut.Branch<String> second = scope.fork("second", () -> awaitOther(bothStarted, "b"));
+
+        // then
+        assertThat(first.join()).isEqualTo("a");
+        assertThat(second.join()).isEqualTo("b");
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should(times(2)).getTransaction(definition.capture());
+        assertThat(definition.getAllValues()).allSatisfy(d -> {
+            assertThat(d.isReadOnly()).isTrue();
+            assertThat(d.getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            assertThat(d.getTimeout()).isEqualTo(1);
+        });
+        assertThat(meterRegistry.timer("statistics.fan_out.branch", "operation", "test", "branch", "first",
+                "result", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기한 안에 끝나지 않은 분기는 대체값으로, 필수 분기는 예외로 처리한다")
+    void join_TimesOut() {
+        // given
+        CountDownLatch never = new CountDownLatch(1);
+        StatisticsQueryFanOut.Scope scope = fanOut.open("test");
+        StatisticsQueryFanOut.Branch<Long> optional = scope.fork("optional", () -> block(never));
+        StatisticsQueryFanOut.Branch<Long> required = scope.fork("required", () -> block(never));
+
+        // when & then
+        assertThat(optional.joinOrElse(null)).isNull();
+        assertThatThrownBy(required::join)
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(AdminErrorStatus._STATISTICS_QUERY_UNAVAILABLE);
+        assertThat(meterRegistry.timer("statistics.fan_out.branch", "operation", "test", "branch", "optional",
+                "result", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 분기는 대체값으로 처리하고 다른 분기 결과는 그대로 쓴다")
+    void joinOrElse_FallsBackOnFailure() {
+        // given
+        StatisticsQueryFanOut.Scope scope = fanOut.open("test");
+        StatisticsQueryFanOut.Branch<Long> failed = scope.fork("failed", () -> {
+            throw new IllegalStateException("db down");
+        });
+        StatisticsQueryFanOut.Branch<Long> succeeded = scope.fork("succeeded", () -> 42L);
+
+        // when & then
+        assertThat(failed.joinOrElse(-1L)).isEqualTo(-1L);
+        assertThat(succeeded.joinOrElse(-1L)).isEqualTo(42L);
+        assertThat(meterRegistry.timer("statistics.fan_out.branch", "operation", "test", "branch", "failed",
+                "result", "failure").count()).isEqualTo(1);
+    }
+
+    private String awaitOther(CountDownLatch bothStarted, String value) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(1, TimeUnit.SECONDS) ? value : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private Long block(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0L;
+    }
+}
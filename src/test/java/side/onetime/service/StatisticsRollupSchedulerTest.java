@@ -0,0 +1,196 @@
+package side.onetime.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.enums.StatisticsPeriod;
+import side.onetime.repository.StatisticsRollupBatchRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsRollupScheduler 테스트")
+class StatisticsRollupSchedulerTest {
+
+    @Mock
+    private StatisticsRollupBatchRepository statisticsRollupBatchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatisticsRollupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new StatisticsRollupScheduler(statisticsRollupBatchRepository, transactionTemplate, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "lateWindow", Duration.ofDays(3));
+        ReflectionTestUtils.setField(scheduler, "batchDays", 2);
+        ReflectionTestUtils.setField(scheduler, "eventChangeWindow", Duration.ofDays(2));
+    }
+
+    @Test
+    @DisplayName("증분 집계는 마지막 집계일에서 late-window만큼 앞선 날부터 시작하고, 롤업이 비어 있으면 첫 데이터부터 백필한다")
+    void resolveIncrementalStart() {
+        LocalDate today = LocalDate.of(2026, 10, 19);
+
+        given(statisticsRollupBatchRepository.findLastRollupDate()).willReturn(LocalDate.of(2026, 10, 18));
+        assertThat(scheduler.resolveIncrementalStart(today)).isEqualTo(LocalDate.of(2026, 10, 15));
+
+        given(statisticsRollupBatchRepository.findLastRollupDate()).willReturn(null);
+        given(statisticsRollupBatchRepository.findFirstActivityDate()).willReturn(LocalDate.of(2024, 1, 3));
+        assertThat(scheduler.resolveIncrementalStart(today)).isEqualTo(LocalDate.of(2024, 1, 3));
+    }
+
+    @Test
+    @DisplayName("증분 집계는 batch-days 구간마다 트랜잭션을 나누고, 활성 유저는 주/월 시작일에 맞춰 한 번에 집계한다")
+    void rollupRecentDays_RollsUpInBatches() {
+        // given
+        givenTransactionRuns();
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(3);
+        given(statisticsRollupBatchRepository.findLastRollupDate()).willReturn(today);
+
+        // when
+        scheduler.rollupRecentDays();
+
+        // then - [today-3, today-1), [today-1, today+1)
+        InOrder inOrder = inOrder(statisticsRollupBatchRepository);
+        inOrder.verify(statisticsRollupBatchRepository).rollupSignups(from, from.plusDays(2));
+        inOrder.verify(statisticsRollupBatchRepository).rollupEvents(from, from.plusDays(2));
+        inOrder.verify(statisticsRollupBatchRepository).rollupSignups(from.plusDays(2), today.plusDays(1));
+        inOrder.verify(statisticsRollupBatchRepository).rollupEvents(from.plusDays(2), today.plusDays(1));
+
+        then(statisticsRollupBatchRepository).should()
+                .rollupActiveUsers(StatisticsPeriod.DAY, from, today.plusDays(1));
+        then(statisticsRollupBatchRepository).should()
+                .rollupActiveUsers(StatisticsPeriod.WEEK, from.with(DayOfWeek.MONDAY), today.plusDays(1));
+        then(statisticsRollupBatchRepository).should()
+                .rollupActiveUsers(StatisticsPeriod.MONTH, from.withDayOfMonth(1), today.plusDays(1));
+        then(transactionTemplate).should(times(2)).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("일간 재집계는 첫 데이터부터 가입 유저 컬럼만 다시 집계하고, 이벤트 컬럼은 최근 바뀐 생성일만 다시 센다")
+    void refreshSignupCohorts_RecountsSignupsAndChangedEventDays() {
+        // given
+        givenTransactionRuns();
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(30);
+        given(statisticsRollupBatchRepository.findFirstActivityDate()).willReturn(first);
+        given(statisticsRollupBatchRepository.findChangedEventDays(any()))
+                .willReturn(List.of(first, first.plusDays(5), first.plusDays(6)));
+
+        // when
+        scheduler.refreshSignupCohorts();
+
+        // then - 가입 유저 컬럼은 batch-days(2일)씩 전체, 이벤트 컬럼은 바뀐 날만 batch-days개씩 한 트랜잭션
+        then(statisticsRollupBatchRepository).should(times(16)).rollupSignups(any(), any());
+        then(statisticsRollupBatchRepository).should().rollupEvents(first, first.plusDays(1));
+        then(statisticsRollupBatchRepository).should().rollupEvents(first.plusDays(5), first.plusDays(6));
+        then(statisticsRollupBatchRepository).should().rollupEvents(first.plusDays(6), first.plusDays(7));
+        then(statisticsRollupBatchRepository).should(times(3)).rollupEvents(any(), any());
+        then(transactionTemplate).should(times(16 + 2)).executeWithoutResult(any());
+        then(statisticsRollupBatchRepository).should(never()).rollupActiveUsers(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("event-change-window 안에 바뀐 이벤트가 없으면 이벤트 컬럼을 다시 세지 않는다")
+    void refreshSignupCohorts_NoEventChanges() {
+        // given
+        givenTransactionRuns();
+        LocalDate today = LocalDate.now();
+        given(statisticsRollupBatchRepository.findFirstActivityDate()).willReturn(today.minusDays(1));
+        given(statisticsRollupBatchRepository.findChangedEventDays(any())).willReturn(List.of());
+
+        // when
+        LocalDateTime startedAt = LocalDateTime.now();
+        scheduler.refreshSignupCohorts();
+
+        // then
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(statisticsRollupBatchRepository).should().findChangedEventDays(since.capture());
+        assertThat(since.getValue()).isBetween(startedAt.minusDays(2).minusSeconds(1), LocalDateTime.now().minusDays(2));
+        then(statisticsRollupBatchRepository).should(never()).rollupEvents(any(), any());
+    }
+
+    @Test
+    @DisplayName("late-window보다 늦게 확정된 이벤트는 증분 집계가 놓쳐도 일간 재집계가 그 생성일만 다시 센다")
+    void lateConfirmation_RecountedByDailyJob() {
+        // given - 10일 전에 생성되어 오늘 확정된 이벤트
+        givenTransactionRuns();
+        LocalDate today = LocalDate.now();
+        LocalDate createdDate = today.minusDays(10);
+        given(statisticsRollupBatchRepository.findLastRollupDate()).willReturn(today);
+        given(statisticsRollupBatchRepository.findFirstActivityDate()).willReturn(createdDate);
+        given(statisticsRollupBatchRepository.findChangedEventDays(any())).willReturn(List.of(createdDate));
+
+        // when - 증분 집계는 [today-3, today+1)만 다시 센다
+        scheduler.rollupRecentDays();
+
+        // then
+        then(statisticsRollupBatchRepository).should(never())
+                .rollupEvents(argThat(from -> !from.isAfter(createdDate)), any());
+
+        // when - 매일 재집계
+        scheduler.refreshSignupCohorts();
+
+        // then - 생성일 하루만 이벤트 컬럼을 다시 집계한다
+        then(statisticsRollupBatchRepository).should().rollupEvents(createdDate, createdDate.plusDays(1));
+        assertThat(meterRegistry.timer("statistics.rollup.duration", "job", "event-changes", "completed", "true")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("집계 중 실패하면 남은 구간을 건너뛰고 다음 실행으로 넘긴다")
+    void rollupRecentDays_StopsOnFailure() {
+        // given
+        givenTransactionRuns();
+        given(statisticsRollupBatchRepository.findLastRollupDate()).willReturn(LocalDate.now());
+        given(statisticsRollupBatchRepository.rollupSignups(any(), any())).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatCode(() -> scheduler.rollupRecentDays()).doesNotThrowAnyException();
+        then(statisticsRollupBatchRepository).should(times(1)).rollupSignups(any(), any());
+        then(statisticsRollupBatchRepository).should(never()).rollupActiveUsers(any(), any(), any());
+        assertThat(meterRegistry.timer("statistics.rollup.duration", "job", "incremental", "completed", "false")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 집계하지 않는다")
+    void rollupRecentDays_SkipsWhenNoData() {
+        given(statisticsRollupBatchRepository.findLastRollupDate()).willReturn(null);
+        given(statisticsRollupBatchRepository.findFirstActivityDate()).willReturn(null);
+
+        scheduler.rollupRecentDays();
+
+        then(transactionTemplate).shouldHaveNoInteractions();
+    }
+
+    private void givenTransactionRuns() {
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+}
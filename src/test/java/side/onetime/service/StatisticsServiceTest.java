@@ -1,24 +1,42 @@
 package side.onetime.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import side.onetime.domain.CohortRetention;
+import side.onetime.domain.StatisticsActiveUserRollup;
+import side.onetime.domain.StatisticsDailyRollup;
+import side.onetime.domain.enums.CohortType;
+import side.onetime.domain.enums.StatisticsPeriod;
 import side.onetime.dto.admin.email.response.UserSearchResult;
 import side.onetime.dto.admin.statistics.response.*;
+import side.onetime.global.config.search.UserSearchIndex;
+import side.onetime.repository.CohortRetentionRepository;
+import side.onetime.repository.StatisticsActiveUserRollupRepository;
+import side.onetime.repository.StatisticsDailyRollupRepository;
 import side.onetime.repository.StatisticsRepository;
 import side.onetime.repository.UserRepository;
 import side.onetime.repository.custom.StatisticsRepositoryCustom;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +51,31 @@ public class StatisticsServiceTest {
     @Mock
     private StatisticsRepositoryCustom statisticsRepositoryCustom;
 
+    @Mock
+    private StatisticsDailyRollupRepository statisticsDailyRollupRepository;
+
+    @Mock
+    private StatisticsActiveUserRollupRepository statisticsActiveUserRollupRepository;
+
+    @Mock
+    private CohortRetentionRepository cohortRetentionRepository;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    // 분기를 호출 스레드에서 바로 실행
+    @Spy
+    private StatisticsQueryFanOut statisticsQueryFanOut =
+            new StatisticsQueryFanOut(Runnable::run, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
     @InjectMocks
     private StatisticsService statisticsService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(statisticsQueryFanOut, "timeout", Duration.ofSeconds(5));
+    }
+
     // ==================== User Search ====================
 
     @Test
@@ -45,6 +85,7 @@ public class StatisticsServiceTest {
         List<Object[]> userRows = new ArrayList<>();
         userRows.add(new Object[]{1L, "홍길동", "hong@example.com", "길동이", "KAKAO"});
 
+        when(userSearchIndex.modeFor("홍길동")).thenReturn(UserSearchIndex.Mode.SCAN);
         when(statisticsRepository.searchUsersByNameOrEmail("홍길동", 20)).thenReturn(userRows);
 
         // when
@@ -56,6 +97,98 @@ public class StatisticsServiceTest {
         assertThat(result.get(0).email()).isEqualTo("hong@example.com");
     }
 
+    @Test
+    @DisplayName("검색 인덱스가 있으면 앞뒤 공백을 뺀 검색어로 인덱스 검색을 한다")
+    public void searchUsers_UsesFullTextIndex() {
+        // given
+        List<Object[]> userRows = new ArrayList<>();
+        userRows.add(new Object[]{1L, "홍길동", "hong@example.com", "길동이", "KAKAO"});
+
+        when(userSearchIndex.modeFor("길동")).thenReturn(UserSearchIndex.Mode.FULL_TEXT);
+        when(statisticsRepository.searchUsersByFullText("\"길동\"", "길동", 20)).thenReturn(userRows);
+
+        // when
+        List<UserSearchResult> result = statisticsService.searchUsers(" 길동 ", 20);
+
+        // then
+        assertThat(result).extracting(UserSearchResult::name).containsExactly("홍길동");
+    }
+
+    // ==================== Dashboard Summary ====================
+
+    @Test
+    @DisplayName("대시보드 요약을 일자별 롤업 합계로 계산한다")
+    public void getDashboardSummary() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+        LocalDate prevStartDate = LocalDate.of(2024, 12, 1);
+        LocalDate prevEndDate = LocalDate.of(2024, 12, 31);
+
+        // 이전 기간 롤업 없음
+        when(statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(prevStartDate, prevEndDate))
+                .thenReturn(List.of());
+        when(statisticsActiveUserRollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+                any(StatisticsPeriod.class), eq(prevStartDate), eq(prevEndDate))).thenReturn(List.of());
+
+        when(statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(startDate, endDate)).thenReturn(List.of(
+                StatisticsDailyRollup.builder().statDate(LocalDate.of(2025, 1, 5))
+                        .signups(60).marketingAgreedSignups(20).dormantSignups(6)
+                        .eventsCreated(30).confirmedEvents(5).participantEvents(40).participations(100).members(20)
+                        .build(),
+                StatisticsDailyRollup.builder().statDate(LocalDate.of(2025, 1, 20))
+                        .signups(40).marketingAgreedSignups(10).dormantSignups(4)
+                        .eventsCreated(20).confirmedEvents(5).participantEvents(20).participations(50).members(10)
+                        .build()
+        ));
+        when(statisticsActiveUserRollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+                StatisticsPeriod.DAY, startDate, endDate)).thenReturn(List.of(
+                activeUserRollup(StatisticsPeriod.DAY, LocalDate.of(2025, 1, 5), 30),
+                activeUserRollup(StatisticsPeriod.DAY, LocalDate.of(2025, 1, 6), 45)
+        ));
+        when(statisticsActiveUserRollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+                StatisticsPeriod.MONTH, startDate, endDate)).thenReturn(List.of(
+                activeUserRollup(StatisticsPeriod.MONTH, LocalDate.of(2025, 1, 1), 700)
+        ));
+
+        // when
+        DashboardSummaryResponse result = statisticsService.getDashboardSummary(startDate, endDate);
+
+        // then
+        assertThat(result.totalUsers()).isEqualTo(100);
+        assertThat(result.marketingTargetUsers()).isEqualTo(30);
+        assertThat(result.totalEvents()).isEqualTo(50);
+        assertThat(result.confirmedEvents()).isEqualTo(10);
+        assertThat(result.activeUsers()).isEqualTo(45);   // 기간 내 최대 DAU
+        assertThat(result.mau()).isEqualTo(700);
+        assertThat(result.avgParticipantsPerEvent()).isEqualTo(3.0); // (150 + 30) / 60
+        assertThat(result.dormantRate()).isEqualTo(10.0);            // 10 / 100
+        assertThat(result.comparison().prevTotalUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 기간 조회가 실패하면 비교 없이 현재 기간 요약만 응답한다")
+    public void getDashboardSummaryWithoutPreviousRange() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 1, 31);
+
+        when(statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31)))
+                .thenThrow(new IllegalStateException("query timeout"));
+        when(statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(startDate, endDate)).thenReturn(List.of(
+                StatisticsDailyRollup.builder().statDate(LocalDate.of(2025, 1, 5)).signups(10).build()
+        ));
+        when(statisticsActiveUserRollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+                any(StatisticsPeriod.class), eq(startDate), eq(endDate))).thenReturn(List.of());
+
+        // when
+        DashboardSummaryResponse result = statisticsService.getDashboardSummary(startDate, endDate);
+
+        // then
+        assertThat(result.totalUsers()).isEqualTo(10);
+        assertThat(result.comparison()).isNull();
+    }
+
     // ==================== Funnel Analysis ====================
 
     @Test
@@ -64,13 +197,12 @@ public class StatisticsServiceTest {
         // given
         LocalDate startDate = LocalDate.of(2025, 1, 1);
         LocalDate endDate = LocalDate.of(2025, 3, 31);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
-        when(statisticsRepository.countSignups(startDateTime, endDateTime)).thenReturn(1000L);
-        when(statisticsRepository.countUsersWithFirstEvent(startDateTime, endDateTime)).thenReturn(300L);
-        when(statisticsRepository.countUsersWithParticipants(startDateTime, endDateTime)).thenReturn(150L);
-        when(statisticsRepository.countUsersWithSecondEvent(startDateTime, endDateTime)).thenReturn(50L);
+        // 가입일별 롤업 두 행의 합: 가입 1000, 첫 이벤트 300, 참여자 받음 150, 2번째 이벤트 50
+        when(statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(startDate, endDate)).thenReturn(List.of(
+                funnelRollup(LocalDate.of(2025, 1, 10), 600, 200, 100, 30),
+                funnelRollup(LocalDate.of(2025, 2, 10), 400, 100, 50, 20)
+        ));
 
         // when
         FunnelAnalysisResponse result = statisticsService.getFunnelAnalysis(startDate, endDate);
@@ -112,13 +244,8 @@ public class StatisticsServiceTest {
         // given
         LocalDate startDate = LocalDate.of(2025, 1, 1);
         LocalDate endDate = LocalDate.of(2025, 1, 31);
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
-        when(statisticsRepository.countSignups(startDateTime, endDateTime)).thenReturn(0L);
-        when(statisticsRepository.countUsersWithFirstEvent(startDateTime, endDateTime)).thenReturn(0L);
-        when(statisticsRepository.countUsersWithParticipants(startDateTime, endDateTime)).thenReturn(0L);
-        when(statisticsRepository.countUsersWithSecondEvent(startDateTime, endDateTime)).thenReturn(0L);
+        when(statisticsDailyRollupRepository.findByStatDateBetweenOrderByStatDate(startDate, endDate)).thenReturn(List.of());
 
         // when
         FunnelAnalysisResponse result = statisticsService.getFunnelAnalysis(startDate, endDate);
@@ -131,37 +258,71 @@ public class StatisticsServiceTest {
     // ==================== Cohort Retention ====================
 
     @Test
-    @DisplayName("코호트 리텐션을 분석한다")
+    @DisplayName("코호트 리텐션을 집계 테이블에서 읽는다")
     public void getCohortRetention() {
         // given
-        List<Object[]> cohortSizes = new ArrayList<>();
-        cohortSizes.add(new Object[]{"2025-01", 100L});
-        cohortSizes.add(new Object[]{"2025-02", 80L});
-
-        List<Object[]> cohortActivity = new ArrayList<>();
-        cohortActivity.add(new Object[]{"2025-01", "2025-01", 100L});
-        cohortActivity.add(new Object[]{"2025-01", "2025-02", 45L});
-        cohortActivity.add(new Object[]{"2025-02", "2025-02", 80L});
-        cohortActivity.add(new Object[]{"2025-02", "2025-03", 35L});
-
-        when(statisticsRepository.findCohortSizes(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(cohortSizes);
-        when(statisticsRepository.findCohortMonthlyActivity(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(cohortActivity);
+        LocalDate firstCohort = LocalDate.now().withDayOfMonth(1).minusMonths(1);
+        LocalDate secondCohort = firstCohort.plusMonths(1);
+        when(cohortRetentionRepository.findByCohortTypeAndCohortStartGreaterThanEqualOrderByCohortStartAscPeriodOffsetAsc(
+                CohortType.SIGNUP_MONTH, firstCohort.minusMonths(10)))
+                .thenReturn(List.of(
+                        cohortCell(firstCohort, 0, 100L, 100L),
+                        cohortCell(firstCohort, 1, 100L, 45L),
+                        cohortCell(secondCohort, 0, 80L, 35L)));
 
         // when
-        CohortRetentionResponse result = statisticsService.getCohortRetention(12);
+        CohortRetentionResponse result = statisticsService.getCohortRetention(CohortType.SIGNUP_MONTH, 12);
 
         // then
         assertThat(result.cohorts()).hasSize(2);
         assertThat(result.periods()).hasSize(12);
+        assertThat(result.periods().get(0)).isEqualTo("M0");
 
-        // 첫 번째 코호트 (2025-01)
-        CohortRetentionResponse.CohortRow firstCohort = result.cohorts().get(0);
-        assertThat(firstCohort.month()).isEqualTo("2025-01");
-        assertThat(firstCohort.size()).isEqualTo(100);
-        assertThat(firstCohort.retention().get(0)).isEqualTo(100.0); // M0
-        assertThat(firstCohort.retention().get(1)).isEqualTo(45.0);  // M1
+        // 첫 번째 코호트
+        CohortRetentionResponse.CohortRow first = result.cohorts().get(0);
+        assertThat(first.month()).isEqualTo(YearMonth.from(firstCohort).toString());
+        assertThat(first.size()).isEqualTo(100);
+        assertThat(first.retention().get(0)).isEqualTo(100.0); // M0
+        assertThat(first.retention().get(1)).isEqualTo(45.0);  // M1
+        assertThat(first.retention().get(2)).isEqualTo(0.0);   // 아직 없는 기간
+
+        assertThat(result.cohorts().get(1).retention().get(0)).isEqualTo(43.8);
+    }
+
+    @Test
+    @DisplayName("주 단위 코호트는 시작일과 W 기간으로 표시한다")
+    public void getCohortRetentionWeekly() {
+        // given
+        LocalDate cohort = LocalDate.now().with(DayOfWeek.MONDAY);
+        when(cohortRetentionRepository.findByCohortTypeAndCohortStartGreaterThanEqualOrderByCohortStartAscPeriodOffsetAsc(
+                CohortType.SIGNUP_WEEK, cohort.minusWeeks(3)))
+                .thenReturn(List.of(CohortRetention.builder()
+                        .cohortType(CohortType.SIGNUP_WEEK)
+                        .cohortStart(cohort)
+                        .periodStart(cohort)
+                        .periodOffset(0)
+                        .cohortSize(10L)
+                        .activeUsers(7L)
+                        .build()));
+
+        // when
+        CohortRetentionResponse result = statisticsService.getCohortRetention(CohortType.SIGNUP_WEEK, 4);
+
+        // then
+        assertThat(result.periods()).containsExactly("W0", "W1", "W2", "W3");
+        assertThat(result.cohorts().get(0).month()).isEqualTo(cohort.toString());
+        assertThat(result.cohorts().get(0).retention().get(0)).isEqualTo(70.0);
+    }
+
+    private CohortRetention cohortCell(LocalDate cohortStart, int offset, long size, long active) {
+        return CohortRetention.builder()
+                .cohortType(CohortType.SIGNUP_MONTH)
+                .cohortStart(cohortStart)
+                .periodStart(cohortStart.plusMonths(offset))
+                .periodOffset(offset)
+                .cohortSize(size)
+                .activeUsers(active)
+                .build();
     }
 
     // ==================== TTV Distribution ====================
@@ -246,18 +407,18 @@ public class StatisticsServiceTest {
         when(statisticsRepository.countMau(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(600L);
         when(statisticsRepository.countWau(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(150L);
 
-        List<Object[]> monthlyWauData = new ArrayList<>();
-        monthlyWauData.add(new Object[]{"2025-01", 100.0});
-        monthlyWauData.add(new Object[]{"2025-02", 120.0});
-
-        List<Object[]> monthlyMauData = new ArrayList<>();
-        monthlyMauData.add(new Object[]{"2025-01", 500L});
-        monthlyMauData.add(new Object[]{"2025-02", 550L});
-
-        when(statisticsRepository.findMonthlyAvgWau(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(monthlyWauData);
-        when(statisticsRepository.findMonthlyMau(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(monthlyMauData);
+        // 2025-01 주간 활성 유저 90, 110 → 주 평균 100
+        when(statisticsActiveUserRollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+                eq(StatisticsPeriod.WEEK), any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(
+                activeUserRollup(StatisticsPeriod.WEEK, LocalDate.of(2025, 1, 6), 90),
+                activeUserRollup(StatisticsPeriod.WEEK, LocalDate.of(2025, 1, 13), 110),
+                activeUserRollup(StatisticsPeriod.WEEK, LocalDate.of(2025, 2, 3), 120)
+        ));
+        when(statisticsActiveUserRollupRepository.findByPeriodTypeAndPeriodStartBetweenOrderByPeriodStart(
+                eq(StatisticsPeriod.MONTH), any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(
+                activeUserRollup(StatisticsPeriod.MONTH, LocalDate.of(2025, 1, 1), 500),
+                activeUserRollup(StatisticsPeriod.MONTH, LocalDate.of(2025, 2, 1), 550)
+        ));
 
         // when
         StickinessResponse result = statisticsService.getStickiness(12);
@@ -424,4 +585,23 @@ public class StatisticsServiceTest {
         // then
         assertThat(result).isNull();
     }
+
+    private StatisticsDailyRollup funnelRollup(LocalDate statDate, long signups, long firstEvent,
+                                               long withParticipants, long secondEvent) {
+        return StatisticsDailyRollup.builder()
+                .statDate(statDate)
+                .signups(signups)
+                .firstEventUsers(firstEvent)
+                .participantReceivedUsers(withParticipants)
+                .secondEventUsers(secondEvent)
+                .build();
+    }
+
+    private StatisticsActiveUserRollup activeUserRollup(StatisticsPeriod period, LocalDate periodStart, long activeUsers) {
+        return StatisticsActiveUserRollup.builder()
+                .periodType(period)
+                .periodStart(periodStart)
+                .activeUsers(activeUsers)
+                .build();
+    }
 }
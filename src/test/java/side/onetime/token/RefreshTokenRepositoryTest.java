@@ -3,6 +3,7 @@ package side.onetime.token;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -285,4 +286,84 @@ class RefreshTokenRepositoryTest extends DatabaseTestConfig {
             assertThat(refreshTokenRepository.findById(tokenId)).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("청크 정리 메서드 (키셋 페이지네이션)")
+    class ChunkedCleanup {
+
+        private Long saveExpiredToken(String jti) {
+            RefreshToken token = RefreshToken.create(
+                    TEST_USER_ID, TEST_USER_TYPE, jti, TEST_BROWSER_ID, "token-value-" + jti,
+                    LocalDateTime.now().minusDays(15), LocalDateTime.now().minusDays(1),
+                    TEST_USER_IP, TEST_USER_AGENT
+            );
+            return refreshTokenRepository.saveAndFlush(token).getId();
+        }
+
+        @Test
+        @DisplayName("만료 토큰 ID를 lastId 이후부터 limit만큼 오름차순 조회")
+        void findExpiredActiveTokenIds_Keyset() {
+            // given
+            Long firstId = saveExpiredToken("chunk-expired-1");
+            Long secondId = saveExpiredToken("chunk-expired-2");
+            Long thirdId = saveExpiredToken("chunk-expired-3");
+            createAndSaveToken("chunk-valid");
+            flushAndClear();
+
+            // when
+            List<Long> firstChunk = refreshTokenRepository.findExpiredActiveTokenIds(LocalDateTime.now(), 0L, 2);
+            List<Long> secondChunk = refreshTokenRepository.findExpiredActiveTokenIds(
+                    LocalDateTime.now(), firstChunk.get(firstChunk.size() - 1), 2);
+
+            // then
+            assertThat(firstChunk).containsExactly(firstId, secondId);
+            assertThat(secondChunk).containsExactly(thirdId);
+        }
+
+        @Test
+        @DisplayName("조회 이후 ROTATED된 토큰은 EXPIRED로 덮어쓰지 않음")
+        void expireTokensByIds_SkipsRotated() {
+            // given
+            Long expiredId = saveExpiredToken("chunk-expire-target");
+            Long rotatedId = saveExpiredToken("chunk-expire-rotated");
+            flushAndClear();
+            List<Long> ids = refreshTokenRepository.findExpiredActiveTokenIds(LocalDateTime.now(), 0L, 10);
+            refreshTokenRepository.markAsRotatedIfActive(rotatedId, LocalDateTime.now(), TEST_USER_IP);
+            flushAndClear();
+
+            // when
+            int updated = refreshTokenRepository.expireTokensByIds(ids, LocalDateTime.now());
+            flushAndClear();
+
+            // then
+            assertThat(updated).isEqualTo(1);
+            assertThat(refreshTokenRepository.findById(expiredId).orElseThrow().getStatus())
+                    .isEqualTo(TokenStatus.EXPIRED);
+            assertThat(refreshTokenRepository.findById(rotatedId).orElseThrow().getStatus())
+                    .isEqualTo(TokenStatus.ROTATED);
+        }
+
+        @Test
+        @DisplayName("비활성 토큰을 ID 청크 단위로 삭제")
+        void hardDeleteByIds_Success() {
+            // given
+            Long rotatedId = createAndSaveToken("chunk-delete-rotated").getId();
+            Long activeId = createAndSaveToken("chunk-delete-active").getId();
+            flushAndClear();
+            refreshTokenRepository.markAsRotatedIfActive(rotatedId, LocalDateTime.now(), TEST_USER_IP);
+            flushAndClear();
+
+            // when
+            LocalDateTime threshold = LocalDateTime.now().plusDays(1);
+            List<Long> ids = refreshTokenRepository.findOldInactiveTokenIds(threshold, 0L, 10);
+            int deleted = refreshTokenRepository.hardDeleteByIds(ids, threshold);
+            flushAndClear();
+
+            // then
+            assertThat(ids).containsExactly(rotatedId);
+            assertThat(deleted).isEqualTo(1);
+            assertThat(refreshTokenRepository.findById(rotatedId)).isEmpty();
+            assertThat(refreshTokenRepository.findById(activeId)).isPresent();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package side.onetime.token;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import side.onetime.dto.token.request.ReissueTokenRequest;
+import side.onetime.dto.token.response.ReissueTokenResponse;
+import side.onetime.exception.CustomException;
+import side.onetime.exception.status.TokenErrorStatus;
+import side.onetime.service.TokenReissueCoordinator;
+import side.onetime.service.TokenService;
+import side.onetime.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenReissueCoordinator 테스트")
+class TokenReissueCoordinatorTest {
+
+    @InjectMocks
+    private TokenReissueCoordinator tokenReissueCoordinator;
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private static final String TEST_JTI = "test-jti-uuid";
+    private static final String TEST_REFRESH_TOKEN = "test.refresh.token";
+    private static final String TEST_USER_IP = "127.0.0.1";
+    private static final String TEST_USER_AGENT = "Mozilla/5.0";
+
+    @BeforeEach
+    void setUp() {
+        given(jwtUtil.getClaimFromToken(TEST_REFRESH_TOKEN, "jti", String.class)).willReturn(TEST_JTI);
+    }
+
+    @Test
+    @DisplayName("같은 jti 동시 요청은 한 번만 재발급하고 결과를 공유")
+    void reissue_ConcurrentRequestsShareResult() throws Exception {
+        // given
+        ReissueTokenResponse expected = ReissueTokenResponse.of("new.access.token", "new.refresh.token");
+        CountDownLatch leaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(tokenService.reissueToken(any(ReissueTokenRequest.class), anyString(), anyString()))
+                .willAnswer(invocation -> {
+                    leaderEntered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return expected;
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<ReissueTokenResponse> leader = executor.submit(() ->
+                    tokenReissueCoordinator.reissue(TEST_REFRESH_TOKEN, TEST_USER_IP, TEST_USER_AGENT));
+            leaderEntered.await(5, TimeUnit.SECONDS);
+            Future<ReissueTokenResponse> follower = executor.submit(() ->
+                    tokenReissueCoordinator.reissue(TEST_REFRESH_TOKEN, TEST_USER_IP, TEST_USER_AGENT));
+            release.countDown();
+
+            // then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+            then(tokenService).should(times(1))
+                    .reissueToken(any(ReissueTokenRequest.class), anyString(), anyString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("재발급 실패 시 예외를 전달하고 다음 요청은 다시 재발급을 시도")
+    void reissue_FailureIsNotCached() {
+        // given
+        given(tokenService.reissueToken(any(ReissueTokenRequest.class), anyString(), anyString()))
+                .willThrow(new CustomException(TokenErrorStatus._DUPLICATED_REQUEST));
+
+        // when & then
+        assertThatThrownBy(() -> tokenReissueCoordinator.reissue(TEST_REFRESH_TOKEN, TEST_USER_IP, TEST_USER_AGENT))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> tokenReissueCoordinator.reissue(TEST_REFRESH_TOKEN, TEST_USER_IP, TEST_USER_AGENT))
+                .isInstanceOf(CustomException.class);
+        then(tokenService).should(times(2))
+                .reissueToken(any(ReissueTokenRequest.class), anyString(), anyString());
+    }
+}
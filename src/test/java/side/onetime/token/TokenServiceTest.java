@@ -25,6 +25,7 @@ import side.onetime.exception.CustomException;
 import side.onetime.exception.status.TokenErrorStatus;
 import side.onetime.repository.RefreshTokenRepository;
 import side.onetime.service.TokenService;
+import side.onetime.service.UserActivityRecorder;
 import side.onetime.util.JwtUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +41,9 @@ class TokenServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserActivityRecorder userActivityRecorder;
+
     private static final String TEST_JTI = "test-jti-uuid";
     private static final String TEST_REFRESH_TOKEN = "test.refresh.token";
     private static final String TEST_NEW_ACCESS_TOKEN = "new.access.token";
@@ -113,6 +117,35 @@ class TokenServiceTest {
             assertThat(response.refreshToken()).isEqualTo(TEST_NEW_REFRESH_TOKEN);
             verify(refreshTokenRepository).markAsRotatedIfActive(eq(1L), any(LocalDateTime.class), eq(TEST_USER_IP));
             verify(refreshTokenRepository).save(any(RefreshToken.class));
+            verify(userActivityRecorder).record(eq(TEST_USER_ID), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("ADMIN 토큰 재발급은 유저 활동으로 기록하지 않음")
+        void reissueToken_AdminToken_DoesNotRecordActivity() throws Exception {
+            // given
+            RefreshToken adminToken = createTestToken(TokenStatus.ACTIVE, null);
+            Field userTypeField = RefreshToken.class.getDeclaredField("userType");
+            userTypeField.setAccessible(true);
+            userTypeField.set(adminToken, "ADMIN");
+            ReissueTokenRequest request = new ReissueTokenRequest(TEST_REFRESH_TOKEN);
+
+            given(refreshTokenRepository.findByJti(TEST_JTI)).willReturn(Optional.of(adminToken));
+            given(refreshTokenRepository.markAsRotatedIfActive(eq(1L), any(LocalDateTime.class), eq(TEST_USER_IP)))
+                    .willReturn(1);
+            given(jwtUtil.generateAccessToken(TEST_USER_ID, "ADMIN")).willReturn(TEST_NEW_ACCESS_TOKEN);
+            given(jwtUtil.generateRefreshToken(eq(TEST_USER_ID), eq("ADMIN"), eq(TEST_BROWSER_ID), anyString()))
+                    .willReturn(TEST_NEW_REFRESH_TOKEN);
+            given(jwtUtil.calculateRefreshTokenExpiryAt(any(LocalDateTime.class)))
+                    .willReturn(LocalDateTime.now().plusDays(14));
+
+            // when
+            ReissueTokenResponse response = tokenService.reissueToken(request, TEST_USER_IP, TEST_USER_AGENT);
+
+            // then
+            assertThat(response.accessToken()).isEqualTo(TEST_NEW_ACCESS_TOKEN);
+            verify(refreshTokenRepository).save(any(RefreshToken.class));
+            verify(userActivityRecorder, never()).record(any(), any());
         }
 
         @Test
@@ -255,6 +288,7 @@ class TokenServiceTest {
 
             // 새 토큰이 생성되지 않았는지 확인
             verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+            verify(userActivityRecorder, never()).record(any(), any());
         }
     }
 }
@@ -0,0 +1,118 @@
+package side.onetime.user;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import side.onetime.configuration.DatabaseTestConfig;
+import side.onetime.domain.User;
+import side.onetime.domain.enums.Language;
+import side.onetime.global.config.JpaConfig;
+import side.onetime.global.config.QueryDslConfig;
+import side.onetime.repository.UserRepository;
+
+/**
+ * users.last_active_at 조건부 갱신 테스트.
+ * 컬럼을 NULL 허용으로 바꾸는 DDL이 암묵적으로 커밋되므로 테스트 트랜잭션 없이 저장하고 직접 정리한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("유저 마지막 활동 시각 갱신 테스트")
+class UserLastActiveRepositoryTest extends DatabaseTestConfig {
+
+    private static final LocalDateTime ACTIVE_AT = LocalDateTime.of(2026, 10, 19, 12, 0);
+    private static final LocalDateTime STALE_BEFORE = ACTIVE_AT.minusHours(1);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .name("홍길동")
+                .email("hong@example.com")
+                .nickname("길동이")
+                .provider("GOOGLE")
+                .providerId("hong@example.com")
+                .language(Language.KOR)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        jdbcTemplate.execute("ALTER TABLE users MODIFY last_active_at DATETIME(6) NOT NULL");
+    }
+
+    @Test
+    @DisplayName("저장된 값이 staleBefore보다 오래됐으면 활동 시각으로 갱신한다")
+    void staleValue_Updated() {
+        // given
+        setLastActiveAt(ACTIVE_AT.minusHours(2));
+
+        // when
+        int updated = userRepository.updateLastActiveAtIfStale(userId, ACTIVE_AT, STALE_BEFORE);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(lastActiveAt()).isEqualTo(ACTIVE_AT);
+    }
+
+    @Test
+    @DisplayName("저장된 값이 staleBefore 이후면 갱신하지 않는다")
+    void freshValue_NotUpdated() {
+        // given
+        LocalDateTime recent = ACTIVE_AT.minusMinutes(30);
+        setLastActiveAt(recent);
+
+        // when
+        int updated = userRepository.updateLastActiveAtIfStale(userId, ACTIVE_AT, STALE_BEFORE);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(lastActiveAt()).isEqualTo(recent);
+    }
+
+    @Test
+    @DisplayName("백필 전이라 값이 NULL인 행은 갱신하지 않는다")
+    void nullValue_Skipped() {
+        // given - 운영 마이그레이션 1단계처럼 컬럼이 NULL 허용인 상태
+        jdbcTemplate.execute("ALTER TABLE users MODIFY last_active_at DATETIME(6) NULL");
+        setLastActiveAt(null);
+
+        // when
+        int updated = userRepository.updateLastActiveAtIfStale(userId, ACTIVE_AT, STALE_BEFORE);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(lastActiveAt()).isNull();
+    }
+
+    private void setLastActiveAt(LocalDateTime lastActiveAt) {
+        jdbcTemplate.update("UPDATE users SET last_active_at = ? WHERE users_id = ?", lastActiveAt, userId);
+    }
+
+    private LocalDateTime lastActiveAt() {
+        return jdbcTemplate.queryForObject("SELECT last_active_at FROM users WHERE users_id = ?",
+                LocalDateTime.class, userId);
+    }
+}
@@ -0,0 +1,133 @@
+package side.onetime.user;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import side.onetime.configuration.DatabaseTestConfig;
+import side.onetime.domain.User;
+import side.onetime.domain.enums.Language;
+import side.onetime.global.config.JpaConfig;
+import side.onetime.global.config.QueryDslConfig;
+import side.onetime.global.config.search.UserSearchIndex;
+import side.onetime.repository.StatisticsRepository;
+import side.onetime.repository.UserRepository;
+
+/**
+ * ngram FULLTEXT 인덱스(ft_users_search)를 쓰는 유저 검색 테스트.
+ * FULLTEXT 인덱스는 커밋된 행만 검색하므로 테스트 트랜잭션 없이 저장하고 직접 정리한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaConfig.class, UserSearchIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("유저 검색 인덱스 테스트")
+class UserSearchRepositoryTest extends DatabaseTestConfig {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 운영 마이그레이션과 같은 DDL (불용어를 끄고 인덱스를 만듦)
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                statement.execute("ALTER TABLE users ADD FULLTEXT INDEX " + UserSearchIndex.INDEX_NAME
+                        + " (name, email, nickname) WITH PARSER ngram");
+            }
+            return null;
+        });
+        userSearchIndex.detect();
+
+        userRepository.saveAll(List.of(
+                user("홍길동", "hong@example.com", "길동이"),
+                user("김철수", "chulsoo@onetime.kr", "철수"),
+                user("이영희", "younghee@example.com", "영희")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        jdbcTemplate.execute("ALTER TABLE users DROP INDEX " + UserSearchIndex.INDEX_NAME);
+        userSearchIndex.detect();
+    }
+
+    @Test
+    @DisplayName("인덱스가 있으면 ngram 토큰 길이 이상은 인덱스 검색, 더 짧으면 기존 LIKE 검색을 고른다")
+    void modeFor() {
+        assertThat(userSearchIndex.modeFor("길동")).isEqualTo(UserSearchIndex.Mode.FULL_TEXT);
+        assertThat(userSearchIndex.modeFor("홍")).isEqualTo(UserSearchIndex.Mode.SCAN);
+        assertThat(userSearchIndex.modeFor("홍 길동")).isEqualTo(UserSearchIndex.Mode.SCAN);
+    }
+
+    @Test
+    @DisplayName("한글 이름과 이메일의 가운데 일부로 찾는다")
+    void searchUsersByFullText() {
+        assertThat(searchByFullText("길동")).containsExactly("홍길동");
+        assertThat(searchByFullText("example")).containsExactlyInAnyOrder("홍길동", "이영희");
+        assertThat(searchByFullText("onetime")).containsExactly("김철수");
+        assertThat(searchByFullText("없는이름")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰보다 짧은 검색어도 가운데 일부로 찾는다")
+    void searchUsers_SingleCharacter() {
+        List<Object[]> rows = statisticsRepository.searchUsersByNameOrEmail("길", 10);
+
+        assertThat(rows).extracting(row -> row[1]).containsExactly("홍길동");
+    }
+
+    @Test
+    @DisplayName("관리자 유저 목록 검색도 인덱스로 찾고, 개수도 같은 조건으로 센다")
+    void findAllWithFilters_UsesFullTextIndex() {
+        List<User> users = userRepository.findAllWithFilters(PageRequest.of(0, 10), "created_date", "desc",
+                "철수", null, null);
+
+        assertThat(users).extracting(User::getName).containsExactly("김철수");
+        assertThat(userRepository.countWithFilters("example", null, null)).isEqualTo(2);
+        assertThat(userRepository.countWithFilters("희", null, null)).isEqualTo(1);
+    }
+
+    private List<Object> searchByFullText(String term) {
+        return statisticsRepository.searchUsersByFullText(UserSearchIndex.phrase(term), term, 10).stream()
+                .map(row -> row[1])
+                .toList();
+    }
+
+    private static User user(String name, String email, String nickname) {
+        return User.builder()
+                .name(name)
+                .email(email)
+                .nickname(nickname)
+                .provider("GOOGLE")
+                .providerId(email)
+                .language(Language.KOR)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package side.onetime.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatcherTest {
+
+    @Test
+    @DisplayName("제목에 포함된 키워드를 모두 찾는다. - 겹치거나 다른 키워드에 포함된 키워드 포함")
+    void findAllOverlappingKeywords() {
+        // given
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("회의", "팀", "팀회의", "스터디", "밥"));
+
+        // when
+        var result = matcher.findAll("우리 팀회의 후 스터디");
+
+        // then
+        assertThat(result).containsExactly("팀", "팀회의", "회의", "스터디");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 사전에 등록된 표기로 반환한다.")
+    void findAllIgnoringCase() {
+        // given
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("MT", "mt", " 워크샵 ", ""));
+
+        // when
+        var result = matcher.findAll("신입생 Mt 및 워크샵");
+
+        // then
+        assertThat(result).containsExactly("MT", "워크샵");
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라가며 접미사 키워드를 찾는다.")
+    void findAllFollowingFailureLinks() {
+        // given
+        KeywordMatcher matcher = KeywordMatcher.of(Arrays.asList("he", "she", "his", "hers"));
+
+        // when
+        var result = matcher.findAll("ushers");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("she", "he", "hers");
+    }
+
+    @Test
+    @DisplayName("키워드가 없거나 제목이 null이면 빈 결과를 반환한다.")
+    void findAllWithoutMatch() {
+        // given
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("회의"));
+
+        // when & then
+        assertThat(matcher.findAll("점심 약속")).isEmpty();
+        assertThat(matcher.findAll(null)).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package side.onetime.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+
+@DisplayName("QrUtil 테스트")
+class QrUtilTest {
+
+    private static final String BASE_URL = "https://www.onetime.run/events/";
+
+    private QrUtil qrUtil;
+
+    @BeforeEach
+    void setUp() {
+        qrUtil = new QrUtil();
+        ReflectionTestUtils.setField(qrUtil, "qrEventBaseUrl", BASE_URL);
+    }
+
+    @Test
+    @DisplayName("1-bit 흑백 PNG로 렌더링하고, 디코딩하면 이벤트 URL이 나온다")
+    void getQrCodeBytes_RendersDecodableOneBitPng() throws Exception {
+        // given
+        UUID eventId = UUID.randomUUID();
+
+        // when
+        byte[] png = qrUtil.getQrCodeBytes(eventId);
+
+        // then
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(image.getWidth()).isEqualTo(512);
+        assertThat(image.getColorModel().getPixelSize()).isEqualTo(1);
+
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        assertThat(new QRCodeReader().decode(bitmap).getText()).isEqualTo(BASE_URL + eventId);
+    }
+
+    @Test
+    @DisplayName("지연 생성 S3 키는 이벤트 UUID로 결정된다")
+    void lazyObjectKey_IsDeterministic() {
+        UUID eventId = UUID.randomUUID();
+
+        assertThat(QrUtil.lazyObjectKey(eventId))
+                .isEqualTo("qr/" + eventId + ".png")
+                .isEqualTo(QrUtil.lazyObjectKey(eventId));
+    }
+}
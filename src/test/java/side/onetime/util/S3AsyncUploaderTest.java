@@ -0,0 +1,120 @@
+package side.onetime.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+/**
+ * LocalStack S3를 대상으로 한 비동기 업로드 테스트
+ */
+@DisplayName("S3AsyncUploader 테스트")
+class S3AsyncUploaderTest {
+
+    private static final String BUCKET = "onetime-test";
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    private static LocalStackContainer localStack;
+    private static S3AsyncClient s3AsyncClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3AsyncUploader uploader;
+
+    @BeforeAll
+    static void startLocalStack() {
+        localStack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.4"))
+                .withServices(LocalStackContainer.Service.S3);
+        localStack.start();
+
+        s3AsyncClient = S3AsyncClient.builder()
+                .endpointOverride(localStack.getEndpointOverride(LocalStackContainer.Service.S3))
+                .forcePathStyle(true)
+                .region(Region.of(localStack.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(PART_SIZE)
+                        .minimumPartSizeInBytes(PART_SIZE)
+                        .build())
+                .build();
+        s3AsyncClient.createBucket(builder -> builder.bucket(BUCKET)).join();
+    }
+
+    @AfterAll
+    static void stopLocalStack() {
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+        if (localStack != null) {
+            localStack.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        uploader = new S3AsyncUploader(s3AsyncClient, meterRegistry, 2);
+        ReflectionTestUtils.setField(uploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(uploader, "uploadTimeout", Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 단일 요청으로 업로드하고 메트릭을 기록한다")
+    void upload_SmallFile() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image_file", "banner.png", "image/png", randomBytes(10 * 1024));
+
+        // when
+        String key = uploader.upload("banner/1", file);
+
+        // then
+        HeadObjectResponse head = s3AsyncClient.headObject(builder -> builder.bucket(BUCKET).key(key)).join();
+        assertThat(key).startsWith("banner/1/").endsWith("_banner.png");
+        assertThat(head.contentLength()).isEqualTo(file.getSize());
+        assertThat(head.contentType()).isEqualTo("image/png");
+        assertThat(meterRegistry.get("s3.upload.duration").tag("directory", "banner").tag("result", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("s3.upload.throughput").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 파일은 multipart로 업로드한다")
+    void upload_LargeFileUsesMultipart() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image_file", "large.png", "image/png",
+                randomBytes((int) (PART_SIZE * 2 + 1024)));
+
+        // when
+        String key = uploader.upload("banner", file);
+
+        // then (multipart 업로드 객체의 ETag는 "-{파트 수}"로 끝난다)
+        HeadObjectResponse head = s3AsyncClient.headObject(builder -> builder.bucket(BUCKET).key(key)).join();
+        assertThat(head.contentLength()).isEqualTo(file.getSize());
+        assertThat(head.eTag()).contains("-3");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,100 @@
+package side.onetime.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+/**
+ * 업로드가 제한 시간을 넘겼을 때의 정리 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3AsyncUploader 시간 초과 테스트")
+class S3AsyncUploaderTimeoutTest {
+
+    private static final String BUCKET = "onetime-test";
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3AsyncUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        uploader = new S3AsyncUploader(s3AsyncClient, meterRegistry, 1);
+        ReflectionTestUtils.setField(uploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(uploader, "uploadTimeout", Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 전송을 취소하고, 같은 키의 multipart 업로드를 중단한 뒤 객체를 지운다")
+    void upload_TimeoutAbortsAndDeletes() {
+        // given - 끝나지 않는 업로드, 같은 키와 접두어만 같은 다른 키의 multipart 업로드가 진행 중
+        CompletableFuture<PutObjectResponse> put = new CompletableFuture<>();
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).willReturn(put);
+        given(s3AsyncClient.listMultipartUploads(any(ListMultipartUploadsRequest.class))).willAnswer(invocation -> {
+            String key = invocation.<ListMultipartUploadsRequest>getArgument(0).prefix();
+            return CompletableFuture.completedFuture(ListMultipartUploadsResponse.builder()
+                    .uploads(MultipartUpload.builder().key(key).uploadId("upload-1").build(),
+                            MultipartUpload.builder().key(key + ".bak").uploadId("upload-2").build())
+                    .build());
+        });
+        given(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+        given(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class)))
+                .willReturn(CompletableFuture.completedFuture(DeleteObjectResponse.builder().build()));
+        MockMultipartFile file = new MockMultipartFile("image_file", "large.png", "image/png", new byte[1024]);
+
+        // when
+        assertThatThrownBy(() -> uploader.upload("banner", file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("시간 초과");
+
+        // then
+        assertThat(put).isCancelled();
+        ArgumentCaptor<PutObjectRequest> putRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+        then(s3AsyncClient).should().putObject(putRequest.capture(), any(AsyncRequestBody.class));
+        String key = putRequest.getValue().key();
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortRequest = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        then(s3AsyncClient).should().abortMultipartUpload(abortRequest.capture());
+        assertThat(abortRequest.getValue().key()).isEqualTo(key);
+        assertThat(abortRequest.getValue().uploadId()).isEqualTo("upload-1");
+        then(s3AsyncClient).should().deleteObject(DeleteObjectRequest.builder().bucket(BUCKET).key(key).build());
+        assertThat(meterRegistry.get("s3.upload.duration").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package side.onetime.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3Util 테스트")
+class S3UtilTest {
+
+    @InjectMocks
+    private S3Util s3Util;
+
+    @Mock
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3Util, "bucket", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("1000개 단위로 나누어 DeleteObjects를 호출한다")
+    void deleteFiles_ChunksBy1000() {
+        // given
+        List<String> keys = IntStream.range(0, 2_500).mapToObj(i -> "qr/" + i + ".png").toList();
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willReturn(DeleteObjectsResponse.builder().build());
+
+        // when
+        List<String> failed = s3Util.deleteFiles(keys);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        then(s3Client).should(times(3)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(request -> request.delete().objects().size())
+                .containsExactly(1_000, 1_000, 500);
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답의 오류 키와 요청 자체가 실패한 청크의 키를 실패 목록으로 반환한다")
+    void deleteFiles_ReturnsFailedKeys() {
+        // given
+        List<String> keys = IntStream.range(0, 1_001).mapToObj(i -> "qr/" + i + ".png").toList();
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willReturn(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("qr/7.png").code("InternalError").build())
+                        .build())
+                .willThrow(SdkClientException.create("connection reset"));
+
+        // when
+        List<String> failed = s3Util.deleteFiles(keys);
+
+        // then
+        assertThat(failed).containsExactly("qr/7.png", "qr/1000.png");
+    }
+
+    @Test
+    @DisplayName("HEAD 응답이 404면 NoSuchKeyException이 아니어도 객체가 없다고 본다")
+    void exists_NotFound() {
+        // given
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+                .willThrow(S3Exception.builder().statusCode(404).build())
+                .willThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+        // when & then
+        assertThat(s3Util.exists("qr/1.png")).isFalse();
+        assertThat(s3Util.exists("qr/1.png")).isFalse();
+    }
+
+    @Test
+    @DisplayName("404가 아닌 S3 오류는 그대로 던진다")
+    void exists_RethrowsOtherErrors() {
+        // given
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+                .willThrow(S3Exception.builder().statusCode(403).build());
+
+        // when & then
+        assertThatThrownBy(() -> s3Util.exists("qr/1.png"))
+                .isInstanceOf(S3Exception.class);
+    }
+
+    @Test
+    @DisplayName("객체가 있으면 true를 반환한다")
+    void exists_Found() {
+        given(s3Client.headObject(any(HeadObjectRequest.class))).willReturn(HeadObjectResponse.builder().build());
+
+        assertThat(s3Util.exists("qr/1.png")).isTrue();
+    }
+}